@@ -0,0 +1,306 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.google.common.util.concurrent.Futures;
+import com.teradata.tpcds.FileTableWriterFactory.TextTableWriter;
+import com.teradata.tpcds.Parallel.ChunkBoundaries;
+import com.teradata.tpcds.Results.ResultsIterator;
+import com.teradata.tpcds.row.TableRow;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.teradata.tpcds.FileTableWriterFactory.getPath;
+import static com.teradata.tpcds.FileTableWriterFactory.openFile;
+import static com.teradata.tpcds.Parallel.splitWork;
+import static com.teradata.tpcds.Results.constructResults;
+import static java.util.Objects.requireNonNull;
+
+// Generates the files of every (table, chunk) with a pool of threads working on small ranges of
+// rows, rather than a thread per chunk, so that cheap and expensive tables and the chunks that
+// are larger than others (small tables are not split) keep all threads busy. The files are the
+// same as those of TableGenerator.
+//
+// The ranges are submitted in the order of the files and their rows, at most two per thread
+// ahead of the writing, and are generated into buffers that the calling thread writes in order.
+// Each table starts with small ranges; later ranges are sized from the time and bytes per row
+// measured so far, to take about TARGET_RANGE_NANOS and at most MAX_RANGE_BYTES.
+//
+// The generators skip to the first row of every range, which gives the same rows as generating
+// the chunk in one go, except for slowly changing dimensions (tables that keep history), whose
+// rows depend on the previous row. These are small and generated as a single range per chunk.
+public class AdaptiveTableGenerator
+        implements Closeable
+{
+    private static final long TARGET_RANGE_NANOS = 50_000_000;
+    private static final long MAX_RANGE_BYTES = 4 << 20;
+    private static final long INITIAL_RANGE_ROWS = 100;
+
+    private final Session session;
+    private final int threads;
+    private final long targetRangeNanos;
+    private final long maxRangeBytes;
+    private final ExecutorService executor;
+    private final Map<Table, RowCosts> rowCosts = new ConcurrentHashMap<>();
+
+    public AdaptiveTableGenerator(Session session, int threads)
+    {
+        this(session, threads, TARGET_RANGE_NANOS, MAX_RANGE_BYTES);
+    }
+
+    AdaptiveTableGenerator(Session session, int threads, long targetRangeNanos, long maxRangeBytes)
+    {
+        checkArgument(threads > 0, "threads must be positive");
+        checkArgument(targetRangeNanos > 0, "targetRangeNanos must be positive");
+        checkArgument(maxRangeBytes > 0, "maxRangeBytes must be positive");
+        this.session = requireNonNull(session, "session is null");
+        this.threads = threads;
+        this.targetRangeNanos = targetRangeNanos;
+        this.maxRangeBytes = maxRangeBytes;
+        this.executor = Executors.newFixedThreadPool(threads);
+    }
+
+    // Generates every chunk of the tables, as TableGenerator does for each chunk
+    public void generateTables(List<Table> tables)
+    {
+        Deque<Range> pending = new ArrayDeque<>();
+        try (OrderedWriter writer = new OrderedWriter()) {
+            for (Table table : tables) {
+                // If this is a child table and not the only table being generated, it will be generated when its parent is generated, so move on.
+                if (table.isChild() && !session.generateOnlyOneTable()) {
+                    continue;
+                }
+                for (int chunk = 1; chunk <= session.getParallelism(); chunk++) {
+                    Session chunkSession = session.withChunkNumber(chunk);
+                    ChunkBoundaries chunkBoundaries = splitWork(table, chunkSession);
+                    long nextRow = chunkBoundaries.getFirstRow();
+                    do {
+                        long firstRow = nextRow;
+                        long lastRow = firstRow + Math.min(getRangeRows(table), chunkBoundaries.getLastRow() - firstRow + 1) - 1;
+                        Future<RangeOutput> output;
+                        if (firstRow <= lastRow) {
+                            output = executor.submit(() -> generateRange(table, firstRow, lastRow, chunkSession));
+                        }
+                        else {
+                            // an empty chunk still has its (empty) files
+                            output = Futures.immediateFuture(new RangeOutput());
+                        }
+                        pending.add(new Range(table, chunkSession, output, firstRow == chunkBoundaries.getFirstRow(), lastRow >= chunkBoundaries.getLastRow()));
+                        nextRow = lastRow + 1;
+
+                        // write the ranges that are done, and wait for the oldest when too many are ahead
+                        while (!pending.isEmpty() && (pending.size() > 2 * threads || pending.peekFirst().getOutput().isDone())) {
+                            writer.write(pending.removeFirst());
+                        }
+                    }
+                    while (nextRow <= chunkBoundaries.getLastRow());
+                }
+            }
+            while (!pending.isEmpty()) {
+                writer.write(pending.removeFirst());
+            }
+        }
+        catch (IOException e) {
+            throw new TpcdsException(e.getMessage());
+        }
+        catch (ExecutionException e) {
+            throw new TpcdsException("Generating rows failed: " + e.getCause());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TpcdsException("Interrupted while generating tables");
+        }
+        finally {
+            pending.forEach(range -> range.getOutput().cancel(true));
+        }
+    }
+
+    private long getRangeRows(Table table)
+    {
+        if (table.keepsHistory()) {
+            return Long.MAX_VALUE;
+        }
+        RowCosts costs = rowCosts.get(table);
+        return costs == null ? INITIAL_RANGE_ROWS : costs.getRangeRows(targetRangeNanos, maxRangeBytes);
+    }
+
+    private boolean hasChild(Table table)
+    {
+        return table.hasChild() && !session.generateOnlyOneTable();
+    }
+
+    private RangeOutput generateRange(Table table, long firstRow, long lastRow, Session chunkSession)
+            throws IOException
+    {
+        long start = System.nanoTime();
+        RangeOutput output = new RangeOutput();
+        try (TextTableWriter parentWriter = new TextTableWriter(output.parent, chunkSession);
+                TextTableWriter childWriter = new TextTableWriter(output.child, chunkSession)) {
+            ResultsIterator results = constructResults(table, firstRow, lastRow, chunkSession).resultsIterator();
+            results.reuseRows();
+            TextRowSink textSink = new TextRowSink(chunkSession);
+            for (List<TableRow> parentAndChildRows = results.nextRows(); !parentAndChildRows.isEmpty(); parentAndChildRows = results.nextRows()) {
+                parentWriter.writeFormatted(parentAndChildRows.get(0), textSink.format(parentAndChildRows.get(0)));
+                if (parentAndChildRows.size() > 1) {
+                    childWriter.writeFormatted(parentAndChildRows.get(1), textSink.format(parentAndChildRows.get(1)));
+                }
+            }
+        }
+        rowCosts.computeIfAbsent(table, key -> new RowCosts()).add(lastRow - firstRow + 1, System.nanoTime() - start, output.size());
+        return output;
+    }
+
+    @Override
+    public void close()
+    {
+        executor.shutdownNow();
+    }
+
+    // Writes the ranges to the files of their chunks, which are opened at their first range and
+    // closed after their last
+    private class OrderedWriter
+            implements Closeable
+    {
+        private OutputStream parentOut;
+        private OutputStream childOut;
+
+        void write(Range range)
+                throws IOException, ExecutionException, InterruptedException
+        {
+            if (range.isFirst()) {
+                parentOut = openFile(getPath(range.getTable(), range.getSession()), range.getSession());
+                if (hasChild(range.getTable())) {
+                    childOut = openFile(getPath(range.getTable().getChild(), range.getSession()), range.getSession());
+                }
+            }
+            range.getOutput().get().writeTo(parentOut, childOut);
+            if (range.isLast()) {
+                close();
+            }
+        }
+
+        @Override
+        public void close()
+                throws IOException
+        {
+            try (OutputStream parent = parentOut;
+                    OutputStream child = childOut) {
+                parentOut = null;
+                childOut = null;
+            }
+        }
+    }
+
+    private static class Range
+    {
+        private final Table table;
+        private final Session session;
+        private final Future<RangeOutput> output;
+        private final boolean first;
+        private final boolean last;
+
+        Range(Table table, Session session, Future<RangeOutput> output, boolean first, boolean last)
+        {
+            this.table = table;
+            this.session = session;
+            this.output = output;
+            this.first = first;
+            this.last = last;
+        }
+
+        Table getTable()
+        {
+            return table;
+        }
+
+        Session getSession()
+        {
+            return session;
+        }
+
+        Future<RangeOutput> getOutput()
+        {
+            return output;
+        }
+
+        // whether this is the first range of its chunk
+        boolean isFirst()
+        {
+            return first;
+        }
+
+        // whether this is the last range of its chunk
+        boolean isLast()
+        {
+            return last;
+        }
+    }
+
+    // The rows generated for a range, formatted as in the files of the table and its child table
+    private static class RangeOutput
+    {
+        private final ByteArrayOutputStream parent = new ByteArrayOutputStream();
+        private final ByteArrayOutputStream child = new ByteArrayOutputStream();
+
+        long size()
+        {
+            return parent.size() + child.size();
+        }
+
+        void writeTo(OutputStream parentOut, OutputStream childOut)
+                throws IOException
+        {
+            parent.writeTo(parentOut);
+            if (childOut != null) {
+                child.writeTo(childOut);
+            }
+        }
+    }
+
+    // The time and bytes per row of the ranges of a table generated so far
+    private static class RowCosts
+    {
+        private long rows;
+        private long nanos;
+        private long bytes;
+
+        synchronized void add(long rows, long nanos, long bytes)
+        {
+            this.rows += rows;
+            this.nanos += nanos;
+            this.bytes += bytes;
+        }
+
+        synchronized long getRangeRows(long targetNanos, long maxBytes)
+        {
+            double rowsInTime = nanos == 0 ? Double.MAX_VALUE : (double) targetNanos * rows / nanos;
+            double rowsInBytes = bytes == 0 ? Double.MAX_VALUE : (double) maxBytes * rows / bytes;
+            return Math.max((long) Math.min(rowsInTime, rowsInBytes), 1);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.teradata.tpcds.FileTableWriterFactory.TextTableWriter;
+import com.teradata.tpcds.column.Column;
+import com.teradata.tpcds.row.TableRow;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.teradata.tpcds.FileTableWriterFactory.getFileName;
+import static com.teradata.tpcds.FileTableWriterFactory.openFile;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.joining;
+
+// Hashes the rows of each table on a key column into a fixed number of bucket files per chunk:
+// <directory>/<table_name>/<bucket>_<table_name>[_<chunk>_<parallelism>]<suffix>.
+// The key is given as a column name suffix, e.g. item_sk, so that fact tables (ss_item_sk,
+// sr_item_sk) and the dimension table (i_item_sk) are bucketed with the same function in one
+// pass. Tables without such a column are written exactly as FileTableWriterFactory would.
+// With --parallelism > 1 every chunk writes its own file for each bucket, so bucket b consists
+// of the files <b>_<table_name>_<chunk>_<parallelism> of all chunks; engines that expect exactly
+// one file per bucket need these concatenated in chunk order first.
+public class BucketedTableWriterFactory
+        implements TableWriterFactory
+{
+    // the hash Hive uses for bigint columns, so the output can be declared as CLUSTERED BY ... INTO n BUCKETS
+    public static final String BUCKET_FUNCTION = "hive_bigint";
+
+    private final String bucketKey;
+    private final int bucketCount;
+    private final FileTableWriterFactory unbucketedWriterFactory = new FileTableWriterFactory();
+    private boolean failed;
+
+    public BucketedTableWriterFactory(String bucketKey, int bucketCount)
+    {
+        checkArgument(bucketCount > 0, "bucketCount must be positive");
+        this.bucketKey = requireNonNull(bucketKey, "bucketKey is null").toLowerCase();
+        this.bucketCount = bucketCount;
+    }
+
+    // Returns the column of the table named the key or, failing that, the one column whose name ends
+    // with _<key>. A key that is the suffix of several columns, such as customer_sk in catalog_sales
+    // (cs_bill_customer_sk and cs_ship_customer_sk), is ambiguous and has to be given as the exact
+    // column name instead.
+    public static Optional<Column> getBucketColumn(Table table, String bucketKey)
+    {
+        List<Column> matches = new ArrayList<>();
+        for (Column column : table.getColumns()) {
+            if (column.getName().equals(bucketKey)) {
+                return Optional.of(column);
+            }
+            if (column.getName().endsWith("_" + bucketKey)) {
+                matches.add(column);
+            }
+        }
+        if (matches.size() > 1) {
+            throw new TpcdsException(format("Bucket key %s matches more than one column of %s: %s. Give the exact column name instead",
+                    bucketKey,
+                    table.getName(),
+                    matches.stream().map(Column::getName).collect(joining(", "))));
+        }
+        return matches.stream().findFirst();
+    }
+
+    // null keys go to bucket 0, as in Hive
+    public static int getBucket(long key, int bucketCount)
+    {
+        int hash = (int) (key ^ (key >>> 32));
+        return (hash & Integer.MAX_VALUE) % bucketCount;
+    }
+
+    @Override
+    public TableWriter createWriter(Table table, Session session)
+            throws IOException
+    {
+        Optional<Column> bucketColumn = getBucketColumn(table, bucketKey);
+        if (!bucketColumn.isPresent()) {
+            return unbucketedWriterFactory.createWriter(table, session);
+        }
+        return new BucketedTableWriter(table, bucketColumn.get(), session);
+    }
+
+    @Override
+    public void markFailed()
+    {
+        // the buckets of the failed table are incomplete, so no manifest describes them
+        failed = true;
+    }
+
+    private class BucketedTableWriter
+            implements TableWriter
+    {
+        private final Table table;
+        private final Column bucketColumn;
+        private final KeyColumnSink keySink;
+        private final Session session;
+        private final File tableDirectory;
+        private final TableWriter[] bucketWriters = new TableWriter[bucketCount];
+        private final long[] bucketRowCounts = new long[bucketCount];
+
+        BucketedTableWriter(Table table, Column bucketColumn, Session session)
+                throws IOException
+        {
+            this.table = table;
+            this.bucketColumn = bucketColumn;
+            this.keySink = new KeyColumnSink(bucketColumn);
+            this.session = session;
+            this.tableDirectory = new File(session.getTargetDirectory(), table.getName());
+            if (!tableDirectory.isDirectory() && !tableDirectory.mkdirs()) {
+                throw new TpcdsException(format("Could not create directory %s", tableDirectory));
+            }
+
+            String fileName = getFileName(table, session);
+            try {
+                for (int bucket = 0; bucket < bucketCount; bucket++) {
+                    String path = new File(tableDirectory, format("%05d_%s", bucket, fileName)).getPath();
+                    bucketWriters[bucket] = new TextTableWriter(openFile(path, session), session);
+                }
+            }
+            catch (IOException | RuntimeException e) {
+                // the caller never sees this writer, so the buckets opened so far must be closed here
+                closeBucketWriters(e);
+                throw e;
+            }
+        }
+
+        @Override
+        public void writeRow(List<String> values)
+                throws IOException
+        {
+            getBucketWriter(values).writeRow(values);
+        }
+
+        @Override
+        public void writeFormatted(TableRow row, CharSequence formattedRow)
+                throws IOException
+        {
+            keySink.read(row);
+            getBucketWriter(keySink.isNull() ? 0 : getBucket(keySink.getKey(), bucketCount)).writeFormatted(row, formattedRow);
+        }
+
+        private TableWriter getBucketWriter(List<String> values)
+        {
+            String key = values.get(bucketColumn.getPosition());
+            return getBucketWriter(key == null ? 0 : getBucket(Long.parseLong(key), bucketCount));
+        }
+
+        private TableWriter getBucketWriter(int bucket)
+        {
+            bucketRowCounts[bucket]++;
+            return bucketWriters[bucket];
+        }
+
+        @Override
+        public void close()
+                throws IOException
+        {
+            IOException failure = new IOException(format("Could not close the bucket files of %s", table.getName()));
+            closeBucketWriters(failure);
+            if (failure.getSuppressed().length > 0) {
+                throw failure;
+            }
+            if (!failed) {
+                writeManifest();
+            }
+        }
+
+        private void closeBucketWriters(Exception failure)
+        {
+            for (TableWriter writer : bucketWriters) {
+                if (writer != null) {
+                    try {
+                        writer.close();
+                    }
+                    catch (IOException | RuntimeException e) {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+        }
+
+        private void writeManifest()
+                throws IOException
+        {
+            // leading underscore so that Hive and Spark ignore the file when reading the table
+            String manifestName = session.getParallelism() > 1 ? format("_bucketing_%d_%d.properties", session.getChunkNumber(), session.getParallelism()) : "_bucketing.properties";
+            try (Writer writer = new OutputStreamWriter(openFile(new File(tableDirectory, manifestName).getPath(), session), StandardCharsets.ISO_8859_1)) {
+                writer.write("# bucket = ((int) (key ^ (key >>> 32)) & 0x7fffffff) % buckets, null keys are in bucket 0\n");
+                writer.write(format("table=%s\n", table.getName()));
+                writer.write(format("column=%s\n", bucketColumn.getName()));
+                writer.write(format("buckets=%d\n", bucketCount));
+                writer.write(format("function=%s\n", BUCKET_FUNCTION));
+                writer.write(format("chunk=%d\n", session.getChunkNumber()));
+                writer.write(format("parallelism=%d\n", session.getParallelism()));
+                for (int bucket = 0; bucket < bucketCount; bucket++) {
+                    writer.write(format("rows.%05d=%d\n", bucket, bucketRowCounts[bucket]));
+                }
+            }
+        }
+    }
+}
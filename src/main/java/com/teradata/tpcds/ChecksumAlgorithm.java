@@ -0,0 +1,60 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import static java.lang.String.format;
+
+public enum ChecksumAlgorithm
+{
+    // the same digest as md5sum and the generator tests
+    MD5(Hashing.md5()) {
+        @Override
+        public String toString(HashCode hashCode)
+        {
+            return hashCode.toString();
+        }
+    },
+    // much cheaper than MD5; printed as a big-endian integer, like other CRC32C tools
+    CRC32C(Hashing.crc32c()) {
+        @Override
+        public String toString(HashCode hashCode)
+        {
+            return format("%08x", hashCode.asInt());
+        }
+    };
+
+    private final HashFunction hashFunction;
+
+    ChecksumAlgorithm(HashFunction hashFunction)
+    {
+        this.hashFunction = hashFunction;
+    }
+
+    public HashFunction getHashFunction()
+    {
+        return hashFunction;
+    }
+
+    public abstract String toString(HashCode hashCode);
+
+    public String getName()
+    {
+        return name().toLowerCase();
+    }
+}
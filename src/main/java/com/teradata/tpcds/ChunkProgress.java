@@ -0,0 +1,135 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.teradata.tpcds.Parallel.ChunkBoundaries;
+
+import static com.teradata.tpcds.Parallel.splitWork;
+import static java.util.Objects.requireNonNull;
+
+// Progress of one (table, chunk). Updated by the thread generating the chunk and read by
+// reporters on other threads, so the counters are volatile but never incremented concurrently.
+// Rows are counted like Scaling.getRowCount: for sales tables a row is a ticket or order.
+public class ChunkProgress
+        implements ChunkProgressMBean
+{
+    private final Table table;
+    private final int chunk;
+    private final long expectedRows;
+
+    private volatile long completedRows;
+    private volatile long resumedRows;
+    private volatile long rowsWritten;
+    private volatile long bytesWritten;
+    private volatile long startNanos;
+    private volatile long endNanos;
+
+    ChunkProgress(Table table, Session session)
+    {
+        this.table = requireNonNull(table, "table is null");
+        this.chunk = session.getChunkNumber();
+        ChunkBoundaries chunkBoundaries = splitWork(table, session);
+        this.expectedRows = Math.max(chunkBoundaries.getLastRow() - chunkBoundaries.getFirstRow() + 1, 0);
+    }
+
+    void started()
+    {
+        startNanos = System.nanoTime();
+    }
+
+    // The rows completed by an earlier run, which a resumed run does not generate again
+    void resumed(long completedRows)
+    {
+        this.completedRows = completedRows;
+        this.resumedRows = completedRows;
+    }
+
+    void rowsWritten(long completedRows, long rowsWritten, long bytesWritten)
+    {
+        this.completedRows = completedRows;
+        this.rowsWritten = rowsWritten;
+        this.bytesWritten = bytesWritten;
+    }
+
+    void finished()
+    {
+        completedRows = expectedRows;
+        endNanos = System.nanoTime();
+    }
+
+    boolean isStarted()
+    {
+        return startNanos != 0;
+    }
+
+    @Override
+    public String getTable()
+    {
+        return table.getName();
+    }
+
+    @Override
+    public int getChunk()
+    {
+        return chunk;
+    }
+
+    @Override
+    public long getExpectedRows()
+    {
+        return expectedRows;
+    }
+
+    @Override
+    public long getCompletedRows()
+    {
+        return completedRows;
+    }
+
+    @Override
+    public long getResumedRows()
+    {
+        return resumedRows;
+    }
+
+    @Override
+    public long getRowsWritten()
+    {
+        return rowsWritten;
+    }
+
+    @Override
+    public long getBytesWritten()
+    {
+        return bytesWritten;
+    }
+
+    @Override
+    public long getElapsedMillis()
+    {
+        long start = startNanos;
+        if (start == 0) {
+            return 0;
+        }
+        long end = isFinished() ? endNanos : System.nanoTime();
+        return (end - start) / 1_000_000;
+    }
+
+    @Override
+    public boolean isFinished()
+    {
+        return endNanos != 0;
+    }
+}
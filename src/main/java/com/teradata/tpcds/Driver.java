@@ -15,18 +15,35 @@
 package com.teradata.tpcds;
 
 import com.google.common.collect.ImmutableList;
+import com.teradata.tpcds.WorkQueue.Claim;
 import io.airlift.airline.Command;
 import io.airlift.airline.HelpOption;
 
 import javax.inject.Inject;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static com.teradata.tpcds.FileTableWriterFactory.openFile;
 import static io.airlift.airline.SingleCommand.singleCommand;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
 
 @Command(name = "dsdgen", description = "data generator for TPC-DS")
 public class Driver
 {
+    private static final long WORK_QUEUE_POLL_MILLIS = 1000;
+
     @Inject
     public HelpOption helpOption;
 
@@ -54,12 +71,223 @@ public class Driver
             tablesToGenerate = Table.getBaseTables();
         }
 
-        for (int i = 1; i <= session.getParallelism(); i++) {
-            int chunkNumber = i;
-            new Thread(() -> {
-                        TableGenerator tableGenerator = new TableGenerator(session.withChunkNumber(chunkNumber));
+        if (options.jdbcCreateTables) {
+            try (JdbcTableWriterFactory writerFactory = options.toJdbcTableWriterFactory()) {
+                writerFactory.createTables(tablesToGenerate);
+            }
+            catch (IOException e) {
+                throw new TpcdsException(e.getMessage());
+            }
+        }
+
+        // open the manifest first, so that an existing one fails the run before anything is generated
+        Optional<Manifest> manifest = options.toManifest();
+        Optional<OutputStream> manifestOut = Optional.empty();
+        if (manifest.isPresent() && options.verify == null) {
+            try {
+                manifestOut = Optional.of(openFile(session.getTargetDirectory() + File.separator + Manifest.FILE_NAME, session));
+            }
+            catch (IOException e) {
+                throw new TpcdsException(e.getMessage());
+            }
+        }
+
+        if (options.singleFile || options.adaptive) {
+            // a single file is a run without parallelism, generated with as many threads
+            Session generatorSession = options.singleFile ? session.withParallelism(1) : session;
+            try (AdaptiveTableGenerator generator = new AdaptiveTableGenerator(generatorSession, session.getParallelism())) {
+                generator.generateTables(tablesToGenerate);
+            }
+            return;
+        }
+
+        if (options.workQueue != null) {
+            generateFromWorkQueue(tablesToGenerate, session);
+            return;
+        }
+
+        Optional<Journal> journal = openJournal(session);
+
+        Optional<Progress> progress = startProgress(tablesToGenerate, session);
+        Optional<StageTimings> stageTimings = options.stageTimings ? Optional.of(new StageTimings()) : Optional.empty();
+
+        AtomicInteger failedChunks = new AtomicInteger();
+        try {
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 1; i <= session.getParallelism(); i++) {
+                int chunkNumber = i;
+                threads.add(startThread(() -> {
+                    try (TableWriterFactory writerFactory = options.toTableWriterFactory(manifest)) {
+                        TableGenerator tableGenerator = new TableGenerator(session.withChunkNumber(chunkNumber), writerFactory, progress, stageTimings, journal);
                         tablesToGenerate.forEach(tableGenerator::generateTable);
-                    }).start();
+                    }
+                    catch (IOException e) {
+                        throw new TpcdsException(e.getMessage());
+                    }
+                }, failedChunks));
+            }
+            joinThreads(threads);
+        }
+        finally {
+            progress.ifPresent(Progress::stopReporting);
+            // the MBeans would otherwise keep the progress reachable when the Driver is used as a library
+            progress.ifPresent(Progress::unregisterMBeans);
+            if (journal.isPresent()) {
+                try {
+                    journal.get().close();
+                }
+                catch (IOException e) {
+                    throw new TpcdsException(e.getMessage());
+                }
+            }
+        }
+        stageTimings.ifPresent(timings -> System.err.print(timings.getReport()));
+
+        if (options.verify != null) {
+            if (failedChunks.get() > 0) {
+                throw new TpcdsException(format("%d chunks failed, the output was not verified", failedChunks.get()));
+            }
+            verify(manifest.get());
+        }
+
+        if (manifestOut.isPresent()) {
+            try (OutputStream out = manifestOut.get()) {
+                if (failedChunks.get() > 0) {
+                    // don't vouch for the files of a failed run
+                    throw new TpcdsException(format("%d chunks failed, the manifest was not written", failedChunks.get()));
+                }
+                manifest.get().write(out);
+            }
+            catch (IOException e) {
+                throw new TpcdsException(e.getMessage());
+            }
+        }
+    }
+
+    // Generates the units claimed from the work queue until all units of the run are done, by this
+    // or other processes, and then checks that all files are there
+    private void generateFromWorkQueue(List<Table> tablesToGenerate, Session session)
+    {
+        Optional<StageTimings> stageTimings = options.stageTimings ? Optional.of(new StageTimings()) : Optional.empty();
+        Duration lease = Duration.ofSeconds(options.leaseSeconds);
+        try (WorkQueue workQueue = new WorkQueue(Paths.get(options.workQueue), tablesToGenerate, session, lease)) {
+            AtomicInteger failedWorkers = new AtomicInteger();
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < options.workers; i++) {
+                threads.add(startThread(() -> {
+                    try {
+                        while (true) {
+                            Optional<Claim> claim = workQueue.claim();
+                            if (claim.isPresent()) {
+                                workQueue.generate(claim.get(), unitSession -> new TableGenerator(unitSession, new FileTableWriterFactory(), Optional.empty(), stageTimings));
+                            }
+                            else if (workQueue.isDone()) {
+                                return;
+                            }
+                            else {
+                                // the remaining units are generated by others, unless their claims expire
+                                Thread.sleep(Math.min(lease.toMillis() / 4, WORK_QUEUE_POLL_MILLIS));
+                            }
+                        }
+                    }
+                    catch (IOException e) {
+                        throw new TpcdsException(e.getMessage());
+                    }
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new TpcdsException("Interrupted while waiting for work");
+                    }
+                }, failedWorkers));
+            }
+            joinThreads(threads);
+            stageTimings.ifPresent(timings -> System.err.print(timings.getReport()));
+            if (failedWorkers.get() > 0) {
+                throw new TpcdsException(format("%d workers failed", failedWorkers.get()));
+            }
+
+            List<String> problems = workQueue.checkCompleteness();
+            if (!problems.isEmpty()) {
+                problems.forEach(System.err::println);
+                throw new TpcdsException(format("The run is incomplete, %d problems were found", problems.size()));
+            }
+            workQueue.cleanUp();
+        }
+        catch (IOException e) {
+            throw new TpcdsException(e.getMessage());
+        }
+    }
+
+    private static Thread startThread(Runnable runnable, AtomicInteger failedThreads)
+    {
+        Thread thread = new Thread(runnable);
+        Thread.UncaughtExceptionHandler defaultHandler = thread.getUncaughtExceptionHandler();
+        thread.setUncaughtExceptionHandler((failedThread, exception) -> {
+            failedThreads.incrementAndGet();
+            defaultHandler.uncaughtException(failedThread, exception);
+        });
+        thread.start();
+        return thread;
+    }
+
+    private static void joinThreads(List<Thread> threads)
+    {
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TpcdsException("Interrupted while waiting for the chunks to be generated");
+        }
+    }
+
+    private Optional<Journal> openJournal(Session session)
+    {
+        if (!options.resume) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Journal.open(Paths.get(session.getTargetDirectory(), Journal.FILE_NAME), session, options.checkpointRows));
+        }
+        catch (IOException e) {
+            throw new TpcdsException(e.getMessage());
+        }
+    }
+
+    private void verify(Manifest manifest)
+    {
+        Map<String, String> expectedDigests;
+        try (Reader reader = Files.newBufferedReader(Paths.get(options.verify), ISO_8859_1)) {
+            expectedDigests = Manifest.readDigests(reader);
+        }
+        catch (IOException e) {
+            throw new TpcdsException(format("Could not read expected digests from %s: %s", options.verify, e.getMessage()));
+        }
+
+        int failures = manifest.verify(expectedDigests, System.out);
+        if (failures > 0) {
+            throw new TpcdsException(format("%d of %d files did not match %s", failures, manifest.getEntries().size(), options.verify));
+        }
+    }
+
+    private Optional<Progress> startProgress(List<Table> tablesToGenerate, Session session)
+    {
+        if (!options.progress && !options.jmx && options.statusFile == null) {
+            return Optional.empty();
+        }
+
+        Progress progress = new Progress(tablesToGenerate, session);
+        if (options.jmx) {
+            progress.registerMBeans();
+        }
+        if (options.progress || options.statusFile != null) {
+            // standard error, so that it does not mix with --stdout
+            progress.startReporting(
+                    options.progress ? Optional.of(System.err) : Optional.empty(),
+                    Optional.ofNullable(options.statusFile).map(Paths::get),
+                    options.progressInterval);
         }
+        return Optional.of(progress);
     }
 }
@@ -0,0 +1,167 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.teradata.tpcds.row.TableRow;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+import static com.teradata.tpcds.TableGenerator.formatRow;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+// Writes each table to <directory>/<table_name>[_<chunk>_<parallelism>]<suffix>
+public class FileTableWriterFactory
+        implements TableWriterFactory
+{
+    private final Optional<Manifest> manifest;
+
+    public FileTableWriterFactory()
+    {
+        this(Optional.empty());
+    }
+
+    public FileTableWriterFactory(Optional<Manifest> manifest)
+    {
+        this.manifest = requireNonNull(manifest, "manifest is null");
+    }
+
+    @Override
+    public TableWriter createWriter(Table table, Session session)
+            throws IOException
+    {
+        return newTextTableWriter(openFile(getPath(table, session), session), table, session, manifest);
+    }
+
+    @Override
+    public TableWriter resumeWriter(Table table, Session session, long bytes)
+            throws IOException
+    {
+        String path = getPath(table, session);
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            if (channel.size() < bytes) {
+                throw new TpcdsException(format("File %s is shorter than the %d bytes recorded in the journal.  Remove the journal to start over", path, bytes));
+            }
+            channel.truncate(bytes);
+        }
+        return newTextTableWriter(new FileOutputStream(path, true), table, session, manifest);
+    }
+
+    static TableWriter newTextTableWriter(OutputStream out, Table table, Session session, Optional<Manifest> manifest)
+    {
+        if (manifest.isPresent()) {
+            return manifest.get().newTableWriter(out, getFileName(table, session), table, session);
+        }
+        return new TextTableWriter(out, session);
+    }
+
+    static OutputStream openFile(String path, Session session)
+            throws IOException
+    {
+        File file = new File(path);
+        boolean newFileCreated = file.createNewFile();
+        if (!newFileCreated) {
+            if (session.shouldOverwrite()) {
+                // truncate the file
+                new FileOutputStream(path).close();
+            }
+            else {
+                throw new TpcdsException(format("File %s exists.  Remove it or run with the '--overwrite' option", path));
+            }
+        }
+
+        return new FileOutputStream(path, true);
+    }
+
+    static String getPath(Table table, Session session)
+    {
+        return format("%s%s%s", session.getTargetDirectory(), File.separator, getFileName(table, session));
+    }
+
+    static String getFileName(Table table, Session session)
+    {
+        if (session.getParallelism() > 1) {
+            return format("%s_%d_%d%s",
+                    table.getName(),
+                    session.getChunkNumber(),
+                    session.getParallelism(),
+                    session.getSuffix());
+        }
+
+        // TODO: path names for update case
+        return format("%s%s", table.getName(), session.getSuffix());
+    }
+
+    static class TextTableWriter
+            implements TableWriter
+    {
+        private final Writer writer;
+        private final Session session;
+        private char[] chars = new char[1024];
+
+        TextTableWriter(OutputStream out, Session session)
+        {
+            this.writer = new OutputStreamWriter(requireNonNull(out, "out is null"), StandardCharsets.ISO_8859_1);
+            this.session = requireNonNull(session, "session is null");
+        }
+
+        @Override
+        public void writeRow(List<String> values)
+                throws IOException
+        {
+            writer.write(formatRow(values, session));
+        }
+
+        @Override
+        public void writeFormatted(TableRow row, CharSequence formattedRow)
+                throws IOException
+        {
+            // copied into a buffer that is kept, rather than into a new string per row
+            int length = formattedRow.length();
+            if (length > chars.length) {
+                chars = new char[Math.max(length, 2 * chars.length)];
+            }
+            for (int i = 0; i < length; i++) {
+                chars[i] = formattedRow.charAt(i);
+            }
+            writer.write(chars, 0, length);
+        }
+
+        @Override
+        public void flush()
+                throws IOException
+        {
+            writer.flush();
+        }
+
+        @Override
+        public void close()
+                throws IOException
+        {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,467 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.teradata.tpcds.column.Column;
+import com.teradata.tpcds.column.ColumnType;
+import com.teradata.tpcds.row.RowSink;
+import com.teradata.tpcds.row.TableRow;
+import com.teradata.tpcds.type.Decimal;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.teradata.tpcds.type.Date.fromJulianDays;
+import static java.lang.Math.toIntExact;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+// Inserts rows into a database with batched prepared statements, binding the typed values the
+// rows push rather than their strings. A factory opens one connection,
+// which is shared by the writers it creates, so the Driver creates one factory per chunk thread.
+// Rows are committed every commitSize rows and when the factory is closed, unless generation
+// failed: then everything after the last intermediate commit is rolled back.
+public class JdbcTableWriterFactory
+        implements TableWriterFactory
+{
+    private final String url;
+    private final Optional<String> user;
+    private final Optional<String> password;
+    private final int batchSize;
+    private final int commitSize;
+
+    private Connection connection;
+    private long rowsSinceCommit;
+    private boolean failed;
+
+    public JdbcTableWriterFactory(String url, Optional<String> user, Optional<String> password, int batchSize, int commitSize)
+    {
+        checkArgument(batchSize > 0, "batchSize must be positive");
+        checkArgument(commitSize > 0, "commitSize must be positive");
+        this.url = requireNonNull(url, "url is null");
+        this.user = requireNonNull(user, "user is null");
+        this.password = requireNonNull(password, "password is null");
+        this.batchSize = batchSize;
+        this.commitSize = commitSize;
+    }
+
+    public static String getCreateTableStatement(Table table)
+    {
+        return format("CREATE TABLE %s (%s)",
+                table.getName(),
+                Arrays.stream(table.getColumns())
+                        .map(column -> column.getName() + " " + getSqlType(column.getType()))
+                        .collect(Collectors.joining(", ")));
+    }
+
+    public static String getInsertStatement(Table table)
+    {
+        return format("INSERT INTO %s (%s) VALUES (%s)",
+                table.getName(),
+                Arrays.stream(table.getColumns()).map(Column::getName).collect(Collectors.joining(", ")),
+                String.join(", ", Collections.nCopies(table.getColumns().length, "?")));
+    }
+
+    private static String getSqlType(ColumnType type)
+    {
+        switch (type.getBase()) {
+            case INTEGER:
+                return "INTEGER";
+            case IDENTIFIER:
+                return "BIGINT";
+            case DATE:
+                return "DATE";
+            case TIME:
+                return "TIME";
+            case DECIMAL:
+                return format("DECIMAL(%d, %d)", type.getPrecision().get(), type.getScale().get());
+            case VARCHAR:
+                return format("VARCHAR(%d)", type.getPrecision().get());
+            case CHAR:
+                return format("CHAR(%d)", type.getPrecision().get());
+            default:
+                throw new TpcdsException("Unknown column type " + type.getBase());
+        }
+    }
+
+    private static int getJdbcType(ColumnType type)
+    {
+        switch (type.getBase()) {
+            case INTEGER:
+                return Types.INTEGER;
+            case IDENTIFIER:
+                return Types.BIGINT;
+            case DATE:
+                return Types.DATE;
+            case TIME:
+                return Types.TIME;
+            case DECIMAL:
+                return Types.DECIMAL;
+            case VARCHAR:
+                return Types.VARCHAR;
+            case CHAR:
+                return Types.CHAR;
+            default:
+                throw new TpcdsException("Unknown column type " + type.getBase());
+        }
+    }
+
+    // Creates the given tables, e.g. once before the chunk threads start inserting
+    public void createTables(List<Table> tables)
+            throws IOException
+    {
+        try (Statement statement = getConnection().createStatement()) {
+            for (Table table : tables) {
+                statement.execute(getCreateTableStatement(table));
+            }
+            connection.commit();
+        }
+        catch (SQLException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public TableWriter createWriter(Table table, Session session)
+            throws IOException
+    {
+        try {
+            return new JdbcTableWriter(table, getConnection().prepareStatement(getInsertStatement(table)));
+        }
+        catch (SQLException e) {
+            failed = true;
+            throw new IOException(e);
+        }
+    }
+
+    private Connection getConnection()
+            throws SQLException
+    {
+        if (connection == null) {
+            connection = DriverManager.getConnection(url, user.orElse(null), password.orElse(null));
+            connection.setAutoCommit(false);
+        }
+        return connection;
+    }
+
+    // the writers share the connection, so commits are counted across all of them
+    private void batchExecuted(int rows)
+            throws SQLException
+    {
+        rowsSinceCommit += rows;
+        if (rowsSinceCommit >= commitSize) {
+            connection.commit();
+            rowsSinceCommit = 0;
+        }
+    }
+
+    @Override
+    public void markFailed()
+    {
+        failed = true;
+    }
+
+    @Override
+    public void close()
+            throws IOException
+    {
+        if (connection == null) {
+            return;
+        }
+        try {
+            if (failed) {
+                connection.rollback();
+            }
+            else {
+                connection.commit();
+            }
+            connection.close();
+        }
+        catch (SQLException e) {
+            throw new IOException(e);
+        }
+        finally {
+            connection = null;
+        }
+    }
+
+    private class JdbcTableWriter
+            implements TableWriter
+    {
+        private final Column[] columns;
+        private final int[] jdbcTypes;
+        private final PreparedStatement statement;
+        private final ParameterBinder binder = new ParameterBinder();
+        private int batchedRows;
+
+        JdbcTableWriter(Table table, PreparedStatement statement)
+        {
+            this.columns = table.getColumns();
+            this.jdbcTypes = Arrays.stream(columns).mapToInt(column -> getJdbcType(column.getType())).toArray();
+            this.statement = statement;
+        }
+
+        @Override
+        public void writeRow(List<String> values)
+                throws IOException
+        {
+            try {
+                for (int i = 0; i < columns.length; i++) {
+                    bind(i, values.get(i));
+                }
+                addRow();
+            }
+            catch (SQLException | IllegalArgumentException e) {
+                failed = true;
+                throw new IOException(format("Could not insert row %s into %s", values, columns[0].getTable().getName()), e);
+            }
+        }
+
+        // Binds the typed values of the row; the formatted line is not needed
+        @Override
+        public void writeFormatted(TableRow row, CharSequence formattedRow)
+                throws IOException
+        {
+            try {
+                binder.bind(row);
+                addRow();
+            }
+            catch (SQLException | IllegalArgumentException | ArithmeticException e) {
+                failed = true;
+                throw new IOException(format("Could not insert row %s into %s", row.getValues(), columns[0].getTable().getName()), e);
+            }
+        }
+
+        private void addRow()
+                throws SQLException
+        {
+            statement.addBatch();
+            if (++batchedRows >= batchSize) {
+                executeBatch();
+            }
+        }
+
+        private void bind(int index, String value)
+                throws SQLException
+        {
+            int parameter = index + 1;
+            if (value == null) {
+                statement.setNull(parameter, jdbcTypes[index]);
+                return;
+            }
+            switch (jdbcTypes[index]) {
+                case Types.INTEGER:
+                    statement.setInt(parameter, Integer.parseInt(value));
+                    break;
+                case Types.BIGINT:
+                    statement.setLong(parameter, Long.parseLong(value));
+                    break;
+                case Types.DECIMAL:
+                    statement.setBigDecimal(parameter, new BigDecimal(value));
+                    break;
+                case Types.DATE:
+                    statement.setDate(parameter, Date.valueOf(value));
+                    break;
+                case Types.TIME:
+                    statement.setTime(parameter, Time.valueOf(value));
+                    break;
+                default:
+                    statement.setString(parameter, value);
+                    break;
+            }
+        }
+
+        private void bind(int index, long value)
+                throws SQLException
+        {
+            int parameter = index + 1;
+            switch (jdbcTypes[index]) {
+                case Types.INTEGER:
+                    statement.setInt(parameter, toIntExact(value));
+                    break;
+                case Types.BIGINT:
+                    statement.setLong(parameter, value);
+                    break;
+                case Types.DECIMAL:
+                    statement.setBigDecimal(parameter, BigDecimal.valueOf(value));
+                    break;
+                default:
+                    statement.setString(parameter, Long.toString(value));
+                    break;
+            }
+        }
+
+        private void executeBatch()
+                throws SQLException
+        {
+            if (batchedRows > 0) {
+                statement.executeBatch();
+                batchExecuted(batchedRows);
+                batchedRows = 0;
+            }
+        }
+
+        // Binds the values a row pushes to the parameters of the statement, so that numbers and dates
+        // reach the driver as numbers and dates rather than as strings that are parsed again
+        private class ParameterBinder
+                implements RowSink
+        {
+            private int index;
+
+            void bind(TableRow row)
+                    throws SQLException
+            {
+                index = 0;
+                try {
+                    row.writeTo(this);
+                }
+                catch (UncheckedSqlException e) {
+                    throw e.getCause();
+                }
+            }
+
+            @Override
+            public void appendNull()
+            {
+                try {
+                    statement.setNull(index + 1, jdbcTypes[index]);
+                }
+                catch (SQLException e) {
+                    throw new UncheckedSqlException(e);
+                }
+                index++;
+            }
+
+            @Override
+            public void appendKey(long value)
+            {
+                try {
+                    JdbcTableWriter.this.bind(index, value);
+                }
+                catch (SQLException e) {
+                    throw new UncheckedSqlException(e);
+                }
+                index++;
+            }
+
+            @Override
+            public void appendInteger(int value)
+            {
+                appendKey(value);
+            }
+
+            @Override
+            public void appendDecimal(long number, int precision)
+            {
+                try {
+                    if (jdbcTypes[index] == Types.DECIMAL) {
+                        statement.setBigDecimal(index + 1, BigDecimal.valueOf(number, precision));
+                    }
+                    else {
+                        statement.setString(index + 1, Decimal.toString(number, precision));
+                    }
+                }
+                catch (SQLException e) {
+                    throw new UncheckedSqlException(e);
+                }
+                index++;
+            }
+
+            @Override
+            public void appendDate(int julianDays)
+            {
+                com.teradata.tpcds.type.Date date = fromJulianDays(julianDays);
+                try {
+                    if (jdbcTypes[index] == Types.DATE) {
+                        statement.setDate(index + 1, Date.valueOf(LocalDate.of(date.getYear(), date.getMonth(), date.getDay())));
+                    }
+                    else {
+                        statement.setString(index + 1, date.toString());
+                    }
+                }
+                catch (SQLException e) {
+                    throw new UncheckedSqlException(e);
+                }
+                index++;
+            }
+
+            @Override
+            public void appendBoolean(boolean value)
+            {
+                appendString(value ? "Y" : "N");
+            }
+
+            @Override
+            public void appendString(String value)
+            {
+                try {
+                    JdbcTableWriter.this.bind(index, value);
+                }
+                catch (SQLException e) {
+                    throw new UncheckedSqlException(e);
+                }
+                index++;
+            }
+        }
+
+        @Override
+        public void close()
+                throws IOException
+        {
+            try {
+                // the rows of a failed chunk are rolled back, so the pending batch is not sent
+                if (!failed) {
+                    executeBatch();
+                }
+                statement.close();
+            }
+            catch (SQLException e) {
+                failed = true;
+                throw new IOException(e);
+            }
+        }
+    }
+
+    // carries a SQLException out of the RowSink methods, which cannot throw it
+    private static class UncheckedSqlException
+            extends RuntimeException
+    {
+        UncheckedSqlException(SQLException cause)
+        {
+            super(cause);
+        }
+
+        @Override
+        public synchronized SQLException getCause()
+        {
+            return (SQLException) super.getCause();
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+// Records the progress of a run, so that a run which died can be continued. A line is appended
+// when a (table, chunk) is done and, every so many rows, a checkpoint with the rows of the chunk
+// completed and the bytes written to the file of the table and of its child table. The files
+// are flushed before a checkpoint is recorded. A line torn by a crash is ignored.
+//
+// A resumed run skips the chunks that are done and truncates the files of the others to their
+// last checkpoint, or to nothing. The slowly changing dimensions (tables that keep history) are
+// only recorded when they are done, as their rows depend on the previous rows; they are small.
+public class Journal
+        implements Closeable
+{
+    public static final String FILE_NAME = "journal.txt";
+
+    private static final String OPTIONS = "options";
+    private static final String CHECKPOINT = "checkpoint";
+    private static final String DONE = "done";
+
+    private final long checkpointRows;
+    private final boolean resumed;
+    private final Map<String, Checkpoint> checkpoints = new HashMap<>();
+    private final Set<String> done = new HashSet<>();
+    private final Writer writer;
+
+    private Journal(Path path, long checkpointRows, boolean resumed, String options)
+            throws IOException
+    {
+        checkArgument(checkpointRows > 0, "checkpointRows must be positive");
+        this.checkpointRows = checkpointRows;
+        this.resumed = resumed;
+        this.writer = new OutputStreamWriter(new FileOutputStream(path.toFile(), resumed), UTF_8);
+        if (!resumed) {
+            append(OPTIONS + "\t" + options);
+        }
+    }
+
+    // Opens the journal at the path, continuing the run it records if it exists. Chunks are
+    // checkpointed every checkpointRows rows, counted like Scaling.getRowCount.
+    public static Journal open(Path path, Session session, long checkpointRows)
+            throws IOException
+    {
+        String options = getOptions(session);
+        if (!Files.exists(path)) {
+            return new Journal(path, checkpointRows, false, options);
+        }
+
+        // everything after the last newline was torn by a crash, and is removed before appending
+        byte[] content = Files.readAllBytes(path);
+        int length = content.length;
+        while (length > 0 && content[length - 1] != '\n') {
+            length--;
+        }
+        if (length < content.length) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(length);
+            }
+        }
+        String[] lines = new String(content, 0, length, UTF_8).split("\n");
+        if (lines[0].isEmpty()) {
+            return new Journal(path, checkpointRows, false, options);
+        }
+        if (!lines[0].equals(OPTIONS + "\t" + options)) {
+            throw new TpcdsException(format("%s was written by a run with different options (%s).  Remove it to start over",
+                    path, lines[0].startsWith(OPTIONS + "\t") ? lines[0].substring(OPTIONS.length() + 1) : "unknown"));
+        }
+
+        Journal journal = new Journal(path, checkpointRows, true, options);
+        for (int i = 1; i < lines.length; i++) {
+            String[] fields = lines[i].split("\t");
+            if (fields[0].equals(CHECKPOINT) && fields.length == 6) {
+                journal.checkpoints.put(getKey(fields[1], Integer.parseInt(fields[2])),
+                        new Checkpoint(Long.parseLong(fields[3]), Long.parseLong(fields[4]), Long.parseLong(fields[5])));
+            }
+            else if (fields[0].equals(DONE) && fields.length == 3) {
+                journal.done.add(getKey(fields[1], Integer.parseInt(fields[2])));
+            }
+            else {
+                throw new TpcdsException(format("Invalid line in %s: %s", path, lines[i]));
+            }
+        }
+        return journal;
+    }
+
+    // The options that change what is written, which must be the same to continue a run
+    static String getOptions(Session session)
+    {
+        return format("scale=%s parallelism=%d table=%s suffix=%s null=%s separator=%s terminate=%s sexist=%s",
+                session.getScaling().getScale(),
+                session.getParallelism(),
+                session.generateOnlyOneTable() ? session.getOnlyTableToGenerate().getName() : "all",
+                session.getSuffix(),
+                session.getNullString(),
+                session.getSeparator(),
+                session.terminateRowsWithSeparator(),
+                session.isSexist());
+    }
+
+    private static String getKey(String table, int chunk)
+    {
+        return table + "\t" + chunk;
+    }
+
+    public long getCheckpointRows()
+    {
+        return checkpointRows;
+    }
+
+    public synchronized boolean isDone(Table table, int chunk)
+    {
+        return done.contains(getKey(table.getName(), chunk));
+    }
+
+    // Where to continue the chunk of the table from, if this run continues an earlier one.
+    // A chunk that had not been checkpointed starts over.
+    public synchronized Optional<Checkpoint> getCheckpoint(Table table, int chunk)
+    {
+        if (!resumed) {
+            return Optional.empty();
+        }
+        Checkpoint checkpoint = checkpoints.get(getKey(table.getName(), chunk));
+        return Optional.of(checkpoint != null ? checkpoint : new Checkpoint(0, 0, 0));
+    }
+
+    public synchronized void checkpoint(Table table, int chunk, Checkpoint checkpoint)
+            throws IOException
+    {
+        checkpoints.put(getKey(table.getName(), chunk), checkpoint);
+        append(format("%s\t%s\t%d\t%d\t%d\t%d", CHECKPOINT, table.getName(), chunk, checkpoint.getCompletedRows(), checkpoint.getBytes(), checkpoint.getChildBytes()));
+    }
+
+    public synchronized void done(Table table, int chunk)
+            throws IOException
+    {
+        done.add(getKey(table.getName(), chunk));
+        append(format("%s\t%s\t%d", DONE, table.getName(), chunk));
+    }
+
+    private void append(String line)
+            throws IOException
+    {
+        writer.write(line + "\n");
+        writer.flush();
+    }
+
+    @Override
+    public synchronized void close()
+            throws IOException
+    {
+        writer.close();
+    }
+
+    public static class Checkpoint
+    {
+        private final long completedRows;
+        private final long bytes;
+        private final long childBytes;
+
+        public Checkpoint(long completedRows, long bytes, long childBytes)
+        {
+            this.completedRows = completedRows;
+            this.bytes = bytes;
+            this.childBytes = childBytes;
+        }
+
+        // Rows of the chunk completed, counted like Scaling.getRowCount
+        public long getCompletedRows()
+        {
+            return completedRows;
+        }
+
+        public long getBytes()
+        {
+            return bytes;
+        }
+
+        public long getChildBytes()
+        {
+            return childBytes;
+        }
+    }
+}
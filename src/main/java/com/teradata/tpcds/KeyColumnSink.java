@@ -0,0 +1,122 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.teradata.tpcds.column.Column;
+import com.teradata.tpcds.row.RowSink;
+import com.teradata.tpcds.row.TableRow;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+// Reads the value of one key column, e.g. the bucket or the partition column, from the values a
+// row pushes, so that the writers of formatted rows do not need the row's list of strings.
+final class KeyColumnSink
+        implements RowSink
+{
+    private final Column column;
+    private int position;
+    private boolean isNull;
+    private long key;
+
+    KeyColumnSink(Column column)
+    {
+        this.column = requireNonNull(column, "column is null");
+    }
+
+    void read(TableRow row)
+    {
+        position = 0;
+        isNull = true;
+        key = 0;
+        row.writeTo(this);
+    }
+
+    boolean isNull()
+    {
+        return isNull;
+    }
+
+    long getKey()
+    {
+        return key;
+    }
+
+    private boolean isKeyColumn()
+    {
+        return position++ == column.getPosition();
+    }
+
+    private void setKey(long value)
+    {
+        isNull = false;
+        key = value;
+    }
+
+    @Override
+    public void appendNull()
+    {
+        isKeyColumn();
+    }
+
+    @Override
+    public void appendKey(long value)
+    {
+        if (isKeyColumn()) {
+            setKey(value);
+        }
+    }
+
+    @Override
+    public void appendInteger(int value)
+    {
+        if (isKeyColumn()) {
+            setKey(value);
+        }
+    }
+
+    @Override
+    public void appendString(String value)
+    {
+        if (isKeyColumn() && value != null) {
+            setKey(Long.parseLong(value));
+        }
+    }
+
+    @Override
+    public void appendDecimal(long number, int precision)
+    {
+        checkNotKeyColumn();
+    }
+
+    @Override
+    public void appendDate(int julianDays)
+    {
+        checkNotKeyColumn();
+    }
+
+    @Override
+    public void appendBoolean(boolean value)
+    {
+        checkNotKeyColumn();
+    }
+
+    private void checkNotKeyColumn()
+    {
+        if (isKeyColumn()) {
+            throw new TpcdsException(format("Column %s does not hold integer keys", column.getName()));
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashingOutputStream;
+import com.google.common.io.CountingOutputStream;
+import com.teradata.tpcds.FileTableWriterFactory.TextTableWriter;
+import com.teradata.tpcds.Parallel.ChunkBoundaries;
+import com.teradata.tpcds.row.TableRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.teradata.tpcds.Parallel.splitWork;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.util.Objects.requireNonNull;
+
+// Checksums the files of a run as they are written, so that they don't have to be read again
+// to validate or transfer them. The manifest has a line for every file with its table, chunk, the
+// row range Parallel.splitWork assigned to the chunk, and the rows, bytes and digest written.
+// Writers of all chunk threads add their entry when they are closed.
+public class Manifest
+{
+    public static final String FILE_NAME = "manifest.txt";
+
+    private final ChecksumAlgorithm algorithm;
+    private final List<Entry> entries = new ArrayList<>();
+
+    public Manifest(ChecksumAlgorithm algorithm)
+    {
+        this.algorithm = requireNonNull(algorithm, "algorithm is null");
+    }
+
+    public ChecksumAlgorithm getAlgorithm()
+    {
+        return algorithm;
+    }
+
+    // Returns a text writer for the file whose stream is given, which checksums and counts what it writes
+    public TableWriter newTableWriter(OutputStream out, String fileName, Table table, Session session)
+    {
+        return new ChecksumTableWriter(out, fileName, table, session);
+    }
+
+    public synchronized List<Entry> getEntries()
+    {
+        return ImmutableList.copyOf(entries);
+    }
+
+    private synchronized void addEntry(Entry entry)
+    {
+        entries.add(entry);
+    }
+
+    public void write(OutputStream out)
+            throws IOException
+    {
+        List<Entry> sortedEntries = new ArrayList<>(getEntries());
+        sortedEntries.sort(Comparator.comparing(Entry::getTable).thenComparing(Entry::getChunkNumber).thenComparing(Entry::getFileName));
+
+        Writer writer = new OutputStreamWriter(out, ISO_8859_1);
+        writer.write("file\ttable\tchunk\tfirst_row\tlast_row\trows\tbytes\t" + algorithm.getName() + "\n");
+        for (Entry entry : sortedEntries) {
+            writer.write(entry.getFileName() + "\t" +
+                    entry.getTable().getName() + "\t" +
+                    entry.getChunkNumber() + "\t" +
+                    entry.getFirstRow() + "\t" +
+                    entry.getLastRow() + "\t" +
+                    entry.getRowCount() + "\t" +
+                    entry.getByteCount() + "\t" +
+                    entry.getDigest() + "\n");
+        }
+        writer.flush();
+    }
+
+    // Compares the digest of every file with the expected one and prints a line per file in the
+    // style of md5sum --check. Files without an expected digest fail. dbgen_version is skipped, since it
+    // holds the time and arguments of the run. Returns the number of failures.
+    public int verify(Map<String, String> expectedDigests, PrintStream out)
+    {
+        List<Entry> sortedEntries = new ArrayList<>(getEntries());
+        sortedEntries.sort(Comparator.comparing(Entry::getFileName));
+
+        int failures = 0;
+        for (Entry entry : sortedEntries) {
+            String expectedDigest = expectedDigests.get(entry.getFileName());
+            if (entry.getTable() == Table.DBGEN_VERSION) {
+                out.println(entry.getFileName() + ": SKIPPED");
+            }
+            else if (expectedDigest == null) {
+                out.println(entry.getFileName() + ": NO EXPECTED DIGEST");
+                failures++;
+            }
+            else if (!expectedDigest.equalsIgnoreCase(entry.getDigest())) {
+                out.println(format("%s: FAILED (expected %s, got %s)", entry.getFileName(), expectedDigest, entry.getDigest()));
+                failures++;
+            }
+            else {
+                out.println(entry.getFileName() + ": OK");
+            }
+        }
+        return failures;
+    }
+
+    // Reads the expected digest of every file name from the output of md5sum (digest, then the
+    // possibly '*' prefixed path) or from a manifest. Directories in the paths are ignored.
+    public static Map<String, String> readDigests(Reader reader)
+            throws IOException
+    {
+        Map<String, String> digests = new HashMap<>();
+        BufferedReader lines = new BufferedReader(reader);
+        for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+            if (line.trim().isEmpty() || line.startsWith("file\t")) {
+                continue;
+            }
+            String fileName;
+            String digest;
+            String[] fields = line.split("\t");
+            if (fields.length == 8) {
+                fileName = fields[0];
+                digest = fields[7];
+            }
+            else {
+                fields = line.trim().split("\\s+", 2);
+                if (fields.length != 2) {
+                    throw new TpcdsException("Invalid digest line: " + line);
+                }
+                digest = fields[0];
+                fileName = fields[1].startsWith("*") ? fields[1].substring(1) : fields[1];
+            }
+            digests.put(fileName.substring(fileName.lastIndexOf('/') + 1), digest);
+        }
+        return digests;
+    }
+
+    private class ChecksumTableWriter
+            implements TableWriter
+    {
+        private final String fileName;
+        private final Table table;
+        private final Session session;
+        private final HashingOutputStream hashingStream;
+        private final CountingOutputStream countingStream;
+        private final TextTableWriter writer;
+        private long rowCount;
+
+        ChecksumTableWriter(OutputStream out, String fileName, Table table, Session session)
+        {
+            this.fileName = requireNonNull(fileName, "fileName is null");
+            this.table = requireNonNull(table, "table is null");
+            this.session = requireNonNull(session, "session is null");
+            this.hashingStream = new HashingOutputStream(algorithm.getHashFunction(), requireNonNull(out, "out is null"));
+            this.countingStream = new CountingOutputStream(hashingStream);
+            this.writer = new TextTableWriter(countingStream, session);
+        }
+
+        @Override
+        public void writeRow(List<String> values)
+                throws IOException
+        {
+            writer.writeRow(values);
+            rowCount++;
+        }
+
+        @Override
+        public void writeFormatted(TableRow row, CharSequence formattedRow)
+                throws IOException
+        {
+            writer.writeFormatted(row, formattedRow);
+            rowCount++;
+        }
+
+        @Override
+        public void close()
+                throws IOException
+        {
+            writer.close();
+
+            // a child table is generated over the row range of its parent
+            Table generatedTable = table.isChild() && !session.generateOnlyOneTable() ? table.getParent() : table;
+            ChunkBoundaries chunkBoundaries = splitWork(generatedTable, session);
+            addEntry(new Entry(fileName,
+                    table,
+                    session.getChunkNumber(),
+                    chunkBoundaries.getFirstRow(),
+                    chunkBoundaries.getLastRow(),
+                    rowCount,
+                    countingStream.getCount(),
+                    algorithm.toString(hashingStream.hash())));
+        }
+    }
+
+    public static class Entry
+    {
+        private final String fileName;
+        private final Table table;
+        private final int chunkNumber;
+        private final long firstRow;
+        private final long lastRow;
+        private final long rowCount;
+        private final long byteCount;
+        private final String digest;
+
+        public Entry(String fileName, Table table, int chunkNumber, long firstRow, long lastRow, long rowCount, long byteCount, String digest)
+        {
+            this.fileName = requireNonNull(fileName, "fileName is null");
+            this.table = requireNonNull(table, "table is null");
+            this.chunkNumber = chunkNumber;
+            this.firstRow = firstRow;
+            this.lastRow = lastRow;
+            this.rowCount = rowCount;
+            this.byteCount = byteCount;
+            this.digest = requireNonNull(digest, "digest is null");
+        }
+
+        public String getFileName()
+        {
+            return fileName;
+        }
+
+        public Table getTable()
+        {
+            return table;
+        }
+
+        public int getChunkNumber()
+        {
+            return chunkNumber;
+        }
+
+        public long getFirstRow()
+        {
+            return firstRow;
+        }
+
+        public long getLastRow()
+        {
+            return lastRow;
+        }
+
+        public long getRowCount()
+        {
+            return rowCount;
+        }
+
+        public long getByteCount()
+        {
+            return byteCount;
+        }
+
+        public String getDigest()
+        {
+            return digest;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.util.Optional;
+
+import static com.teradata.tpcds.FileTableWriterFactory.getPath;
+import static com.teradata.tpcds.FileTableWriterFactory.newTextTableWriter;
+import static com.teradata.tpcds.StdoutTableWriterFactory.WRITE_BUFFER_SIZE;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+// Writes each (table, chunk) to a named pipe at the path its data file would have, so that a
+// separate bulk loader process can read every pipe, e.g. LOAD DATA LOCAL INFILE 'store_sales_1_4.dat'.
+// Child tables get their own pipe. Pipes created by a loader beforehand are reused.
+// Opening a pipe blocks until a reader opens it.
+public class NamedPipeTableWriterFactory
+        implements TableWriterFactory
+{
+    private final Optional<Manifest> manifest;
+
+    public NamedPipeTableWriterFactory()
+    {
+        this(Optional.empty());
+    }
+
+    public NamedPipeTableWriterFactory(Optional<Manifest> manifest)
+    {
+        this.manifest = requireNonNull(manifest, "manifest is null");
+    }
+
+    @Override
+    public TableWriter createWriter(Table table, Session session)
+            throws IOException
+    {
+        Path path = Paths.get(getPath(table, session));
+        createPipe(path, session);
+        return newTextTableWriter(new BufferedOutputStream(new FileOutputStream(path.toFile()), WRITE_BUFFER_SIZE), table, session, manifest);
+    }
+
+    private static void createPipe(Path path, Session session)
+            throws IOException
+    {
+        if (Files.exists(path, LinkOption.NOFOLLOW_LINKS)) {
+            if (isPipe(path)) {
+                return;
+            }
+            if (!session.shouldOverwrite()) {
+                throw new TpcdsException(format("File %s exists.  Remove it or run with the '--overwrite' option", path));
+            }
+            Files.delete(path);
+        }
+
+        Process process = new ProcessBuilder("mkfifo", path.toString()).inheritIO().start();
+        try {
+            if (process.waitFor() != 0) {
+                throw new TpcdsException(format("Could not create named pipe %s", path));
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TpcdsException(format("Interrupted while creating named pipe %s", path));
+        }
+    }
+
+    private static boolean isPipe(Path path)
+            throws IOException
+    {
+        // pipes are neither regular files, directories nor links
+        return Files.readAttributes(path, PosixFileAttributes.class, LinkOption.NOFOLLOW_LINKS).isOther();
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.google.common.io.ByteStreams;
+
+import static com.teradata.tpcds.FileTableWriterFactory.getFileName;
+import static java.util.Objects.requireNonNull;
+
+// Discards the rows after checksumming them into the manifest under the name of the file they
+// would have been written to, so that a run can be verified against expected digests without disk.
+public class NullTableWriterFactory
+        implements TableWriterFactory
+{
+    private final Manifest manifest;
+
+    public NullTableWriterFactory(Manifest manifest)
+    {
+        this.manifest = requireNonNull(manifest, "manifest is null");
+    }
+
+    @Override
+    public TableWriter createWriter(Table table, Session session)
+    {
+        return manifest.newTableWriter(ByteStreams.nullOutputStream(), getFileName(table, session), table, session);
+    }
+}
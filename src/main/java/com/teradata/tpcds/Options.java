@@ -14,6 +14,7 @@
 
 package com.teradata.tpcds;
 
+import com.teradata.tpcds.PartitionedTableWriterFactory.Granularity;
 import io.airlift.airline.Option;
 
 import java.util.Optional;
@@ -30,6 +31,32 @@ public class Options
     public static final boolean DEFAULT_NO_SEXISM = false;
     public static final int DEFAULT_PARALLELISM = 1;
     public static final boolean DEFAULT_OVERWRITE = false;
+    public static final String DEFAULT_PARTITION_BY_DATE = null;
+    public static final int DEFAULT_MAX_OPEN_FILES = 256;
+    public static final String DEFAULT_BUCKET_KEY = null;
+    public static final int DEFAULT_BUCKETS = 0;
+    public static final boolean DEFAULT_STDOUT = false;
+    public static final boolean DEFAULT_PIPES = false;
+    public static final String DEFAULT_JDBC_URL = null;
+    public static final String DEFAULT_JDBC_USER = null;
+    public static final String DEFAULT_JDBC_PASSWORD = null;
+    public static final int DEFAULT_JDBC_BATCH_SIZE = 1000;
+    public static final int DEFAULT_JDBC_COMMIT_SIZE = 100000;
+    public static final boolean DEFAULT_JDBC_CREATE_TABLES = false;
+    public static final String DEFAULT_CHECKSUM = null;
+    public static final boolean DEFAULT_PROGRESS = false;
+    public static final int DEFAULT_PROGRESS_INTERVAL = 10;
+    public static final boolean DEFAULT_JMX = false;
+    public static final String DEFAULT_STATUS_FILE = null;
+    public static final boolean DEFAULT_STAGE_TIMINGS = false;
+    public static final String DEFAULT_VERIFY = null;
+    public static final boolean DEFAULT_RESUME = false;
+    public static final long DEFAULT_CHECKPOINT_ROWS = 1000000;
+    public static final String DEFAULT_WORK_QUEUE = null;
+    public static final int DEFAULT_WORKERS = Runtime.getRuntime().availableProcessors();
+    public static final int DEFAULT_LEASE_SECONDS = 300;
+    public static final boolean DEFAULT_SINGLE_FILE = false;
+    public static final boolean DEFAULT_ADAPTIVE = false;
 
     @Option(name = {"--scale", "-s"}, title = "scale", description = "Volume of data to generate in GB (Default: 1)")
     public double scale = DEFAULT_SCALE;
@@ -65,6 +92,101 @@ public class Options
     @Option(name = {"--overwrite"}, title = "overwrite", description = "Overwrite existing data files for tables")
     public boolean overwrite = DEFAULT_OVERWRITE;
 
+    @Option(name = {"--partition-by-date"}, title = "partition-by-date",
+            description = "Write store_sales, catalog_sales, web_sales and inventory into Hive-style partition directories " +
+                    "keyed on their sold/inventory date.  Granularity is one of day, month or year")
+    public String partitionByDate = DEFAULT_PARTITION_BY_DATE;
+
+    @Option(name = {"--max-open-files"}, title = "max-open-files", description = "Maximum number of partition files kept open per table and chunk (Default: 256)")
+    public int maxOpenFiles = DEFAULT_MAX_OPEN_FILES;
+
+    @Option(name = {"--bucket-key"}, title = "bucket-key",
+            description = "Hash rows into --buckets files per chunk on the column named <key>, or else the one column ending in _<key>, e.g. item_sk.  " +
+                    "Tables without such a column are not bucketed, and a key ending more than one column name of a table is an error.  With --parallelism > 1 every chunk writes its own file per bucket")
+    public String bucketKey = DEFAULT_BUCKET_KEY;
+
+    @Option(name = {"--buckets"}, title = "buckets", description = "Number of buckets per table when --bucket-key is given")
+    public int buckets = DEFAULT_BUCKETS;
+
+    @Option(name = {"--stdout"}, title = "stdout", description = "Write the table given by --table to standard output instead of a file")
+    public boolean stdout = DEFAULT_STDOUT;
+
+    @Option(name = {"--pipes"}, title = "pipes",
+            description = "Write each table and chunk to a named pipe in place of its data file, for bulk loaders reading the pipes concurrently")
+    public boolean pipes = DEFAULT_PIPES;
+
+    @Option(name = {"--jdbc-url"}, title = "jdbc-url", description = "Insert rows into the database at this JDBC URL instead of writing files.  The JDBC driver must be on the class path")
+    public String jdbcUrl = DEFAULT_JDBC_URL;
+
+    @Option(name = {"--jdbc-user"}, title = "jdbc-user", description = "User for --jdbc-url")
+    public String jdbcUser = DEFAULT_JDBC_USER;
+
+    @Option(name = {"--jdbc-password"}, title = "jdbc-password", description = "Password for --jdbc-url")
+    public String jdbcPassword = DEFAULT_JDBC_PASSWORD;
+
+    @Option(name = {"--jdbc-batch-size"}, title = "jdbc-batch-size", description = "Rows per JDBC batch insert (Default: 1000)")
+    public int jdbcBatchSize = DEFAULT_JDBC_BATCH_SIZE;
+
+    @Option(name = {"--jdbc-commit-size"}, title = "jdbc-commit-size", description = "Rows inserted per chunk between commits (Default: 100000)")
+    public int jdbcCommitSize = DEFAULT_JDBC_COMMIT_SIZE;
+
+    @Option(name = {"--jdbc-create-tables"}, title = "jdbc-create-tables", description = "Create the tables before inserting into them")
+    public boolean jdbcCreateTables = DEFAULT_JDBC_CREATE_TABLES;
+
+    @Option(name = {"--checksum"}, title = "checksum",
+            description = "Checksum every file while it is written with md5 or crc32c, and write the digests, row ranges, row and byte counts to " + Manifest.FILE_NAME)
+    public String checksum = DEFAULT_CHECKSUM;
+
+    @Option(name = {"--progress"}, title = "progress", description = "Periodically print the progress, throughput and estimated time remaining to standard error")
+    public boolean progress = DEFAULT_PROGRESS;
+
+    @Option(name = {"--progress-interval"}, title = "progress-interval", description = "Seconds between progress reports (Default: 10)")
+    public int progressInterval = DEFAULT_PROGRESS_INTERVAL;
+
+    @Option(name = {"--jmx"}, title = "jmx", description = "Expose the progress of every table and chunk as JMX MBeans")
+    public boolean jmx = DEFAULT_JMX;
+
+    @Option(name = {"--status-file"}, title = "status-file", description = "Periodically replace this file with the progress of every table and chunk as JSON")
+    public String statusFile = DEFAULT_STATUS_FILE;
+
+    @Option(name = {"--stage-timings"}, title = "stage-timings",
+            description = "Print how long generating rows, rendering values, formatting rows and writing took for every table to standard error at the end")
+    public boolean stageTimings = DEFAULT_STAGE_TIMINGS;
+
+    @Option(name = {"--verify"}, title = "verify",
+            description = "Checksum the files without writing them and compare the digests with the ones in this file, " +
+                    "which is the output of md5sum or a manifest.  Uses md5 unless --checksum is given")
+    public String verify = DEFAULT_VERIFY;
+
+    @Option(name = {"--resume"}, title = "resume",
+            description = "Record the tables and chunks completed and periodic checkpoints in " + Journal.FILE_NAME + ", and if it exists, " +
+                    "continue the run it records: completed chunks are skipped and the others continue from their last checkpoint")
+    public boolean resume = DEFAULT_RESUME;
+
+    @Option(name = {"--checkpoint-rows"}, title = "checkpoint-rows", description = "Rows of a chunk between checkpoints with --resume; tickets or orders for sales tables (Default: 1000000)")
+    public long checkpointRows = DEFAULT_CHECKPOINT_ROWS;
+
+    @Option(name = {"--work-queue"}, title = "work-queue",
+            description = "Generate the chunks of the tables claimed from the work queue in this directory, which is shared with the other processes " +
+                    "of the run, e.g. on other machines sharing it and the target directory.  All processes must be given the same options")
+    public String workQueue = DEFAULT_WORK_QUEUE;
+
+    @Option(name = {"--workers"}, title = "workers", description = "Threads generating chunks claimed from --work-queue (Default: the number of processors)")
+    public int workers = DEFAULT_WORKERS;
+
+    @Option(name = {"--lease-seconds"}, title = "lease-seconds",
+            description = "Seconds after which a chunk claimed from --work-queue by a process that stopped renewing its claim is generated by another one (Default: 300)")
+    public int leaseSeconds = DEFAULT_LEASE_SECONDS;
+
+    @Option(name = {"--single-file"}, title = "single-file",
+            description = "Generate every table with --parallelism threads into a single file, which is the same as the file of a run without parallelism")
+    public boolean singleFile = DEFAULT_SINGLE_FILE;
+
+    @Option(name = {"--adaptive"}, title = "adaptive",
+            description = "Generate the chunks with a pool of --parallelism threads working on small ranges of rows, sized to the cost of the rows of each table, " +
+                    "rather than with a thread per chunk.  The files are the same")
+    public boolean adaptive = DEFAULT_ADAPTIVE;
+
     public Session toSession()
     {
         validateProperties();
@@ -80,6 +202,76 @@ public class Options
                 overwrite);
     }
 
+    public TableWriterFactory toTableWriterFactory()
+    {
+        return toTableWriterFactory(Optional.empty());
+    }
+
+    public TableWriterFactory toTableWriterFactory(Optional<Manifest> manifest)
+    {
+        validateProperties();
+        if (verify != null) {
+            return new NullTableWriterFactory(manifest.orElseThrow(() -> new IllegalArgumentException("Verification requires a manifest")));
+        }
+        if (partitionByDate != null) {
+            return new PartitionedTableWriterFactory(toGranularity(partitionByDate), maxOpenFiles);
+        }
+        if (bucketKey != null) {
+            return new BucketedTableWriterFactory(bucketKey, buckets);
+        }
+        if (stdout) {
+            return new StdoutTableWriterFactory();
+        }
+        if (pipes) {
+            return new NamedPipeTableWriterFactory(manifest);
+        }
+        if (jdbcUrl != null) {
+            return toJdbcTableWriterFactory();
+        }
+        return new FileTableWriterFactory(manifest);
+    }
+
+    public Optional<Manifest> toManifest()
+    {
+        validateProperties();
+        if (checksum != null) {
+            return Optional.of(new Manifest(toChecksumAlgorithm(checksum)));
+        }
+        if (verify != null) {
+            return Optional.of(new Manifest(ChecksumAlgorithm.MD5));
+        }
+        return Optional.empty();
+    }
+
+    public JdbcTableWriterFactory toJdbcTableWriterFactory()
+    {
+        validateProperties();
+        if (jdbcUrl == null) {
+            throw new InvalidOptionException("jdbc-url", "", "A JDBC URL is required");
+        }
+        return new JdbcTableWriterFactory(jdbcUrl, Optional.ofNullable(jdbcUser), Optional.ofNullable(jdbcPassword), jdbcBatchSize, jdbcCommitSize);
+    }
+
+    private static Granularity toGranularity(String granularity)
+    {
+        try {
+            return Granularity.valueOf(granularity.toUpperCase());
+        }
+        catch (IllegalArgumentException e) {
+            throw new InvalidOptionException("partition-by-date", granularity, "Granularity must be one of day, month or year");
+        }
+    }
+
+    private static ChecksumAlgorithm toChecksumAlgorithm(String algorithm)
+    {
+        try {
+            return ChecksumAlgorithm.valueOf(algorithm.toUpperCase());
+        }
+        catch (IllegalArgumentException e) {
+            throw new InvalidOptionException("checksum", algorithm, "Checksum must be one of md5 or crc32c");
+        }
+    }
+
     private static Optional<Table> toTableOptional(String table)
     {
         if (table == null) {
@@ -108,5 +300,63 @@ public class Options
         if (parallelism < 1) {
             throw new InvalidOptionException("parallelism", Integer.toString(parallelism), "Parallelism must be >= 1");
         }
+        if (partitionByDate != null) {
+            toGranularity(partitionByDate);
+        }
+        if (maxOpenFiles < 1) {
+            throw new InvalidOptionException("max-open-files", Integer.toString(maxOpenFiles), "Maximum number of open files must be >= 1");
+        }
+        if (bucketKey != null && buckets < 1) {
+            throw new InvalidOptionException("buckets", Integer.toString(buckets), "Number of buckets must be >= 1 when a bucket key is given");
+        }
+        if (bucketKey == null && buckets != DEFAULT_BUCKETS) {
+            throw new InvalidOptionException("buckets", Integer.toString(buckets), "Buckets can only be given together with --bucket-key");
+        }
+        if (stdout && table == null) {
+            throw new InvalidOptionException("stdout", "true", "Writing to standard output requires a single table to be given with --table");
+        }
+        if (jdbcBatchSize < 1) {
+            throw new InvalidOptionException("jdbc-batch-size", Integer.toString(jdbcBatchSize), "JDBC batch size must be >= 1");
+        }
+        if (jdbcCommitSize < 1) {
+            throw new InvalidOptionException("jdbc-commit-size", Integer.toString(jdbcCommitSize), "JDBC commit size must be >= 1");
+        }
+        if (jdbcCreateTables && jdbcUrl == null) {
+            throw new InvalidOptionException("jdbc-create-tables", "true", "Creating tables requires --jdbc-url");
+        }
+        if (checksum != null) {
+            toChecksumAlgorithm(checksum);
+            if (partitionByDate != null || bucketKey != null || stdout || jdbcUrl != null) {
+                throw new InvalidOptionException("checksum", checksum, "Checksums can only be computed for data files and named pipes");
+            }
+        }
+        if (checkpointRows < 1) {
+            throw new InvalidOptionException("checkpoint-rows", Long.toString(checkpointRows), "Checkpoint rows must be >= 1");
+        }
+        if (resume && (partitionByDate != null || bucketKey != null || stdout || pipes || jdbcUrl != null || verify != null || checksum != null)) {
+            throw new InvalidOptionException("resume", "true", "Only runs writing data files without --checksum can be resumed");
+        }
+        if (workers < 1) {
+            throw new InvalidOptionException("workers", Integer.toString(workers), "Workers must be >= 1");
+        }
+        if (leaseSeconds < 1) {
+            throw new InvalidOptionException("lease-seconds", Integer.toString(leaseSeconds), "Lease seconds must be >= 1");
+        }
+        if (workQueue != null && (partitionByDate != null || bucketKey != null || stdout || pipes || jdbcUrl != null || verify != null || checksum != null || resume ||
+                progress || jmx || statusFile != null)) {
+            throw new InvalidOptionException("work-queue", workQueue, "Runs with a work queue write data files, without --checksum, --resume or progress reporting");
+        }
+        if ((singleFile || adaptive) && (partitionByDate != null || bucketKey != null || stdout || pipes || jdbcUrl != null || verify != null || checksum != null || resume ||
+                workQueue != null || progress || jmx || statusFile != null || stageTimings)) {
+            throw new InvalidOptionException(singleFile ? "single-file" : "adaptive", "true",
+                    "Single files and adaptive ranges are written without other output modes, --checksum, --resume, progress reporting or stage timings");
+        }
+        if (progressInterval < 1) {
+            throw new InvalidOptionException("progress-interval", Integer.toString(progressInterval), "Progress interval must be >= 1");
+        }
+        int outputModes = (partitionByDate != null ? 1 : 0) + (bucketKey != null ? 1 : 0) + (stdout ? 1 : 0) + (pipes ? 1 : 0) + (jdbcUrl != null ? 1 : 0) + (verify != null ? 1 : 0);
+        if (outputModes > 1) {
+            throw new InvalidOptionException("output", "multiple", "Only one of --partition-by-date, --bucket-key, --stdout, --pipes, --jdbc-url and --verify can be given");
+        }
     }
 }
@@ -0,0 +1,258 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.google.common.collect.ImmutableMap;
+import com.teradata.tpcds.FileTableWriterFactory.TextTableWriter;
+import com.teradata.tpcds.column.Column;
+import com.teradata.tpcds.row.TableRow;
+import com.teradata.tpcds.type.Date;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.teradata.tpcds.FileTableWriterFactory.getFileName;
+import static com.teradata.tpcds.FileTableWriterFactory.openFile;
+import static com.teradata.tpcds.Table.CATALOG_SALES;
+import static com.teradata.tpcds.Table.INVENTORY;
+import static com.teradata.tpcds.Table.STORE_SALES;
+import static com.teradata.tpcds.Table.WEB_SALES;
+import static com.teradata.tpcds.column.CatalogSalesColumn.CS_SOLD_DATE_SK;
+import static com.teradata.tpcds.column.InventoryColumn.INV_DATE_SK;
+import static com.teradata.tpcds.column.StoreSalesColumn.SS_SOLD_DATE_SK;
+import static com.teradata.tpcds.column.WebSalesColumn.WS_SOLD_DATE_SK;
+import static com.teradata.tpcds.type.Date.fromJulianDays;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+// Writes the date based fact tables into Hive-style partition directories, e.g.
+// <directory>/store_sales/ss_sold_date_sk=2450816/store_sales_1_4.dat. Every other
+// table is written exactly as FileTableWriterFactory would write it.
+public class PartitionedTableWriterFactory
+        implements TableWriterFactory
+{
+    public static final String NULL_PARTITION_VALUE = "__HIVE_DEFAULT_PARTITION__";
+
+    private static final Map<Table, Column> PARTITION_COLUMNS = ImmutableMap.of(
+            STORE_SALES, SS_SOLD_DATE_SK,
+            CATALOG_SALES, CS_SOLD_DATE_SK,
+            WEB_SALES, WS_SOLD_DATE_SK,
+            INVENTORY, INV_DATE_SK);
+
+    private final Granularity granularity;
+    private final int maxOpenFiles;
+    private final FileTableWriterFactory unpartitionedWriterFactory = new FileTableWriterFactory();
+
+    public PartitionedTableWriterFactory(Granularity granularity, int maxOpenFiles)
+    {
+        checkArgument(maxOpenFiles > 0, "maxOpenFiles must be positive");
+        this.granularity = requireNonNull(granularity, "granularity is null");
+        this.maxOpenFiles = maxOpenFiles;
+    }
+
+    public static boolean isPartitioned(Table table)
+    {
+        return PARTITION_COLUMNS.containsKey(table);
+    }
+
+    @Override
+    public TableWriter createWriter(Table table, Session session)
+            throws IOException
+    {
+        if (!isPartitioned(table)) {
+            return unpartitionedWriterFactory.createWriter(table, session);
+        }
+        return new PartitionedTableWriter(table, PARTITION_COLUMNS.get(table), session);
+    }
+
+    public enum Granularity
+    {
+        DAY {
+            @Override
+            String getPartitionValue(long julianDate)
+            {
+                return Long.toString(julianDate);
+            }
+        },
+        MONTH {
+            @Override
+            String getPartitionValue(long julianDate)
+            {
+                Date date = fromJulianDays((int) julianDate);
+                return format("%04d-%02d", date.getYear(), date.getMonth());
+            }
+        },
+        YEAR {
+            @Override
+            String getPartitionValue(long julianDate)
+            {
+                return Integer.toString(fromJulianDays((int) julianDate).getYear());
+            }
+        };
+
+        abstract String getPartitionValue(long julianDate);
+
+        // ss_sold_date_sk is partitioned as ss_sold_date_sk, ss_sold_date_month or ss_sold_date_year
+        String getPartitionKey(Column column)
+        {
+            if (this == DAY) {
+                return column.getName();
+            }
+            return column.getName().replaceFirst("_sk$", "") + "_" + name().toLowerCase();
+        }
+    }
+
+    private class PartitionedTableWriter
+            implements TableWriter
+    {
+        private final Session session;
+        private final String tableDirectory;
+        private final String fileName;
+        private final String partitionKey;
+        private final int partitionColumnPosition;
+        private final KeyColumnSink keySink;
+
+        // least recently used writers are closed once there are more than maxOpenFiles open
+        private final Map<String, TableWriter> openWriters = new LinkedHashMap<String, TableWriter>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TableWriter> eldest)
+            {
+                if (size() <= maxOpenFiles) {
+                    return false;
+                }
+                try {
+                    eldest.getValue().close();
+                }
+                catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return true;
+            }
+        };
+
+        // files created by this writer, which are reopened for append after being evicted
+        private final Set<String> createdPaths = new HashSet<>();
+
+        private long lastDateKey;
+        private TableWriter lastWriter;
+
+        PartitionedTableWriter(Table table, Column partitionColumn, Session session)
+        {
+            this.session = session;
+            this.tableDirectory = session.getTargetDirectory() + File.separator + table.getName();
+            this.fileName = getFileName(table, session);
+            this.partitionKey = granularity.getPartitionKey(partitionColumn);
+            this.partitionColumnPosition = partitionColumn.getPosition();
+            this.keySink = new KeyColumnSink(partitionColumn);
+        }
+
+        @Override
+        public void writeRow(List<String> values)
+                throws IOException
+        {
+            getPartitionWriter(values).writeRow(values);
+        }
+
+        @Override
+        public void writeFormatted(TableRow row, CharSequence formattedRow)
+                throws IOException
+        {
+            keySink.read(row);
+            getPartitionWriter(keySink.isNull(), keySink.getKey()).writeFormatted(row, formattedRow);
+        }
+
+        private TableWriter getPartitionWriter(List<String> values)
+                throws IOException
+        {
+            String dateKey = values.get(partitionColumnPosition);
+            return dateKey == null ? getPartitionWriter(true, 0) : getPartitionWriter(false, Long.parseLong(dateKey));
+        }
+
+        private TableWriter getPartitionWriter(boolean isNull, long dateKey)
+                throws IOException
+        {
+            if (isNull) {
+                // opening the null partition may close the last writer
+                lastWriter = null;
+                return getWriter(NULL_PARTITION_VALUE);
+            }
+            // consecutive rows usually share a date (e.g. the line items of a ticket), so remember the last writer
+            if (lastWriter == null || dateKey != lastDateKey) {
+                lastWriter = getWriter(granularity.getPartitionValue(dateKey));
+                lastDateKey = dateKey;
+            }
+            return lastWriter;
+        }
+
+        private TableWriter getWriter(String partitionValue)
+                throws IOException
+        {
+            TableWriter writer = openWriters.get(partitionValue);
+            if (writer != null) {
+                return writer;
+            }
+
+            File partitionDirectory = new File(tableDirectory, partitionKey + "=" + partitionValue);
+            if (!partitionDirectory.isDirectory() && !partitionDirectory.mkdirs()) {
+                throw new TpcdsException(format("Could not create directory %s", partitionDirectory));
+            }
+            String path = new File(partitionDirectory, fileName).getPath();
+            if (createdPaths.add(path)) {
+                writer = new TextTableWriter(openFile(path, session), session);
+            }
+            else {
+                writer = new TextTableWriter(new FileOutputStream(path, true), session);
+            }
+
+            try {
+                openWriters.put(partitionValue, writer);
+            }
+            catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            return writer;
+        }
+
+        @Override
+        public void close()
+                throws IOException
+        {
+            IOException exception = null;
+            for (TableWriter writer : openWriters.values()) {
+                try {
+                    writer.close();
+                }
+                catch (IOException e) {
+                    if (exception == null) {
+                        exception = e;
+                    }
+                }
+            }
+            openWriters.clear();
+            if (exception != null) {
+                throw exception;
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.teradata.tpcds.column.Column;
+import com.teradata.tpcds.row.RowSink;
+import com.teradata.tpcds.row.TableRow;
+import com.teradata.tpcds.row.generator.RowBatchGenerator;
+import com.teradata.tpcds.row.generator.RowGenerator;
+import com.teradata.tpcds.type.Date;
+
+import java.lang.ref.SoftReference;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static com.teradata.tpcds.Session.getDefaultSession;
+import static com.teradata.tpcds.Table.DATE_DIM;
+import static com.teradata.tpcds.Table.TIME_DIM;
+import static com.teradata.tpcds.TableGenerator.formatRow;
+import static com.teradata.tpcds.type.Date.toJulianDays;
+
+// date_dim and time_dim are the same at every scale, so each is generated once, when it is
+// first needed, and kept as the text TableGenerator.formatRow makes of them for the default
+// separator. Their rows are served from memory, and written without formatting them again.
+final class PrecomputedTable
+{
+    private static final int BATCH_SIZE = 1024;
+    private static final Session FORMAT_SESSION = getDefaultSession();
+    // The text of date_dim is 10.3M characters and that of time_dim 5.1M, plus an offset per row:
+    // about 16MB with compact strings, or 31MB with two bytes per character. A JVM that generates
+    // them once, e.g. when tpcds is used as a library, should not hold on to that for its whole
+    // life, so the tables are only softly reachable from here. The garbage collector can free them
+    // whenever no iterator is using them, and they are generated again if needed.
+    private static final Map<Table, SoftReference<PrecomputedTable>> TABLES = new EnumMap<>(Table.class);
+
+    private final Table table;
+    private final String text;
+    private final int[] rowOffsets;
+
+    private PrecomputedTable(Table table, String text, int[] rowOffsets)
+    {
+        this.table = table;
+        this.text = text;
+        this.rowOffsets = rowOffsets;
+    }
+
+    static boolean isPrecomputed(Table table)
+    {
+        return table == DATE_DIM || table == TIME_DIM;
+    }
+
+    static synchronized PrecomputedTable getPrecomputedTable(Table table)
+    {
+        checkArgument(isPrecomputed(table), "%s is not precomputed", table);
+        SoftReference<PrecomputedTable> reference = TABLES.get(table);
+        PrecomputedTable precomputedTable = reference == null ? null : reference.get();
+        if (precomputedTable == null) {
+            precomputedTable = generate(table);
+            TABLES.put(table, new SoftReference<>(precomputedTable));
+        }
+        return precomputedTable;
+    }
+
+    private static PrecomputedTable generate(Table table)
+    {
+        RowGenerator rowGenerator = table.createRowGenerator();
+
+        // neither table depends on the scale
+        int rowCount = (int) FORMAT_SESSION.getScaling().getRowCount(table);
+        StringBuilder text = new StringBuilder();
+        int[] rowOffsets = new int[rowCount + 1];
+        for (int row = 0; row < rowCount; row++) {
+            List<String> values = rowGenerator.generateRowAndChildRows(row + 1, FORMAT_SESSION, null, null).getRowAndChildRows().get(0).getValues();
+            rowGenerator.consumeRemainingSeedsForRow();
+            // the values are recovered from the text, which has no way to tell a null apart
+            checkState(!values.contains(null), "%s row %s has a null", table, row + 1);
+            rowOffsets[row] = text.length();
+            text.append(formatRow(values, FORMAT_SESSION));
+        }
+        rowOffsets[rowCount] = text.length();
+        return new PrecomputedTable(table, text.toString(), rowOffsets);
+    }
+
+    RowBatchGenerator getRows(long startingRowNumber, long endingRowNumber)
+    {
+        return new RowBatchGenerator()
+        {
+            private final PrecomputedRow precomputedRow = new PrecomputedRow();
+            private long rowNumber = startingRowNumber;
+            private long firstRowNumber;
+
+            @Override
+            public int nextBatch()
+            {
+                firstRowNumber = rowNumber;
+                int rows = (int) Math.max(Math.min(BATCH_SIZE, endingRowNumber - rowNumber + 1), 0);
+                rowNumber += rows;
+                return rows;
+            }
+
+            @Override
+            public TableRow getRow(int row)
+            {
+                precomputedRow.row = (int) firstRowNumber + row - 1;
+                return precomputedRow;
+            }
+        };
+    }
+
+    // A row of the text, whose values are split from it when they are needed
+    final class PrecomputedRow
+            implements TableRow
+    {
+        private int row;
+
+        @Override
+        public List<String> getValues()
+        {
+            return Arrays.asList(split());
+        }
+
+        // The text has lost the types of the values, so they are parsed by the type of their column.
+        // The columns of date_dim and time_dim are keys, integers, dates and strings; the Y and N
+        // flags of date_dim are pushed as strings.
+        @Override
+        public void writeTo(RowSink sink)
+        {
+            String[] values = split();
+            Column[] columns = table.getColumns();
+            for (int column = 0; column < values.length; column++) {
+                String value = values[column];
+                switch (columns[column].getType().getBase()) {
+                    case IDENTIFIER:
+                        sink.appendKey(Long.parseLong(value));
+                        break;
+                    case INTEGER:
+                        sink.appendInteger(Integer.parseInt(value));
+                        break;
+                    case DATE:
+                        LocalDate date = LocalDate.parse(value);
+                        sink.appendDate(toJulianDays(new Date(date.getYear(), date.getMonthValue(), date.getDayOfMonth())));
+                        break;
+                    default:
+                        sink.appendString(value);
+                        break;
+                }
+            }
+        }
+
+        private String[] split()
+        {
+            String[] values = new String[table.getColumns().length];
+            int start = rowOffsets[row];
+            for (int column = 0; column < values.length; column++) {
+                boolean lastColumn = column == values.length - 1;
+                int end = !lastColumn || FORMAT_SESSION.terminateRowsWithSeparator() ? text.indexOf(FORMAT_SESSION.getSeparator(), start) : rowOffsets[row + 1] - 1;
+                values[column] = text.substring(start, end);
+                start = end + 1;
+            }
+            return values;
+        }
+
+        // Whether the text of the row is what formatRow produces for the session
+        boolean isFormattedFor(Session session)
+        {
+            return session.getSeparator() == FORMAT_SESSION.getSeparator() && session.terminateRowsWithSeparator() == FORMAT_SESSION.terminateRowsWithSeparator();
+        }
+
+        void appendTo(StringBuilder line)
+        {
+            line.append(text, rowOffsets[row], rowOffsets[row + 1]);
+        }
+    }
+}
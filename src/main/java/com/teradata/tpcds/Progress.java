@@ -0,0 +1,294 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.google.common.collect.ImmutableList;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+// Progress of a run over all of its tables and chunks, with an ETA that assumes the remaining
+// rows are generated at the average rate so far. Rows completed by an earlier run that is resumed
+// count as done, but not towards that rate. It can be printed periodically, written to a JSON
+// status file and registered as MBeans under com.teradata.tpcds:type=Progress.
+public class Progress
+        implements ProgressMBean
+{
+    private static final String OBJECT_NAME = "com.teradata.tpcds:type=Progress";
+
+    private final Map<String, ChunkProgress> chunks = new LinkedHashMap<>();
+    private final long expectedRows;
+    private final long startNanos = System.nanoTime();
+    private final List<ObjectName> registeredNames = new ArrayList<>();
+    private ScheduledExecutorService reporter;
+    private Optional<PrintStream> reportStream = Optional.empty();
+    private Optional<Path> statusFile = Optional.empty();
+
+    public Progress(List<Table> tables, Session session)
+    {
+        long expectedRows = 0;
+        for (Table table : tables) {
+            // child tables are generated with their parents
+            if (table.isChild() && !session.generateOnlyOneTable()) {
+                continue;
+            }
+            for (int chunk = 1; chunk <= session.getParallelism(); chunk++) {
+                ChunkProgress chunkProgress = new ChunkProgress(table, session.withChunkNumber(chunk));
+                chunks.put(getKey(table, chunk), chunkProgress);
+                expectedRows += chunkProgress.getExpectedRows();
+            }
+        }
+        this.expectedRows = expectedRows;
+    }
+
+    private static String getKey(Table table, int chunk)
+    {
+        return table.getName() + "_" + chunk;
+    }
+
+    public ChunkProgress getChunkProgress(Table table, int chunk)
+    {
+        ChunkProgress chunkProgress = chunks.get(getKey(table, chunk));
+        checkArgument(chunkProgress != null, "No progress is tracked for chunk %s of %s", chunk, table.getName());
+        return chunkProgress;
+    }
+
+    public List<ChunkProgress> getChunks()
+    {
+        return ImmutableList.copyOf(chunks.values());
+    }
+
+    @Override
+    public long getExpectedRows()
+    {
+        return expectedRows;
+    }
+
+    @Override
+    public long getCompletedRows()
+    {
+        return chunks.values().stream().mapToLong(ChunkProgress::getCompletedRows).sum();
+    }
+
+    @Override
+    public long getResumedRows()
+    {
+        return chunks.values().stream().mapToLong(ChunkProgress::getResumedRows).sum();
+    }
+
+    @Override
+    public long getRowsWritten()
+    {
+        return chunks.values().stream().mapToLong(ChunkProgress::getRowsWritten).sum();
+    }
+
+    @Override
+    public long getBytesWritten()
+    {
+        return chunks.values().stream().mapToLong(ChunkProgress::getBytesWritten).sum();
+    }
+
+    @Override
+    public long getElapsedMillis()
+    {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    @Override
+    public double getFractionDone()
+    {
+        return expectedRows == 0 ? 1 : (double) getCompletedRows() / expectedRows;
+    }
+
+    @Override
+    public long getEstimatedMillisRemaining()
+    {
+        long completedRows = getCompletedRows();
+        if (completedRows >= expectedRows) {
+            return 0;
+        }
+        long rowsCompletedByThisRun = completedRows - getResumedRows();
+        if (rowsCompletedByThisRun <= 0) {
+            return -1;
+        }
+        return (long) (getElapsedMillis() * (double) (expectedRows - completedRows) / rowsCompletedByThisRun);
+    }
+
+    @Override
+    public boolean isFinished()
+    {
+        return chunks.values().stream().allMatch(ChunkProgress::isFinished);
+    }
+
+    public String getProgressLine()
+    {
+        long elapsedMillis = getElapsedMillis();
+        long rowsWritten = getRowsWritten();
+        long estimatedMillisRemaining = getEstimatedMillisRemaining();
+        String generating = chunks.values().stream()
+                .filter(chunk -> chunk.isStarted() && !chunk.isFinished())
+                .map(chunk -> chunk.getTable() + "[" + chunk.getChunk() + "]")
+                .collect(Collectors.joining(" "));
+        return format("%5.1f%% %,d of %,d rows, %,d rows written (%,.1f MB), %,.0f rows/s, elapsed %s, remaining %s%s",
+                getFractionDone() * 100,
+                getCompletedRows(),
+                expectedRows,
+                rowsWritten,
+                getBytesWritten() / (1024.0 * 1024.0),
+                elapsedMillis == 0 ? 0.0 : rowsWritten * 1000.0 / elapsedMillis,
+                formatDuration(elapsedMillis),
+                estimatedMillisRemaining < 0 ? "unknown" : formatDuration(estimatedMillisRemaining),
+                generating.isEmpty() ? "" : ", generating " + generating);
+    }
+
+    private static String formatDuration(long millis)
+    {
+        long seconds = millis / 1000;
+        return format("%d:%02d:%02d", seconds / 3600, (seconds / 60) % 60, seconds % 60);
+    }
+
+    public String toJson()
+    {
+        StringBuilder json = new StringBuilder();
+        json.append(format("{\"expectedRows\":%d,\"completedRows\":%d,\"resumedRows\":%d,\"rowsWritten\":%d,\"bytesWritten\":%d,\"elapsedMillis\":%d,\"fractionDone\":%s,\"estimatedMillisRemaining\":%d,\"finished\":%s,\"chunks\":[",
+                expectedRows,
+                getCompletedRows(),
+                getResumedRows(),
+                getRowsWritten(),
+                getBytesWritten(),
+                getElapsedMillis(),
+                getFractionDone(),
+                getEstimatedMillisRemaining(),
+                isFinished()));
+        json.append(chunks.values().stream()
+                .map(chunk -> format("{\"table\":\"%s\",\"chunk\":%d,\"expectedRows\":%d,\"completedRows\":%d,\"rowsWritten\":%d,\"bytesWritten\":%d,\"elapsedMillis\":%d,\"finished\":%s}",
+                        chunk.getTable(),
+                        chunk.getChunk(),
+                        chunk.getExpectedRows(),
+                        chunk.getCompletedRows(),
+                        chunk.getRowsWritten(),
+                        chunk.getBytesWritten(),
+                        chunk.getElapsedMillis(),
+                        chunk.isFinished()))
+                .collect(Collectors.joining(",")));
+        json.append("]}\n");
+        return json.toString();
+    }
+
+    // Replaces the status file atomically, so that readers never see a partial file
+    public void writeStatusFile(Path path)
+            throws IOException
+    {
+        Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.write(temporaryPath, toJson().getBytes(UTF_8));
+        Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public synchronized void registerMBeans()
+    {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            register(server, this, new ObjectName(OBJECT_NAME));
+            for (ChunkProgress chunk : chunks.values()) {
+                register(server, chunk, new ObjectName(format("%s,name=%s,chunk=%d", OBJECT_NAME, chunk.getTable(), chunk.getChunk())));
+            }
+        }
+        catch (JMException e) {
+            throw new TpcdsException("Could not register progress MBeans: " + e.getMessage());
+        }
+    }
+
+    private void register(MBeanServer server, Object mbean, ObjectName name)
+            throws JMException
+    {
+        server.registerMBean(mbean, name);
+        registeredNames.add(name);
+    }
+
+    public synchronized void unregisterMBeans()
+    {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName name : registeredNames) {
+            try {
+                server.unregisterMBean(name);
+            }
+            catch (JMException ignored) {
+                // already unregistered
+            }
+        }
+        registeredNames.clear();
+    }
+
+    // Prints a progress line and/or writes the status file every interval, and once more when stopped
+    public synchronized void startReporting(Optional<PrintStream> out, Optional<Path> statusFile, long intervalSeconds)
+    {
+        checkArgument(intervalSeconds > 0, "intervalSeconds must be positive");
+        checkArgument(reporter == null, "reporting has already been started");
+        this.reportStream = requireNonNull(out, "out is null");
+        this.statusFile = requireNonNull(statusFile, "statusFile is null");
+        reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "progress-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reporter.scheduleWithFixedDelay(this::report, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    public synchronized void stopReporting()
+    {
+        if (reporter == null) {
+            return;
+        }
+        reporter.shutdownNow();
+        reporter = null;
+        report();
+    }
+
+    private void report()
+    {
+        reportStream.ifPresent(stream -> stream.println(getProgressLine()));
+        if (statusFile.isPresent()) {
+            try {
+                writeStatusFile(statusFile.get());
+            }
+            catch (IOException e) {
+                // a missing update is not worth failing the run for
+                reportStream.ifPresent(stream -> stream.println("Could not write status file: " + e.getMessage()));
+            }
+        }
+    }
+}
@@ -15,18 +15,43 @@
 package com.teradata.tpcds;
 
 import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
 import com.teradata.tpcds.Parallel.ChunkBoundaries;
+import com.teradata.tpcds.StageTimings.Recorder;
 import com.teradata.tpcds.row.TableRow;
+import com.teradata.tpcds.row.generator.CustomerDemographicsBatchGenerator;
+import com.teradata.tpcds.row.generator.InventoryBatchGenerator;
+import com.teradata.tpcds.row.generator.RowBatchGenerator;
 import com.teradata.tpcds.row.generator.RowGenerator;
 import com.teradata.tpcds.row.generator.RowGeneratorResult;
 
-import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.teradata.tpcds.Parallel.splitWork;
+import static com.teradata.tpcds.PrecomputedTable.getPrecomputedTable;
+import static com.teradata.tpcds.PrecomputedTable.isPrecomputed;
+import static com.teradata.tpcds.RowGeneratorPool.borrowRowGenerator;
+import static com.teradata.tpcds.RowGeneratorPool.returnRowGenerator;
+import static com.teradata.tpcds.StageTimings.Stage.GENERATE_ROW;
+import static com.teradata.tpcds.Table.CUSTOMER_DEMOGRAPHICS;
+import static com.teradata.tpcds.Table.INVENTORY;
+import static com.teradata.tpcds.row.generator.CatalogReturnsRowGenerator.RETURN_PERCENT;
+import static com.teradata.tpcds.row.generator.CatalogSalesRowGenerator.CS_MAX_LINE_ITEMS;
+import static com.teradata.tpcds.row.generator.CatalogSalesRowGenerator.CS_MIN_LINE_ITEMS;
+import static com.teradata.tpcds.row.generator.StoreSalesRowGenerator.SR_RETURN_PCT;
+import static com.teradata.tpcds.row.generator.StoreSalesRowGenerator.SS_MAX_LINE_ITEMS;
+import static com.teradata.tpcds.row.generator.StoreSalesRowGenerator.SS_MIN_LINE_ITEMS;
+import static com.teradata.tpcds.row.generator.WebSalesRowGenerator.RETURN_PERCENTAGE;
+import static com.teradata.tpcds.row.generator.WebSalesRowGenerator.WS_MAX_LINE_ITEMS;
+import static com.teradata.tpcds.row.generator.WebSalesRowGenerator.WS_MIN_LINE_ITEMS;
 import static java.util.Objects.requireNonNull;
 
 public class Results
@@ -58,13 +83,142 @@ public class Results
 
     @Override
     public Iterator<List<List<String>>> iterator()
+    {
+        return resultsIterator();
+    }
+
+    ResultsIterator resultsIterator()
     {
         return new ResultsIterator(table, startingRowNumber, rowCount, session);
     }
 
-    private static class ResultsIterator
+    @Override
+    public Spliterator<List<List<String>>> spliterator()
+    {
+        return new ResultsSpliterator(table, startingRowNumber, rowCount, session);
+    }
+
+    public Stream<List<List<String>>> stream()
+    {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<List<List<String>>> parallelStream()
+    {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    // Splits the range of rows in halves for parallel streams. The rows of the sales tables are
+    // tickets or orders, so a split never separates their line items. Each half skips its random
+    // number streams ahead to its first row, which generates the same values as the whole range.
+    // Tables that keep history are not split, since a revision is generated from the row before it.
+    // The size is exact for the tables that produce one element per row. Sales produce a varying
+    // number of line items per row, and returns only for the returned ones, so their size is an
+    // estimate from the average number of line items and the percentage of them that is returned.
+    static class ResultsSpliterator
+            implements Spliterator<List<List<String>>>
+    {
+        // skipping ahead costs more than generating a few rows of the smaller tables
+        private static final long MIN_SPLIT_ROWS = 64;
+
+        private final Table table;
+        private final Session session;
+        private final long endingRowNumber;
+        private final double elementsPerRow;
+        private long startingRowNumber;
+        private ResultsIterator iterator;
+
+        ResultsSpliterator(Table table, long startingRowNumber, long endingRowNumber, Session session)
+        {
+            this.table = requireNonNull(table, "table is null");
+            this.startingRowNumber = startingRowNumber;
+            this.endingRowNumber = endingRowNumber;
+            this.session = requireNonNull(session, "session is null");
+            this.elementsPerRow = getAverageElementsPerRow(table);
+        }
+
+        private static double getAverageElementsPerRow(Table table)
+        {
+            switch (table) {
+                case STORE_SALES:
+                    return (SS_MIN_LINE_ITEMS + SS_MAX_LINE_ITEMS) / 2.0;
+                case STORE_RETURNS:
+                    return (SS_MIN_LINE_ITEMS + SS_MAX_LINE_ITEMS) / 2.0 * SR_RETURN_PCT / 100;
+                case CATALOG_SALES:
+                    return (CS_MIN_LINE_ITEMS + CS_MAX_LINE_ITEMS) / 2.0;
+                case CATALOG_RETURNS:
+                    return (CS_MIN_LINE_ITEMS + CS_MAX_LINE_ITEMS) / 2.0 * RETURN_PERCENT / 100;
+                case WEB_SALES:
+                    return (WS_MIN_LINE_ITEMS + WS_MAX_LINE_ITEMS) / 2.0;
+                case WEB_RETURNS:
+                    return (WS_MIN_LINE_ITEMS + WS_MAX_LINE_ITEMS) / 2.0 * RETURN_PERCENTAGE / 100;
+                default:
+                    return 1;
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super List<List<String>>> action)
+        {
+            if (!getIterator().hasNext()) {
+                return false;
+            }
+            action.accept(iterator.next());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super List<List<String>>> action)
+        {
+            getIterator().forEachRemaining(action);
+        }
+
+        @Override
+        public Spliterator<List<List<String>>> trySplit()
+        {
+            long rows = endingRowNumber - startingRowNumber + 1;
+            if (iterator != null || table.keepsHistory() || rows < 2 * MIN_SPLIT_ROWS) {
+                return null;
+            }
+            long middleRowNumber = startingRowNumber + rows / 2;
+            ResultsSpliterator prefix = new ResultsSpliterator(table, startingRowNumber, middleRowNumber - 1, session);
+            startingRowNumber = middleRowNumber;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            long rows = Math.max(endingRowNumber - startingRowNumber + 1, 0);
+            if (iterator != null) {
+                rows -= iterator.getCompletedRowCount();
+            }
+            return Math.round(rows * elementsPerRow);
+        }
+
+        @Override
+        public int characteristics()
+        {
+            int characteristics = ORDERED | NONNULL | IMMUTABLE;
+            if (!table.isChild() && !table.hasChild()) {
+                characteristics |= SIZED | SUBSIZED;
+            }
+            return characteristics;
+        }
+
+        private ResultsIterator getIterator()
+        {
+            if (iterator == null) {
+                iterator = new ResultsIterator(table, startingRowNumber, endingRowNumber, session);
+            }
+            return iterator;
+        }
+    }
+
+    static class ResultsIterator
             extends AbstractIterator<List<List<String>>>
     {
+        private final long startingRowNumber;
         private final long endingRowNumber;
         private final Table table;
         private final Session session;
@@ -72,6 +226,16 @@ public class Results
         private final RowGenerator rowGenerator;
         private final RowGenerator parentRowGenerator;
         private final RowGenerator childRowGenerator;
+        private Optional<Recorder> recorder = Optional.empty();
+        private boolean rowEnded;
+        private RowBatchGenerator batchGenerator;
+        private int batchRows;
+        private int batchPosition;
+        private boolean generatorsReturned;
+        private long returnedRandomNumbersDrawn;
+        private boolean reuseRows;
+        private final List<List<String>> reusedValues = new ArrayList<>(2);
+        private final List<TableRow> reusedBatchRows = new ArrayList<>(1);
 
         public ResultsIterator(Table table, long startingRowNumber, long endingRowNumber, Session session)
         {
@@ -81,18 +245,84 @@ public class Results
             checkArgument(endingRowNumber <= session.getScaling().getRowCount(table), "starting row number is greater than the total rows in %s: %s", table, endingRowNumber);
 
             this.table = table;
+            this.startingRowNumber = startingRowNumber;
             this.rowNumber = startingRowNumber;
             this.endingRowNumber = endingRowNumber;
             this.session = session;
-            try {
-                this.rowGenerator = table.getRowGeneratorClass().getDeclaredConstructor().newInstance();
-                this.parentRowGenerator = table.isChild() ? table.getParent().getRowGeneratorClass().getDeclaredConstructor().newInstance() : null;
-                this.childRowGenerator = table.hasChild() ? table.getChild().getRowGeneratorClass().getDeclaredConstructor().newInstance() : null;
+            // the batch generators and precomputed tables start at the starting row themselves
+            if (isGeneratedInBatches(table)) {
+                this.rowGenerator = null;
+                this.parentRowGenerator = null;
+                this.childRowGenerator = null;
+            }
+            else {
+                this.rowGenerator = borrowRowGenerator(table);
+                this.parentRowGenerator = table.isChild() ? borrowRowGenerator(table.getParent()) : null;
+                this.childRowGenerator = table.hasChild() ? borrowRowGenerator(table.getChild()) : null;
+                skipRowsUntilStartingRowNumber(startingRowNumber);
+            }
+        }
+
+        private static boolean isGeneratedInBatches(Table table)
+        {
+            return table == CUSTOMER_DEMOGRAPHICS || table == INVENTORY || isPrecomputed(table);
+        }
+
+        // The number of rows of the range that have been completed. For sales tables a row is a
+        // ticket or order, which may have produced several line items.
+        long getCompletedRowCount()
+        {
+            return rowNumber - startingRowNumber;
+        }
+
+        // Whether the last rows returned completed a row, e.g. the last line item of a ticket
+        boolean isRowEnded()
+        {
+            return rowEnded;
+        }
+
+        // Makes next return the same list each time, refilled with the values of the next rows, so
+        // the list is only valid until the following call. The lists of values in it are not reused.
+        // The generators reuse their results and, for the sales and returns tables, their rows as
+        // well, so the TableRows of nextRows are only valid until the following call too.
+        // Used by TableGenerator, which writes the rows of nextRows before asking for the next ones.
+        void reuseRows()
+        {
+            this.reuseRows = true;
+            if (rowGenerator == null) {
+                return;
+            }
+            rowGenerator.reuseResults();
+            if (parentRowGenerator != null) {
+                parentRowGenerator.reuseResults();
+            }
+            if (childRowGenerator != null) {
+                childRowGenerator.reuseResults();
+            }
+        }
+
+        void setRecorder(Recorder recorder)
+        {
+            this.recorder = Optional.of(recorder);
+        }
+
+        long getRandomNumbersDrawn()
+        {
+            // the generators may have been reused by another iterator since they were returned
+            if (generatorsReturned) {
+                return returnedRandomNumbersDrawn;
+            }
+            if (rowGenerator == null) {
+                return 0;
             }
-            catch (NoSuchMethodException | InstantiationException | InvocationTargetException | IllegalAccessException e) {
-                throw new TpcdsException(e.toString());
+            long randomNumbersDrawn = rowGenerator.getRandomNumbersDrawn();
+            if (parentRowGenerator != null) {
+                randomNumbersDrawn += parentRowGenerator.getRandomNumbersDrawn();
+            }
+            if (childRowGenerator != null) {
+                randomNumbersDrawn += childRowGenerator.getRandomNumbersDrawn();
             }
-            skipRowsUntilStartingRowNumber(startingRowNumber);
+            return randomNumbersDrawn;
         }
 
         private void skipRowsUntilStartingRowNumber(long startingRowNumber)
@@ -109,23 +339,105 @@ public class Results
         @Override
         protected List<List<String>> computeNext()
         {
-            if (rowNumber > endingRowNumber) {
+            List<TableRow> rowAndChildRows = nextRows();
+            if (rowAndChildRows.isEmpty()) {
                 return endOfData();
             }
+            List<List<String>> tableRows = reuseRows ? reusedValues : new ArrayList<>(rowAndChildRows.size());
+            tableRows.clear();
+            for (TableRow row : rowAndChildRows) {
+                tableRows.add(row.getValues());
+            }
+            return tableRows;
+        }
+
+        // The rows produced for the next row of the table, e.g. a line item of a ticket and its
+        // return, or an empty list after the last row. Used instead of next by callers that push the
+        // typed values of the rows to a RowSink. After reuseRows, the list and the rows in it are
+        // only valid until the following call.
+        List<TableRow> nextRows()
+        {
+            // the tables generated in batches have no row generator
+            if (rowGenerator == null) {
+                return nextRowsFromBatch();
+            }
 
-            RowGeneratorResult result = rowGenerator.generateRowAndChildRows(rowNumber, session, parentRowGenerator, childRowGenerator);
-            List<List<String>> tableRows = result.getRowAndChildRows().stream().map(TableRow::getValues).collect(Collectors.toList());
+            while (rowNumber <= endingRowNumber) {
+                RowGeneratorResult result;
+                if (recorder.isPresent()) {
+                    long start = recorder.get().start();
+                    result = rowGenerator.generateRowAndChildRows(rowNumber, session, parentRowGenerator, childRowGenerator);
+                    recorder.get().end(GENERATE_ROW, start);
+                }
+                else {
+                    result = rowGenerator.generateRowAndChildRows(rowNumber, session, parentRowGenerator, childRowGenerator);
+                }
 
-            if (result.shouldEndRow()) {
-                rowStop();
-                rowNumber++;
+                rowEnded = result.shouldEndRow();
+                if (result.shouldEndRow()) {
+                    rowStop();
+                    rowNumber++;
+                }
+
+                // e.g. a line item without a return, when generating only the returns table
+                if (!result.getRowAndChildRows().isEmpty()) {
+                    return result.getRowAndChildRows();
+                }
             }
+            finish();
+            return ImmutableList.of();
+        }
 
-            if (result.getRowAndChildRows().isEmpty()) {
-                tableRows = computeNext();
+        // customer_demographics and inventory are generated a batch at a time, and date_dim and
+        // time_dim are served from memory. With a recorder, every batch is timed as generating rows.
+        private List<TableRow> nextRowsFromBatch()
+        {
+            if (batchPosition == batchRows) {
+                long start = System.nanoTime();
+                if (batchGenerator == null) {
+                    batchGenerator = createBatchGenerator();
+                }
+                batchRows = batchGenerator.nextBatch();
+                batchPosition = 0;
+                recorder.ifPresent(value -> value.batchGenerated(System.nanoTime() - start));
+                if (batchRows == 0) {
+                    finish();
+                    return ImmutableList.of();
+                }
             }
 
-            return tableRows;
+            rowEnded = true;
+            rowNumber++;
+            // the batch generators return the same row object each time
+            reusedBatchRows.clear();
+            reusedBatchRows.add(batchGenerator.getRow(batchPosition++));
+            return reusedBatchRows;
+        }
+
+        private RowBatchGenerator createBatchGenerator()
+        {
+            if (isPrecomputed(table)) {
+                return getPrecomputedTable(table).getRows(rowNumber, endingRowNumber);
+            }
+            if (table == INVENTORY) {
+                return new InventoryBatchGenerator(rowNumber, endingRowNumber, session);
+            }
+            return new CustomerDemographicsBatchGenerator(rowNumber, endingRowNumber);
+        }
+
+        private void finish()
+        {
+            if (!generatorsReturned && rowGenerator != null) {
+                returnedRandomNumbersDrawn = getRandomNumbersDrawn();
+                generatorsReturned = true;
+                returnRowGenerator(table, rowGenerator);
+                if (parentRowGenerator != null) {
+                    returnRowGenerator(table.getParent(), parentRowGenerator);
+                }
+                if (childRowGenerator != null) {
+                    returnRowGenerator(table.getChild(), childRowGenerator);
+                }
+            }
         }
 
         private void rowStop()
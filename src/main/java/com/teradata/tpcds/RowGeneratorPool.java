@@ -0,0 +1,56 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.teradata.tpcds.row.generator.RowGenerator;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Keeps the row generators of finished iterators so that later iterators of the same thread can
+// reuse them. Creating a generator creates a random number stream for each of its columns, which
+// adds up when a connector iterates over many small ranges of rows. A borrowed generator is reset,
+// and it is not returned if the iterator is abandoned before the end of its rows.
+final class RowGeneratorPool
+{
+    // enough for a table, its parent or child, and a nested iterator of the same table
+    private static final int MAX_POOLED_GENERATORS = 4;
+    private static final ThreadLocal<Map<Table, Deque<RowGenerator>>> POOLS = ThreadLocal.withInitial(() -> new EnumMap<>(Table.class));
+
+    private RowGeneratorPool()
+    {
+    }
+
+    static RowGenerator borrowRowGenerator(Table table)
+    {
+        Deque<RowGenerator> generators = POOLS.get().get(table);
+        if (generators == null || generators.isEmpty()) {
+            return table.createRowGenerator();
+        }
+        RowGenerator generator = generators.pop();
+        generator.reset();
+        return generator;
+    }
+
+    static void returnRowGenerator(Table table, RowGenerator generator)
+    {
+        Deque<RowGenerator> generators = POOLS.get().computeIfAbsent(table, key -> new ArrayDeque<>());
+        if (generators.size() < MAX_POOLED_GENERATORS) {
+            generators.push(generator);
+        }
+    }
+}
@@ -14,17 +14,20 @@
 
 package com.teradata.tpcds;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.teradata.tpcds.distribution.CalendarDistribution;
 import com.teradata.tpcds.type.Date;
 
-import java.util.EnumMap;
-import java.util.Map;
-
 import static com.teradata.tpcds.Table.CATALOG_SALES;
 import static com.teradata.tpcds.Table.INVENTORY;
 import static com.teradata.tpcds.Table.ITEM;
 import static com.teradata.tpcds.Table.STORE_SALES;
+import static com.teradata.tpcds.Table.S_CATALOG_ORDER;
 import static com.teradata.tpcds.Table.S_INVENTORY;
+import static com.teradata.tpcds.Table.S_PURCHASE;
+import static com.teradata.tpcds.Table.S_WEB_ORDER;
 import static com.teradata.tpcds.Table.WAREHOUSE;
 import static com.teradata.tpcds.Table.WEB_SALES;
 import static com.teradata.tpcds.distribution.CalendarDistribution.Weights.SALES;
@@ -34,15 +37,29 @@ import static com.teradata.tpcds.distribution.CalendarDistribution.Weights.UNIFO
 import static com.teradata.tpcds.distribution.CalendarDistribution.getIndexForDate;
 import static com.teradata.tpcds.distribution.CalendarDistribution.getMaxWeight;
 import static com.teradata.tpcds.distribution.CalendarDistribution.getWeightForDayNumber;
+import static com.teradata.tpcds.type.Date.JULIAN_DATA_END_DATE;
+import static com.teradata.tpcds.type.Date.JULIAN_DATA_START_DATE;
 import static com.teradata.tpcds.type.Date.JULIAN_DATE_MAXIMUM;
 import static com.teradata.tpcds.type.Date.JULIAN_DATE_MINIMUM;
 import static com.teradata.tpcds.type.Date.fromJulianDays;
 import static com.teradata.tpcds.type.Date.isLeapYear;
 
+// Scaling is immutable, and getScaling returns an instance that is shared by every session
+// with the same scale. The row counts, and the row counts of each date of the data set, are
+// computed when it is created. Those take about 120 KB per scale, so only the most recently
+// used scales are kept; a Scaling that was evicted stays valid for the sessions holding it.
 public class Scaling
 {
+    private static final int MAX_CACHED_SCALINGS = 16;
+    private static final LoadingCache<Double, Scaling> SCALINGS = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_SCALINGS)
+            .build(CacheLoader.from(Scaling::new));
+    static final Table[] DATE_SCALED_TABLES = {STORE_SALES, CATALOG_SALES, WEB_SALES, S_CATALOG_ORDER, S_PURCHASE, S_WEB_ORDER, S_INVENTORY, INVENTORY};
+
     private final double scale;
-    private final Map<Table, Long> tableToRowCountMap = new EnumMap<>(Table.class);
+    private final long[] rowCounts = new long[Table.values().length];
+    private final long[] idCounts = new long[Table.values().length];
+    private final long[][] rowCountsForDate = new long[Table.values().length][];
 
     public Scaling(double scale)
     {
@@ -57,23 +74,43 @@ public class Scaling
             for (int i = 1; i <= scalingInfo.getMultiplier(); i++) {
                 multiplier *= 10;
             }
-            tableToRowCountMap.put(table, baseRowCount * multiplier);
+            rowCounts[table.ordinal()] = baseRowCount * multiplier;
+        }
+
+        // inventory depends on the counts of item and warehouse
+        for (Table table : Table.values()) {
+            idCounts[table.ordinal()] = computeIdCount(table);
+        }
+        rowCounts[INVENTORY.ordinal()] = scaleInventory();
+        rowCounts[S_INVENTORY.ordinal()] = getIdCount(ITEM) * getRowCount(WAREHOUSE) * 6;
+        idCounts[INVENTORY.ordinal()] = computeIdCount(INVENTORY);
+        idCounts[S_INVENTORY.ordinal()] = computeIdCount(S_INVENTORY);
+
+        for (Table table : DATE_SCALED_TABLES) {
+            long[] rowCountsOfTable = new long[JULIAN_DATA_END_DATE - JULIAN_DATA_START_DATE + 1];
+            for (int day = 0; day < rowCountsOfTable.length; day++) {
+                rowCountsOfTable[day] = computeRowCountForDate(table, JULIAN_DATA_START_DATE + day);
+            }
+            rowCountsForDate[table.ordinal()] = rowCountsOfTable;
         }
     }
 
-    public long getRowCount(Table table)
+    public static Scaling getScaling(double scale)
     {
-        if (table == INVENTORY) {
-            return scaleInventory();
-        }
+        return SCALINGS.getUnchecked(scale);
+    }
 
-        if (table == S_INVENTORY) {
-            return getIdCount(ITEM) * getRowCount(WAREHOUSE) * 6;
-        }
-        return tableToRowCountMap.get(table);
+    public long getRowCount(Table table)
+    {
+        return rowCounts[table.ordinal()];
     }
 
     public long getIdCount(Table table)
+    {
+        return idCounts[table.ordinal()];
+    }
+
+    private long computeIdCount(Table table)
     {
         long rowCount = getRowCount(table);
         if (table.keepsHistory()) {
@@ -114,6 +151,16 @@ public class Scaling
     }
 
     public long getRowCountForDate(Table table, long julianDate)
+    {
+        long[] rowCountsOfTable = rowCountsForDate[table.ordinal()];
+        if (rowCountsOfTable != null && julianDate >= JULIAN_DATA_START_DATE && julianDate <= JULIAN_DATA_END_DATE) {
+            return rowCountsOfTable[(int) (julianDate - JULIAN_DATA_START_DATE)];
+        }
+        return computeRowCountForDate(table, julianDate);
+    }
+
+    // without the precomputed counts, for the dates outside of the data set and for tests
+    long computeRowCountForDate(Table table, long julianDate)
     {
         long rowCount;
         switch (table) {
@@ -47,7 +47,7 @@ public class Session
 
     public Session(double scale, String targetDirectory, String suffix, Optional<Table> table, String nullString, char separator, boolean doNotTerminate, boolean noSexism, int parallelism, int chunkNumber, boolean overwrite)
     {
-        this.scaling = new Scaling(scale);
+        this.scaling = Scaling.getScaling(scale);
         this.targetDirectory = targetDirectory;
         this.suffix = suffix;
         this.table = table;
@@ -99,6 +99,23 @@ public class Session
         );
     }
 
+    public Session withTargetDirectory(String targetDirectory)
+    {
+        return new Session(
+                this.scaling.getScale(),
+                targetDirectory,
+                this.suffix,
+                this.table,
+                this.nullString,
+                this.separator,
+                this.doNotTerminate,
+                this.noSexism,
+                this.parallelism,
+                this.chunkNumber,
+                this.overwrite
+        );
+    }
+
     public Session withParallelism(int parallelism)
     {
         return new Session(
@@ -0,0 +1,264 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.teradata.tpcds.random.RandomNumberStream;
+import com.teradata.tpcds.random.RandomNumberStreamImpl;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+// Where the time of each table goes. Every chunk thread records into its own Recorder, which
+// times one row in sampleInterval with System.nanoTime and only counts the others, and adds it
+// to the totals when the table is done. Timing each random number would cost more than drawing
+// it, so random numbers are only counted. Their time in the report is not a measurement but an
+// estimate: the count times the cost of one number in a calibration loop.
+// Tables generated a batch at a time (customer_demographics, inventory, date_dim and time_dim)
+// are timed on that path, with every batch timed; their random numbers are not counted.
+public class StageTimings
+{
+    public static final int DEFAULT_SAMPLE_INTERVAL = 8;
+
+    private static volatile double randomNumberNanos;
+
+    public enum Stage
+    {
+        GENERATE_ROW("generate row"),  // RowGenerator.generateRowAndChildRows, including random numbers and distributions, or RowBatchGenerator.nextBatch
+        FORMAT_ROW("format row"),      // TableRow.writeTo a TextRowSink, rendering the values into a line
+        WRITE("write");                // TableWriter.writeFormatted: encoding and writing the line
+
+        private final String description;
+
+        Stage(String description)
+        {
+            this.description = description;
+        }
+
+        public String getDescription()
+        {
+            return description;
+        }
+    }
+
+    private final int sampleInterval;
+    private final Map<Table, Totals> totals = new EnumMap<>(Table.class);
+
+    public StageTimings()
+    {
+        this(DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    public StageTimings(int sampleInterval)
+    {
+        checkArgument(sampleInterval > 0, "sampleInterval must be positive");
+        this.sampleInterval = sampleInterval;
+    }
+
+    public Recorder newRecorder(Table table)
+    {
+        return new Recorder(table, sampleInterval);
+    }
+
+    public synchronized void add(Recorder recorder)
+    {
+        totals.computeIfAbsent(recorder.table, table -> new Totals()).add(recorder);
+    }
+
+    // Estimated nanoseconds spent in the stage for the table, over all chunks
+    public synchronized long getNanos(Table table, Stage stage)
+    {
+        Totals tableTotals = totals.get(table);
+        return tableTotals == null ? 0 : tableTotals.getNanos(stage);
+    }
+
+    public synchronized long getRows(Table table)
+    {
+        Totals tableTotals = totals.get(table);
+        return tableTotals == null ? 0 : tableTotals.rows;
+    }
+
+    public synchronized long getRandomNumbersDrawn(Table table)
+    {
+        Totals tableTotals = totals.get(table);
+        return tableTotals == null ? 0 : tableTotals.randomNumbersDrawn;
+    }
+
+    public synchronized String getReport()
+    {
+        double randomNumberNanos = getRandomNumberNanos();
+        StringBuilder report = new StringBuilder();
+        report.append(format("%-24s %12s", "table", "rows"));
+        for (Stage stage : Stage.values()) {
+            report.append(format(" %20s", stage.getDescription()));
+        }
+        report.append(format(" %28s%n", "random numbers (est. time)"));
+
+        for (Map.Entry<Table, Totals> entry : totals.entrySet()) {
+            Totals tableTotals = entry.getValue();
+            long totalNanos = 0;
+            for (Stage stage : Stage.values()) {
+                totalNanos += tableTotals.getNanos(stage);
+            }
+            report.append(format("%-24s %,12d", entry.getKey().getName(), tableTotals.rows));
+            for (Stage stage : Stage.values()) {
+                report.append(formatNanos(tableTotals.getNanos(stage), totalNanos));
+            }
+            if (tableTotals.batched) {
+                report.append(format(" %28s%n", "not counted"));
+                continue;
+            }
+            // the random numbers are part of generating the row
+            long randomNanos = (long) (tableTotals.randomNumbersDrawn * randomNumberNanos);
+            report.append(format(" %,14d", tableTotals.randomNumbersDrawn)).append(formatNanos(randomNanos, totalNanos)).append(format("%n"));
+        }
+        report.append(format("Times are estimated from one row in %d.%n", sampleInterval));
+        report.append(format("Random numbers are counted but not timed. Their time is the count times the %.1fns one number took in a calibration loop.%n", randomNumberNanos));
+        if (totals.values().stream().anyMatch(tableTotals -> tableTotals.batched)) {
+            report.append(format("Tables generated a batch at a time count the time of every batch as generating rows.%n"));
+        }
+        return report.toString();
+    }
+
+    private static String formatNanos(long nanos, long totalNanos)
+    {
+        return format(" %10.3fs (%5.1f%%)", nanos / 1e9, totalNanos == 0 ? 0.0 : nanos * 100.0 / totalNanos);
+    }
+
+    // Calibrated once, as the cost does not change with the tables that were timed
+    private static double getRandomNumberNanos()
+    {
+        if (randomNumberNanos == 0) {
+            randomNumberNanos = calibrateRandomNumberNanos();
+        }
+        return randomNumberNanos;
+    }
+
+    private static double calibrateRandomNumberNanos()
+    {
+        RandomNumberStream stream = new RandomNumberStreamImpl(1, 1);
+        long checksum = 0;
+        // warm up until the loop is compiled, then measure
+        for (int i = 0; i < 100_000; i++) {
+            checksum += stream.nextRandom();
+        }
+        int count = 1_000_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            checksum += stream.nextRandom();
+        }
+        long nanos = System.nanoTime() - start;
+        // use the result, so that the loop cannot be removed
+        return checksum == 0 ? 0 : (double) nanos / count;
+    }
+
+    private static class Totals
+    {
+        private long rows;
+        private long randomNumbersDrawn;
+        private boolean batched;
+        private final long[] calls = new long[Stage.values().length];
+        private final long[] sampledCalls = new long[Stage.values().length];
+        private final long[] sampledNanos = new long[Stage.values().length];
+
+        void add(Recorder recorder)
+        {
+            // every row written, including child rows
+            rows += recorder.calls[Stage.WRITE.ordinal()];
+            randomNumbersDrawn += recorder.randomNumbersDrawn;
+            batched |= recorder.batched;
+            for (int i = 0; i < calls.length; i++) {
+                calls[i] += recorder.calls[i];
+                sampledCalls[i] += recorder.sampledCalls[i];
+                sampledNanos[i] += recorder.sampledNanos[i];
+            }
+        }
+
+        long getNanos(Stage stage)
+        {
+            int index = stage.ordinal();
+            if (sampledCalls[index] == 0) {
+                return 0;
+            }
+            return (long) (sampledNanos[index] * ((double) calls[index] / sampledCalls[index]));
+        }
+    }
+
+    // Records the stages of one table in one thread
+    public static final class Recorder
+    {
+        private final Table table;
+        private final int sampleInterval;
+        private final long[] calls = new long[Stage.values().length];
+        private final long[] sampledCalls = new long[Stage.values().length];
+        private final long[] sampledNanos = new long[Stage.values().length];
+        private long rowsStarted;
+        private long randomNumbersDrawn;
+        private boolean sampling;
+        private boolean batched;
+
+        private Recorder(Table table, int sampleInterval)
+        {
+            this.table = requireNonNull(table, "table is null");
+            this.sampleInterval = sampleInterval;
+        }
+
+        // called before each row of the table (and its child rows) is generated
+        public void startRow()
+        {
+            sampling = rowsStarted % sampleInterval == 0;
+            rowsStarted++;
+        }
+
+        public long start()
+        {
+            return sampling ? System.nanoTime() : 0;
+        }
+
+        // returns the end time, which can be used as the start of the next stage
+        public long end(Stage stage, long start)
+        {
+            int index = stage.ordinal();
+            calls[index]++;
+            if (!sampling) {
+                return 0;
+            }
+            long end = System.nanoTime();
+            sampledCalls[index]++;
+            // a stage whose start was adjusted for time measured separately can come out negative
+            sampledNanos[index] += Math.max(end - start, 0);
+            return end;
+        }
+
+        // Records the time of generating a batch of rows, which is timed for every batch rather
+        // than one in sampleInterval, as a batch holds many rows
+        public void batchGenerated(long nanos)
+        {
+            int index = Stage.GENERATE_ROW.ordinal();
+            calls[index]++;
+            sampledCalls[index]++;
+            sampledNanos[index] += nanos;
+            batched = true;
+        }
+
+        public void addRandomNumbersDrawn(long randomNumbersDrawn)
+        {
+            this.randomNumbersDrawn += randomNumbersDrawn;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.teradata.tpcds.row.TableRow;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import static com.teradata.tpcds.TableGenerator.formatRow;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.util.Objects.requireNonNull;
+
+// Streams rows to standard output, e.g. to pipe them into COPY FROM STDIN. All chunks share the
+// stream, so each writer buffers whole rows and hands them over in large blocks under a lock;
+// rows of different chunks may interleave but a row is never split.
+public class StdoutTableWriterFactory
+        implements TableWriterFactory
+{
+    public static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+    private static final OutputStream STDOUT = new FileOutputStream(FileDescriptor.out);
+
+    private final OutputStream out;
+
+    public StdoutTableWriterFactory()
+    {
+        this(STDOUT);
+    }
+
+    public StdoutTableWriterFactory(OutputStream out)
+    {
+        this.out = requireNonNull(out, "out is null");
+    }
+
+    @Override
+    public TableWriter createWriter(Table table, Session session)
+    {
+        return new StdoutTableWriter(session);
+    }
+
+    private class StdoutTableWriter
+            implements TableWriter
+    {
+        private final Session session;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(WRITE_BUFFER_SIZE + 4096);
+        private byte[] bytes = new byte[1024];
+
+        StdoutTableWriter(Session session)
+        {
+            this.session = session;
+        }
+
+        @Override
+        public void writeRow(List<String> values)
+                throws IOException
+        {
+            byte[] row = formatRow(values, session).getBytes(ISO_8859_1);
+            write(row, row.length);
+        }
+
+        @Override
+        public void writeFormatted(TableRow row, CharSequence formattedRow)
+                throws IOException
+        {
+            // encoded as ISO_8859_1 into a buffer that is kept, rather than into a new array per row
+            int length = formattedRow.length();
+            if (length > bytes.length) {
+                bytes = new byte[Math.max(length, 2 * bytes.length)];
+            }
+            for (int i = 0; i < length; i++) {
+                char c = formattedRow.charAt(i);
+                bytes[i] = (byte) (c <= 0xFF ? c : '?');
+            }
+            write(bytes, length);
+        }
+
+        private void write(byte[] row, int length)
+                throws IOException
+        {
+            buffer.write(row, 0, length);
+            if (buffer.size() >= WRITE_BUFFER_SIZE) {
+                flushBuffer();
+            }
+        }
+
+        private void flushBuffer()
+                throws IOException
+        {
+            synchronized (out) {
+                buffer.writeTo(out);
+            }
+            buffer.reset();
+        }
+
+        @Override
+        public void close()
+                throws IOException
+        {
+            // the stream is shared with the other chunks, so it is flushed but not closed
+            flushBuffer();
+            synchronized (out) {
+                out.flush();
+            }
+        }
+    }
+}
@@ -98,6 +98,7 @@ import com.teradata.tpcds.row.generator.WebSiteRowGenerator;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkState;
@@ -110,175 +111,175 @@ public enum Table
     CALL_CENTER(new TableFlagsBuilder().setIsSmall().setKeepsHistory().build(),
             100,
             0xB,
-            CallCenterRowGenerator.class,
+            CallCenterRowGenerator::new,
             CallCenterGeneratorColumn.values(),
             CallCenterColumn.values(),
             new ScalingInfo(0, LOGARITHMIC, new int[] {0, 3, 12, 15, 18, 21, 24, 27, 30, 30}, 0)),
     CATALOG_PAGE(new TableFlagsBuilder().build(),
             200,
             0x3,
-            CatalogPageRowGenerator.class,
+            CatalogPageRowGenerator::new,
             CatalogPageGeneratorColumn.values(),
             CatalogPageColumn.values(),
             new ScalingInfo(0, STATIC, new int[] {0, 11718, 12000, 20400, 26000, 30000, 36000, 40000, 46000, 50000}, 0)),
     CATALOG_RETURNS(new TableFlagsBuilder().build(),
             400,
             0x10007,
-            CatalogReturnsRowGenerator.class,
+            CatalogReturnsRowGenerator::new,
             CatalogReturnsGeneratorColumn.values(),
             CatalogReturnsColumn.values(),
             new ScalingInfo(4, LINEAR, new int[] {0, 16, 160, 1600, 4800, 16000, 48000, 160000, 480000, 1600000}, 0)),
     CATALOG_SALES(new TableFlagsBuilder().setIsDateBased().build(),
             100,
             0x28000,
-            CatalogSalesRowGenerator.class,
+            CatalogSalesRowGenerator::new,
             CatalogSalesGeneratorColumn.values(),
             CatalogSalesColumn.values(),
             new ScalingInfo(4, LINEAR, new int[] {0, 16, 160, 1600, 4800, 16000, 48000, 160000, 480000, 1600000}, 0)),
     CUSTOMER(new TableFlagsBuilder().build(),
             700,
             0x13,
-            CustomerRowGenerator.class,
+            CustomerRowGenerator::new,
             CustomerGeneratorColumn.values(),
             CustomerColumn.values(),
             new ScalingInfo(3, LOGARITHMIC, new int[] {0, 100, 500, 2000, 5000, 12000, 30000, 65000, 80000, 100000}, 0)),
     CUSTOMER_ADDRESS(new TableFlagsBuilder().build(),
             600,
             0x3,
-            CustomerAddressRowGenerator.class,
+            CustomerAddressRowGenerator::new,
             CustomerAddressGeneratorColumn.values(),
             CustomerAddressColumn.values(),
             new ScalingInfo(3, LOGARITHMIC, new int[] {0, 50, 250, 1000, 2500, 6000, 15000, 32500, 40000, 50000}, 0)),
     CUSTOMER_DEMOGRAPHICS(new TableFlagsBuilder().build(),
             0,
             0x1,
-            CustomerDemographicsRowGenerator.class,
+            CustomerDemographicsRowGenerator::new,
             CustomerDemographicsGeneratorColumn.values(),
             CustomerDemographicsColumn.values(),
             new ScalingInfo(2, STATIC, new int[] {0, 19208, 19208, 19208, 19208, 19208, 19208, 19208, 19208, 19208}, 0)),
     DATE_DIM(new TableFlagsBuilder().build(),
             0,
             0x03,
-            DateDimRowGenerator.class,
+            DateDimRowGenerator::new,
             DateDimGeneratorColumn.values(),
             DateDimColumn.values(),
             new ScalingInfo(0, STATIC, new int[] {0, 73049, 73049, 73049, 73049, 73049, 73049, 73049, 73049, 73049}, 0)),
     HOUSEHOLD_DEMOGRAPHICS(new TableFlagsBuilder().build(),
             0,
             0x01,
-            HouseholdDemographicsRowGenerator.class,
+            HouseholdDemographicsRowGenerator::new,
             HouseholdDemographicsGeneratorColumn.values(),
             HouseholdDemographicsColumn.values(),
             new ScalingInfo(0, STATIC, new int[] {0, 7200, 7200, 7200, 7200, 7200, 7200, 7200, 7200, 7200}, 0)),
     INCOME_BAND(new TableFlagsBuilder().build(),
             0,
             0x1,
-            IncomeBandRowGenerator.class,
+            IncomeBandRowGenerator::new,
             IncomeBandGeneratorColumn.values(),
             IncomeBandColumn.values(),
             new ScalingInfo(0, STATIC, new int[] {0, 20, 20, 20, 20, 20, 20, 20, 20, 20}, 0)),
     INVENTORY(new TableFlagsBuilder().setIsDateBased().build(),
             1000,
             0x07,
-            InventoryRowGenerator.class,
+            InventoryRowGenerator::new,
             InventoryGeneratorColumn.values(),
             InventoryColumn.values(),
             new ScalingInfo(0, LOGARITHMIC, new int[] {0, 0, 0, 0, 0, 0, 0, 0, 0, 0}, 0)), // the inventory table is scaled based on item and warehouse
     ITEM(new TableFlagsBuilder().setKeepsHistory().build(),
             50,
             0x0B,
-            ItemRowGenerator.class,
+            ItemRowGenerator::new,
             ItemGeneratorColumn.values(),
             ItemColumn.values(),
             new ScalingInfo(3, LOGARITHMIC, new int[] {0, 9, 51, 102, 132, 150, 180, 201, 231, 251}, 0)),
     PROMOTION(new TableFlagsBuilder().build(),
             200,
             0x3,
-            PromotionRowGenerator.class,
+            PromotionRowGenerator::new,
             PromotionGeneratorColumn.values(),
             PromotionColumn.values(),
             new ScalingInfo(0, LOGARITHMIC, new int[] {0, 300, 500, 1000, 1300, 1500, 1800, 2000, 2300, 2500}, 0)),
     REASON(new TableFlagsBuilder().build(),
             0,
             0x03,
-            ReasonRowGenerator.class,
+            ReasonRowGenerator::new,
             ReasonGeneratorColumn.values(),
             ReasonColumn.values(),
             new ScalingInfo(0, LOGARITHMIC, new int[] {0, 35, 45, 55, 60, 65, 67, 70, 72, 75}, 0)),
     SHIP_MODE(new TableFlagsBuilder().build(),
             0,
             0x03,
-            ShipModeRowGenerator.class,
+            ShipModeRowGenerator::new,
             ShipModeGeneratorColumn.values(),
             ShipModeColumn.values(),
             new ScalingInfo(0, STATIC, new int[] {0, 20, 20, 20, 20, 20, 20, 20, 20, 20}, 0)),
     STORE(new TableFlagsBuilder().setKeepsHistory().setIsSmall().build(),
             100,
             0xB,
-            StoreRowGenerator.class,
+            StoreRowGenerator::new,
             StoreGeneratorColumn.values(),
             StoreColumn.values(),
             new ScalingInfo(0, LOGARITHMIC, new int[] {0, 6, 51, 201, 402, 501, 675, 750, 852, 951}, 0)),
     STORE_RETURNS(new TableFlagsBuilder().build(),
             700,
             0x204,
-            StoreReturnsRowGenerator.class,
+            StoreReturnsRowGenerator::new,
             StoreReturnsGeneratorColumn.values(),
             StoreReturnsColumn.values(),
             new ScalingInfo(4, LINEAR, new int[] {0, 24, 240, 2400, 7200, 24000, 72000, 240000, 720000, 2400000}, 0)),
     STORE_SALES(new TableFlagsBuilder().setIsDateBased().build(),
             900,
             0x204,
-            StoreSalesRowGenerator.class,
+            StoreSalesRowGenerator::new,
             StoreSalesGeneratorColumn.values(),
             StoreSalesColumn.values(),
             new ScalingInfo(4, LINEAR, new int[] {0, 24, 240, 2400, 7200, 24000, 72000, 240000, 720000, 2400000}, 0)),
     TIME_DIM(new TableFlagsBuilder().build(),
             0,
             0x03,
-            TimeDimRowGenerator.class,
+            TimeDimRowGenerator::new,
             TimeDimGeneratorColumn.values(),
             TimeDimColumn.values(),
             new ScalingInfo(0, STATIC, new int[] {0, 86400, 86400, 86400, 86400, 86400, 86400, 86400, 86400, 86400}, 0)),
     WAREHOUSE(new TableFlagsBuilder().setIsSmall().build(),
             200,
             0x03,
-            WarehouseRowGenerator.class,
+            WarehouseRowGenerator::new,
             WarehouseGeneratorColumn.values(),
             WarehouseColumn.values(),
             new ScalingInfo(0, LOGARITHMIC, new int[] {0, 5, 10, 15, 17, 20, 22, 25, 27, 30}, 0)),
     WEB_PAGE(new TableFlagsBuilder().setKeepsHistory().build(),
             250,
             0x0B,
-            WebPageRowGenerator.class,
+            WebPageRowGenerator::new,
             WebPageGeneratorColumn.values(),
             WebPageColumn.values(),
             new ScalingInfo(0, LOGARITHMIC, new int[] {0, 30, 100, 1020, 1302, 1500, 1800, 2001, 2301, 2502}, 0)),
     WEB_RETURNS(new TableFlagsBuilder().build(),
             900,
             0x2004,
-            WebReturnsRowGenerator.class,
+            WebReturnsRowGenerator::new,
             WebReturnsGeneratorColumn.values(),
             WebReturnsColumn.values(),
             new ScalingInfo(3, LINEAR, new int[] {0, 60, 600, 6000, 18000, 60000, 180000, 600000, 1800000, 6000000}, 0)),
     WEB_SALES(new TableFlagsBuilder().setIsDateBased().build(),
             5,
             0x20008,
-            WebSalesRowGenerator.class,
+            WebSalesRowGenerator::new,
             WebSalesGeneratorColumn.values(),
             WebSalesColumn.values(),
             new ScalingInfo(3, LINEAR, new int[] {0, 60, 600, 6000, 18000, 60000, 180000, 600000, 1800000, 6000000}, 0)),
     WEB_SITE(new TableFlagsBuilder().setKeepsHistory().setIsSmall().build(),
             100,
             0x0B,
-            WebSiteRowGenerator.class,
+            WebSiteRowGenerator::new,
             WebSiteGeneratorColumn.values(),
             WebSiteColumn.values(),
             new ScalingInfo(0, LOGARITHMIC, new int[] {0, 15, 21, 12, 21, 27, 33, 39, 42, 48}, 0)),
     DBGEN_VERSION(new TableFlagsBuilder().build(),
             0,
             0x0,
-            DbgenVersionRowGenerator.class,
+            DbgenVersionRowGenerator::new,
             DbgenVersionGeneratorColumn.values(),
             DbgenVersionColumn.values(),
             new ScalingInfo(0, STATIC, new int[] {0, 1, 1, 1, 1, 1, 1, 1, 1, 1}, 0)),
@@ -325,16 +326,28 @@ public enum Table
     private final TableFlags tableFlags;
     private final int nullBasisPoints;
     private final long notNullBitMap;
-    private final Class<? extends RowGenerator> rowGeneratorClass;
+    private final Supplier<RowGenerator> rowGeneratorFactory;
     private final GeneratorColumn[] generatorColumns;
     private final Column[] columns;
     private final ScalingInfo scalingInfo;
     private Optional<Table> parent = Optional.empty();
     private Optional<Table> child = Optional.empty();
 
+    public RowGenerator createRowGenerator()
+    {
+        checkState(rowGeneratorFactory != null, "%s has no row generator", this);
+        return rowGeneratorFactory.get();
+    }
+
+    // Use createRowGenerator, which needs no reflection. This creates a generator to find its
+    // class, and returns null for the tables without one, as it did before the factories.
+    @Deprecated
     public Class<? extends RowGenerator> getRowGeneratorClass()
     {
-        return rowGeneratorClass;
+        if (rowGeneratorFactory == null) {
+            return null;
+        }
+        return createRowGenerator().getClass();
     }
 
     static {
@@ -355,18 +368,18 @@ public enum Table
         this.tableFlags = new TableFlagsBuilder().build();
         this.nullBasisPoints = 0;
         this.notNullBitMap = 0;
-        this.rowGeneratorClass = null;
+        this.rowGeneratorFactory = null;
         this.generatorColumns = new GeneratorColumn[0];
         this.columns = new Column[0];
         this.scalingInfo = new ScalingInfo(0, LINEAR, new int[10], 0);
     }
 
-    Table(TableFlags tableFlags, int nullBasisPoints, long notNullBitMap, Class<? extends RowGenerator> rowGeneratorClass, GeneratorColumn[] generatorColumns, Column[] columns, ScalingInfo scalingInfo)
+    Table(TableFlags tableFlags, int nullBasisPoints, long notNullBitMap, Supplier<RowGenerator> rowGeneratorFactory, GeneratorColumn[] generatorColumns, Column[] columns, ScalingInfo scalingInfo)
     {
         this.tableFlags = tableFlags;
         this.nullBasisPoints = nullBasisPoints;
         this.notNullBitMap = notNullBitMap;
-        this.rowGeneratorClass = rowGeneratorClass;
+        this.rowGeneratorFactory = rowGeneratorFactory;
         this.generatorColumns = generatorColumns;
         this.columns = columns;
         this.scalingInfo = scalingInfo;
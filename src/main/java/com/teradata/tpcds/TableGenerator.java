@@ -14,26 +14,58 @@
 
 package com.teradata.tpcds;
 
-import java.io.File;
-import java.io.FileOutputStream;
+import com.teradata.tpcds.Journal.Checkpoint;
+import com.teradata.tpcds.Parallel.ChunkBoundaries;
+import com.teradata.tpcds.Results.ResultsIterator;
+import com.teradata.tpcds.StageTimings.Recorder;
+import com.teradata.tpcds.row.TableRow;
+
 import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static com.teradata.tpcds.Parallel.splitWork;
 import static com.teradata.tpcds.Results.constructResults;
-import static java.lang.String.format;
+import static com.teradata.tpcds.StageTimings.Stage.FORMAT_ROW;
+import static com.teradata.tpcds.StageTimings.Stage.WRITE;
 import static java.util.Objects.requireNonNull;
 
 public class TableGenerator
 {
     private final Session session;
+    private final TableWriterFactory writerFactory;
+    private final Optional<Progress> progress;
+    private final Optional<StageTimings> stageTimings;
+    private final Optional<Journal> journal;
 
     public TableGenerator(Session session)
+    {
+        this(session, new FileTableWriterFactory());
+    }
+
+    public TableGenerator(Session session, TableWriterFactory writerFactory)
+    {
+        this(session, writerFactory, Optional.empty());
+    }
+
+    public TableGenerator(Session session, TableWriterFactory writerFactory, Optional<Progress> progress)
+    {
+        this(session, writerFactory, progress, Optional.empty());
+    }
+
+    public TableGenerator(Session session, TableWriterFactory writerFactory, Optional<Progress> progress, Optional<StageTimings> stageTimings)
+    {
+        this(session, writerFactory, progress, stageTimings, Optional.empty());
+    }
+
+    public TableGenerator(Session session, TableWriterFactory writerFactory, Optional<Progress> progress, Optional<StageTimings> stageTimings, Optional<Journal> journal)
     {
         this.session = requireNonNull(session, "session is null");
+        this.writerFactory = requireNonNull(writerFactory, "writerFactory is null");
+        this.progress = requireNonNull(progress, "progress is null");
+        this.stageTimings = requireNonNull(stageTimings, "stageTimings is null");
+        this.journal = requireNonNull(journal, "journal is null");
     }
 
     public void generateTable(Table table)
@@ -43,17 +75,21 @@ public class TableGenerator
             return;
         }
 
-        try (OutputStreamWriter parentWriter = addFileWriterForTable(table);
-                OutputStreamWriter childWriter = table.hasChild() && !session.generateOnlyOneTable() ? addFileWriterForTable(table.getChild()) : null) {
-            Results results = constructResults(table, session);
-            for (List<List<String>> parentAndChildRows : results) {
-                if (parentAndChildRows.size() > 0) {
-                    writeResults(parentWriter, parentAndChildRows.get(0));
-                }
-                if (parentAndChildRows.size() > 1) {
-                    requireNonNull(childWriter, "childWriter is null, but a child row was produced");
-                    writeResults(childWriter, parentAndChildRows.get(1));
-                }
+        int chunk = session.getChunkNumber();
+        Optional<ChunkProgress> chunkProgress = progress.map(value -> value.getChunkProgress(table, chunk));
+        if (journal.isPresent() && journal.get().isDone(table, chunk)) {
+            chunkProgress.ifPresent(value -> {
+                value.resumed(value.getExpectedRows());
+                value.started();
+                value.finished();
+            });
+            return;
+        }
+
+        try {
+            generateTable(table, chunkProgress, journal.flatMap(value -> value.getCheckpoint(table, chunk)));
+            if (journal.isPresent()) {
+                journal.get().done(table, chunk);
             }
         }
         catch (IOException e) {
@@ -61,49 +97,107 @@ public class TableGenerator
         }
     }
 
-    private OutputStreamWriter addFileWriterForTable(Table table)
+    private void generateTable(Table table, Optional<ChunkProgress> chunkProgress, Optional<Checkpoint> checkpoint)
             throws IOException
     {
-        String path = getPath(table);
-        File file = new File(path);
-        boolean newFileCreated = file.createNewFile();
-        if (!newFileCreated) {
-            if (session.shouldOverwrite()) {
-                // truncate the file
-                new FileOutputStream(path).close();
+        try (TableWriter parentWriter = createWriter(table, checkpoint.map(Checkpoint::getBytes));
+                TableWriter childWriter = table.hasChild() && !session.generateOnlyOneTable() ? createWriter(table.getChild(), checkpoint.map(Checkpoint::getChildBytes)) : null) {
+            try {
+                writeRows(table, parentWriter, childWriter, chunkProgress, checkpoint);
             }
-            else {
-                throw new TpcdsException(format("File %s exists.  Remove it or run with the '--overwrite' option", path));
+            catch (IOException | RuntimeException e) {
+                // before the writers are closed, which would otherwise hand on the rows of the failed table
+                writerFactory.markFailed();
+                throw e;
             }
         }
-
-        return new OutputStreamWriter(new FileOutputStream(path, true), StandardCharsets.ISO_8859_1);
     }
 
-    private String getPath(Table table)
+    private void writeRows(Table table, TableWriter parentWriter, TableWriter childWriter, Optional<ChunkProgress> chunkProgress, Optional<Checkpoint> checkpoint)
+            throws IOException
     {
-        if (session.getParallelism() > 1) {
-            return format("%s%s%s_%d_%d%s",
-                    session.getTargetDirectory(),
-                    File.separator,
-                    table.getName(),
-                    session.getChunkNumber(),
-                    session.getParallelism(),
-                    session.getSuffix());
+        chunkProgress.ifPresent(ChunkProgress::started);
+        long rowsWritten = 0;
+        long bytesWritten = 0;
+
+        // a resumed chunk continues after the rows completed by the earlier run
+        long previouslyCompletedRows = checkpoint.map(Checkpoint::getCompletedRows).orElse(0L);
+        chunkProgress.ifPresent(value -> value.resumed(previouslyCompletedRows));
+        long lastCheckpointRows = previouslyCompletedRows;
+        long parentBytes = checkpoint.map(Checkpoint::getBytes).orElse(0L);
+        long childBytes = checkpoint.map(Checkpoint::getChildBytes).orElse(0L);
+        boolean takeCheckpoints = journal.isPresent() && !table.keepsHistory();
+
+        ChunkBoundaries chunkBoundaries = splitWork(table, session);
+        ResultsIterator results = constructResults(table, chunkBoundaries.getFirstRow() + previouslyCompletedRows, chunkBoundaries.getLastRow(), session).resultsIterator();
+        results.reuseRows();
+        Optional<Recorder> recorder = stageTimings.map(value -> value.newRecorder(table));
+        recorder.ifPresent(results::setRecorder);
+        TextRowSink textSink = new TextRowSink(session);
+        while (true) {
+            recorder.ifPresent(Recorder::startRow);
+            List<TableRow> parentAndChildRows = results.nextRows();
+            if (parentAndChildRows.isEmpty()) {
+                break;
+            }
+            long rowBytes = writeRow(parentWriter, parentAndChildRows.get(0), textSink, recorder);
+            parentBytes += rowBytes;
+            if (parentAndChildRows.size() > 1) {
+                requireNonNull(childWriter, "childWriter is null, but a child row was produced");
+                long childRowBytes = writeRow(childWriter, parentAndChildRows.get(1), textSink, recorder);
+                childBytes += childRowBytes;
+                rowBytes += childRowBytes;
+            }
+            rowsWritten += parentAndChildRows.size();
+            bytesWritten += rowBytes;
+
+            long completedRows = previouslyCompletedRows + results.getCompletedRowCount();
+            if (chunkProgress.isPresent()) {
+                chunkProgress.get().rowsWritten(completedRows, rowsWritten, bytesWritten);
+            }
+
+            if (takeCheckpoints && results.isRowEnded() && completedRows - lastCheckpointRows >= journal.get().getCheckpointRows()) {
+                parentWriter.flush();
+                if (childWriter != null) {
+                    childWriter.flush();
+                }
+                journal.get().checkpoint(table, session.getChunkNumber(), new Checkpoint(completedRows, parentBytes, childBytes));
+                lastCheckpointRows = completedRows;
+            }
+        }
+        chunkProgress.ifPresent(ChunkProgress::finished);
+        if (recorder.isPresent()) {
+            recorder.get().addRandomNumbersDrawn(results.getRandomNumbersDrawn());
+            stageTimings.get().add(recorder.get());
         }
+    }
 
-        // TODO: path names for update case
-        return format("%s%s%s%s",
-                session.getTargetDirectory(),
-                File.separator,
-                table.getName(),
-                session.getSuffix());
+    private TableWriter createWriter(Table table, Optional<Long> resumeAfterBytes)
+            throws IOException
+    {
+        if (resumeAfterBytes.isPresent()) {
+            return writerFactory.resumeWriter(table, session, resumeAfterBytes.get());
+        }
+        return writerFactory.createWriter(table, session);
     }
 
-    private void writeResults(Writer writer, List<String> values)
+    // Formats the row and writes it, and returns the number of bytes written
+    private static long writeRow(TableWriter writer, TableRow row, TextRowSink textSink, Optional<Recorder> recorder)
             throws IOException
     {
-        writer.write(formatRow(values, session));
+        if (!recorder.isPresent()) {
+            CharSequence formattedRow = textSink.format(row);
+            writer.writeFormatted(row, formattedRow);
+            return formattedRow.length();
+        }
+
+        // formatting and writing are timed on their own
+        long start = recorder.get().start();
+        CharSequence formattedRow = textSink.format(row);
+        long formatted = recorder.get().end(FORMAT_ROW, start);
+        writer.writeFormatted(row, formattedRow);
+        recorder.get().end(WRITE, formatted);
+        return formattedRow.length();
     }
 
     public static String formatRow(List<String> values, Session session)
@@ -0,0 +1,46 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.teradata.tpcds.row.TableRow;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+// Receives the rows of one table for one chunk, as produced by TableRow.getValues().
+// Null values are passed as nulls; it is up to the writer to render them.
+public interface TableWriter
+        extends Closeable
+{
+    void writeRow(List<String> values)
+            throws IOException;
+
+    // Writes a row that TableGenerator formatted for the session already, so that timing the writer
+    // does not include formatting. Writers of text write formattedRow, other writers can read the
+    // typed values with row.writeTo. The row and the line are reused for the next row, so writers
+    // must not hold on to either of them.
+    default void writeFormatted(TableRow row, CharSequence formattedRow)
+            throws IOException
+    {
+        writeRow(row.getValues());
+    }
+
+    // Hands the rows written so far to the destination, e.g. before a Journal checkpoint
+    default void flush()
+            throws IOException
+    {
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// A factory is used by a single chunk thread and closed once all of its tables have been generated
+public interface TableWriterFactory
+        extends Closeable
+{
+    TableWriter createWriter(Table table, Session session)
+            throws IOException;
+
+    // Creates a writer that continues after the first bytes written by an earlier run, which was
+    // recorded in a Journal, and discards anything written after them
+    default TableWriter resumeWriter(Table table, Session session, long bytes)
+            throws IOException
+    {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot resume writing");
+    }
+
+    // Called when generating a table failed, before its writers are closed, so that destinations
+    // with transactions can discard the rows of the failed table instead of committing them
+    default void markFailed()
+    {
+    }
+
+    @Override
+    default void close()
+            throws IOException
+    {
+    }
+}
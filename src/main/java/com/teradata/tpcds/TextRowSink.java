@@ -0,0 +1,150 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.teradata.tpcds.PrecomputedTable.PrecomputedRow;
+import com.teradata.tpcds.row.RowSink;
+import com.teradata.tpcds.row.TableRow;
+import com.teradata.tpcds.type.Date;
+import com.teradata.tpcds.type.Decimal;
+
+import static com.teradata.tpcds.type.Date.fromJulianDays;
+import static java.util.Objects.requireNonNull;
+
+// Formats the values a row pushes into the line TableGenerator.formatRow makes of its values,
+// without collecting them as strings first. One sink is used for all rows of a table, so the line
+// it returns is only valid until the next row is formatted.
+final class TextRowSink
+        implements RowSink
+{
+    // Decimal.toString divides by 10 as a double and rounds to the precision, which gives the
+    // exact digits well below these bounds, so they can be appended without the double
+    private static final long MAX_EXACT_DECIMAL = 1_000_000_000_000L;
+    private static final long[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000};
+
+    private final Session session;
+    private final StringBuilder line = new StringBuilder();
+    private boolean firstValue;
+
+    TextRowSink(Session session)
+    {
+        this.session = requireNonNull(session, "session is null");
+    }
+
+    CharSequence format(TableRow row)
+    {
+        line.setLength(0);
+        if (row instanceof PrecomputedRow && ((PrecomputedRow) row).isFormattedFor(session)) {
+            ((PrecomputedRow) row).appendTo(line);
+            return line;
+        }
+
+        firstValue = true;
+        row.writeTo(this);
+        if (session.terminateRowsWithSeparator()) {
+            line.append(session.getSeparator());
+        }
+        line.append('\n');
+        return line;
+    }
+
+    private void startValue()
+    {
+        if (!firstValue) {
+            line.append(session.getSeparator());
+        }
+        firstValue = false;
+    }
+
+    @Override
+    public void appendNull()
+    {
+        startValue();
+        line.append(session.getNullString());
+    }
+
+    @Override
+    public void appendKey(long value)
+    {
+        startValue();
+        line.append(value);
+    }
+
+    @Override
+    public void appendInteger(int value)
+    {
+        startValue();
+        line.append(value);
+    }
+
+    @Override
+    public void appendDecimal(long number, int precision)
+    {
+        startValue();
+        if (precision < 1 || precision >= POWERS_OF_TEN.length || number <= -MAX_EXACT_DECIMAL || number >= MAX_EXACT_DECIMAL) {
+            line.append(Decimal.toString(number, precision));
+            return;
+        }
+        if (number < 0) {
+            line.append('-');
+        }
+        long scale = POWERS_OF_TEN[precision];
+        long absolute = Math.abs(number);
+        long fraction = absolute % scale;
+        line.append(absolute / scale).append('.');
+        for (long place = scale / 10; place > 1 && place > fraction; place /= 10) {
+            line.append('0');
+        }
+        line.append(fraction);
+    }
+
+    @Override
+    public void appendDate(int julianDays)
+    {
+        startValue();
+        // the same as Date.toString for four digit years
+        Date date = fromJulianDays(julianDays);
+        if (date.getYear() < 1000 || date.getYear() > 9999) {
+            line.append(date.toString());
+            return;
+        }
+        line.append(date.getYear()).append('-');
+        appendTwoDigits(date.getMonth());
+        line.append('-');
+        appendTwoDigits(date.getDay());
+    }
+
+    private void appendTwoDigits(int value)
+    {
+        if (value < 10) {
+            line.append('0');
+        }
+        line.append(value);
+    }
+
+    @Override
+    public void appendBoolean(boolean value)
+    {
+        startValue();
+        line.append(value ? 'Y' : 'N');
+    }
+
+    @Override
+    public void appendString(String value)
+    {
+        startValue();
+        line.append(value);
+    }
+}
@@ -0,0 +1,450 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.google.common.collect.ImmutableList;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.teradata.tpcds.FileTableWriterFactory.getFileName;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+// Hands out the (table, chunk) work units of a run to generator processes, possibly on several
+// machines, which share a directory for the queue and the target directory. A unit is claimed by
+// creating its file in claims/ and done once its file exists in done/. The owner of a claim
+// touches it every third of the lease; a claim that was not touched for a whole lease belongs to
+// a crashed process and is taken over. The clocks of the machines must be synchronized.
+//
+// The files of a unit are generated into a staging directory in the target directory and moved
+// into place once complete, so that a taken over unit never leaves a partial file behind and two
+// processes generating the same unit write the same bytes to the same name. That happens when a
+// slow process loses its claim, and rarely when two processes take over the same expired claim.
+public class WorkQueue
+        implements Closeable
+{
+    private static final String OPTIONS_FILE = "options.txt";
+    private static final String CLAIMS = "claims";
+    private static final String DONE = "done";
+    private static final String STAGING = ".staging";
+    // created in done/ by the one process that cleans up
+    private static final String CLEANUP_MARKER = "_cleanup";
+
+    private final Path claims;
+    private final Path done;
+    private final Path staging;
+    private final List<Unit> units;
+    private final Session session;
+    private final Duration lease;
+    private final String owner;
+    private final Set<Claim> activeClaims = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService heartbeat;
+
+    public WorkQueue(Path directory, List<Table> tables, Session session, Duration lease)
+            throws IOException
+    {
+        requireNonNull(directory, "directory is null");
+        requireNonNull(tables, "tables is null");
+        this.session = requireNonNull(session, "session is null");
+        this.lease = requireNonNull(lease, "lease is null");
+        checkArgument(!lease.isNegative() && !lease.isZero(), "lease must be positive");
+
+        ImmutableList.Builder<Unit> units = ImmutableList.builder();
+        for (Table table : tables) {
+            // child tables are generated with their parents
+            if (table.isChild() && !session.generateOnlyOneTable()) {
+                continue;
+            }
+            for (int chunk = 1; chunk <= session.getParallelism(); chunk++) {
+                units.add(new Unit(table, chunk));
+            }
+        }
+        this.units = units.build();
+
+        this.claims = Files.createDirectories(directory.resolve(CLAIMS));
+        this.done = Files.createDirectories(directory.resolve(DONE));
+        this.staging = Files.createDirectories(Paths.get(session.getTargetDirectory(), STAGING));
+        checkOptions(directory.resolve(OPTIONS_FILE), session);
+
+        this.owner = format("%s:%s:%s", InetAddress.getLocalHost().getHostName(), ManagementFactory.getRuntimeMXBean().getName(), UUID.randomUUID());
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "work-queue-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(lease.toMillis() / 3, 1);
+        heartbeat.scheduleWithFixedDelay(this::touchClaims, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    // The first process records the options of the run, which all others must share
+    private static void checkOptions(Path path, Session session)
+            throws IOException
+    {
+        String options = Journal.getOptions(session);
+        try {
+            Path temporaryPath = Files.createTempFile(path.getParent(), OPTIONS_FILE, ".tmp");
+            Files.write(temporaryPath, options.getBytes(UTF_8));
+            try {
+                // fails if another process was first
+                Files.createLink(path, temporaryPath);
+            }
+            finally {
+                Files.delete(temporaryPath);
+            }
+        }
+        catch (FileAlreadyExistsException e) {
+            String queueOptions = new String(Files.readAllBytes(path), UTF_8);
+            if (!queueOptions.equals(options)) {
+                throw new TpcdsException(format("The work queue in %s is for a run with different options (%s)", path.getParent(), queueOptions));
+            }
+        }
+    }
+
+    public List<Unit> getUnits()
+    {
+        return units;
+    }
+
+    // Claims a unit that is neither done nor claimed, or whose claim has expired. There may be none
+    // now, but again later if a claim expires.
+    public Optional<Claim> claim()
+            throws IOException
+    {
+        for (Unit unit : units) {
+            if (isDone(unit)) {
+                continue;
+            }
+            Path claimPath = claims.resolve(unit.getName());
+            if (isExpired(claimPath)) {
+                // Of the processes seeing the expired claim, only one can move it away, but a process
+                // that gets to the move late may move away the new claim made by the first one.
+                Path expiredPath = claims.resolve(unit.getName() + ".expired." + UUID.randomUUID());
+                try {
+                    Files.move(claimPath, expiredPath, StandardCopyOption.ATOMIC_MOVE);
+                }
+                catch (NoSuchFileException e) {
+                    continue;
+                }
+                if (!isExpired(expiredPath)) {
+                    restoreClaim(expiredPath, claimPath);
+                    continue;
+                }
+                Files.delete(expiredPath);
+            }
+            Claim claim = new Claim(unit, UUID.randomUUID().toString());
+            try {
+                Files.write(Files.createFile(claimPath), (owner + " " + claim.getId()).getBytes(UTF_8));
+            }
+            catch (FileAlreadyExistsException e) {
+                continue;
+            }
+            // the unit may have been completed by the owner of a claim that was just released
+            if (isDone(unit)) {
+                Files.deleteIfExists(claimPath);
+                continue;
+            }
+            activeClaims.add(claim);
+            return Optional.of(claim);
+        }
+        return Optional.empty();
+    }
+
+    // Puts back a live claim that was moved away by mistake, unless yet another claim has been made
+    // since, in which case two processes generate the unit
+    private static void restoreClaim(Path movedPath, Path claimPath)
+            throws IOException
+    {
+        try {
+            // unlike a move, fails if the claim exists
+            Files.createLink(claimPath, movedPath);
+        }
+        catch (FileAlreadyExistsException ignored) {
+        }
+        finally {
+            Files.delete(movedPath);
+        }
+    }
+
+    // Whether the claim or staging directory was not touched for a whole lease
+    private boolean isExpired(Path path)
+            throws IOException
+    {
+        try {
+            return System.currentTimeMillis() - Files.getLastModifiedTime(path).toMillis() > lease.toMillis();
+        }
+        catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    // Also touches the staging directories, which shows cleanUp that they are still in use, even
+    // after a claim was taken over
+    private void touchClaims()
+    {
+        for (Claim claim : activeClaims) {
+            FileTime now = FileTime.fromMillis(System.currentTimeMillis());
+            try {
+                Files.setLastModifiedTime(claims.resolve(claim.getUnit().getName()), now);
+            }
+            catch (IOException ignored) {
+                // the claim was taken over, which does no harm as long as the unit is generated
+            }
+            try {
+                Files.setLastModifiedTime(staging.resolve(claim.getId()), now);
+            }
+            catch (IOException ignored) {
+                // not created yet, or already removed
+            }
+        }
+    }
+
+    // Generates the unit of the claim into its staging directory, moves its files into the target
+    // directory and marks the unit done
+    public void generate(Claim claim, Function<Session, TableGenerator> generatorFactory)
+            throws IOException
+    {
+        Path stagingDirectory = Files.createDirectories(staging.resolve(claim.getId()));
+        try {
+            Unit unit = claim.getUnit();
+            Session unitSession = session.withChunkNumber(unit.getChunk()).withTargetDirectory(stagingDirectory.toString());
+            generatorFactory.apply(unitSession).generateTable(unit.getTable());
+
+            Path targetDirectory = staging.getParent();
+            for (Path file : listFiles(stagingDirectory)) {
+                Files.move(file, targetDirectory.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            try {
+                Files.createFile(done.resolve(unit.getName()));
+            }
+            catch (FileAlreadyExistsException ignored) {
+                // generated by another process as well
+            }
+        }
+        finally {
+            release(claim);
+            deleteRecursively(stagingDirectory);
+        }
+    }
+
+    private void release(Claim claim)
+            throws IOException
+    {
+        activeClaims.remove(claim);
+        Path claimPath = claims.resolve(claim.getUnit().getName());
+        try {
+            // unless it was taken over
+            if (new String(Files.readAllBytes(claimPath), UTF_8).endsWith(" " + claim.getId())) {
+                Files.delete(claimPath);
+            }
+        }
+        catch (NoSuchFileException ignored) {
+        }
+    }
+
+    public boolean isDone(Unit unit)
+    {
+        return Files.exists(done.resolve(unit.getName()));
+    }
+
+    public boolean isDone()
+    {
+        return units.stream().allMatch(this::isDone);
+    }
+
+    // The units not done and the files of done units missing from the target directory
+    public List<String> checkCompleteness()
+    {
+        Path targetDirectory = staging.getParent();
+        List<String> problems = new ArrayList<>();
+        for (Unit unit : units) {
+            if (!isDone(unit)) {
+                problems.add(format("chunk %d of %s is not done", unit.getChunk(), unit.getTable().getName()));
+                continue;
+            }
+            Session unitSession = session.withChunkNumber(unit.getChunk());
+            List<Table> tables = unit.getTable().hasChild() && !session.generateOnlyOneTable() ? ImmutableList.of(unit.getTable(), unit.getTable().getChild()) : ImmutableList.of(unit.getTable());
+            for (Table table : tables) {
+                String fileName = getFileName(table, unitSession);
+                if (!Files.exists(targetDirectory.resolve(fileName))) {
+                    problems.add(fileName + " is missing");
+                }
+            }
+        }
+        return problems;
+    }
+
+    // Removes the staging directories left behind by crashed processes once all units are done.
+    // Every process may call this, but only the one that creates the cleanup marker cleans up. It
+    // keeps the directories touched within the lease, whose processes are still generating a unit
+    // (e.g. one taken over from them) and delete their own directory when they finish.
+    public void cleanUp()
+            throws IOException
+    {
+        checkArgument(isDone(), "not all units are done");
+        try {
+            Files.createFile(done.resolve(CLEANUP_MARKER));
+        }
+        catch (FileAlreadyExistsException e) {
+            return;
+        }
+        for (Path stagingDirectory : listFiles(staging)) {
+            if (isExpired(stagingDirectory)) {
+                deleteRecursively(stagingDirectory);
+            }
+        }
+        try {
+            Files.deleteIfExists(staging);
+        }
+        catch (DirectoryNotEmptyException ignored) {
+            // in use by a process that is still generating
+        }
+    }
+
+    @Override
+    public void close()
+    {
+        heartbeat.shutdownNow();
+    }
+
+    private static List<Path> listFiles(Path directory)
+            throws IOException
+    {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            stream.forEach(files::add);
+        }
+        return files;
+    }
+
+    // Deletes the file or directory with everything in it, if it exists. Files deleted by another
+    // process cleaning up at the same time are skipped.
+    private static void deleteRecursively(Path path)
+            throws IOException
+    {
+        try {
+            Files.walkFileTree(path, new SimpleFileVisitor<Path>()
+            {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes)
+                        throws IOException
+                {
+                    Files.deleteIfExists(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exception)
+                        throws IOException
+                {
+                    if (exception instanceof NoSuchFileException) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    throw exception;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path directory, IOException exception)
+                        throws IOException
+                {
+                    if (exception != null && !(exception instanceof NoSuchFileException)) {
+                        throw exception;
+                    }
+                    Files.deleteIfExists(directory);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        }
+        catch (NoSuchFileException ignored) {
+            // deleted already
+        }
+    }
+
+    public static class Unit
+    {
+        private final Table table;
+        private final int chunk;
+
+        Unit(Table table, int chunk)
+        {
+            this.table = requireNonNull(table, "table is null");
+            this.chunk = chunk;
+        }
+
+        public Table getTable()
+        {
+            return table;
+        }
+
+        public int getChunk()
+        {
+            return chunk;
+        }
+
+        String getName()
+        {
+            return table.getName() + "_" + chunk;
+        }
+    }
+
+    public static class Claim
+    {
+        private final Unit unit;
+        private final String id;
+
+        Claim(Unit unit, String id)
+        {
+            this.unit = requireNonNull(unit, "unit is null");
+            this.id = requireNonNull(id, "id is null");
+        }
+
+        public Unit getUnit()
+        {
+            return unit;
+        }
+
+        String getId()
+        {
+            return id;
+        }
+    }
+}
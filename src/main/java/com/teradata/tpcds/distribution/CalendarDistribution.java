@@ -20,15 +20,21 @@ import com.teradata.tpcds.random.RandomNumberStream;
 import com.teradata.tpcds.type.Date;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static com.teradata.tpcds.distribution.DistributionUtils.getDistributionIterator;
+import static com.teradata.tpcds.distribution.DistributionUtils.getIndexForCumulativeWeight;
 import static com.teradata.tpcds.distribution.DistributionUtils.getListFromCommaSeparatedValues;
-import static com.teradata.tpcds.distribution.DistributionUtils.getWeightForIndex;
-import static com.teradata.tpcds.distribution.DistributionUtils.pickRandomValue;
+import static com.teradata.tpcds.random.RandomValueGenerator.generateUniformRandomInt;
+import static com.teradata.tpcds.type.Date.getDaysInYear;
 import static com.teradata.tpcds.type.Date.isLeapYear;
+import static com.teradata.tpcds.type.Date.toJulianDays;
 import static java.lang.Integer.parseInt;
 
 public class CalendarDistribution
@@ -38,17 +44,26 @@ public class CalendarDistribution
     private static final int[][] DAYS_BEFORE_MONTH = {{0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334}, {0, 31, 60, 91, 121, 152, 182, 213, 244, 274, 305, 335}};
     private static final CalendarDistribution CALENDAR_DISTRIBUTION = buildCalendarDistribution();
 
-    private final ImmutableList<Integer> daysOfYear; // ordinal for the day of year.  Numbering is consistent across leap years and non-leap years   For example, March 1st will always be 61.
+    // the cumulative weights of the days from the start of a date range, by the weights, then by the range
+    private static final Map<Weights, Map<Long, int[]>> DATE_RANGE_WEIGHTS = new EnumMap<>(Weights.class);
+
+    static {
+        for (Weights weights : Weights.values()) {
+            DATE_RANGE_WEIGHTS.put(weights, new ConcurrentHashMap<>());
+        }
+    }
+
+    private final int[] daysOfYear; // ordinal for the day of year.  Numbering is consistent across leap years and non-leap years   For example, March 1st will always be 61.
     private final ImmutableList<Integer> quarters;
     private final ImmutableList<Integer> holidayFlags;
-    private final ImmutableList<ImmutableList<Integer>> weightLists;
+    private final int[][] weightLists; // cumulative weights, by Weights ordinal
 
     private CalendarDistribution(ImmutableList<Integer> daysOfYear, ImmutableList<Integer> quarters, ImmutableList<Integer> holidayFlags, ImmutableList<ImmutableList<Integer>> weightLists)
     {
-        this.daysOfYear = daysOfYear;
+        this.daysOfYear = daysOfYear.stream().mapToInt(Integer::intValue).toArray();
         this.quarters = quarters;
         this.holidayFlags = holidayFlags;
-        this.weightLists = weightLists;
+        this.weightLists = weightLists.stream().map(weights -> weights.stream().mapToInt(Integer::intValue).toArray()).toArray(int[][]::new);
     }
 
     private static CalendarDistribution buildCalendarDistribution()
@@ -110,23 +125,61 @@ public class CalendarDistribution
 
     public static int getWeightForDayNumber(int dayNumber, Weights weights)
     {
-        return getWeightForIndex(dayNumber, getWeights(weights));
+        int[] cumulativeWeights = getWeights(weights);
+        checkArgument(dayNumber < cumulativeWeights.length, "index larger than distribution");
+        return dayNumber == 0 ? cumulativeWeights[dayNumber] : cumulativeWeights[dayNumber] - cumulativeWeights[dayNumber - 1];  // reverse the accumulation of weights.
     }
 
     public static int getMaxWeight(Weights weights)
     {
-        ImmutableList<Integer> weightsList = getWeights(weights);
-        return weightsList.get(weightsList.size() - 1);
+        int[] cumulativeWeights = getWeights(weights);
+        return cumulativeWeights[cumulativeWeights.length - 1];
     }
 
     public static int pickRandomDayOfYear(Weights weights, RandomNumberStream stream)
     {
-        return pickRandomValue(CALENDAR_DISTRIBUTION.daysOfYear, getWeights(weights), stream);
+        int weight = generateUniformRandomInt(1, getMaxWeight(weights), stream);
+        return CALENDAR_DISTRIBUTION.daysOfYear[getIndexForCumulativeWeight(weight, getWeights(weights))];
+    }
+
+    // Picks one of the days after min, up to and including max, by the weights of the days.
+    // Copying dsdgen's genrand_date, the day of the month of min is taken as its day of the year,
+    // so the weights are those of the days from some day in January. The cumulative weights of
+    // the range are computed once.
+    public static int pickRandomJulianDays(Date min, Date max, Weights weights, RandomNumberStream stream)
+    {
+        int minJulianDays = toJulianDays(min);
+        long range = ((long) minJulianDays << 32) | (toJulianDays(max) & 0xFFFFFFFFL);
+        int[] cumulativeWeights = DATE_RANGE_WEIGHTS.get(weights).computeIfAbsent(range, key -> computeDateRangeWeights(min, max, weights));
+
+        int totalWeight = cumulativeWeights.length == 0 ? 0 : cumulativeWeights[cumulativeWeights.length - 1];
+        int weight = generateUniformRandomInt(1, totalWeight, stream);
+        return minJulianDays + getIndexForCumulativeWeight(weight, cumulativeWeights) + 1;
+    }
+
+    private static int[] computeDateRangeWeights(Date min, Date max, Weights weights)
+    {
+        int[] cumulativeWeights = new int[Math.max(toJulianDays(max) - toJulianDays(min), 0)];
+        int dayCount = min.getDay();
+        int year = min.getYear();
+        int totalWeight = 0;
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            totalWeight += getWeightForDayNumber(dayCount, weights);
+            cumulativeWeights[i] = totalWeight;
+            if (dayCount == getDaysInYear(year)) {
+                year += 1;
+                dayCount = 1;
+            }
+            else {
+                dayCount += 1;
+            }
+        }
+        return cumulativeWeights;
     }
 
-    private static ImmutableList<Integer> getWeights(Weights weights)
+    private static int[] getWeights(Weights weights)
     {
-        return CALENDAR_DISTRIBUTION.weightLists.get(weights.ordinal());
+        return CALENDAR_DISTRIBUTION.weightLists[weights.ordinal()];
     }
 
     public enum Weights
@@ -124,6 +124,27 @@ public final class DistributionUtils
         throw new TpcdsException("random weight was greater than max weight");
     }
 
+    // The first index whose cumulative weight is at least the weight, which is the index
+    // getIndexForWeight finds, with a binary search over the weights as an array
+    protected static int getIndexForCumulativeWeight(int weight, int[] cumulativeWeights)
+    {
+        int low = 0;
+        int high = cumulativeWeights.length - 1;
+        if (weight > cumulativeWeights[high]) {
+            throw new TpcdsException("random weight was greater than max weight");
+        }
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (weight <= cumulativeWeights[middle]) {
+                high = middle;
+            }
+            else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
     protected static int getWeightForIndex(int index, List<Integer> weights)
     {
         checkArgument(index < weights.size(), "index larger than distribution");
@@ -0,0 +1,203 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds.distribution;
+
+import com.teradata.tpcds.random.RandomNumberStream;
+
+import static com.teradata.tpcds.distribution.DistributionUtils.getIndexForCumulativeWeight;
+import static com.teradata.tpcds.distribution.EnglishDistributions.ADJECTIVES_DISTRIBUTION;
+import static com.teradata.tpcds.distribution.EnglishDistributions.ADVERBS_DISTRIBUTION;
+import static com.teradata.tpcds.distribution.EnglishDistributions.ARTICLES_DISTRIBUTION;
+import static com.teradata.tpcds.distribution.EnglishDistributions.AUXILIARIES_DISTRIBUTION;
+import static com.teradata.tpcds.distribution.EnglishDistributions.NOUNS_DISTRIBUTION;
+import static com.teradata.tpcds.distribution.EnglishDistributions.PREPOSITIONS_DISTRIBUTION;
+import static com.teradata.tpcds.distribution.EnglishDistributions.SENTENCES_DISTRIBUTION;
+import static com.teradata.tpcds.distribution.EnglishDistributions.TERMINATORS_DISTRIBUTION;
+import static com.teradata.tpcds.distribution.EnglishDistributions.VERBS_DISTRIBUTION;
+import static com.teradata.tpcds.random.RandomValueGenerator.generateUniformRandomInt;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+// Generates random text from the sentence templates and words of EnglishDistributions. The
+// words are kept as Latin-1 bytes with cumulative weights, and are copied straight into a
+// buffer of the target length, so no String is allocated but the result. The random numbers
+// drawn are the same as those of picking each template and word from its distribution.
+public final class RandomTextGenerator
+{
+    private static final Words SENTENCES = new Words(SENTENCES_DISTRIBUTION);
+    private static final Words NOUNS = new Words(NOUNS_DISTRIBUTION);
+    private static final Words VERBS = new Words(VERBS_DISTRIBUTION);
+    private static final Words ADJECTIVES = new Words(ADJECTIVES_DISTRIBUTION);
+    private static final Words ADVERBS = new Words(ADVERBS_DISTRIBUTION);
+    private static final Words AUXILIARIES = new Words(AUXILIARIES_DISTRIBUTION);
+    private static final Words PREPOSITIONS = new Words(PREPOSITIONS_DISTRIBUTION);
+    private static final Words ARTICLES = new Words(ARTICLES_DISTRIBUTION);
+    private static final Words TERMINATORS = new Words(TERMINATORS_DISTRIBUTION);
+
+    private RandomTextGenerator() {}
+
+    public static String generateRandomText(int minLength, int maxLength, RandomNumberStream stream)
+    {
+        int targetLength = generateUniformRandomInt(minLength, maxLength, stream);
+        TextBuffer text = new TextBuffer(targetLength);
+        boolean isSentenceBeginning = true;
+
+        while (targetLength > 0) {
+            // every word of a sentence is drawn, but only what fits in the target length is kept
+            text.startSentence(targetLength);
+            byte[] syntax = SENTENCES.pick(stream);
+            for (byte symbol : syntax) {
+                switch (symbol) {
+                    case 'N':
+                        text.append(NOUNS.pick(stream));
+                        break;
+                    case 'V':
+                        text.append(VERBS.pick(stream));
+                        break;
+                    case 'J':
+                        text.append(ADJECTIVES.pick(stream));
+                        break;
+                    case 'D':
+                        text.append(ADVERBS.pick(stream));
+                        break;
+                    case 'X':
+                        text.append(AUXILIARIES.pick(stream));
+                        break;
+                    case 'P':
+                        text.append(PREPOSITIONS.pick(stream));
+                        break;
+                    case 'A':
+                        text.append(ARTICLES.pick(stream));
+                        break;
+                    case 'T':
+                        text.append(TERMINATORS.pick(stream));
+                        break;
+                    default:
+                        text.append(symbol);  // this is for adding punctuation and white space.
+                        break;
+                }
+            }
+
+            if (isSentenceBeginning) {
+                text.capitalizeSentence();
+            }
+            isSentenceBeginning = text.getLastSymbol() == '.';
+
+            int sentenceLength = text.endSentence();
+            targetLength -= sentenceLength;
+            if (targetLength > 0) {
+                text.append((byte) ' ');
+                text.endSentence();
+                targetLength -= 1;
+            }
+        }
+
+        return text.toString();
+    }
+
+    // The text generated so far, and the sentence being generated, which is truncated at its limit
+    private static final class TextBuffer
+    {
+        private final byte[] text;
+        private int length;
+        private int sentenceLimit;
+        private int sentenceLength;
+        private byte lastSymbol;
+
+        private TextBuffer(int maxLength)
+        {
+            text = new byte[Math.max(maxLength, 0)];
+            sentenceLimit = text.length;
+        }
+
+        private void startSentence(int maxLength)
+        {
+            sentenceLimit = length + maxLength;
+            sentenceLength = 0;
+        }
+
+        private void append(byte[] word)
+        {
+            int offset = length + sentenceLength;
+            if (offset < sentenceLimit) {
+                System.arraycopy(word, 0, text, offset, Math.min(word.length, sentenceLimit - offset));
+            }
+            if (word.length > 0) {
+                sentenceLength += word.length;
+                lastSymbol = word[word.length - 1];
+            }
+        }
+
+        private void append(byte symbol)
+        {
+            int offset = length + sentenceLength;
+            if (offset < sentenceLimit) {
+                text[offset] = symbol;
+            }
+            sentenceLength++;
+            lastSymbol = symbol;
+        }
+
+        private void capitalizeSentence()
+        {
+            if (sentenceLength > 0) {
+                text[length] = (byte) Character.toUpperCase((char) (text[length] & 0xFF));
+            }
+        }
+
+        private byte getLastSymbol()
+        {
+            return lastSymbol;
+        }
+
+        // keeps the part of the sentence within its limit, and returns the length of the whole sentence
+        private int endSentence()
+        {
+            int generatedLength = sentenceLength;
+            length = Math.min(length + sentenceLength, sentenceLimit);
+            sentenceLength = 0;
+            return generatedLength;
+        }
+
+        @Override
+        public String toString()
+        {
+            return new String(text, 0, length, ISO_8859_1);
+        }
+    }
+
+    private static final class Words
+    {
+        private final byte[][] words;
+        private final int[] cumulativeWeights;
+
+        private Words(StringValuesDistribution distribution)
+        {
+            words = new byte[distribution.getSize()][];
+            cumulativeWeights = new int[distribution.getSize()];
+            int weight = 0;
+            for (int index = 0; index < words.length; index++) {
+                words[index] = distribution.getValueAtIndex(0, index).getBytes(ISO_8859_1);
+                weight += distribution.getWeightForIndex(index, 0);
+                cumulativeWeights[index] = weight;
+            }
+        }
+
+        private byte[] pick(RandomNumberStream stream)
+        {
+            int weight = generateUniformRandomInt(1, cumulativeWeights[cumulativeWeights.length - 1], stream);
+            return words[getIndexForCumulativeWeight(weight, cumulativeWeights)];
+        }
+    }
+}
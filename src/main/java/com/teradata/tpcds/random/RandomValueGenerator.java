@@ -15,23 +15,14 @@
 package com.teradata.tpcds.random;
 
 import com.teradata.tpcds.distribution.CalendarDistribution;
+import com.teradata.tpcds.distribution.RandomTextGenerator;
 import com.teradata.tpcds.distribution.StringValuesDistribution;
 import com.teradata.tpcds.type.Date;
 import com.teradata.tpcds.type.Decimal;
 
-import static com.teradata.tpcds.distribution.CalendarDistribution.getWeightForDayNumber;
-import static com.teradata.tpcds.distribution.EnglishDistributions.pickRandomAdjective;
-import static com.teradata.tpcds.distribution.EnglishDistributions.pickRandomAdverb;
-import static com.teradata.tpcds.distribution.EnglishDistributions.pickRandomArticle;
-import static com.teradata.tpcds.distribution.EnglishDistributions.pickRandomAuxiliary;
-import static com.teradata.tpcds.distribution.EnglishDistributions.pickRandomNoun;
-import static com.teradata.tpcds.distribution.EnglishDistributions.pickRandomPreposition;
-import static com.teradata.tpcds.distribution.EnglishDistributions.pickRandomSentence;
-import static com.teradata.tpcds.distribution.EnglishDistributions.pickRandomTerminator;
-import static com.teradata.tpcds.distribution.EnglishDistributions.pickRandomVerb;
+import static com.teradata.tpcds.distribution.CalendarDistribution.pickRandomJulianDays;
 import static com.teradata.tpcds.distribution.TopDomainsDistribution.pickRandomTopDomain;
 import static com.teradata.tpcds.type.Date.fromJulianDays;
-import static com.teradata.tpcds.type.Date.getDaysInYear;
 import static com.teradata.tpcds.type.Date.toJulianDays;
 import static java.util.Objects.requireNonNull;
 
@@ -79,45 +70,8 @@ public final class RandomValueGenerator
 
     public static Date generateSalesReturnsRandomDate(Date min, Date max, CalendarDistribution.Weights weights, RandomNumberStream randomNumberStream)
     {
-        // get random date based on distribution.
-        // Copying behavior of dsdgen, but unclear what's going on there
-        // Date.day represents the day of the month, but for some reason
-        // it is interpreted in genrand_date as the day of the year.
-        // That means we always start somewhere in January, I guess.
-        int dayCount = min.getDay();
-        int year = min.getYear();
-        int totalWeight = 0;
-        int range = toJulianDays(max) - toJulianDays(min);
-
-        for (int i = 0; i < range; i++) {
-            totalWeight += getWeightForDayNumber(dayCount, weights);
-            if (dayCount == getDaysInYear(year)) {
-                year += 1;
-                dayCount = 1;
-            }
-            else {
-                dayCount += 1;
-            }
-        }
-
-        // Choose a random int up to totalWeight.
-        // Then work backwards to get the first date where the chosen number is
-        // greater than or equal to the sum of all weights from min to date.
-        int tempWeightSum = generateUniformRandomInt(1, totalWeight, randomNumberStream);
-        dayCount = min.getDay();
-        int julianDays = Date.toJulianDays(min);
-        year = min.getYear();
-        while (tempWeightSum > 0) {
-            tempWeightSum -= getWeightForDayNumber(dayCount, weights);
-            dayCount += 1;
-            julianDays += 1;
-            if (dayCount > getDaysInYear(year)) {
-                dayCount = 1;
-                year += 1;
-            }
-        }
-
-        return fromJulianDays(julianDays);
+        // get random date based on distribution, copying the behavior of dsdgen
+        return fromJulianDays(pickRandomJulianDays(min, max, weights, randomNumberStream));
     }
 
     public static String generateRandomCharset(String set, int min, int max, RandomNumberStream randomNumberStream)
@@ -210,72 +164,7 @@ public final class RandomValueGenerator
 
     public static String generateRandomText(int minLength, int maxLength, RandomNumberStream stream)
     {
-        boolean isSentenceBeginning = true;
-        StringBuilder text = new StringBuilder();
-        int targetLength = generateUniformRandomInt(minLength, maxLength, stream);
-
-        while (targetLength > 0) {
-            String generated = generateRandomSentence(stream);
-            if (isSentenceBeginning) {
-                generated = generated.substring(0, 1).toUpperCase() + generated.substring(1);
-            }
-
-            int generatedLength = generated.length();
-            isSentenceBeginning = (generated.charAt(generatedLength - 1) == '.');
-
-            // truncate so as not to exceed target length
-            if (targetLength < generatedLength) {
-                generated = generated.substring(0, targetLength);
-            }
-
-            targetLength -= generatedLength;
-
-            text.append(generated);
-            if (targetLength > 0) {
-                text.append(" ");
-                targetLength -= 1;
-            }
-        }
-
-        return text.toString();
-    }
-
-    private static String generateRandomSentence(RandomNumberStream stream)
-    {
-        StringBuilder verbiage = new StringBuilder();
-        String syntax = pickRandomSentence(stream);
-        for (int i = 0; i < syntax.length(); i++) {
-            switch (syntax.charAt(i)) {
-                case 'N':
-                    verbiage.append(pickRandomNoun(stream));
-                    break;
-                case 'V':
-                    verbiage.append(pickRandomVerb(stream));
-                    break;
-                case 'J':
-                    verbiage.append(pickRandomAdjective(stream));
-                    break;
-                case 'D':
-                    verbiage.append(pickRandomAdverb(stream));
-                    break;
-                case 'X':
-                    verbiage.append(pickRandomAuxiliary(stream));
-                    break;
-                case 'P':
-                    verbiage.append(pickRandomPreposition(stream));
-                    break;
-                case 'A':
-                    verbiage.append(pickRandomArticle(stream));
-                    break;
-                case 'T':
-                    verbiage.append(pickRandomTerminator(stream));
-                    break;
-                default:
-                    verbiage.append(syntax.charAt(i));  // this is for adding punctuation and white space.
-                    break;
-            }
-        }
-        return verbiage.toString();
+        return RandomTextGenerator.generateRandomText(minLength, maxLength, stream);
     }
 
     public static String generateWord(long seed, int maxChars, StringValuesDistribution distribution)
@@ -17,9 +17,6 @@ package com.teradata.tpcds.row;
 import com.teradata.tpcds.type.Address;
 import com.teradata.tpcds.type.Decimal;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.CallCenterGeneratorColumn.CC_ADDRESS;
 import static com.teradata.tpcds.generator.CallCenterGeneratorColumn.CC_CALL_CENTER_ID;
 import static com.teradata.tpcds.generator.CallCenterGeneratorColumn.CC_CALL_CENTER_SK;
@@ -239,39 +236,39 @@ public class CallCenterRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNullForKey(ccCallCenterSk, CC_CALL_CENTER_SK),
-                getStringOrNull(ccCallCenterId, CC_CALL_CENTER_ID),
-                getDateStringOrNullFromJulianDays(ccRecStartDateId, CC_REC_START_DATE_ID),
-                getDateStringOrNullFromJulianDays(ccRecEndDateId, CC_REC_END_DATE_ID),
-                getStringOrNullForKey(ccClosedDateId, CC_CLOSED_DATE_ID),
-                getStringOrNullForKey(ccOpenDateId, CC_OPEN_DATE_ID),
-                getStringOrNull(ccName, CC_NAME),
-                getStringOrNull(ccClass, CC_CLASS),
-                getStringOrNull(ccEmployees, CC_EMPLOYEES),
-                getStringOrNull(ccSqFt, CC_SQ_FT),
-                getStringOrNull(ccHours, CC_HOURS),
-                getStringOrNull(ccManager, CC_MANAGER),
-                getStringOrNull(ccMarketId, CC_MARKET_ID),
-                getStringOrNull(ccMarketClass, CC_MARKET_CLASS),
-                getStringOrNull(ccMarketDesc, CC_MARKET_DESC),
-                getStringOrNull(ccMarketManager, CC_MARKET_MANAGER),
-                getStringOrNull(ccDivisionId, CC_DIVISION),
-                getStringOrNull(ccDivisionName, CC_DIVISION_NAME),
-                getStringOrNull(ccCompany, CC_COMPANY),
-                getStringOrNull(ccCompanyName, CC_COMPANY_NAME),
-                getStringOrNull(ccAddress.getStreetNumber(), CC_STREET_NUMBER),
-                getStringOrNull(ccAddress.getStreetName(), CC_STREET_NAME),
-                getStringOrNull(ccAddress.getStreetType(), CC_STREET_TYPE),
-                getStringOrNull(ccAddress.getSuiteNumber(), CC_SUITE_NUMBER),
-                getStringOrNull(ccAddress.getCity(), CC_CITY),
-                getStringOrNull(ccAddress.getCounty(), CC_ADDRESS),
-                getStringOrNull(ccAddress.getState(), CC_STATE),
-                getStringOrNull(format("%05d", ccAddress.getZip()), CC_ZIP),
-                getStringOrNull(ccAddress.getCountry(), CC_COUNTRY),
-                getStringOrNull(ccAddress.getGmtOffset(), CC_GMT_OFFSET),
-                getStringOrNull(ccTaxPercentage, CC_TAX_PERCENTAGE));
+        appendKey(sink, ccCallCenterSk, CC_CALL_CENTER_SK);
+        append(sink, ccCallCenterId, CC_CALL_CENTER_ID);
+        appendDateFromJulianDays(sink, ccRecStartDateId, CC_REC_START_DATE_ID);
+        appendDateFromJulianDays(sink, ccRecEndDateId, CC_REC_END_DATE_ID);
+        appendKey(sink, ccClosedDateId, CC_CLOSED_DATE_ID);
+        appendKey(sink, ccOpenDateId, CC_OPEN_DATE_ID);
+        append(sink, ccName, CC_NAME);
+        append(sink, ccClass, CC_CLASS);
+        append(sink, ccEmployees, CC_EMPLOYEES);
+        append(sink, ccSqFt, CC_SQ_FT);
+        append(sink, ccHours, CC_HOURS);
+        append(sink, ccManager, CC_MANAGER);
+        append(sink, ccMarketId, CC_MARKET_ID);
+        append(sink, ccMarketClass, CC_MARKET_CLASS);
+        append(sink, ccMarketDesc, CC_MARKET_DESC);
+        append(sink, ccMarketManager, CC_MARKET_MANAGER);
+        append(sink, ccDivisionId, CC_DIVISION);
+        append(sink, ccDivisionName, CC_DIVISION_NAME);
+        append(sink, ccCompany, CC_COMPANY);
+        append(sink, ccCompanyName, CC_COMPANY_NAME);
+        append(sink, ccAddress.getStreetNumber(), CC_STREET_NUMBER);
+        append(sink, ccAddress.getStreetName(), CC_STREET_NAME);
+        append(sink, ccAddress.getStreetType(), CC_STREET_TYPE);
+        append(sink, ccAddress.getSuiteNumber(), CC_SUITE_NUMBER);
+        append(sink, ccAddress.getCity(), CC_CITY);
+        append(sink, ccAddress.getCounty(), CC_ADDRESS);
+        append(sink, ccAddress.getState(), CC_STATE);
+        append(sink, format("%05d", ccAddress.getZip()), CC_ZIP);
+        append(sink, ccAddress.getCountry(), CC_COUNTRY);
+        append(sink, ccAddress.getGmtOffset(), CC_GMT_OFFSET);
+        append(sink, ccTaxPercentage, CC_TAX_PERCENTAGE);
     }
 
     public static class Builder
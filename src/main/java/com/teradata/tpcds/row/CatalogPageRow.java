@@ -14,9 +14,6 @@
 
 package com.teradata.tpcds.row;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.CatalogPageGeneratorColumn.CP_CATALOG_NUMBER;
 import static com.teradata.tpcds.generator.CatalogPageGeneratorColumn.CP_CATALOG_PAGE_ID;
 import static com.teradata.tpcds.generator.CatalogPageGeneratorColumn.CP_CATALOG_PAGE_NUMBER;
@@ -64,16 +61,16 @@ public class CatalogPageRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNullForKey(cpCatalogPageSk, CP_CATALOG_PAGE_SK),
-                            getStringOrNull(cpCatalogPageId, CP_CATALOG_PAGE_ID),
-                            getStringOrNullForKey(cpStartDateId, CP_START_DATE_ID),
-                            getStringOrNullForKey(cpEndDateId, CP_END_DATE_ID),
-                            getStringOrNull(cpDepartment, CP_DEPARTMENT),
-                            getStringOrNull(cpCatalogNumber, CP_CATALOG_NUMBER),
-                            getStringOrNull(cpCatalogPageNumber, CP_CATALOG_PAGE_NUMBER),
-                            getStringOrNull(cpDescription, CP_DESCRIPTION),
-                            getStringOrNull(cpType, CP_TYPE));
+        appendKey(sink, cpCatalogPageSk, CP_CATALOG_PAGE_SK);
+        append(sink, cpCatalogPageId, CP_CATALOG_PAGE_ID);
+        appendKey(sink, cpStartDateId, CP_START_DATE_ID);
+        appendKey(sink, cpEndDateId, CP_END_DATE_ID);
+        append(sink, cpDepartment, CP_DEPARTMENT);
+        append(sink, cpCatalogNumber, CP_CATALOG_NUMBER);
+        append(sink, cpCatalogPageNumber, CP_CATALOG_PAGE_NUMBER);
+        append(sink, cpDescription, CP_DESCRIPTION);
+        append(sink, cpType, CP_TYPE);
     }
 }
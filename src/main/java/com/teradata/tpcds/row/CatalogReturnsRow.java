@@ -16,9 +16,6 @@ package com.teradata.tpcds.row;
 
 import com.teradata.tpcds.type.Pricing;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.CatalogReturnsGeneratorColumn.CR_CALL_CENTER_SK;
 import static com.teradata.tpcds.generator.CatalogReturnsGeneratorColumn.CR_CATALOG_PAGE_SK;
 import static com.teradata.tpcds.generator.CatalogReturnsGeneratorColumn.CR_ITEM_SK;
@@ -50,24 +47,30 @@ import static com.teradata.tpcds.generator.CatalogReturnsGeneratorColumn.CR_WARE
 public class CatalogReturnsRow
         extends TableRowWithNulls
 {
-    private final long crReturnedDateSk;
-    private final long crReturnedTimeSk;
-    private final long crItemSk;
-    private final long crRefundedCustomerSk;
-    private final long crRefundedCdemoSk;
-    private final long crRefundedHdemoSk;
-    private final long crRefundedAddrSk;
-    private final long crReturningCustomerSk;
-    private final long crReturningCdemoSk;
-    private final long crReturningHdemoSk;
-    private final long crReturningAddrSk;
-    private final long crCallCenterSk;
-    private final long crCatalogPageSk;
-    private final long crShipModeSk;
-    private final long crWarehouseSk;
-    private final long crReasonSk;
-    private final long crOrderNumber;
-    private final Pricing crPricing;
+    private long crReturnedDateSk;
+    private long crReturnedTimeSk;
+    private long crItemSk;
+    private long crRefundedCustomerSk;
+    private long crRefundedCdemoSk;
+    private long crRefundedHdemoSk;
+    private long crRefundedAddrSk;
+    private long crReturningCustomerSk;
+    private long crReturningCdemoSk;
+    private long crReturningHdemoSk;
+    private long crReturningAddrSk;
+    private long crCallCenterSk;
+    private long crCatalogPageSk;
+    private long crShipModeSk;
+    private long crWarehouseSk;
+    private long crReasonSk;
+    private long crOrderNumber;
+    private Pricing crPricing;
+
+    // An empty row, for a generator that reuses one row and fills it with set
+    public CatalogReturnsRow()
+    {
+        super(0, CR_RETURNED_DATE_SK);
+    }
 
     public CatalogReturnsRow(long crReturnedDateSk,
             long crReturnedTimeSk,
@@ -89,7 +92,50 @@ public class CatalogReturnsRow
             Pricing crPricing,
             long nullBitMap)
     {
-        super(nullBitMap, CR_RETURNED_DATE_SK);
+        this();
+        set(crReturnedDateSk,
+                crReturnedTimeSk,
+                crItemSk,
+                crRefundedCustomerSk,
+                crRefundedCdemoSk,
+                crRefundedHdemoSk,
+                crRefundedAddrSk,
+                crReturningCustomerSk,
+                crReturningCdemoSk,
+                crReturningHdemoSk,
+                crReturningAddrSk,
+                crCallCenterSk,
+                crCatalogPageSk,
+                crShipModeSk,
+                crWarehouseSk,
+                crReasonSk,
+                crOrderNumber,
+                crPricing,
+                nullBitMap);
+    }
+
+    // Replaces all values of the row
+    public void set(long crReturnedDateSk,
+            long crReturnedTimeSk,
+            long crItemSk,
+            long crRefundedCustomerSk,
+            long crRefundedCdemoSk,
+            long crRefundedHdemoSk,
+            long crRefundedAddrSk,
+            long crReturningCustomerSk,
+            long crReturningCdemoSk,
+            long crReturningHdemoSk,
+            long crReturningAddrSk,
+            long crCallCenterSk,
+            long crCatalogPageSk,
+            long crShipModeSk,
+            long crWarehouseSk,
+            long crReasonSk,
+            long crOrderNumber,
+            Pricing crPricing,
+            long nullBitMap)
+    {
+        setNullBitMap(nullBitMap);
         this.crReturnedDateSk = crReturnedDateSk;
         this.crReturnedTimeSk = crReturnedTimeSk;
         this.crItemSk = crItemSk;
@@ -111,34 +157,34 @@ public class CatalogReturnsRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNullForKey(crReturnedDateSk, CR_RETURNED_DATE_SK),
-                getStringOrNullForKey(crReturnedTimeSk, CR_RETURNED_TIME_SK),
-                getStringOrNullForKey(crItemSk, CR_ITEM_SK),
-                getStringOrNullForKey(crRefundedCustomerSk, CR_REFUNDED_CUSTOMER_SK),
-                getStringOrNullForKey(crRefundedCdemoSk, CR_REFUNDED_CDEMO_SK),
-                getStringOrNullForKey(crRefundedHdemoSk, CR_REFUNDED_HDEMO_SK),
-                getStringOrNullForKey(crRefundedAddrSk, CR_REFUNDED_ADDR_SK),
-                getStringOrNullForKey(crReturningCustomerSk, CR_RETURNING_CUSTOMER_SK),
-                getStringOrNullForKey(crReturningCdemoSk, CR_RETURNING_CDEMO_SK),
-                getStringOrNullForKey(crReturningHdemoSk, CR_RETURNING_HDEMO_SK),
-                getStringOrNullForKey(crReturningAddrSk, CR_RETURNING_ADDR_SK),
-                getStringOrNullForKey(crCallCenterSk, CR_CALL_CENTER_SK),
-                getStringOrNullForKey(crCatalogPageSk, CR_CATALOG_PAGE_SK),
-                getStringOrNullForKey(crShipModeSk, CR_SHIP_MODE_SK),
-                getStringOrNullForKey(crWarehouseSk, CR_WAREHOUSE_SK),
-                getStringOrNullForKey(crReasonSk, CR_REASON_SK),
-                getStringOrNull(crOrderNumber, CR_ORDER_NUMBER),
-                getStringOrNull(crPricing.getQuantity(), CR_PRICING_QUANTITY),
-                getStringOrNull(crPricing.getNetPaid(), CR_PRICING_NET_PAID),
-                getStringOrNull(crPricing.getExtTax(), CR_PRICING_EXT_TAX),
-                getStringOrNull(crPricing.getNetPaidIncludingTax(), CR_PRICING_NET_PAID_INC_TAX),
-                getStringOrNull(crPricing.getFee(), CR_PRICING_FEE),
-                getStringOrNull(crPricing.getExtShipCost(), CR_PRICING_EXT_SHIP_COST),
-                getStringOrNull(crPricing.getRefundedCash(), CR_PRICING_REFUNDED_CASH),
-                getStringOrNull(crPricing.getReversedCharge(), CR_PRICING_REVERSED_CHARGE),
-                getStringOrNull(crPricing.getStoreCredit(), CR_PRICING_STORE_CREDIT),
-                getStringOrNull(crPricing.getNetLoss(), CR_PRICING_NET_LOSS));
+        appendKey(sink, crReturnedDateSk, CR_RETURNED_DATE_SK);
+        appendKey(sink, crReturnedTimeSk, CR_RETURNED_TIME_SK);
+        appendKey(sink, crItemSk, CR_ITEM_SK);
+        appendKey(sink, crRefundedCustomerSk, CR_REFUNDED_CUSTOMER_SK);
+        appendKey(sink, crRefundedCdemoSk, CR_REFUNDED_CDEMO_SK);
+        appendKey(sink, crRefundedHdemoSk, CR_REFUNDED_HDEMO_SK);
+        appendKey(sink, crRefundedAddrSk, CR_REFUNDED_ADDR_SK);
+        appendKey(sink, crReturningCustomerSk, CR_RETURNING_CUSTOMER_SK);
+        appendKey(sink, crReturningCdemoSk, CR_RETURNING_CDEMO_SK);
+        appendKey(sink, crReturningHdemoSk, CR_RETURNING_HDEMO_SK);
+        appendKey(sink, crReturningAddrSk, CR_RETURNING_ADDR_SK);
+        appendKey(sink, crCallCenterSk, CR_CALL_CENTER_SK);
+        appendKey(sink, crCatalogPageSk, CR_CATALOG_PAGE_SK);
+        appendKey(sink, crShipModeSk, CR_SHIP_MODE_SK);
+        appendKey(sink, crWarehouseSk, CR_WAREHOUSE_SK);
+        appendKey(sink, crReasonSk, CR_REASON_SK);
+        append(sink, crOrderNumber, CR_ORDER_NUMBER);
+        append(sink, crPricing.getQuantity(), CR_PRICING_QUANTITY);
+        append(sink, crPricing.getNetPaid(), CR_PRICING_NET_PAID);
+        append(sink, crPricing.getExtTax(), CR_PRICING_EXT_TAX);
+        append(sink, crPricing.getNetPaidIncludingTax(), CR_PRICING_NET_PAID_INC_TAX);
+        append(sink, crPricing.getFee(), CR_PRICING_FEE);
+        append(sink, crPricing.getExtShipCost(), CR_PRICING_EXT_SHIP_COST);
+        append(sink, crPricing.getRefundedCash(), CR_PRICING_REFUNDED_CASH);
+        append(sink, crPricing.getReversedCharge(), CR_PRICING_REVERSED_CHARGE);
+        append(sink, crPricing.getStoreCredit(), CR_PRICING_STORE_CREDIT);
+        append(sink, crPricing.getNetLoss(), CR_PRICING_NET_LOSS);
     }
 }
@@ -16,9 +16,6 @@ package com.teradata.tpcds.row;
 
 import com.teradata.tpcds.type.Pricing;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.CatalogSalesGeneratorColumn.CS_BILL_ADDR_SK;
 import static com.teradata.tpcds.generator.CatalogSalesGeneratorColumn.CS_BILL_CDEMO_SK;
 import static com.teradata.tpcds.generator.CatalogSalesGeneratorColumn.CS_BILL_CUSTOMER_SK;
@@ -57,25 +54,31 @@ import static com.teradata.tpcds.generator.CatalogSalesGeneratorColumn.CS_WAREHO
 public class CatalogSalesRow
         extends TableRowWithNulls
 {
-    private final long csSoldDateSk;
-    private final long csSoldTimeSk;
-    private final long csShipDateSk;
-    private final long csBillCustomerSk;
-    private final long csBillCdemoSk;
-    private final long csBillHdemoSk;
-    private final long csBillAddrSk;
-    private final long csShipCustomerSk;
-    private final long csShipCdemoSk;
-    private final long csShipHdemoSk;
-    private final long csShipAddrSk;
-    private final long csCallCenterSk;
-    private final long csCatalogPageSk;
-    private final long csShipModeSk;
-    private final long csWarehouseSk;
-    private final long csSoldItemSk;
-    private final long csPromoSk;
-    private final long csOrderNumber;
-    private final Pricing csPricing;
+    private long csSoldDateSk;
+    private long csSoldTimeSk;
+    private long csShipDateSk;
+    private long csBillCustomerSk;
+    private long csBillCdemoSk;
+    private long csBillHdemoSk;
+    private long csBillAddrSk;
+    private long csShipCustomerSk;
+    private long csShipCdemoSk;
+    private long csShipHdemoSk;
+    private long csShipAddrSk;
+    private long csCallCenterSk;
+    private long csCatalogPageSk;
+    private long csShipModeSk;
+    private long csWarehouseSk;
+    private long csSoldItemSk;
+    private long csPromoSk;
+    private long csOrderNumber;
+    private Pricing csPricing;
+
+    // An empty row, for a generator that reuses one row and fills it with set
+    public CatalogSalesRow()
+    {
+        super(0, CS_SOLD_DATE_SK);
+    }
 
     public CatalogSalesRow(long csSoldDateSk,
             long csSoldTimeSk,
@@ -98,7 +101,52 @@ public class CatalogSalesRow
             Pricing csPricing,
             long nullBitMap)
     {
-        super(nullBitMap, CS_SOLD_DATE_SK);
+        this();
+        set(csSoldDateSk,
+                csSoldTimeSk,
+                csShipDateSk,
+                csBillCustomerSk,
+                csBillCdemoSk,
+                csBillHdemoSk,
+                csBillAddrSk,
+                csShipCustomerSk,
+                csShipCdemoSk,
+                csShipHdemoSk,
+                csShipAddrSk,
+                csCallCenterSk,
+                csCatalogPageSk,
+                csShipModeSk,
+                csWarehouseSk,
+                csSoldItemSk,
+                csPromoSk,
+                csOrderNumber,
+                csPricing,
+                nullBitMap);
+    }
+
+    // Replaces all values of the row
+    public void set(long csSoldDateSk,
+            long csSoldTimeSk,
+            long csShipDateSk,
+            long csBillCustomerSk,
+            long csBillCdemoSk,
+            long csBillHdemoSk,
+            long csBillAddrSk,
+            long csShipCustomerSk,
+            long csShipCdemoSk,
+            long csShipHdemoSk,
+            long csShipAddrSk,
+            long csCallCenterSk,
+            long csCatalogPageSk,
+            long csShipModeSk,
+            long csWarehouseSk,
+            long csSoldItemSk,
+            long csPromoSk,
+            long csOrderNumber,
+            Pricing csPricing,
+            long nullBitMap)
+    {
+        setNullBitMap(nullBitMap);
         this.csSoldDateSk = csSoldDateSk;
         this.csSoldTimeSk = csSoldTimeSk;
         this.csShipDateSk = csShipDateSk;
@@ -121,42 +169,42 @@ public class CatalogSalesRow
     }
 
     @Override
-    public List<String> getValues()
-    {
-        return newArrayList(getStringOrNullForKey(csSoldDateSk, CS_SOLD_DATE_SK),
-                getStringOrNullForKey(csSoldTimeSk, CS_SOLD_TIME_SK),
-                getStringOrNullForKey(csShipDateSk, CS_SHIP_DATE_SK),
-                getStringOrNullForKey(csBillCustomerSk, CS_BILL_CUSTOMER_SK),
-                getStringOrNullForKey(csBillCdemoSk, CS_BILL_CDEMO_SK),
-                getStringOrNullForKey(csBillHdemoSk, CS_BILL_HDEMO_SK),
-                getStringOrNullForKey(csBillAddrSk, CS_BILL_ADDR_SK),
-                getStringOrNullForKey(csShipCustomerSk, CS_SHIP_CUSTOMER_SK),
-                getStringOrNullForKey(csShipCdemoSk, CS_SHIP_CDEMO_SK),
-                getStringOrNullForKey(csShipHdemoSk, CS_SHIP_HDEMO_SK),
-                getStringOrNullForKey(csShipAddrSk, CS_SHIP_ADDR_SK),
-                getStringOrNullForKey(csCallCenterSk, CS_CALL_CENTER_SK),
-                getStringOrNullForKey(csCatalogPageSk, CS_CATALOG_PAGE_SK),
-                getStringOrNullForKey(csShipModeSk, CS_SHIP_MODE_SK),
-                getStringOrNull(csWarehouseSk, CS_WAREHOUSE_SK),
-                getStringOrNullForKey(csSoldItemSk, CS_SOLD_ITEM_SK),
-                getStringOrNullForKey(csPromoSk, CS_PROMO_SK),
-                getStringOrNull(csOrderNumber, CS_ORDER_NUMBER),
-                getStringOrNull(csPricing.getQuantity(), CS_PRICING_QUANTITY),
-                getStringOrNull(csPricing.getWholesaleCost(), CS_PRICING_WHOLESALE_COST),
-                getStringOrNull(csPricing.getListPrice(), CS_PRICING_LIST_PRICE),
-                getStringOrNull(csPricing.getSalesPrice(), CS_PRICING_SALES_PRICE),
-                getStringOrNull(csPricing.getExtDiscountAmount(), CS_PRICING_EXT_DISCOUNT_AMOUNT),
-                getStringOrNull(csPricing.getExtSalesPrice(), CS_PRICING_EXT_SALES_PRICE),
-                getStringOrNull(csPricing.getExtWholesaleCost(), CS_PRICING_EXT_WHOLESALE_COST),
-                getStringOrNull(csPricing.getExtListPrice(), CS_PRICING_EXT_LIST_PRICE),
-                getStringOrNull(csPricing.getExtTax(), CS_PRICING_EXT_TAX),
-                getStringOrNull(csPricing.getCouponAmount(), CS_PRICING_COUPON_AMT),
-                getStringOrNull(csPricing.getExtShipCost(), CS_PRICING_EXT_SHIP_COST),
-                getStringOrNull(csPricing.getNetPaid(), CS_PRICING_NET_PAID),
-                getStringOrNull(csPricing.getNetPaidIncludingTax(), CS_PRICING_NET_PAID_INC_TAX),
-                getStringOrNull(csPricing.getNetPaidIncludingShipping(), CS_PRICING_NET_PAID_INC_SHIP),
-                getStringOrNull(csPricing.getNetPaidIncludingShippingAndTax(), CS_PRICING_NET_PAID_INC_SHIP_TAX),
-                getStringOrNull(csPricing.getNetProfit(), CS_PRICING_NET_PROFIT));
+    public void writeTo(RowSink sink)
+    {
+        appendKey(sink, csSoldDateSk, CS_SOLD_DATE_SK);
+        appendKey(sink, csSoldTimeSk, CS_SOLD_TIME_SK);
+        appendKey(sink, csShipDateSk, CS_SHIP_DATE_SK);
+        appendKey(sink, csBillCustomerSk, CS_BILL_CUSTOMER_SK);
+        appendKey(sink, csBillCdemoSk, CS_BILL_CDEMO_SK);
+        appendKey(sink, csBillHdemoSk, CS_BILL_HDEMO_SK);
+        appendKey(sink, csBillAddrSk, CS_BILL_ADDR_SK);
+        appendKey(sink, csShipCustomerSk, CS_SHIP_CUSTOMER_SK);
+        appendKey(sink, csShipCdemoSk, CS_SHIP_CDEMO_SK);
+        appendKey(sink, csShipHdemoSk, CS_SHIP_HDEMO_SK);
+        appendKey(sink, csShipAddrSk, CS_SHIP_ADDR_SK);
+        appendKey(sink, csCallCenterSk, CS_CALL_CENTER_SK);
+        appendKey(sink, csCatalogPageSk, CS_CATALOG_PAGE_SK);
+        appendKey(sink, csShipModeSk, CS_SHIP_MODE_SK);
+        append(sink, csWarehouseSk, CS_WAREHOUSE_SK);
+        appendKey(sink, csSoldItemSk, CS_SOLD_ITEM_SK);
+        appendKey(sink, csPromoSk, CS_PROMO_SK);
+        append(sink, csOrderNumber, CS_ORDER_NUMBER);
+        append(sink, csPricing.getQuantity(), CS_PRICING_QUANTITY);
+        append(sink, csPricing.getWholesaleCost(), CS_PRICING_WHOLESALE_COST);
+        append(sink, csPricing.getListPrice(), CS_PRICING_LIST_PRICE);
+        append(sink, csPricing.getSalesPrice(), CS_PRICING_SALES_PRICE);
+        append(sink, csPricing.getExtDiscountAmount(), CS_PRICING_EXT_DISCOUNT_AMOUNT);
+        append(sink, csPricing.getExtSalesPrice(), CS_PRICING_EXT_SALES_PRICE);
+        append(sink, csPricing.getExtWholesaleCost(), CS_PRICING_EXT_WHOLESALE_COST);
+        append(sink, csPricing.getExtListPrice(), CS_PRICING_EXT_LIST_PRICE);
+        append(sink, csPricing.getExtTax(), CS_PRICING_EXT_TAX);
+        append(sink, csPricing.getCouponAmount(), CS_PRICING_COUPON_AMT);
+        append(sink, csPricing.getExtShipCost(), CS_PRICING_EXT_SHIP_COST);
+        append(sink, csPricing.getNetPaid(), CS_PRICING_NET_PAID);
+        append(sink, csPricing.getNetPaidIncludingTax(), CS_PRICING_NET_PAID_INC_TAX);
+        append(sink, csPricing.getNetPaidIncludingShipping(), CS_PRICING_NET_PAID_INC_SHIP);
+        append(sink, csPricing.getNetPaidIncludingShippingAndTax(), CS_PRICING_NET_PAID_INC_SHIP_TAX);
+        append(sink, csPricing.getNetProfit(), CS_PRICING_NET_PROFIT);
     }
 
     public Pricing getCsPricing()
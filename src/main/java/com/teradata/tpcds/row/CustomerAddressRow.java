@@ -16,9 +16,6 @@ package com.teradata.tpcds.row;
 
 import com.teradata.tpcds.type.Address;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.CustomerAddressGeneratorColumn.CA_ADDRESS_CITY;
 import static com.teradata.tpcds.generator.CustomerAddressGeneratorColumn.CA_ADDRESS_COUNTRY;
 import static com.teradata.tpcds.generator.CustomerAddressGeneratorColumn.CA_ADDRESS_COUNTY;
@@ -52,20 +49,20 @@ public class CustomerAddressRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNullForKey(caAddrSk, CA_ADDRESS_SK),
-                getStringOrNull(caAddrId, CA_ADDRESS_ID),
-                getStringOrNull(caAddress.getStreetNumber(), CA_ADDRESS_STREET_NUM),
-                getStringOrNull(caAddress.getStreetName(), CA_ADDRESS_STREET_NAME),
-                getStringOrNull(caAddress.getStreetType(), CA_ADDRESS_STREET_TYPE),
-                getStringOrNull(caAddress.getSuiteNumber(), CA_ADDRESS_SUITE_NUM),
-                getStringOrNull(caAddress.getCity(), CA_ADDRESS_CITY),
-                getStringOrNull(caAddress.getCounty(), CA_ADDRESS_COUNTY),
-                getStringOrNull(caAddress.getState(), CA_ADDRESS_STATE),
-                getStringOrNull(format("%05d", caAddress.getZip()), CA_ADDRESS_ZIP),
-                getStringOrNull(caAddress.getCountry(), CA_ADDRESS_COUNTRY),
-                getStringOrNull(caAddress.getGmtOffset(), CA_ADDRESS_GMT_OFFSET),
-                getStringOrNull(caLocationType, CA_LOCATION_TYPE));
+        appendKey(sink, caAddrSk, CA_ADDRESS_SK);
+        append(sink, caAddrId, CA_ADDRESS_ID);
+        append(sink, caAddress.getStreetNumber(), CA_ADDRESS_STREET_NUM);
+        append(sink, caAddress.getStreetName(), CA_ADDRESS_STREET_NAME);
+        append(sink, caAddress.getStreetType(), CA_ADDRESS_STREET_TYPE);
+        append(sink, caAddress.getSuiteNumber(), CA_ADDRESS_SUITE_NUM);
+        append(sink, caAddress.getCity(), CA_ADDRESS_CITY);
+        append(sink, caAddress.getCounty(), CA_ADDRESS_COUNTY);
+        append(sink, caAddress.getState(), CA_ADDRESS_STATE);
+        append(sink, format("%05d", caAddress.getZip()), CA_ADDRESS_ZIP);
+        append(sink, caAddress.getCountry(), CA_ADDRESS_COUNTRY);
+        append(sink, caAddress.getGmtOffset(), CA_ADDRESS_GMT_OFFSET);
+        append(sink, caLocationType, CA_LOCATION_TYPE);
     }
 }
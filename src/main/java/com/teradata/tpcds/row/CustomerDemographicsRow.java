@@ -14,9 +14,6 @@
 
 package com.teradata.tpcds.row;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.CustomerDemographicsGeneratorColumn.CD_CREDIT_RATING;
 import static com.teradata.tpcds.generator.CustomerDemographicsGeneratorColumn.CD_DEMO_SK;
 import static com.teradata.tpcds.generator.CustomerDemographicsGeneratorColumn.CD_DEP_COLLEGE_COUNT;
@@ -64,17 +61,16 @@ public class CustomerDemographicsRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNullForKey(cdDemoSk, CD_DEMO_SK),
-                getStringOrNull(cdGender, CD_GENDER),
-                getStringOrNull(cdMaritalStatus, CD_MARITAL_STATUS),
-                getStringOrNull(cdEducationStatus, CD_EDUCATION_STATUS),
-                getStringOrNull(cdPurchaseEstimate, CD_PURCHASE_ESTIMATE),
-                getStringOrNull(cdCreditRating, CD_CREDIT_RATING),
-                getStringOrNull(cdDepCount, CD_DEP_COUNT),
-                getStringOrNull(cdDepEmployedCount, CD_DEP_EMPLOYED_COUNT),
-                getStringOrNull(cdDepCollegeCount, CD_DEP_COLLEGE_COUNT)
-        );
+        appendKey(sink, cdDemoSk, CD_DEMO_SK);
+        append(sink, cdGender, CD_GENDER);
+        append(sink, cdMaritalStatus, CD_MARITAL_STATUS);
+        append(sink, cdEducationStatus, CD_EDUCATION_STATUS);
+        append(sink, cdPurchaseEstimate, CD_PURCHASE_ESTIMATE);
+        append(sink, cdCreditRating, CD_CREDIT_RATING);
+        append(sink, cdDepCount, CD_DEP_COUNT);
+        append(sink, cdDepEmployedCount, CD_DEP_EMPLOYED_COUNT);
+        append(sink, cdDepCollegeCount, CD_DEP_COLLEGE_COUNT);
     }
 }
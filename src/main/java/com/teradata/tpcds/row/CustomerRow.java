@@ -14,9 +14,6 @@
 
 package com.teradata.tpcds.row;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.CustomerGeneratorColumn.C_BIRTH_COUNTRY;
 import static com.teradata.tpcds.generator.CustomerGeneratorColumn.C_BIRTH_DAY;
 import static com.teradata.tpcds.generator.CustomerGeneratorColumn.C_BIRTH_MONTH;
@@ -98,26 +95,25 @@ public class CustomerRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNullForKey(cCustomerSk, C_CUSTOMER_SK),
-                getStringOrNull(cCustomerId, C_CUSTOMER_ID),
-                getStringOrNullForKey(cCurrentCdemoSk, C_CURRENT_CDEMO_SK),
-                getStringOrNullForKey(cCurrentHdemoSk, C_CURRENT_HDEMO_SK),
-                getStringOrNullForKey(cCurrentAddrSk, C_CURRENT_ADDR_SK),
-                getStringOrNull(cFirstShiptoDateId, C_FIRST_SHIPTO_DATE_ID),
-                getStringOrNull(cFirstSalesDateId, C_FIRST_SALES_DATE_ID),
-                getStringOrNull(cSalutation, C_SALUTATION),
-                getStringOrNull(cFirstName, C_FIRST_NAME),
-                getStringOrNull(cLastName, C_LAST_NAME),
-                getStringOrNullForBoolean(cPreferredCustFlag, C_PREFERRED_CUST_FLAG),
-                getStringOrNull(cBirthDay, C_BIRTH_DAY),
-                getStringOrNull(cBirthMonth, C_BIRTH_MONTH),
-                getStringOrNull(cBirthYear, C_BIRTH_YEAR),
-                getStringOrNull(cBirthCountry, C_BIRTH_COUNTRY),
-                cLogin,
-                getStringOrNull(cEmailAddress, C_EMAIL_ADDRESS),
-                getStringOrNull(cLastReviewDate, C_LAST_REVIEW_DATE)
-        );
+        appendKey(sink, cCustomerSk, C_CUSTOMER_SK);
+        append(sink, cCustomerId, C_CUSTOMER_ID);
+        appendKey(sink, cCurrentCdemoSk, C_CURRENT_CDEMO_SK);
+        appendKey(sink, cCurrentHdemoSk, C_CURRENT_HDEMO_SK);
+        appendKey(sink, cCurrentAddrSk, C_CURRENT_ADDR_SK);
+        append(sink, cFirstShiptoDateId, C_FIRST_SHIPTO_DATE_ID);
+        append(sink, cFirstSalesDateId, C_FIRST_SALES_DATE_ID);
+        append(sink, cSalutation, C_SALUTATION);
+        append(sink, cFirstName, C_FIRST_NAME);
+        append(sink, cLastName, C_LAST_NAME);
+        appendBoolean(sink, cPreferredCustFlag, C_PREFERRED_CUST_FLAG);
+        append(sink, cBirthDay, C_BIRTH_DAY);
+        append(sink, cBirthMonth, C_BIRTH_MONTH);
+        append(sink, cBirthYear, C_BIRTH_YEAR);
+        append(sink, cBirthCountry, C_BIRTH_COUNTRY);
+        sink.appendNull(); // cLogin is never set
+        append(sink, cEmailAddress, C_EMAIL_ADDRESS);
+        append(sink, cLastReviewDate, C_LAST_REVIEW_DATE);
     }
 }
@@ -14,9 +14,6 @@
 
 package com.teradata.tpcds.row;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.DateDimGeneratorColumn.D_CURRENT_DAY;
 import static com.teradata.tpcds.generator.DateDimGeneratorColumn.D_CURRENT_MONTH;
 import static com.teradata.tpcds.generator.DateDimGeneratorColumn.D_CURRENT_QUARTER;
@@ -134,36 +131,35 @@ public class DateDimRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNullForKey(dDateSk, D_DATE_SK),
-                getStringOrNull(dDateId, D_DATE_ID),
-                getDateStringOrNullFromJulianDays(dDateSk, D_DATE_SK),
-                getStringOrNull(dMonthSeq, D_MONTH_SEQ),
-                getStringOrNull(dWeekSeq, D_WEEK_SEQ),
-                getStringOrNull(dQuarterSeq, D_QUARTER_SEQ),
-                getStringOrNull(dYear, D_YEAR),
-                getStringOrNull(dDow, D_DOW),
-                getStringOrNull(dMoy, D_MOY),
-                getStringOrNull(dDom, D_DOM),
-                getStringOrNull(dQoy, D_QOY),
-                getStringOrNull(dFyYear, D_FY_YEAR),
-                getStringOrNull(dFyQuarterSeq, D_FY_QUARTER_SEQ),
-                getStringOrNull(dFyWeekSeq, D_FY_WEEK_SEQ),
-                getStringOrNull(dDayName, D_DAY_NAME),
-                getStringOrNull(format("%4dQ%d", dYear, dQoy), D_QUARTER_NAME),
-                getStringOrNullForBoolean(dHoliday, D_HOLIDAY),
-                getStringOrNullForBoolean(dWeekend, D_WEEKEND),
-                getStringOrNullForBoolean(dFollowingHoliday, D_FOLLOWING_HOLIDAY),
-                getStringOrNull(dFirstDom, D_FIRST_DOM),
-                getStringOrNull(dLastDom, D_LAST_DOM),
-                getStringOrNull(dSameDayLy, D_SAME_DAY_LY),
-                getStringOrNull(dSameDayLq, D_SAME_DAY_LQ),
-                getStringOrNullForBoolean(dCurrentDay, D_CURRENT_DAY),
-                getStringOrNullForBoolean(dCurrentWeek, D_CURRENT_WEEK),
-                getStringOrNullForBoolean(dCurrentMonth, D_CURRENT_MONTH),
-                getStringOrNullForBoolean(dCurrentQuarter, D_CURRENT_QUARTER),
-                getStringOrNullForBoolean(dCurrentYear, D_CURRENT_YEAR)
-        );
+        appendKey(sink, dDateSk, D_DATE_SK);
+        append(sink, dDateId, D_DATE_ID);
+        appendDateFromJulianDays(sink, dDateSk, D_DATE_SK);
+        append(sink, dMonthSeq, D_MONTH_SEQ);
+        append(sink, dWeekSeq, D_WEEK_SEQ);
+        append(sink, dQuarterSeq, D_QUARTER_SEQ);
+        append(sink, dYear, D_YEAR);
+        append(sink, dDow, D_DOW);
+        append(sink, dMoy, D_MOY);
+        append(sink, dDom, D_DOM);
+        append(sink, dQoy, D_QOY);
+        append(sink, dFyYear, D_FY_YEAR);
+        append(sink, dFyQuarterSeq, D_FY_QUARTER_SEQ);
+        append(sink, dFyWeekSeq, D_FY_WEEK_SEQ);
+        append(sink, dDayName, D_DAY_NAME);
+        append(sink, format("%4dQ%d", dYear, dQoy), D_QUARTER_NAME);
+        appendBoolean(sink, dHoliday, D_HOLIDAY);
+        appendBoolean(sink, dWeekend, D_WEEKEND);
+        appendBoolean(sink, dFollowingHoliday, D_FOLLOWING_HOLIDAY);
+        append(sink, dFirstDom, D_FIRST_DOM);
+        append(sink, dLastDom, D_LAST_DOM);
+        append(sink, dSameDayLy, D_SAME_DAY_LY);
+        append(sink, dSameDayLq, D_SAME_DAY_LQ);
+        appendBoolean(sink, dCurrentDay, D_CURRENT_DAY);
+        appendBoolean(sink, dCurrentWeek, D_CURRENT_WEEK);
+        appendBoolean(sink, dCurrentMonth, D_CURRENT_MONTH);
+        appendBoolean(sink, dCurrentQuarter, D_CURRENT_QUARTER);
+        appendBoolean(sink, dCurrentYear, D_CURRENT_YEAR);
     }
 }
@@ -13,9 +13,6 @@
  */
 package com.teradata.tpcds.row;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.DbgenVersionGeneratorColumn.DV_CMDLINE_ARGS;
 import static com.teradata.tpcds.generator.DbgenVersionGeneratorColumn.DV_CREATE_DATE;
 import static com.teradata.tpcds.generator.DbgenVersionGeneratorColumn.DV_CREATE_TIME;
@@ -39,11 +36,11 @@ public class DbgenVersionRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNull(dvVersion, DV_VERSION),
-                getStringOrNull(dvCreateDate, DV_CREATE_DATE),
-                getStringOrNull(dvCreateTime, DV_CREATE_TIME),
-                getStringOrNull(dvCmdlineArgs, DV_CMDLINE_ARGS));
+        append(sink, dvVersion, DV_VERSION);
+        append(sink, dvCreateDate, DV_CREATE_DATE);
+        append(sink, dvCreateTime, DV_CREATE_TIME);
+        append(sink, dvCmdlineArgs, DV_CMDLINE_ARGS);
     }
 }
@@ -14,9 +14,6 @@
 
 package com.teradata.tpcds.row;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.HouseholdDemographicsGeneratorColumn.HD_BUY_POTENTIAL;
 import static com.teradata.tpcds.generator.HouseholdDemographicsGeneratorColumn.HD_DEMO_SK;
 import static com.teradata.tpcds.generator.HouseholdDemographicsGeneratorColumn.HD_DEP_COUNT;
@@ -43,12 +40,12 @@ public class HouseholdDemographicsRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNullForKey(hdDemoSk, HD_DEMO_SK),
-                getStringOrNullForKey(hdIncomeBandId, HD_INCOME_BAND_ID),
-                getStringOrNull(hdBuyPotential, HD_BUY_POTENTIAL),
-                getStringOrNull(hdDepCount, HD_DEP_COUNT),
-                getStringOrNull(hdVehicleCount, HD_VEHICLE_COUNT));
+        appendKey(sink, hdDemoSk, HD_DEMO_SK);
+        appendKey(sink, hdIncomeBandId, HD_INCOME_BAND_ID);
+        append(sink, hdBuyPotential, HD_BUY_POTENTIAL);
+        append(sink, hdDepCount, HD_DEP_COUNT);
+        append(sink, hdVehicleCount, HD_VEHICLE_COUNT);
     }
 }
@@ -14,9 +14,6 @@
 
 package com.teradata.tpcds.row;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.IncomeBandGeneratorColumn.IB_INCOME_BAND_ID;
 import static com.teradata.tpcds.generator.IncomeBandGeneratorColumn.IB_LOWER_BOUND;
 import static com.teradata.tpcds.generator.IncomeBandGeneratorColumn.IB_UPPER_BOUND;
@@ -37,10 +34,10 @@ public class IncomeBandRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNull(ibIncomeBandId, IB_INCOME_BAND_ID),
-                getStringOrNull(ibLowerBound, IB_LOWER_BOUND),
-                getStringOrNull(ibUpperBound, IB_UPPER_BOUND));
+        append(sink, ibIncomeBandId, IB_INCOME_BAND_ID);
+        append(sink, ibLowerBound, IB_LOWER_BOUND);
+        append(sink, ibUpperBound, IB_UPPER_BOUND);
     }
 }
@@ -14,9 +14,6 @@
 
 package com.teradata.tpcds.row;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.InventoryGeneratorColumn.INV_DATE_SK;
 import static com.teradata.tpcds.generator.InventoryGeneratorColumn.INV_ITEM_SK;
 import static com.teradata.tpcds.generator.InventoryGeneratorColumn.INV_QUANTITY_ON_HAND;
@@ -40,11 +37,11 @@ public class InventoryRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNullForKey(invDateSk, INV_DATE_SK),
-                getStringOrNullForKey(invItemSk, INV_ITEM_SK),
-                getStringOrNullForKey(invWarehouseSk, INV_WAREHOUSE_SK),
-                getStringOrNull(invQuantityOnHand, INV_QUANTITY_ON_HAND));
+        appendKey(sink, invDateSk, INV_DATE_SK);
+        appendKey(sink, invItemSk, INV_ITEM_SK);
+        appendKey(sink, invWarehouseSk, INV_WAREHOUSE_SK);
+        append(sink, invQuantityOnHand, INV_QUANTITY_ON_HAND);
     }
 }
@@ -16,9 +16,6 @@ package com.teradata.tpcds.row;
 
 import com.teradata.tpcds.type.Decimal;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.ItemGeneratorColumn.I_BRAND;
 import static com.teradata.tpcds.generator.ItemGeneratorColumn.I_BRAND_ID;
 import static com.teradata.tpcds.generator.ItemGeneratorColumn.I_CATEGORY;
@@ -176,29 +173,29 @@ public class ItemRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNullForKey(iItemSk, I_ITEM_SK),
-                getStringOrNull(iItemId, I_ITEM_ID),
-                getDateStringOrNullFromJulianDays(iRecStartDateId, I_REC_START_DATE_ID),
-                getDateStringOrNullFromJulianDays(iRecEndDateId, I_REC_END_DATE_ID),
-                getStringOrNull(iItemDesc, I_ITEM_DESC),
-                getStringOrNull(iCurrentPrice, I_CURRENT_PRICE),
-                getStringOrNull(iWholesaleCost, I_WHOLESALE_COST),
-                getStringOrNullForKey(iBrandId, I_BRAND_ID),
-                getStringOrNull(iBrand, I_BRAND),
-                getStringOrNullForKey(iClassId, I_CLASS_ID),
-                getStringOrNull(iClass, I_CLASS),
-                getStringOrNullForKey(iCategoryId, I_CATEGORY_ID),
-                getStringOrNull(iCategory, I_CATEGORY),
-                getStringOrNullForKey(iManufactId, I_MANUFACT_ID),
-                getStringOrNull(iManufact, I_MANUFACT),
-                getStringOrNull(iSize, I_SIZE),
-                getStringOrNull(iFormulation, I_FORMULATION),
-                getStringOrNull(iColor, I_COLOR),
-                getStringOrNull(iUnits, I_UNITS),
-                getStringOrNull(iContainer, I_CONTAINER),
-                getStringOrNullForKey(iManagerId, I_MANAGER_ID),
-                getStringOrNull(iProductName, I_PRODUCT_NAME));
+        appendKey(sink, iItemSk, I_ITEM_SK);
+        append(sink, iItemId, I_ITEM_ID);
+        appendDateFromJulianDays(sink, iRecStartDateId, I_REC_START_DATE_ID);
+        appendDateFromJulianDays(sink, iRecEndDateId, I_REC_END_DATE_ID);
+        append(sink, iItemDesc, I_ITEM_DESC);
+        append(sink, iCurrentPrice, I_CURRENT_PRICE);
+        append(sink, iWholesaleCost, I_WHOLESALE_COST);
+        appendKey(sink, iBrandId, I_BRAND_ID);
+        append(sink, iBrand, I_BRAND);
+        appendKey(sink, iClassId, I_CLASS_ID);
+        append(sink, iClass, I_CLASS);
+        appendKey(sink, iCategoryId, I_CATEGORY_ID);
+        append(sink, iCategory, I_CATEGORY);
+        appendKey(sink, iManufactId, I_MANUFACT_ID);
+        append(sink, iManufact, I_MANUFACT);
+        append(sink, iSize, I_SIZE);
+        append(sink, iFormulation, I_FORMULATION);
+        append(sink, iColor, I_COLOR);
+        append(sink, iUnits, I_UNITS);
+        append(sink, iContainer, I_CONTAINER);
+        appendKey(sink, iManagerId, I_MANAGER_ID);
+        append(sink, iProductName, I_PRODUCT_NAME);
     }
 }
@@ -16,9 +16,6 @@ package com.teradata.tpcds.row;
 
 import com.teradata.tpcds.type.Decimal;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.PromotionGeneratorColumn.P_CHANNEL_CATALOG;
 import static com.teradata.tpcds.generator.PromotionGeneratorColumn.P_CHANNEL_DEMO;
 import static com.teradata.tpcds.generator.PromotionGeneratorColumn.P_CHANNEL_DETAILS;
@@ -106,26 +103,26 @@ public class PromotionRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNullForKey(pPromoSk, P_PROMO_SK),
-                getStringOrNull(pPromoId, P_PROMO_ID),
-                getStringOrNullForKey(pStartDateId, P_START_DATE_ID),
-                getStringOrNullForKey(pEndDateId, P_END_DATE_ID),
-                getStringOrNullForKey(pItemSk, P_ITEM_SK),
-                getStringOrNull(pCost, P_COST),
-                getStringOrNull(pResponseTarget, P_RESPONSE_TARGET),
-                getStringOrNull(pPromoName, P_PROMO_NAME),
-                getStringOrNullForBoolean(pChannelDmail, P_CHANNEL_DMAIL),
-                getStringOrNullForBoolean(pChannelEmail, P_CHANNEL_EMAIL),
-                getStringOrNullForBoolean(pChannelCatalog, P_CHANNEL_CATALOG),
-                getStringOrNullForBoolean(pChannelTv, P_CHANNEL_TV),
-                getStringOrNullForBoolean(pChannelRadio, P_CHANNEL_RADIO),
-                getStringOrNullForBoolean(pChannelPress, P_CHANNEL_PRESS),
-                getStringOrNullForBoolean(pChannelEvent, P_CHANNEL_EVENT),
-                getStringOrNullForBoolean(pChannelDemo, P_CHANNEL_DEMO),
-                getStringOrNull(pChannelDetails, P_CHANNEL_DETAILS),
-                getStringOrNull(pPurpose, P_PURPOSE),
-                getStringOrNullForBoolean(pDiscountActive, P_DISCOUNT_ACTIVE));
+        appendKey(sink, pPromoSk, P_PROMO_SK);
+        append(sink, pPromoId, P_PROMO_ID);
+        appendKey(sink, pStartDateId, P_START_DATE_ID);
+        appendKey(sink, pEndDateId, P_END_DATE_ID);
+        appendKey(sink, pItemSk, P_ITEM_SK);
+        append(sink, pCost, P_COST);
+        append(sink, pResponseTarget, P_RESPONSE_TARGET);
+        append(sink, pPromoName, P_PROMO_NAME);
+        appendBoolean(sink, pChannelDmail, P_CHANNEL_DMAIL);
+        appendBoolean(sink, pChannelEmail, P_CHANNEL_EMAIL);
+        appendBoolean(sink, pChannelCatalog, P_CHANNEL_CATALOG);
+        appendBoolean(sink, pChannelTv, P_CHANNEL_TV);
+        appendBoolean(sink, pChannelRadio, P_CHANNEL_RADIO);
+        appendBoolean(sink, pChannelPress, P_CHANNEL_PRESS);
+        appendBoolean(sink, pChannelEvent, P_CHANNEL_EVENT);
+        appendBoolean(sink, pChannelDemo, P_CHANNEL_DEMO);
+        append(sink, pChannelDetails, P_CHANNEL_DETAILS);
+        append(sink, pPurpose, P_PURPOSE);
+        appendBoolean(sink, pDiscountActive, P_DISCOUNT_ACTIVE);
     }
 }
@@ -14,9 +14,6 @@
 
 package com.teradata.tpcds.row;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.ReasonGeneratorColumn.R_REASON_DESCRIPTION;
 import static com.teradata.tpcds.generator.ReasonGeneratorColumn.R_REASON_ID;
 import static com.teradata.tpcds.generator.ReasonGeneratorColumn.R_REASON_SK;
@@ -37,10 +34,10 @@ public class ReasonRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNullForKey(rReasonSk, R_REASON_SK),
-                getStringOrNull(rReasonId, R_REASON_ID),
-                getStringOrNull(rReasonDescription, R_REASON_DESCRIPTION));
+        appendKey(sink, rReasonSk, R_REASON_SK);
+        append(sink, rReasonId, R_REASON_ID);
+        append(sink, rReasonDescription, R_REASON_DESCRIPTION);
     }
 }
@@ -0,0 +1,37 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds.row;
+
+// Receives the values of a row in column order. A row pushes typed values, so that a consumer such
+// as a text encoder, a columnar writer or a JDBC binder does not need a list of strings first.
+public interface RowSink
+{
+    void appendNull();
+
+    // identifiers and other long values
+    void appendKey(long value);
+
+    void appendInteger(int value);
+
+    // the decimal number / 10^precision, as in Decimal
+    void appendDecimal(long number, int precision);
+
+    void appendDate(int julianDays);
+
+    // the flags of the CHAR(1) columns, written as Y or N
+    void appendBoolean(boolean value);
+
+    void appendString(String value);
+}
@@ -14,9 +14,6 @@
 
 package com.teradata.tpcds.row;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.ShipModeGeneratorColumn.SM_CARRIER;
 import static com.teradata.tpcds.generator.ShipModeGeneratorColumn.SM_CODE;
 import static com.teradata.tpcds.generator.ShipModeGeneratorColumn.SM_CONTRACT;
@@ -46,13 +43,13 @@ public class ShipModeRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNullForKey(smShipModeSk, SM_SHIP_MODE_SK),
-                getStringOrNull(smShipModeId, SM_SHIP_MODE_ID),
-                getStringOrNull(smType, SM_TYPE),
-                getStringOrNull(smCode, SM_CODE),
-                getStringOrNull(smCarrier, SM_CARRIER),
-                getStringOrNull(smContract, SM_CONTRACT));
+        appendKey(sink, smShipModeSk, SM_SHIP_MODE_SK);
+        append(sink, smShipModeId, SM_SHIP_MODE_ID);
+        append(sink, smType, SM_TYPE);
+        append(sink, smCode, SM_CODE);
+        append(sink, smCarrier, SM_CARRIER);
+        append(sink, smContract, SM_CONTRACT);
     }
 }
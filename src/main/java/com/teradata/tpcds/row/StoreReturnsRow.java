@@ -16,9 +16,6 @@ package com.teradata.tpcds.row;
 
 import com.teradata.tpcds.type.Pricing;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.StoreReturnsGeneratorColumn.SR_ADDR_SK;
 import static com.teradata.tpcds.generator.StoreReturnsGeneratorColumn.SR_CDEMO_SK;
 import static com.teradata.tpcds.generator.StoreReturnsGeneratorColumn.SR_CUSTOMER_SK;
@@ -43,17 +40,23 @@ import static com.teradata.tpcds.generator.StoreReturnsGeneratorColumn.SR_TICKET
 public class StoreReturnsRow
         extends TableRowWithNulls
 {
-    private final long srReturnedDateSk;
-    private final long srReturnedTimeSk;
-    private final long srItemSk;
-    private final long srCustomerSk;
-    private final long srCdemoSk;
-    private final long srHdemoSk;
-    private final long srAddrSk;
-    private final long srStoreSk;
-    private final long srReasonSk;
-    private final long srTicketNumber;
-    private final Pricing srPricing;
+    private long srReturnedDateSk;
+    private long srReturnedTimeSk;
+    private long srItemSk;
+    private long srCustomerSk;
+    private long srCdemoSk;
+    private long srHdemoSk;
+    private long srAddrSk;
+    private long srStoreSk;
+    private long srReasonSk;
+    private long srTicketNumber;
+    private Pricing srPricing;
+
+    // An empty row, for a generator that reuses one row and fills it with set
+    public StoreReturnsRow()
+    {
+        super(0, SR_RETURNED_DATE_SK);
+    }
 
     public StoreReturnsRow(long nullBitMap,
             long srReturnedDateSk,
@@ -68,7 +71,36 @@ public class StoreReturnsRow
             long srTicketNumber,
             Pricing srPricing)
     {
-        super(nullBitMap, SR_RETURNED_DATE_SK);
+        this();
+        set(nullBitMap,
+                srReturnedDateSk,
+                srReturnedTimeSk,
+                srItemSk,
+                srCustomerSk,
+                srCdemoSk,
+                srHdemoSk,
+                srAddrSk,
+                srStoreSk,
+                srReasonSk,
+                srTicketNumber,
+                srPricing);
+    }
+
+    // Replaces all values of the row
+    public void set(long nullBitMap,
+            long srReturnedDateSk,
+            long srReturnedTimeSk,
+            long srItemSk,
+            long srCustomerSk,
+            long srCdemoSk,
+            long srHdemoSk,
+            long srAddrSk,
+            long srStoreSk,
+            long srReasonSk,
+            long srTicketNumber,
+            Pricing srPricing)
+    {
+        setNullBitMap(nullBitMap);
         this.srReturnedDateSk = srReturnedDateSk;
         this.srReturnedTimeSk = srReturnedTimeSk;
         this.srItemSk = srItemSk;
@@ -83,27 +115,27 @@ public class StoreReturnsRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNullForKey(srReturnedDateSk, SR_RETURNED_DATE_SK),
-                getStringOrNullForKey(srReturnedTimeSk, SR_RETURNED_TIME_SK),
-                getStringOrNullForKey(srItemSk, SR_ITEM_SK),
-                getStringOrNullForKey(srCustomerSk, SR_CUSTOMER_SK),
-                getStringOrNullForKey(srCdemoSk, SR_CDEMO_SK),
-                getStringOrNullForKey(srHdemoSk, SR_HDEMO_SK),
-                getStringOrNullForKey(srAddrSk, SR_ADDR_SK),
-                getStringOrNullForKey(srStoreSk, SR_STORE_SK),
-                getStringOrNullForKey(srReasonSk, SR_REASON_SK),
-                getStringOrNullForKey(srTicketNumber, SR_TICKET_NUMBER),
-                getStringOrNull(srPricing.getQuantity(), SR_PRICING_QUANTITY),
-                getStringOrNull(srPricing.getNetPaid(), SR_PRICING_NET_PAID),
-                getStringOrNull(srPricing.getExtTax(), SR_PRICING_EXT_TAX),
-                getStringOrNull(srPricing.getNetPaidIncludingTax(), SR_PRICING_NET_PAID_INC_TAX),
-                getStringOrNull(srPricing.getFee(), SR_PRICING_FEE),
-                getStringOrNull(srPricing.getExtShipCost(), SR_PRICING_EXT_SHIP_COST),
-                getStringOrNull(srPricing.getRefundedCash(), SR_PRICING_REFUNDED_CASH),
-                getStringOrNull(srPricing.getReversedCharge(), SR_PRICING_REVERSED_CHARGE),
-                getStringOrNull(srPricing.getStoreCredit(), SR_PRICING_STORE_CREDIT),
-                getStringOrNull(srPricing.getNetLoss(), SR_PRICING_NET_LOSS));
+        appendKey(sink, srReturnedDateSk, SR_RETURNED_DATE_SK);
+        appendKey(sink, srReturnedTimeSk, SR_RETURNED_TIME_SK);
+        appendKey(sink, srItemSk, SR_ITEM_SK);
+        appendKey(sink, srCustomerSk, SR_CUSTOMER_SK);
+        appendKey(sink, srCdemoSk, SR_CDEMO_SK);
+        appendKey(sink, srHdemoSk, SR_HDEMO_SK);
+        appendKey(sink, srAddrSk, SR_ADDR_SK);
+        appendKey(sink, srStoreSk, SR_STORE_SK);
+        appendKey(sink, srReasonSk, SR_REASON_SK);
+        appendKey(sink, srTicketNumber, SR_TICKET_NUMBER);
+        append(sink, srPricing.getQuantity(), SR_PRICING_QUANTITY);
+        append(sink, srPricing.getNetPaid(), SR_PRICING_NET_PAID);
+        append(sink, srPricing.getExtTax(), SR_PRICING_EXT_TAX);
+        append(sink, srPricing.getNetPaidIncludingTax(), SR_PRICING_NET_PAID_INC_TAX);
+        append(sink, srPricing.getFee(), SR_PRICING_FEE);
+        append(sink, srPricing.getExtShipCost(), SR_PRICING_EXT_SHIP_COST);
+        append(sink, srPricing.getRefundedCash(), SR_PRICING_REFUNDED_CASH);
+        append(sink, srPricing.getReversedCharge(), SR_PRICING_REVERSED_CHARGE);
+        append(sink, srPricing.getStoreCredit(), SR_PRICING_STORE_CREDIT);
+        append(sink, srPricing.getNetLoss(), SR_PRICING_NET_LOSS);
     }
 }
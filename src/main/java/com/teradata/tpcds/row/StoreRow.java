@@ -17,9 +17,6 @@ package com.teradata.tpcds.row;
 import com.teradata.tpcds.type.Address;
 import com.teradata.tpcds.type.Decimal;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.StoreGeneratorColumn.W_STORE_ADDRESS_CITY;
 import static com.teradata.tpcds.generator.StoreGeneratorColumn.W_STORE_ADDRESS_COUNTRY;
 import static com.teradata.tpcds.generator.StoreGeneratorColumn.W_STORE_ADDRESS_COUNTY;
@@ -176,36 +173,36 @@ public class StoreRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNullForKey(storeSk, W_STORE_SK),
-                getStringOrNull(storeId, W_STORE_ID),
-                getDateStringOrNullFromJulianDays(recStartDateId, W_STORE_REC_START_DATE_ID),
-                getDateStringOrNullFromJulianDays(recEndDateId, W_STORE_REC_END_DATE_ID),
-                getStringOrNullForKey(closedDateId, W_STORE_CLOSED_DATE_ID),
-                getStringOrNull(storeName, W_STORE_NAME),
-                getStringOrNull(employees, W_STORE_EMPLOYEES),
-                getStringOrNull(floorSpace, W_STORE_FLOOR_SPACE),
-                getStringOrNull(hours, W_STORE_HOURS),
-                getStringOrNull(storeManager, W_STORE_MANAGER),
-                getStringOrNull(marketId, W_STORE_MARKET_ID),
-                getStringOrNull(geographyClass, W_STORE_GEOGRAPHY_CLASS),
-                getStringOrNull(marketDesc, W_STORE_MARKET_DESC),
-                getStringOrNull(marketManager, W_STORE_MARKET_MANAGER),
-                getStringOrNullForKey(divisionId, W_STORE_DIVISION_ID),
-                getStringOrNull(divisionName, W_STORE_DIVISION_NAME),
-                getStringOrNullForKey(companyId, W_STORE_COMPANY_ID),
-                getStringOrNull(companyName, W_STORE_COMPANY_NAME),
-                getStringOrNull(address.getStreetNumber(), W_STORE_ADDRESS_STREET_NUM),
-                getStringOrNull(address.getStreetName(), W_STORE_ADDRESS_STREET_NAME1),
-                getStringOrNull(address.getStreetType(), W_STORE_ADDRESS_STREET_TYPE),
-                getStringOrNull(address.getSuiteNumber(), W_STORE_ADDRESS_SUITE_NUM),
-                getStringOrNull(address.getCity(), W_STORE_ADDRESS_CITY),
-                getStringOrNull(address.getCounty(), W_STORE_ADDRESS_COUNTY),
-                getStringOrNull(address.getState(), W_STORE_ADDRESS_STATE),
-                getStringOrNull(format("%05d", address.getZip()), W_STORE_ADDRESS_ZIP),
-                getStringOrNull(address.getCountry(), W_STORE_ADDRESS_COUNTRY),
-                getStringOrNull(address.getGmtOffset(), W_STORE_ADDRESS_GMT_OFFSET),
-                getStringOrNull(dTaxPercentage, W_STORE_TAX_PERCENTAGE));
+        appendKey(sink, storeSk, W_STORE_SK);
+        append(sink, storeId, W_STORE_ID);
+        appendDateFromJulianDays(sink, recStartDateId, W_STORE_REC_START_DATE_ID);
+        appendDateFromJulianDays(sink, recEndDateId, W_STORE_REC_END_DATE_ID);
+        appendKey(sink, closedDateId, W_STORE_CLOSED_DATE_ID);
+        append(sink, storeName, W_STORE_NAME);
+        append(sink, employees, W_STORE_EMPLOYEES);
+        append(sink, floorSpace, W_STORE_FLOOR_SPACE);
+        append(sink, hours, W_STORE_HOURS);
+        append(sink, storeManager, W_STORE_MANAGER);
+        append(sink, marketId, W_STORE_MARKET_ID);
+        append(sink, geographyClass, W_STORE_GEOGRAPHY_CLASS);
+        append(sink, marketDesc, W_STORE_MARKET_DESC);
+        append(sink, marketManager, W_STORE_MARKET_MANAGER);
+        appendKey(sink, divisionId, W_STORE_DIVISION_ID);
+        append(sink, divisionName, W_STORE_DIVISION_NAME);
+        appendKey(sink, companyId, W_STORE_COMPANY_ID);
+        append(sink, companyName, W_STORE_COMPANY_NAME);
+        append(sink, address.getStreetNumber(), W_STORE_ADDRESS_STREET_NUM);
+        append(sink, address.getStreetName(), W_STORE_ADDRESS_STREET_NAME1);
+        append(sink, address.getStreetType(), W_STORE_ADDRESS_STREET_TYPE);
+        append(sink, address.getSuiteNumber(), W_STORE_ADDRESS_SUITE_NUM);
+        append(sink, address.getCity(), W_STORE_ADDRESS_CITY);
+        append(sink, address.getCounty(), W_STORE_ADDRESS_COUNTY);
+        append(sink, address.getState(), W_STORE_ADDRESS_STATE);
+        append(sink, format("%05d", address.getZip()), W_STORE_ADDRESS_ZIP);
+        append(sink, address.getCountry(), W_STORE_ADDRESS_COUNTRY);
+        append(sink, address.getGmtOffset(), W_STORE_ADDRESS_GMT_OFFSET);
+        append(sink, dTaxPercentage, W_STORE_TAX_PERCENTAGE);
     }
 }
@@ -16,9 +16,6 @@ package com.teradata.tpcds.row;
 
 import com.teradata.tpcds.type.Pricing;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.StoreSalesGeneratorColumn.SS_PRICING_COUPON_AMT;
 import static com.teradata.tpcds.generator.StoreSalesGeneratorColumn.SS_PRICING_EXT_LIST_PRICE;
 import static com.teradata.tpcds.generator.StoreSalesGeneratorColumn.SS_PRICING_EXT_SALES_PRICE;
@@ -45,17 +42,23 @@ import static com.teradata.tpcds.generator.StoreSalesGeneratorColumn.SS_TICKET_N
 public class StoreSalesRow
         extends TableRowWithNulls
 {
-    private final long ssSoldDateSk;
-    private final long ssSoldTimeSk;
-    private final long ssSoldItemSk;
-    private final long ssSoldCustomerSk;
-    private final long ssSoldCdemoSk;
-    private final long ssSoldHdemoSk;
-    private final long ssSoldAddrSk;
-    private final long ssSoldStoreSk;
-    private final long ssSoldPromoSk;
-    private final long ssTicketNumber;
-    private final Pricing ssPricing;
+    private long ssSoldDateSk;
+    private long ssSoldTimeSk;
+    private long ssSoldItemSk;
+    private long ssSoldCustomerSk;
+    private long ssSoldCdemoSk;
+    private long ssSoldHdemoSk;
+    private long ssSoldAddrSk;
+    private long ssSoldStoreSk;
+    private long ssSoldPromoSk;
+    private long ssTicketNumber;
+    private Pricing ssPricing;
+
+    // An empty row, for a generator that reuses one row and fills it with set
+    public StoreSalesRow()
+    {
+        super(0, SS_SOLD_DATE_SK);
+    }
 
     public StoreSalesRow(long nullBitMap,
             long ssSoldDateSk,
@@ -70,7 +73,36 @@ public class StoreSalesRow
             long ssTicketNumber,
             Pricing ssPricing)
     {
-        super(nullBitMap, SS_SOLD_DATE_SK);
+        this();
+        set(nullBitMap,
+                ssSoldDateSk,
+                ssSoldTimeSk,
+                ssSoldItemSk,
+                ssSoldCustomerSk,
+                ssSoldCdemoSk,
+                ssSoldHdemoSk,
+                ssSoldAddrSk,
+                ssSoldStoreSk,
+                ssSoldPromoSk,
+                ssTicketNumber,
+                ssPricing);
+    }
+
+    // Replaces all values of the row
+    public void set(long nullBitMap,
+            long ssSoldDateSk,
+            long ssSoldTimeSk,
+            long ssSoldItemSk,
+            long ssSoldCustomerSk,
+            long ssSoldCdemoSk,
+            long ssSoldHdemoSk,
+            long ssSoldAddrSk,
+            long ssSoldStoreSk,
+            long ssSoldPromoSk,
+            long ssTicketNumber,
+            Pricing ssPricing)
+    {
+        setNullBitMap(nullBitMap);
         this.ssSoldDateSk = ssSoldDateSk;
         this.ssSoldTimeSk = ssSoldTimeSk;
         this.ssSoldItemSk = ssSoldItemSk;
@@ -85,31 +117,31 @@ public class StoreSalesRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNullForKey(ssSoldDateSk, SS_SOLD_DATE_SK),
-                getStringOrNullForKey(ssSoldTimeSk, SS_SOLD_TIME_SK),
-                getStringOrNullForKey(ssSoldItemSk, SS_SOLD_ITEM_SK),
-                getStringOrNullForKey(ssSoldCustomerSk, SS_SOLD_CUSTOMER_SK),
-                getStringOrNullForKey(ssSoldCdemoSk, SS_SOLD_CDEMO_SK),
-                getStringOrNullForKey(ssSoldHdemoSk, SS_SOLD_HDEMO_SK),
-                getStringOrNullForKey(ssSoldAddrSk, SS_SOLD_ADDR_SK),
-                getStringOrNullForKey(ssSoldStoreSk, SS_SOLD_STORE_SK),
-                getStringOrNullForKey(ssSoldPromoSk, SS_SOLD_PROMO_SK),
-                getStringOrNullForKey(ssTicketNumber, SS_TICKET_NUMBER),
-                getStringOrNull(ssPricing.getQuantity(), SS_PRICING_QUANTITY),
-                getStringOrNull(ssPricing.getWholesaleCost(), SS_PRICING_WHOLESALE_COST),
-                getStringOrNull(ssPricing.getListPrice(), SS_PRICING_LIST_PRICE),
-                getStringOrNull(ssPricing.getSalesPrice(), SS_PRICING_SALES_PRICE),
-                getStringOrNull(ssPricing.getCouponAmount(), SS_PRICING_COUPON_AMT),
-                getStringOrNull(ssPricing.getExtSalesPrice(), SS_PRICING_EXT_SALES_PRICE),
-                getStringOrNull(ssPricing.getExtWholesaleCost(), SS_PRICING_EXT_WHOLESALE_COST),
-                getStringOrNull(ssPricing.getExtListPrice(), SS_PRICING_EXT_LIST_PRICE),
-                getStringOrNull(ssPricing.getExtTax(), SS_PRICING_EXT_TAX),
-                getStringOrNull(ssPricing.getCouponAmount(), SS_PRICING_COUPON_AMT),
-                getStringOrNull(ssPricing.getNetPaid(), SS_PRICING_NET_PAID),
-                getStringOrNull(ssPricing.getNetPaidIncludingTax(), SS_PRICING_NET_PAID_INC_TAX),
-                getStringOrNull(ssPricing.getNetProfit(), SS_PRICING_NET_PROFIT));
+        appendKey(sink, ssSoldDateSk, SS_SOLD_DATE_SK);
+        appendKey(sink, ssSoldTimeSk, SS_SOLD_TIME_SK);
+        appendKey(sink, ssSoldItemSk, SS_SOLD_ITEM_SK);
+        appendKey(sink, ssSoldCustomerSk, SS_SOLD_CUSTOMER_SK);
+        appendKey(sink, ssSoldCdemoSk, SS_SOLD_CDEMO_SK);
+        appendKey(sink, ssSoldHdemoSk, SS_SOLD_HDEMO_SK);
+        appendKey(sink, ssSoldAddrSk, SS_SOLD_ADDR_SK);
+        appendKey(sink, ssSoldStoreSk, SS_SOLD_STORE_SK);
+        appendKey(sink, ssSoldPromoSk, SS_SOLD_PROMO_SK);
+        appendKey(sink, ssTicketNumber, SS_TICKET_NUMBER);
+        append(sink, ssPricing.getQuantity(), SS_PRICING_QUANTITY);
+        append(sink, ssPricing.getWholesaleCost(), SS_PRICING_WHOLESALE_COST);
+        append(sink, ssPricing.getListPrice(), SS_PRICING_LIST_PRICE);
+        append(sink, ssPricing.getSalesPrice(), SS_PRICING_SALES_PRICE);
+        append(sink, ssPricing.getCouponAmount(), SS_PRICING_COUPON_AMT);
+        append(sink, ssPricing.getExtSalesPrice(), SS_PRICING_EXT_SALES_PRICE);
+        append(sink, ssPricing.getExtWholesaleCost(), SS_PRICING_EXT_WHOLESALE_COST);
+        append(sink, ssPricing.getExtListPrice(), SS_PRICING_EXT_LIST_PRICE);
+        append(sink, ssPricing.getExtTax(), SS_PRICING_EXT_TAX);
+        append(sink, ssPricing.getCouponAmount(), SS_PRICING_COUPON_AMT);
+        append(sink, ssPricing.getNetPaid(), SS_PRICING_NET_PAID);
+        append(sink, ssPricing.getNetPaidIncludingTax(), SS_PRICING_NET_PAID_INC_TAX);
+        append(sink, ssPricing.getNetProfit(), SS_PRICING_NET_PROFIT);
     }
 
     public long getSsTicketNumber()
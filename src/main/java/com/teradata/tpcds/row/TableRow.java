@@ -19,4 +19,7 @@ import java.util.List;
 public interface TableRow
 {
     List<String> getValues();
+
+    // Pushes the values of the row to the sink, one for each column
+    void writeTo(RowSink sink);
 }
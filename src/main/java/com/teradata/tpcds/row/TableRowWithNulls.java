@@ -15,14 +15,18 @@
 package com.teradata.tpcds.row;
 
 import com.teradata.tpcds.generator.GeneratorColumn;
+import com.teradata.tpcds.type.Date;
+import com.teradata.tpcds.type.Decimal;
 
-import static com.teradata.tpcds.type.Date.fromJulianDays;
+import java.util.List;
+
+import static com.teradata.tpcds.type.Date.toJulianDays;
 
 public abstract class TableRowWithNulls
         implements TableRow
 {
     private long nullBitMap;
-    private GeneratorColumn firstColumn;
+    private final GeneratorColumn firstColumn;
 
     protected TableRowWithNulls(long nullBitMap, GeneratorColumn firstColumn)
     {
@@ -30,33 +34,103 @@ public abstract class TableRowWithNulls
         this.firstColumn = firstColumn;
     }
 
+    // for rows that a generator fills again for every row
+    protected void setNullBitMap(long nullBitMap)
+    {
+        this.nullBitMap = nullBitMap;
+    }
+
     private boolean isNull(GeneratorColumn column)
     {
         long kBitMask = 1L << (column.getGlobalColumnNumber() - firstColumn.getGlobalColumnNumber());
         return (nullBitMap & kBitMask) != 0;
     }
 
-    protected <T> String getStringOrNull(T value, GeneratorColumn column)
+    @Override
+    public List<String> getValues()
     {
-        return isNull(column) ? null : value.toString();
+        ValuesRowSink sink = new ValuesRowSink(firstColumn.getTable().getColumns().length);
+        writeTo(sink);
+        return sink.getValues();
+    }
+
+    protected void append(RowSink sink, int value, GeneratorColumn column)
+    {
+        if (isNull(column)) {
+            sink.appendNull();
+        }
+        else {
+            sink.appendInteger(value);
+        }
     }
 
-    protected <T> String getStringOrNullForKey(long value, GeneratorColumn column)
+    protected void append(RowSink sink, long value, GeneratorColumn column)
     {
-        return (isNull(column) || value == -1) ? null : Long.toString(value);
+        if (isNull(column)) {
+            sink.appendNull();
+        }
+        else {
+            sink.appendKey(value);
+        }
     }
 
-    protected <T> String getStringOrNullForBoolean(boolean value, GeneratorColumn column)
+    protected void append(RowSink sink, Decimal value, GeneratorColumn column)
     {
         if (isNull(column)) {
-            return null;
+            sink.appendNull();
+        }
+        else {
+            sink.appendDecimal(value.getNumber(), value.getPrecision());
         }
+    }
 
-        return value ? "Y" : "N";
+    protected void append(RowSink sink, Date value, GeneratorColumn column)
+    {
+        if (isNull(column)) {
+            sink.appendNull();
+        }
+        else {
+            sink.appendDate(toJulianDays(value));
+        }
     }
 
-    protected <T> String getDateStringOrNullFromJulianDays(long value, GeneratorColumn column)
+    protected void append(RowSink sink, String value, GeneratorColumn column)
     {
-        return (isNull(column) || value < 0) ? null : fromJulianDays((int) value).toString();
+        if (isNull(column)) {
+            sink.appendNull();
+        }
+        else {
+            sink.appendString(value);
+        }
+    }
+
+    protected void appendKey(RowSink sink, long value, GeneratorColumn column)
+    {
+        if (isNull(column) || value == -1) {
+            sink.appendNull();
+        }
+        else {
+            sink.appendKey(value);
+        }
+    }
+
+    protected void appendBoolean(RowSink sink, boolean value, GeneratorColumn column)
+    {
+        if (isNull(column)) {
+            sink.appendNull();
+        }
+        else {
+            sink.appendBoolean(value);
+        }
+    }
+
+    protected void appendDateFromJulianDays(RowSink sink, long value, GeneratorColumn column)
+    {
+        if (isNull(column) || value < 0) {
+            sink.appendNull();
+        }
+        else {
+            sink.appendDate((int) value);
+        }
     }
 }
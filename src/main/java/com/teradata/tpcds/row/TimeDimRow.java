@@ -14,9 +14,6 @@
 
 package com.teradata.tpcds.row;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.TimeDimGeneratorColumn.T_AM_PM;
 import static com.teradata.tpcds.generator.TimeDimGeneratorColumn.T_HOUR;
 import static com.teradata.tpcds.generator.TimeDimGeneratorColumn.T_MEAL_TIME;
@@ -58,17 +55,17 @@ public class TimeDimRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNullForKey(tTimeSk, T_TIME_SK),
-                getStringOrNull(tTimeId, T_TIME_ID),
-                getStringOrNull(tTime, T_TIME),
-                getStringOrNull(tHour, T_HOUR),
-                getStringOrNull(tMinute, T_MINUTE),
-                getStringOrNull(tSecond, T_SECOND),
-                getStringOrNull(tAmPm, T_AM_PM),
-                getStringOrNull(tShift, T_SHIFT),
-                getStringOrNull(tSubShift, T_SUB_SHIFT),
-                getStringOrNull(tMealTime, T_MEAL_TIME));
+        appendKey(sink, tTimeSk, T_TIME_SK);
+        append(sink, tTimeId, T_TIME_ID);
+        append(sink, tTime, T_TIME);
+        append(sink, tHour, T_HOUR);
+        append(sink, tMinute, T_MINUTE);
+        append(sink, tSecond, T_SECOND);
+        append(sink, tAmPm, T_AM_PM);
+        append(sink, tShift, T_SHIFT);
+        append(sink, tSubShift, T_SUB_SHIFT);
+        append(sink, tMealTime, T_MEAL_TIME);
     }
 }
@@ -0,0 +1,81 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds.row;
+
+import com.teradata.tpcds.type.Decimal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.teradata.tpcds.type.Date.fromJulianDays;
+
+// Collects the values of a row as the strings returned by TableRow.getValues
+final class ValuesRowSink
+        implements RowSink
+{
+    private final List<String> values;
+
+    ValuesRowSink(int columnCount)
+    {
+        this.values = new ArrayList<>(columnCount);
+    }
+
+    @Override
+    public void appendNull()
+    {
+        values.add(null);
+    }
+
+    @Override
+    public void appendKey(long value)
+    {
+        values.add(Long.toString(value));
+    }
+
+    @Override
+    public void appendInteger(int value)
+    {
+        values.add(Integer.toString(value));
+    }
+
+    @Override
+    public void appendDecimal(long number, int precision)
+    {
+        values.add(Decimal.toString(number, precision));
+    }
+
+    @Override
+    public void appendDate(int julianDays)
+    {
+        values.add(fromJulianDays(julianDays).toString());
+    }
+
+    @Override
+    public void appendBoolean(boolean value)
+    {
+        values.add(value ? "Y" : "N");
+    }
+
+    @Override
+    public void appendString(String value)
+    {
+        values.add(value);
+    }
+
+    List<String> getValues()
+    {
+        return values;
+    }
+}
@@ -16,9 +16,6 @@ package com.teradata.tpcds.row;
 
 import com.teradata.tpcds.type.Address;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.WarehouseGeneratorColumn.W_ADDRESS_CITY;
 import static com.teradata.tpcds.generator.WarehouseGeneratorColumn.W_ADDRESS_COUNTRY;
 import static com.teradata.tpcds.generator.WarehouseGeneratorColumn.W_ADDRESS_COUNTY;
@@ -55,21 +52,21 @@ public class WarehouseRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNullForKey(wWarehouseSk, W_WAREHOUSE_SK),
-                getStringOrNull(wWarehouseId, W_WAREHOUSE_ID),
-                getStringOrNull(wWarehouseName, W_WAREHOUSE_NAME),
-                getStringOrNull(wWarehouseSqFt, W_WAREHOUSE_SQ_FT),
-                getStringOrNull(wAddress.getStreetNumber(), W_ADDRESS_STREET_NUM),
-                getStringOrNull(wAddress.getStreetName(), W_ADDRESS_STREET_NAME1),
-                getStringOrNull(wAddress.getStreetType(), W_ADDRESS_STREET_TYPE),
-                getStringOrNull(wAddress.getSuiteNumber(), W_ADDRESS_SUITE_NUM),
-                getStringOrNull(wAddress.getCity(), W_ADDRESS_CITY),
-                getStringOrNull(wAddress.getCounty(), W_ADDRESS_COUNTY),
-                getStringOrNull(wAddress.getState(), W_ADDRESS_STATE),
-                getStringOrNull(format("%05d", wAddress.getZip()), W_ADDRESS_ZIP),
-                getStringOrNull(wAddress.getCountry(), W_ADDRESS_COUNTRY),
-                getStringOrNull(wAddress.getGmtOffset(), W_ADDRESS_GMT_OFFSET));
+        appendKey(sink, wWarehouseSk, W_WAREHOUSE_SK);
+        append(sink, wWarehouseId, W_WAREHOUSE_ID);
+        append(sink, wWarehouseName, W_WAREHOUSE_NAME);
+        append(sink, wWarehouseSqFt, W_WAREHOUSE_SQ_FT);
+        append(sink, wAddress.getStreetNumber(), W_ADDRESS_STREET_NUM);
+        append(sink, wAddress.getStreetName(), W_ADDRESS_STREET_NAME1);
+        append(sink, wAddress.getStreetType(), W_ADDRESS_STREET_TYPE);
+        append(sink, wAddress.getSuiteNumber(), W_ADDRESS_SUITE_NUM);
+        append(sink, wAddress.getCity(), W_ADDRESS_CITY);
+        append(sink, wAddress.getCounty(), W_ADDRESS_COUNTY);
+        append(sink, wAddress.getState(), W_ADDRESS_STATE);
+        append(sink, format("%05d", wAddress.getZip()), W_ADDRESS_ZIP);
+        append(sink, wAddress.getCountry(), W_ADDRESS_COUNTRY);
+        append(sink, wAddress.getGmtOffset(), W_ADDRESS_GMT_OFFSET);
     }
 }
@@ -14,9 +14,6 @@
 
 package com.teradata.tpcds.row;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.WebPageGeneratorColumn.WP_ACCESS_DATE_SK;
 import static com.teradata.tpcds.generator.WebPageGeneratorColumn.WP_AUTOGEN_FLAG;
 import static com.teradata.tpcds.generator.WebPageGeneratorColumn.WP_CHAR_COUNT;
@@ -124,21 +121,21 @@ public class WebPageRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNullForKey(wpPageSk, WP_PAGE_SK),
-                getStringOrNull(wpPageId, WP_PAGE_ID),
-                getDateStringOrNullFromJulianDays(wpRecStartDateId, WP_REC_START_DATE_ID),
-                getDateStringOrNullFromJulianDays(wpRecEndDateId, WP_REC_END_DATE_ID),
-                getStringOrNullForKey(wpCreationDateSk, WP_CREATION_DATE_SK),
-                getStringOrNullForKey(wpAccessDateSk, WP_ACCESS_DATE_SK),
-                getStringOrNullForBoolean(wpAutogenFlag, WP_AUTOGEN_FLAG),
-                getStringOrNullForKey(wpCustomerSk, WP_CUSTOMER_SK),
-                getStringOrNull(wpUrl, WP_URL),
-                getStringOrNull(wpType, WP_TYPE),
-                getStringOrNull(wpCharCount, WP_CHAR_COUNT),
-                getStringOrNull(wpLinkCount, WP_LINK_COUNT),
-                getStringOrNull(wpImageCount, WP_IMAGE_COUNT),
-                getStringOrNull(wpMaxAdCount, WP_MAX_AD_COUNT));
+        appendKey(sink, wpPageSk, WP_PAGE_SK);
+        append(sink, wpPageId, WP_PAGE_ID);
+        appendDateFromJulianDays(sink, wpRecStartDateId, WP_REC_START_DATE_ID);
+        appendDateFromJulianDays(sink, wpRecEndDateId, WP_REC_END_DATE_ID);
+        appendKey(sink, wpCreationDateSk, WP_CREATION_DATE_SK);
+        appendKey(sink, wpAccessDateSk, WP_ACCESS_DATE_SK);
+        appendBoolean(sink, wpAutogenFlag, WP_AUTOGEN_FLAG);
+        appendKey(sink, wpCustomerSk, WP_CUSTOMER_SK);
+        append(sink, wpUrl, WP_URL);
+        append(sink, wpType, WP_TYPE);
+        append(sink, wpCharCount, WP_CHAR_COUNT);
+        append(sink, wpLinkCount, WP_LINK_COUNT);
+        append(sink, wpImageCount, WP_IMAGE_COUNT);
+        append(sink, wpMaxAdCount, WP_MAX_AD_COUNT);
     }
 }
@@ -16,9 +16,6 @@ package com.teradata.tpcds.row;
 
 import com.teradata.tpcds.type.Pricing;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.WebReturnsGeneratorColumn.WR_ITEM_SK;
 import static com.teradata.tpcds.generator.WebReturnsGeneratorColumn.WR_ORDER_NUMBER;
 import static com.teradata.tpcds.generator.WebReturnsGeneratorColumn.WR_PRICING_EXT_SHIP_COST;
@@ -47,21 +44,27 @@ import static com.teradata.tpcds.generator.WebReturnsGeneratorColumn.WR_WEB_PAGE
 public class WebReturnsRow
         extends TableRowWithNulls
 {
-    private final long wrReturnedDateSk;
-    private final long wrReturnedTimeSk;
-    private final long wrItemSk;
-    private final long wrRefundedCustomerSk;
-    private final long wrRefundedCdemoSk;
-    private final long wrRefundedHdemoSk;
-    private final long wrRefundedAddrSk;
-    private final long wrReturningCustomerSk;
-    private final long wrReturningCdemoSk;
-    private final long wrReturningHdemoSk;
-    private final long wrReturningAddrSk;
-    private final long wrWebPageSk;
-    private final long wrReasonSk;
-    private final long wrOrderNumber;
-    private final Pricing wrPricing;
+    private long wrReturnedDateSk;
+    private long wrReturnedTimeSk;
+    private long wrItemSk;
+    private long wrRefundedCustomerSk;
+    private long wrRefundedCdemoSk;
+    private long wrRefundedHdemoSk;
+    private long wrRefundedAddrSk;
+    private long wrReturningCustomerSk;
+    private long wrReturningCdemoSk;
+    private long wrReturningHdemoSk;
+    private long wrReturningAddrSk;
+    private long wrWebPageSk;
+    private long wrReasonSk;
+    private long wrOrderNumber;
+    private Pricing wrPricing;
+
+    // An empty row, for a generator that reuses one row and fills it with set
+    public WebReturnsRow()
+    {
+        super(0, WR_RETURNED_DATE_SK);
+    }
 
     public WebReturnsRow(long nullBitMap,
             long wrReturnedDateSk,
@@ -80,7 +83,44 @@ public class WebReturnsRow
             long wrOrderNumber,
             Pricing wrPricing)
     {
-        super(nullBitMap, WR_RETURNED_DATE_SK);
+        this();
+        set(nullBitMap,
+                wrReturnedDateSk,
+                wrReturnedTimeSk,
+                wrItemSk,
+                wrRefundedCustomerSk,
+                wrRefundedCdemoSk,
+                wrRefundedHdemoSk,
+                wrRefundedAddrSk,
+                wrReturningCustomerSk,
+                wrReturningCgdemoSk,
+                wrReturningHdemoSk,
+                wrReturningAddrSk,
+                wrWebPageSk,
+                wrReasonSk,
+                wrOrderNumber,
+                wrPricing);
+    }
+
+    // Replaces all values of the row
+    public void set(long nullBitMap,
+            long wrReturnedDateSk,
+            long wrReturnedTimeSk,
+            long wrItemSk,
+            long wrRefundedCustomerSk,
+            long wrRefundedCdemoSk,
+            long wrRefundedHdemoSk,
+            long wrRefundedAddrSk,
+            long wrReturningCustomerSk,
+            long wrReturningCgdemoSk,
+            long wrReturningHdemoSk,
+            long wrReturningAddrSk,
+            long wrWebPageSk,
+            long wrReasonSk,
+            long wrOrderNumber,
+            Pricing wrPricing)
+    {
+        setNullBitMap(nullBitMap);
         this.wrReturnedDateSk = wrReturnedDateSk;
         this.wrReturnedTimeSk = wrReturnedTimeSk;
         this.wrItemSk = wrItemSk;
@@ -99,31 +139,31 @@ public class WebReturnsRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNullForKey(wrReturnedDateSk, WR_RETURNED_DATE_SK),
-                getStringOrNullForKey(wrReturnedTimeSk, WR_RETURNED_TIME_SK),
-                getStringOrNullForKey(wrItemSk, WR_ITEM_SK),
-                getStringOrNullForKey(wrRefundedCustomerSk, WR_REFUNDED_CUSTOMER_SK),
-                getStringOrNullForKey(wrRefundedCdemoSk, WR_REFUNDED_CDEMO_SK),
-                getStringOrNullForKey(wrRefundedHdemoSk, WR_REFUNDED_HDEMO_SK),
-                getStringOrNullForKey(wrRefundedAddrSk, WR_REFUNDED_ADDR_SK),
-                getStringOrNullForKey(wrReturningCustomerSk, WR_RETURNING_CUSTOMER_SK),
-                getStringOrNullForKey(wrReturningCdemoSk, WR_RETURNING_CDEMO_SK),
-                getStringOrNullForKey(wrReturningHdemoSk, WR_RETURNING_HDEMO_SK),
-                getStringOrNullForKey(wrReturningAddrSk, WR_RETURNING_ADDR_SK),
-                getStringOrNullForKey(wrWebPageSk, WR_WEB_PAGE_SK),
-                getStringOrNullForKey(wrReasonSk, WR_REASON_SK),
-                getStringOrNullForKey(wrOrderNumber, WR_ORDER_NUMBER),
-                getStringOrNull(wrPricing.getQuantity(), WR_PRICING_QUANTITY),
-                getStringOrNull(wrPricing.getNetPaid(), WR_PRICING_NET_PAID),
-                getStringOrNull(wrPricing.getExtTax(), WR_PRICING_EXT_TAX),
-                getStringOrNull(wrPricing.getNetPaidIncludingTax(), WR_PRICING_NET_PAID_INC_TAX),
-                getStringOrNull(wrPricing.getFee(), WR_PRICING_FEE),
-                getStringOrNull(wrPricing.getExtShipCost(), WR_PRICING_EXT_SHIP_COST),
-                getStringOrNull(wrPricing.getRefundedCash(), WR_PRICING_REFUNDED_CASH),
-                getStringOrNull(wrPricing.getReversedCharge(), WR_PRICING_REVERSED_CHARGE),
-                getStringOrNull(wrPricing.getStoreCredit(), WR_PRICING_STORE_CREDIT),
-                getStringOrNull(wrPricing.getNetLoss(), WR_PRICING_NET_LOSS));
+        appendKey(sink, wrReturnedDateSk, WR_RETURNED_DATE_SK);
+        appendKey(sink, wrReturnedTimeSk, WR_RETURNED_TIME_SK);
+        appendKey(sink, wrItemSk, WR_ITEM_SK);
+        appendKey(sink, wrRefundedCustomerSk, WR_REFUNDED_CUSTOMER_SK);
+        appendKey(sink, wrRefundedCdemoSk, WR_REFUNDED_CDEMO_SK);
+        appendKey(sink, wrRefundedHdemoSk, WR_REFUNDED_HDEMO_SK);
+        appendKey(sink, wrRefundedAddrSk, WR_REFUNDED_ADDR_SK);
+        appendKey(sink, wrReturningCustomerSk, WR_RETURNING_CUSTOMER_SK);
+        appendKey(sink, wrReturningCdemoSk, WR_RETURNING_CDEMO_SK);
+        appendKey(sink, wrReturningHdemoSk, WR_RETURNING_HDEMO_SK);
+        appendKey(sink, wrReturningAddrSk, WR_RETURNING_ADDR_SK);
+        appendKey(sink, wrWebPageSk, WR_WEB_PAGE_SK);
+        appendKey(sink, wrReasonSk, WR_REASON_SK);
+        appendKey(sink, wrOrderNumber, WR_ORDER_NUMBER);
+        append(sink, wrPricing.getQuantity(), WR_PRICING_QUANTITY);
+        append(sink, wrPricing.getNetPaid(), WR_PRICING_NET_PAID);
+        append(sink, wrPricing.getExtTax(), WR_PRICING_EXT_TAX);
+        append(sink, wrPricing.getNetPaidIncludingTax(), WR_PRICING_NET_PAID_INC_TAX);
+        append(sink, wrPricing.getFee(), WR_PRICING_FEE);
+        append(sink, wrPricing.getExtShipCost(), WR_PRICING_EXT_SHIP_COST);
+        append(sink, wrPricing.getRefundedCash(), WR_PRICING_REFUNDED_CASH);
+        append(sink, wrPricing.getReversedCharge(), WR_PRICING_REVERSED_CHARGE);
+        append(sink, wrPricing.getStoreCredit(), WR_PRICING_STORE_CREDIT);
+        append(sink, wrPricing.getNetLoss(), WR_PRICING_NET_LOSS);
     }
 }
@@ -16,9 +16,6 @@ package com.teradata.tpcds.row;
 
 import com.teradata.tpcds.type.Pricing;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.WebSalesGeneratorColumn.WS_BILL_ADDR_SK;
 import static com.teradata.tpcds.generator.WebSalesGeneratorColumn.WS_BILL_CDEMO_SK;
 import static com.teradata.tpcds.generator.WebSalesGeneratorColumn.WS_BILL_CUSTOMER_SK;
@@ -57,25 +54,32 @@ import static com.teradata.tpcds.generator.WebSalesGeneratorColumn.WS_WEB_SITE_S
 public class WebSalesRow
         extends TableRowWithNulls
 {
-    private final long wsSoldDateSk;
-    private final long wsSoldTimeSk;
-    private final long wsShipDateSk;
-    private final long wsItemSk;
-    private final long wsBillCustomerSk;
-    private final long wsBillCdemoSk;
-    private final long wsBillHdemoSk;
-    private final long wsBillAddrSk;
-    private final long wsShipCustomerSk;
-    private final long wsShipCdemoSk;
-    private final long wsShipHdemoSk;
-    private final long wsShipAddrSk;
-    private final long wsWebPageSk;
-    private final long wsWebSiteSk;
-    private final long wsShipModeSk;
-    private final long wsWarehouseSk;
-    private final long wsPromoSk;
-    private final long wsOrderNumber;
-    private final Pricing wsPricing;
+    private long wsSoldDateSk;
+    private long wsSoldTimeSk;
+    private long wsShipDateSk;
+    private long wsItemSk;
+    private long wsBillCustomerSk;
+    private long wsBillCdemoSk;
+    private long wsBillHdemoSk;
+    private long wsBillAddrSk;
+    private long wsShipCustomerSk;
+    private long wsShipCdemoSk;
+    private long wsShipHdemoSk;
+    private long wsShipAddrSk;
+    private long wsWebPageSk;
+    private long wsWebSiteSk;
+    private long wsShipModeSk;
+    private long wsWarehouseSk;
+    private long wsPromoSk;
+    private long wsOrderNumber;
+    private Pricing wsPricing;
+
+    // An empty row, for a generator that reuses one row and fills it with set
+    public WebSalesRow()
+    {
+        super(0, WS_SOLD_DATE_SK);
+    }
+
     public WebSalesRow(long nullBitMap,
             long wsSoldDateSk,
             long wsSoldTimeSk,
@@ -97,7 +101,52 @@ public class WebSalesRow
             long wsOrderNumber,
             Pricing wsPricing)
     {
-        super(nullBitMap, WS_SOLD_DATE_SK);
+        this();
+        set(nullBitMap,
+                wsSoldDateSk,
+                wsSoldTimeSk,
+                wsShipDateSk,
+                wsItemSk,
+                wsBillCustomerSk,
+                wsBillCdemoSk,
+                wsBillHdemoSk,
+                wsBillAddrSk,
+                wsShipCustomerSk,
+                wsShipCdemoSk,
+                wsShipHdemoSk,
+                wsShipAddrSk,
+                wsWebPageSk,
+                wsWebSiteSk,
+                wsShipModeSk,
+                wsWarehouseSk,
+                wsPromoSk,
+                wsOrderNumber,
+                wsPricing);
+    }
+
+    // Replaces all values of the row
+    public void set(long nullBitMap,
+            long wsSoldDateSk,
+            long wsSoldTimeSk,
+            long wsShipDateSk,
+            long wsItemSk,
+            long wsBillCustomerSk,
+            long wsBillCdemoSk,
+            long wsBillHdemoSk,
+            long wsBillAddrSk,
+            long wsShipCustomerSk,
+            long wsShipCdemoSk,
+            long wsShipHdemoSk,
+            long wsShipAddrSk,
+            long wsWebPageSk,
+            long wsWebSiteSk,
+            long wsShipModeSk,
+            long wsWarehouseSk,
+            long wsPromoSk,
+            long wsOrderNumber,
+            Pricing wsPricing)
+    {
+        setNullBitMap(nullBitMap);
         this.wsSoldDateSk = wsSoldDateSk;
         this.wsSoldTimeSk = wsSoldTimeSk;
         this.wsShipDateSk = wsShipDateSk;
@@ -165,41 +214,41 @@ public class WebSalesRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNullForKey(wsSoldDateSk, WS_SOLD_DATE_SK),
-                getStringOrNullForKey(wsSoldTimeSk, WS_SOLD_TIME_SK),
-                getStringOrNullForKey(wsShipDateSk, WS_SHIP_DATE_SK),
-                getStringOrNullForKey(wsItemSk, WS_ITEM_SK),
-                getStringOrNullForKey(wsBillCustomerSk, WS_BILL_CUSTOMER_SK),
-                getStringOrNullForKey(wsBillCdemoSk, WS_BILL_CDEMO_SK),
-                getStringOrNullForKey(wsBillHdemoSk, WS_BILL_HDEMO_SK),
-                getStringOrNullForKey(wsBillAddrSk, WS_BILL_ADDR_SK),
-                getStringOrNullForKey(wsShipCustomerSk, WS_SHIP_CUSTOMER_SK),
-                getStringOrNullForKey(wsShipCdemoSk, WS_SHIP_CDEMO_SK),
-                getStringOrNullForKey(wsShipHdemoSk, WS_SHIP_HDEMO_SK),
-                getStringOrNullForKey(wsShipAddrSk, WS_SHIP_ADDR_SK),
-                getStringOrNullForKey(wsWebPageSk, WS_WEB_PAGE_SK),
-                getStringOrNullForKey(wsWebSiteSk, WS_WEB_SITE_SK),
-                getStringOrNullForKey(wsShipModeSk, WS_SHIP_MODE_SK),
-                getStringOrNullForKey(wsWarehouseSk, WS_WAREHOUSE_SK),
-                getStringOrNullForKey(wsPromoSk, WS_PROMO_SK),
-                getStringOrNullForKey(wsOrderNumber, WS_ORDER_NUMBER),
-                getStringOrNull(wsPricing.getQuantity(), WS_PRICING_QUANTITY),
-                getStringOrNull(wsPricing.getWholesaleCost(), WS_PRICING_WHOLESALE_COST),
-                getStringOrNull(wsPricing.getListPrice(), WS_PRICING_LIST_PRICE),
-                getStringOrNull(wsPricing.getSalesPrice(), WS_PRICING_SALES_PRICE),
-                getStringOrNull(wsPricing.getExtDiscountAmount(), WS_PRICING_EXT_DISCOUNT_AMT),
-                getStringOrNull(wsPricing.getExtSalesPrice(), WS_PRICING_EXT_SALES_PRICE),
-                getStringOrNull(wsPricing.getExtWholesaleCost(), WS_PRICING_EXT_WHOLESALE_COST),
-                getStringOrNull(wsPricing.getExtListPrice(), WS_PRICING_EXT_LIST_PRICE),
-                getStringOrNull(wsPricing.getExtTax(), WS_PRICING_EXT_TAX),
-                getStringOrNull(wsPricing.getCouponAmount(), WS_PRICING_COUPON_AMT),
-                getStringOrNull(wsPricing.getExtShipCost(), WS_PRICING_EXT_SHIP_COST),
-                getStringOrNull(wsPricing.getNetPaid(), WS_PRICING_NET_PAID),
-                getStringOrNull(wsPricing.getNetPaidIncludingTax(), WS_PRICING_NET_PAID_INC_TAX),
-                getStringOrNull(wsPricing.getNetPaidIncludingShipping(), WS_PRICING_NET_PAID_INC_SHIP),
-                getStringOrNull(wsPricing.getNetPaidIncludingShippingAndTax(), WS_PRICING_NET_PAID_INC_SHIP_TAX),
-                getStringOrNull(wsPricing.getNetProfit(), WS_PRICING_NET_PROFIT));
+        appendKey(sink, wsSoldDateSk, WS_SOLD_DATE_SK);
+        appendKey(sink, wsSoldTimeSk, WS_SOLD_TIME_SK);
+        appendKey(sink, wsShipDateSk, WS_SHIP_DATE_SK);
+        appendKey(sink, wsItemSk, WS_ITEM_SK);
+        appendKey(sink, wsBillCustomerSk, WS_BILL_CUSTOMER_SK);
+        appendKey(sink, wsBillCdemoSk, WS_BILL_CDEMO_SK);
+        appendKey(sink, wsBillHdemoSk, WS_BILL_HDEMO_SK);
+        appendKey(sink, wsBillAddrSk, WS_BILL_ADDR_SK);
+        appendKey(sink, wsShipCustomerSk, WS_SHIP_CUSTOMER_SK);
+        appendKey(sink, wsShipCdemoSk, WS_SHIP_CDEMO_SK);
+        appendKey(sink, wsShipHdemoSk, WS_SHIP_HDEMO_SK);
+        appendKey(sink, wsShipAddrSk, WS_SHIP_ADDR_SK);
+        appendKey(sink, wsWebPageSk, WS_WEB_PAGE_SK);
+        appendKey(sink, wsWebSiteSk, WS_WEB_SITE_SK);
+        appendKey(sink, wsShipModeSk, WS_SHIP_MODE_SK);
+        appendKey(sink, wsWarehouseSk, WS_WAREHOUSE_SK);
+        appendKey(sink, wsPromoSk, WS_PROMO_SK);
+        appendKey(sink, wsOrderNumber, WS_ORDER_NUMBER);
+        append(sink, wsPricing.getQuantity(), WS_PRICING_QUANTITY);
+        append(sink, wsPricing.getWholesaleCost(), WS_PRICING_WHOLESALE_COST);
+        append(sink, wsPricing.getListPrice(), WS_PRICING_LIST_PRICE);
+        append(sink, wsPricing.getSalesPrice(), WS_PRICING_SALES_PRICE);
+        append(sink, wsPricing.getExtDiscountAmount(), WS_PRICING_EXT_DISCOUNT_AMT);
+        append(sink, wsPricing.getExtSalesPrice(), WS_PRICING_EXT_SALES_PRICE);
+        append(sink, wsPricing.getExtWholesaleCost(), WS_PRICING_EXT_WHOLESALE_COST);
+        append(sink, wsPricing.getExtListPrice(), WS_PRICING_EXT_LIST_PRICE);
+        append(sink, wsPricing.getExtTax(), WS_PRICING_EXT_TAX);
+        append(sink, wsPricing.getCouponAmount(), WS_PRICING_COUPON_AMT);
+        append(sink, wsPricing.getExtShipCost(), WS_PRICING_EXT_SHIP_COST);
+        append(sink, wsPricing.getNetPaid(), WS_PRICING_NET_PAID);
+        append(sink, wsPricing.getNetPaidIncludingTax(), WS_PRICING_NET_PAID_INC_TAX);
+        append(sink, wsPricing.getNetPaidIncludingShipping(), WS_PRICING_NET_PAID_INC_SHIP);
+        append(sink, wsPricing.getNetPaidIncludingShippingAndTax(), WS_PRICING_NET_PAID_INC_SHIP_TAX);
+        append(sink, wsPricing.getNetProfit(), WS_PRICING_NET_PROFIT);
     }
 }
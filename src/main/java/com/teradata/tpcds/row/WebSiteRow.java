@@ -17,9 +17,6 @@ package com.teradata.tpcds.row;
 import com.teradata.tpcds.type.Address;
 import com.teradata.tpcds.type.Decimal;
 
-import java.util.List;
-
-import static com.google.common.collect.Lists.newArrayList;
 import static com.teradata.tpcds.generator.WebSiteGeneratorColumn.WEB_ADDRESS_CITY;
 import static com.teradata.tpcds.generator.WebSiteGeneratorColumn.WEB_ADDRESS_COUNTRY;
 import static com.teradata.tpcds.generator.WebSiteGeneratorColumn.WEB_ADDRESS_COUNTY;
@@ -174,33 +171,33 @@ public class WebSiteRow
     }
 
     @Override
-    public List<String> getValues()
+    public void writeTo(RowSink sink)
     {
-        return newArrayList(getStringOrNullForKey(webSiteSk, WEB_SITE_SK),
-                getStringOrNull(webSiteId, WEB_SITE_ID),
-                getDateStringOrNullFromJulianDays(webRecStartDateId, WEB_REC_START_DATE_ID),
-                getDateStringOrNullFromJulianDays(webRecEndDateId, WEB_REC_END_DATE_ID),
-                getStringOrNull(webName, WEB_NAME),
-                getStringOrNullForKey(webOpenDate, WEB_OPEN_DATE),
-                getStringOrNullForKey(webCloseDate, WEB_CLOSE_DATE),
-                getStringOrNull(webClass, WEB_CLASS),
-                getStringOrNull(webManager, WEB_MANAGER),
-                getStringOrNull(webMarketId, WEB_MARKET_ID),
-                getStringOrNull(webMarketClass, WEB_MARKET_CLASS),
-                getStringOrNull(webMarketDesc, WEB_MARKET_DESC),
-                getStringOrNull(webMarketManager, WEB_MARKET_MANAGER),
-                getStringOrNull(webCompanyId, WEB_COMPANY_ID),
-                getStringOrNull(webCompanyName, WEB_COMPANY_NAME),
-                getStringOrNull(webAddress.getStreetNumber(), WEB_ADDRESS_STREET_NUM),
-                getStringOrNull(webAddress.getStreetName(), WEB_ADDRESS_STREET_NAME1),
-                getStringOrNull(webAddress.getStreetType(), WEB_ADDRESS_STREET_TYPE),
-                getStringOrNull(webAddress.getSuiteNumber(), WEB_ADDRESS_SUITE_NUM),
-                getStringOrNull(webAddress.getCity(), WEB_ADDRESS_CITY),
-                getStringOrNull(webAddress.getCounty(), WEB_ADDRESS_COUNTY),
-                getStringOrNull(webAddress.getState(), WEB_ADDRESS_STATE),
-                getStringOrNull(format("%05d", webAddress.getZip()), WEB_ADDRESS_ZIP),
-                getStringOrNull(webAddress.getCountry(), WEB_ADDRESS_COUNTRY),
-                getStringOrNull(webAddress.getGmtOffset(), WEB_ADDRESS_GMT_OFFSET),
-                getStringOrNull(webTaxPercentage, WEB_TAX_PERCENTAGE));
+        appendKey(sink, webSiteSk, WEB_SITE_SK);
+        append(sink, webSiteId, WEB_SITE_ID);
+        appendDateFromJulianDays(sink, webRecStartDateId, WEB_REC_START_DATE_ID);
+        appendDateFromJulianDays(sink, webRecEndDateId, WEB_REC_END_DATE_ID);
+        append(sink, webName, WEB_NAME);
+        appendKey(sink, webOpenDate, WEB_OPEN_DATE);
+        appendKey(sink, webCloseDate, WEB_CLOSE_DATE);
+        append(sink, webClass, WEB_CLASS);
+        append(sink, webManager, WEB_MANAGER);
+        append(sink, webMarketId, WEB_MARKET_ID);
+        append(sink, webMarketClass, WEB_MARKET_CLASS);
+        append(sink, webMarketDesc, WEB_MARKET_DESC);
+        append(sink, webMarketManager, WEB_MARKET_MANAGER);
+        append(sink, webCompanyId, WEB_COMPANY_ID);
+        append(sink, webCompanyName, WEB_COMPANY_NAME);
+        append(sink, webAddress.getStreetNumber(), WEB_ADDRESS_STREET_NUM);
+        append(sink, webAddress.getStreetName(), WEB_ADDRESS_STREET_NAME1);
+        append(sink, webAddress.getStreetType(), WEB_ADDRESS_STREET_TYPE);
+        append(sink, webAddress.getSuiteNumber(), WEB_ADDRESS_SUITE_NUM);
+        append(sink, webAddress.getCity(), WEB_ADDRESS_CITY);
+        append(sink, webAddress.getCounty(), WEB_ADDRESS_COUNTY);
+        append(sink, webAddress.getState(), WEB_ADDRESS_STATE);
+        append(sink, format("%05d", webAddress.getZip()), WEB_ADDRESS_ZIP);
+        append(sink, webAddress.getCountry(), WEB_ADDRESS_COUNTRY);
+        append(sink, webAddress.getGmtOffset(), WEB_ADDRESS_GMT_OFFSET);
+        append(sink, webTaxPercentage, WEB_TAX_PERCENTAGE);
     }
 }
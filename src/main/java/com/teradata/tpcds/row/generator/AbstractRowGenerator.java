@@ -19,13 +19,22 @@ import com.teradata.tpcds.Table;
 import com.teradata.tpcds.generator.GeneratorColumn;
 import com.teradata.tpcds.random.RandomNumberStream;
 import com.teradata.tpcds.random.RandomNumberStreamImpl;
+import com.teradata.tpcds.row.TableRow;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import static com.teradata.tpcds.random.RandomValueGenerator.generateUniformRandomInt;
+import static java.util.Collections.emptyList;
 
 public abstract class AbstractRowGenerator
         implements RowGenerator
 {
     private final ImmutableMap<GeneratorColumn, RandomNumberStream> randomNumberStreamMap;
+    private long randomNumbersDrawn;
+    private final List<TableRow> reusedRows = new ArrayList<>(2);
+    private final RowGeneratorResult reusedResult = new RowGeneratorResult(reusedRows, true);
+    private boolean reuseResults;
 
     public AbstractRowGenerator(Table table)
     {
@@ -43,6 +52,7 @@ public abstract class AbstractRowGenerator
             while (randomNumberStream.getSeedsUsed() < randomNumberStream.getSeedsPerRow()) {
                 generateUniformRandomInt(1, 100, randomNumberStream);
             }
+            randomNumbersDrawn += randomNumberStream.getSeedsUsed();
             randomNumberStream.resetSeedsUsed();
         }
     }
@@ -54,6 +64,70 @@ public abstract class AbstractRowGenerator
         }
     }
 
+    @Override
+    public void reset()
+    {
+        for (RandomNumberStream randomNumberStream : randomNumberStreamMap.values()) {
+            randomNumberStream.resetSeed();
+        }
+        randomNumbersDrawn = 0;
+        reuseResults = false;
+        reusedRows.clear();
+    }
+
+    @Override
+    public void reuseResults()
+    {
+        reuseResults = true;
+    }
+
+    // Whether the rows themselves may be reused as well. A generator that keeps one mutable row fills it
+    // again for every row, so like the result, a row is only valid until the next row is generated.
+    protected boolean isReusingResults()
+    {
+        return reuseResults;
+    }
+
+    // A list for the rows of the next result, which is the same list for every row when results are reused
+    protected List<TableRow> newRowList()
+    {
+        if (!reuseResults) {
+            return new ArrayList<>(2);
+        }
+        reusedRows.clear();
+        return reusedRows;
+    }
+
+    protected RowGeneratorResult createResult(TableRow row)
+    {
+        if (!reuseResults) {
+            return new RowGeneratorResult(row);
+        }
+        List<TableRow> rows = newRowList();
+        rows.add(row);
+        return createResult(rows, true);
+    }
+
+    protected RowGeneratorResult createEmptyResult(boolean shouldEndRow)
+    {
+        return createResult(reuseResults ? newRowList() : emptyList(), shouldEndRow);
+    }
+
+    protected RowGeneratorResult createResult(List<TableRow> rowAndChildRows, boolean shouldEndRow)
+    {
+        if (rowAndChildRows != reusedRows) {
+            return new RowGeneratorResult(rowAndChildRows, shouldEndRow);
+        }
+        reusedResult.setShouldEndRow(shouldEndRow);
+        return reusedResult;
+    }
+
+    @Override
+    public long getRandomNumbersDrawn()
+    {
+        return randomNumbersDrawn;
+    }
+
     public RandomNumberStream getRandomNumberStream(GeneratorColumn column)
     {
         return randomNumberStreamMap.get(column);
@@ -80,6 +80,13 @@ public class CallCenterRowGenerator
         super(CALL_CENTER);
     }
 
+    @Override
+    public void reset()
+    {
+        super.reset();
+        previousRow = Optional.empty();
+    }
+
     @Override
     public RowGeneratorResult generateRowAndChildRows(long rowNumber, Session session, RowGenerator parentRowGenerator, RowGenerator childRowGenerator)
     {
@@ -228,6 +235,6 @@ public class CallCenterRowGenerator
 
         CallCenterRow newRow = builder.build();
         previousRow = Optional.of(newRow);
-        return new RowGeneratorResult(newRow);
+        return createResult(newRow);
     }
 }
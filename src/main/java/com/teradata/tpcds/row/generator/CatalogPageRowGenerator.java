@@ -79,7 +79,7 @@ public class CatalogPageRowGenerator
         long cpEndDateId = cpStartDateId + duration - 1;
         String cpDescription = generateRandomText(WIDTH_CP_DESCRIPTION / 2, WIDTH_CP_DESCRIPTION - 1, getRandomNumberStream(CP_DESCRIPTION));
 
-        return new RowGeneratorResult(new CatalogPageRow(
+        return createResult(new CatalogPageRow(
                 cpCatalogPageSk,
                 cpCatalogPageId,
                 cpStartDateId,
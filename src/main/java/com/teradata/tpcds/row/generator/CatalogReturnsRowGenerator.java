@@ -14,7 +14,6 @@
 
 package com.teradata.tpcds.row.generator;
 
-import com.google.common.collect.ImmutableList;
 import com.teradata.tpcds.Scaling;
 import com.teradata.tpcds.Session;
 import com.teradata.tpcds.row.CatalogReturnsRow;
@@ -22,6 +21,8 @@ import com.teradata.tpcds.row.CatalogSalesRow;
 import com.teradata.tpcds.row.TableRow;
 import com.teradata.tpcds.type.Pricing;
 
+import java.util.List;
+
 import static com.teradata.tpcds.JoinKeyUtils.generateJoinKey;
 import static com.teradata.tpcds.Nulls.createNullBitMap;
 import static com.teradata.tpcds.Table.CATALOG_RETURNS;
@@ -47,13 +48,15 @@ import static com.teradata.tpcds.generator.CatalogReturnsGeneratorColumn.CR_SHIP
 import static com.teradata.tpcds.generator.CatalogReturnsGeneratorColumn.CR_WAREHOUSE_SK;
 import static com.teradata.tpcds.random.RandomValueGenerator.generateUniformRandomInt;
 import static com.teradata.tpcds.type.Pricing.generatePricingForReturnsTable;
-import static java.util.Collections.emptyList;
 
 public class CatalogReturnsRowGenerator
         extends AbstractRowGenerator
 {
     public static final int RETURN_PERCENT = 10;
 
+    // the row filled for every row when results are reused
+    private final CatalogReturnsRow reusedRow = new CatalogReturnsRow();
+
     public CatalogReturnsRowGenerator()
     {
         super(CATALOG_RETURNS);
@@ -67,10 +70,12 @@ public class CatalogReturnsRowGenerator
         // in isolation. Otherwise catalog_returns is generated during the generation of the catalog_sales table
         RowGeneratorResult salesAndReturnsResult = parentRowGenerator.generateRowAndChildRows(rowNumber, session, null, this);
         if (salesAndReturnsResult.getRowAndChildRows().size() == 2) {
-            return new RowGeneratorResult(ImmutableList.of(salesAndReturnsResult.getRowAndChildRows().get(1)), salesAndReturnsResult.shouldEndRow());
+            List<TableRow> rows = newRowList();
+            rows.add(salesAndReturnsResult.getRowAndChildRows().get(1));
+            return createResult(rows, salesAndReturnsResult.shouldEndRow());
         }
         else {
-            return new RowGeneratorResult(emptyList(), salesAndReturnsResult.shouldEndRow());  // no return occurred for given sale
+            return createEmptyResult(salesAndReturnsResult.shouldEndRow());  // no return occurred for given sale
         }
     }
 
@@ -98,7 +103,8 @@ public class CatalogReturnsRowGenerator
         }
         Pricing crPricing = generatePricingForReturnsTable(CR_PRICING, getRandomNumberStream(CR_PRICING), quantity, salesPricing);
 
-        return new CatalogReturnsRow(generateJoinKey(CR_RETURNED_DATE_SK, getRandomNumberStream(CR_RETURNED_DATE_SK), DATE_DIM, salesRow.getCsShipDateSk(), scaling), // items cannot be returned until  they are shipped
+        CatalogReturnsRow catalogReturnsRow = isReusingResults() ? reusedRow : new CatalogReturnsRow();
+        catalogReturnsRow.set(generateJoinKey(CR_RETURNED_DATE_SK, getRandomNumberStream(CR_RETURNED_DATE_SK), DATE_DIM, salesRow.getCsShipDateSk(), scaling), // items cannot be returned until  they are shipped
                 generateJoinKey(CR_RETURNED_TIME_SK, getRandomNumberStream(CR_RETURNED_TIME_SK), TIME_DIM, 1, scaling),
                 salesRow.getCsSoldItemSk(),
                 salesRow.getCsBillCustomerSk(),
@@ -117,5 +123,6 @@ public class CatalogReturnsRowGenerator
                 salesRow.getCsOrderNumber(),
                 crPricing,
                 nullBitMap);
+        return catalogReturnsRow;
     }
 }
@@ -24,7 +24,6 @@ import com.teradata.tpcds.type.Pricing;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static com.teradata.tpcds.JoinKeyUtils.generateJoinKey;
@@ -80,6 +79,11 @@ public class CatalogSalesRowGenerator
     public static final int CS_MIN_SHIP_DELAY = 2;  // minimum days from order to ship
     public static final int CS_MAX_SHIP_DELAY = 90;  // maximum days from order to ship
     public static final int GIFT_PERCENTAGE = 10;
+    public static final int CS_MIN_LINE_ITEMS = 4;  // minimum line items of an order
+    public static final int CS_MAX_LINE_ITEMS = 14;  // maximum line items of an order
+
+    // the row filled for every row when results are reused
+    private final CatalogSalesRow reusedRow = new CatalogSalesRow();
 
     // These do not get set in the constructor because it needs session information,
     // which isn't available at construction time.
@@ -96,6 +100,18 @@ public class CatalogSalesRowGenerator
         super(CATALOG_SALES);
     }
 
+    @Override
+    public void reset()
+    {
+        super.reset();
+        itemPermutation = null;
+        julianDate = 0;
+        nextDateIndex = 0;
+        remainingLineItems = 0;
+        orderInfo = new OrderInfo();
+        ticketItemBase = 0;
+    }
+
     @Override
     public RowGeneratorResult generateRowAndChildRows(long rowNumber, Session session, RowGenerator parentRowGenerator, RowGenerator childRowGenerator)
     {
@@ -110,7 +126,7 @@ public class CatalogSalesRowGenerator
         if (remainingLineItems == 0) {
             orderInfo = generateOrderInfo(rowNumber, session);
             ticketItemBase = generateUniformRandomInt(1, itemCount, getRandomNumberStream(CS_SOLD_ITEM_SK));
-            remainingLineItems = generateUniformRandomInt(4, 14, getRandomNumberStream(CS_ORDER_NUMBER));
+            remainingLineItems = generateUniformRandomInt(CS_MIN_LINE_ITEMS, CS_MAX_LINE_ITEMS, getRandomNumberStream(CS_ORDER_NUMBER));
         }
 
         long nullBitMap = createNullBitMap(CATALOG_SALES, getRandomNumberStream(CS_NULLS));
@@ -138,7 +154,8 @@ public class CatalogSalesRowGenerator
         long csPromoSk = generateJoinKey(CS_PROMO_SK, getRandomNumberStream(CS_PROMO_SK), PROMOTION, 1, scaling);
         Pricing csPricing = generatePricingForSalesTable(CS_PRICING, getRandomNumberStream(CS_PRICING));
 
-        CatalogSalesRow catalogSalesRow = new CatalogSalesRow(orderInfo.getCsSoldDateSk(),
+        CatalogSalesRow catalogSalesRow = isReusingResults() ? reusedRow : new CatalogSalesRow();
+        catalogSalesRow.set(orderInfo.getCsSoldDateSk(),
                 orderInfo.getCsSoldTimeSk(),
                 csShipDateSk,
                 orderInfo.getCsBillCustomerSk(),
@@ -159,7 +176,7 @@ public class CatalogSalesRowGenerator
                 csPricing,
                 nullBitMap);
 
-        List<TableRow> generatedRows = new ArrayList<>(2);
+        List<TableRow> generatedRows = newRowList();
         generatedRows.add(catalogSalesRow);
 
         // if the sale gets returned, generate a return row
@@ -170,7 +187,7 @@ public class CatalogSalesRowGenerator
         }
 
         remainingLineItems--;
-        return new RowGeneratorResult(generatedRows, isLastRowInOrder());
+        return createResult(generatedRows, isLastRowInOrder());
     }
 
     private boolean isLastRowInOrder()
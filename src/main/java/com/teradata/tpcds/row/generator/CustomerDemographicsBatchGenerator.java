@@ -0,0 +1,205 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds.row.generator;
+
+import com.teradata.tpcds.random.RandomNumberStream;
+import com.teradata.tpcds.random.RandomNumberStreamImpl;
+import com.teradata.tpcds.row.RowSink;
+import com.teradata.tpcds.row.TableRow;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongFunction;
+import java.util.stream.IntStream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.teradata.tpcds.Nulls.createNullBitMap;
+import static com.teradata.tpcds.Table.CUSTOMER_DEMOGRAPHICS;
+import static com.teradata.tpcds.distribution.DemographicsDistributions.CREDIT_RATING_DISTRIBUTION;
+import static com.teradata.tpcds.distribution.DemographicsDistributions.EDUCATION_DISTRIBUTION;
+import static com.teradata.tpcds.distribution.DemographicsDistributions.GENDER_DISTRIBUTION;
+import static com.teradata.tpcds.distribution.DemographicsDistributions.MARITAL_STATUS_DISTRIBUTION;
+import static com.teradata.tpcds.distribution.DemographicsDistributions.PURCHASE_BAND_DISTRIBUTION;
+import static com.teradata.tpcds.generator.CustomerDemographicsGeneratorColumn.CD_NULLS;
+import static com.teradata.tpcds.row.generator.CustomerDemographicsRowGenerator.MAX_CHILDREN;
+import static com.teradata.tpcds.row.generator.CustomerDemographicsRowGenerator.MAX_COLLEGE;
+import static com.teradata.tpcds.row.generator.CustomerDemographicsRowGenerator.MAX_EMPLOYED;
+
+// Generates the same rows as CustomerDemographicsRowGenerator a batch at a time. Every column
+// after the key is a digit of the row index in a mixed radix of the distribution sizes and the
+// maximum counts, so each column is filled with runs of digits, whose values are precomputed.
+// Only the null bit map is random, and its stream is jumped ahead to the first row, so any range
+// starts in O(1).
+public class CustomerDemographicsBatchGenerator
+        implements RowBatchGenerator
+{
+    public static final int BATCH_SIZE = 1024;
+
+    // the radix of each column after the key, and the strings of its digits
+    private static final int[] RADICES = {
+            GENDER_DISTRIBUTION.getSize(),
+            MARITAL_STATUS_DISTRIBUTION.getSize(),
+            EDUCATION_DISTRIBUTION.getSize(),
+            PURCHASE_BAND_DISTRIBUTION.getSize(),
+            CREDIT_RATING_DISTRIBUTION.getSize(),
+            MAX_CHILDREN,
+            MAX_EMPLOYED,
+            MAX_COLLEGE};
+    private static final String[][] DIGIT_VALUES = {
+            getValues(GENDER_DISTRIBUTION.getSize(), index -> GENDER_DISTRIBUTION.getValueForIndexModSize(index, 0)),
+            getValues(MARITAL_STATUS_DISTRIBUTION.getSize(), index -> MARITAL_STATUS_DISTRIBUTION.getValueForIndexModSize(index, 0)),
+            getValues(EDUCATION_DISTRIBUTION.getSize(), index -> EDUCATION_DISTRIBUTION.getValueForIndexModSize(index, 0)),
+            getValues(PURCHASE_BAND_DISTRIBUTION.getSize(), index -> PURCHASE_BAND_DISTRIBUTION.getValueForIndexModSize(index, 0).toString()),
+            getValues(CREDIT_RATING_DISTRIBUTION.getSize(), index -> CREDIT_RATING_DISTRIBUTION.getValueForIndexModSize(index, 0)),
+            getValues(MAX_CHILDREN, Long::toString),
+            getValues(MAX_EMPLOYED, Long::toString),
+            getValues(MAX_COLLEGE, Long::toString)};
+    // the digits of the integer columns as pushed to a RowSink, or null for the string columns
+    private static final int[][] DIGIT_INTEGERS = {
+            null,
+            null,
+            null,
+            getIntegers(PURCHASE_BAND_DISTRIBUTION.getSize(), index -> PURCHASE_BAND_DISTRIBUTION.getValueForIndexModSize(index, 0)),
+            null,
+            getIntegers(MAX_CHILDREN, index -> index),
+            getIntegers(MAX_EMPLOYED, index -> index),
+            getIntegers(MAX_COLLEGE, index -> index)};
+
+    private final long endingRowNumber;
+    private final Optional<RandomNumberStream> nullsStream;
+    private final int[][] digits = new int[RADICES.length][BATCH_SIZE];
+    private final long[] nullBitMaps = new long[BATCH_SIZE];
+    private final BatchRow batchRow = new BatchRow();
+    private long rowNumber;
+    private long firstRowNumber;
+
+    public CustomerDemographicsBatchGenerator(long startingRowNumber, long endingRowNumber)
+    {
+        checkArgument(startingRowNumber >= 1, "startingRowNumber is less than 1: %s", startingRowNumber);
+        this.rowNumber = startingRowNumber;
+        this.endingRowNumber = endingRowNumber;
+
+        // without any nulls the bit map is 0 and the stream is not needed
+        if (CUSTOMER_DEMOGRAPHICS.getNullBasisPoints() > 0) {
+            RandomNumberStream stream = new RandomNumberStreamImpl(CD_NULLS.getGlobalColumnNumber(), CD_NULLS.getSeedsPerRow());
+            stream.skipRows((int) startingRowNumber - 1);  // casting long to int copies C code
+            nullsStream = Optional.of(stream);
+        }
+        else {
+            nullsStream = Optional.empty();
+        }
+    }
+
+    private static String[] getValues(int size, LongFunction<String> value)
+    {
+        return IntStream.range(0, size).mapToObj(value::apply).toArray(String[]::new);
+    }
+
+    private static int[] getIntegers(int size, IntUnaryOperator value)
+    {
+        return IntStream.range(0, size).map(value).toArray();
+    }
+
+    @Override
+    public int nextBatch()
+    {
+        int rows = (int) Math.max(Math.min(BATCH_SIZE, endingRowNumber - rowNumber + 1), 0);
+        long firstIndex = rowNumber - 1;
+
+        // a digit with place value p changes every p rows
+        long place = 1;
+        for (int digit = 0; digit < RADICES.length; digit++) {
+            int[] column = digits[digit];
+            int value = (int) ((firstIndex / place) % RADICES[digit]);
+            int row = 0;
+            long run = place - firstIndex % place;
+            while (row < rows) {
+                int end = (int) Math.min(rows, row + run);
+                Arrays.fill(column, row, end, value);
+                row = end;
+                value = (value + 1) % RADICES[digit];
+                run = place;
+            }
+            place *= RADICES[digit];
+        }
+
+        if (nullsStream.isPresent()) {
+            for (int row = 0; row < rows; row++) {
+                nullBitMaps[row] = createNullBitMap(CUSTOMER_DEMOGRAPHICS, nullsStream.get());
+                nullsStream.get().resetSeedsUsed();
+            }
+        }
+
+        firstRowNumber = rowNumber;
+        rowNumber += rows;
+        return rows;
+    }
+
+    @Override
+    public TableRow getRow(int row)
+    {
+        batchRow.row = row;
+        return batchRow;
+    }
+
+    // The columns are the key, whose null bit is bit 0, followed by the digits
+    private class BatchRow
+            implements TableRow
+    {
+        private int row;
+
+        @Override
+        public List<String> getValues()
+        {
+            long nullBitMap = getNullBitMap();
+            String[] values = new String[RADICES.length + 1];
+            values[0] = (nullBitMap & 1) != 0 ? null : Long.toString(firstRowNumber + row);
+            for (int digit = 0; digit < RADICES.length; digit++) {
+                values[digit + 1] = (nullBitMap & (1L << (digit + 1))) != 0 ? null : DIGIT_VALUES[digit][digits[digit][row]];
+            }
+            return Arrays.asList(values);
+        }
+
+        @Override
+        public void writeTo(RowSink sink)
+        {
+            long nullBitMap = getNullBitMap();
+            if ((nullBitMap & 1) != 0) {
+                sink.appendNull();
+            }
+            else {
+                sink.appendKey(firstRowNumber + row);
+            }
+            for (int digit = 0; digit < RADICES.length; digit++) {
+                if ((nullBitMap & (1L << (digit + 1))) != 0) {
+                    sink.appendNull();
+                }
+                else if (DIGIT_INTEGERS[digit] != null) {
+                    sink.appendInteger(DIGIT_INTEGERS[digit][digits[digit][row]]);
+                }
+                else {
+                    sink.appendString(DIGIT_VALUES[digit][digits[digit][row]]);
+                }
+            }
+        }
+
+        private long getNullBitMap()
+        {
+            return nullsStream.isPresent() ? nullBitMaps[row] : 0;
+        }
+    }
+}
@@ -34,9 +34,9 @@ import static com.teradata.tpcds.generator.CustomerDemographicsGeneratorColumn.C
 public class CustomerDemographicsRowGenerator
         extends AbstractRowGenerator
 {
-    private static final int MAX_CHILDREN = 7;
-    private static final int MAX_EMPLOYED = 7;
-    private static final int MAX_COLLEGE = 7;
+    static final int MAX_CHILDREN = 7;
+    static final int MAX_EMPLOYED = 7;
+    static final int MAX_COLLEGE = 7;
 
     public CustomerDemographicsRowGenerator()
     {
@@ -72,7 +72,7 @@ public class CustomerDemographicsRowGenerator
         index /= (long) MAX_EMPLOYED;
         int cdDepCollegeCount = (int) (index % (long) MAX_COLLEGE);
 
-        return new RowGeneratorResult(new CustomerDemographicsRow(nullBitMap,
+        return createResult(new CustomerDemographicsRow(nullBitMap,
                 cDemoSk,
                 cdGender,
                 cdMaritalStatus,
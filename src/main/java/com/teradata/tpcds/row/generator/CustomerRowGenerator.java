@@ -103,7 +103,7 @@ public class CustomerRowGenerator
 
         String cBirthCountry = pickRandomCountry(getRandomNumberStream(C_BIRTH_COUNTRY));
 
-        return new RowGeneratorResult(new CustomerRow(cCustomerSk,
+        return createResult(new CustomerRow(cCustomerSk,
                 cCustomerId,
                 cCurrentCdemoSk,
                 cCurrentHdemoSk,
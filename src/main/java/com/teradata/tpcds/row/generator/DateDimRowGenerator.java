@@ -94,7 +94,7 @@ public class DateDimRowGenerator
         boolean dCurrentQuarter = dCurrentYear && dQoy == CURRENT_QUARTER;
         boolean dCurrentWeek = dCurrentYear && dWeekSeq == CURRENT_WEEK;
 
-        return new RowGeneratorResult(new DateDimRow(nullBitMap,
+        return createResult(new DateDimRow(nullBitMap,
                 dDateSk,
                 dDateId,
                 dMonthSeq,
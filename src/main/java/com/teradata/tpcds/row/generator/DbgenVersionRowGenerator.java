@@ -43,6 +43,6 @@ public class DbgenVersionRowGenerator
                 dateFormat.format(calendar.getTime()),
                 timeFormat.format(calendar.getTime()),
                 session.getCommandLineArguments());
-        return new RowGeneratorResult(row);
+        return createResult(row);
     }
 }
@@ -52,6 +52,6 @@ public class HouseholdDemographicsRowGenerator
         index /= DEP_COUNT_DISTRIBUTION.getSize();
         int hdVehicleCount = getVehicleCountForIndexModSize(index);
 
-        return new RowGeneratorResult(new HouseholdDemographicsRow(nullBitMap, hdDemoSk, hdIncomeBandId, hdBuyPotential, hdDepCount, hdVehicleCount));
+        return createResult(new HouseholdDemographicsRow(nullBitMap, hdDemoSk, hdIncomeBandId, hdBuyPotential, hdDepCount, hdVehicleCount));
     }
 }
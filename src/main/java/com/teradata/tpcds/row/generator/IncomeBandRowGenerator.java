@@ -38,6 +38,6 @@ public class IncomeBandRowGenerator
         int ibIncomeBandId = (int) rowNumber;
         int ibLowerBound = getIncomeBandLowerBoundAtIndex((int) rowNumber - 1);
         int ibUpperBound = getIncomeBandUpperBoundAtIndex((int) rowNumber - 1);
-        return new RowGeneratorResult(new IncomeBandRow(nullBitMap, ibIncomeBandId, ibLowerBound, ibUpperBound));
+        return createResult(new IncomeBandRow(nullBitMap, ibIncomeBandId, ibLowerBound, ibUpperBound));
     }
 }
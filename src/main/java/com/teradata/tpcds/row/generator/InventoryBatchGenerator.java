@@ -0,0 +1,183 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds.row.generator;
+
+import com.teradata.tpcds.Scaling;
+import com.teradata.tpcds.Session;
+import com.teradata.tpcds.random.RandomNumberStream;
+import com.teradata.tpcds.random.RandomNumberStreamImpl;
+import com.teradata.tpcds.row.RowSink;
+import com.teradata.tpcds.row.TableRow;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.teradata.tpcds.Nulls.createNullBitMap;
+import static com.teradata.tpcds.SlowlyChangingDimensionUtils.matchSurrogateKey;
+import static com.teradata.tpcds.Table.INVENTORY;
+import static com.teradata.tpcds.Table.ITEM;
+import static com.teradata.tpcds.Table.WAREHOUSE;
+import static com.teradata.tpcds.generator.InventoryGeneratorColumn.INV_NULLS;
+import static com.teradata.tpcds.generator.InventoryGeneratorColumn.INV_QUANTITY_ON_HAND;
+import static com.teradata.tpcds.random.RandomValueGenerator.generateUniformRandomInt;
+import static com.teradata.tpcds.type.Date.JULIAN_DATE_MINIMUM;
+
+// Generates the same rows as InventoryRowGenerator a batch at a time into primitive arrays. The
+// keys are computed from the row number, and the quantities and null bit maps are drawn in a
+// loop from their streams, which are jumped ahead to the first row. The other columns have
+// streams too, but nothing is drawn from them.
+public class InventoryBatchGenerator
+        implements RowBatchGenerator
+{
+    public static final int BATCH_SIZE = 4096;
+
+    private static final int MAX_QUANTITY = 1000;
+    private static final String[] QUANTITIES = IntStream.rangeClosed(0, MAX_QUANTITY).mapToObj(Integer::toString).toArray(String[]::new);
+
+    private final Scaling scaling;
+    private final long itemCount;
+    private final long warehouseCount;
+    private final String[] warehouseKeys;
+    private final long endingRowNumber;
+    private final RandomNumberStream quantityStream;
+    private final RandomNumberStream nullsStream;
+
+    private final long[] dateKeys = new long[BATCH_SIZE];
+    private final long[] itemKeys = new long[BATCH_SIZE];
+    private final int[] warehouseIndexes = new int[BATCH_SIZE];
+    private final int[] quantities = new int[BATCH_SIZE];
+    private final long[] nullBitMaps = new long[BATCH_SIZE];
+    private final BatchRow batchRow = new BatchRow();
+    private long rowNumber;
+
+    // the string of the last date key, which is the same for a week of rows
+    private long lastDateKey = -1;
+    private String lastDateKeyString;
+
+    public InventoryBatchGenerator(long startingRowNumber, long endingRowNumber, Session session)
+    {
+        checkArgument(startingRowNumber >= 1, "startingRowNumber is less than 1: %s", startingRowNumber);
+        this.scaling = session.getScaling();
+        this.itemCount = scaling.getIdCount(ITEM);
+        this.warehouseCount = scaling.getIdCount(WAREHOUSE);
+        this.warehouseKeys = IntStream.rangeClosed(1, (int) warehouseCount).mapToObj(Integer::toString).toArray(String[]::new);
+        this.rowNumber = startingRowNumber;
+        this.endingRowNumber = endingRowNumber;
+
+        quantityStream = new RandomNumberStreamImpl(INV_QUANTITY_ON_HAND.getGlobalColumnNumber(), INV_QUANTITY_ON_HAND.getSeedsPerRow());
+        nullsStream = new RandomNumberStreamImpl(INV_NULLS.getGlobalColumnNumber(), INV_NULLS.getSeedsPerRow());
+        quantityStream.skipRows((int) startingRowNumber - 1);  // casting long to int copies C code
+        nullsStream.skipRows((int) startingRowNumber - 1);
+    }
+
+    @Override
+    public int nextBatch()
+    {
+        int rows = (int) Math.max(Math.min(BATCH_SIZE, endingRowNumber - rowNumber + 1), 0);
+
+        // the same int arithmetic as InventoryRowGenerator
+        for (int row = 0; row < rows; row++) {
+            int index = (int) (rowNumber + row) - 1;
+            long item = (index % itemCount) + 1;
+            index /= (int) itemCount;
+            warehouseIndexes[row] = (int) (index % warehouseCount);
+            index /= (int) warehouseCount;
+            dateKeys[row] = JULIAN_DATE_MINIMUM + (index * 7);   // inventory is updated weekly
+            itemKeys[row] = item;
+        }
+
+        // item is a slowly changing dimension, so the key depends on the date
+        for (int row = 0; row < rows; row++) {
+            itemKeys[row] = matchSurrogateKey(itemKeys[row], dateKeys[row], ITEM, scaling);
+        }
+
+        for (int row = 0; row < rows; row++) {
+            quantities[row] = generateUniformRandomInt(0, MAX_QUANTITY, quantityStream);
+        }
+        quantityStream.resetSeedsUsed();
+
+        for (int row = 0; row < rows; row++) {
+            nullBitMaps[row] = createNullBitMap(INVENTORY, nullsStream);
+        }
+        nullsStream.resetSeedsUsed();
+
+        rowNumber += rows;
+        return rows;
+    }
+
+    @Override
+    public TableRow getRow(int row)
+    {
+        batchRow.row = row;
+        return batchRow;
+    }
+
+    private class BatchRow
+            implements TableRow
+    {
+        private int row;
+
+        @Override
+        public List<String> getValues()
+        {
+            if (dateKeys[row] != lastDateKey) {
+                lastDateKey = dateKeys[row];
+                lastDateKeyString = Long.toString(lastDateKey);
+            }
+
+            String[] values = {
+                    lastDateKeyString,
+                    Long.toString(itemKeys[row]),
+                    warehouseKeys[warehouseIndexes[row]],
+                    QUANTITIES[quantities[row]]};
+            long nullBitMap = nullBitMaps[row];
+            if (nullBitMap != 0) {
+                for (int column = 0; column < values.length; column++) {
+                    if ((nullBitMap & (1L << column)) != 0) {
+                        values[column] = null;
+                    }
+                }
+            }
+            return Arrays.asList(values);
+        }
+
+        @Override
+        public void writeTo(RowSink sink)
+        {
+            long nullBitMap = nullBitMaps[row];
+            appendKey(sink, dateKeys[row], nullBitMap, 0);
+            appendKey(sink, itemKeys[row], nullBitMap, 1);
+            appendKey(sink, warehouseIndexes[row] + 1, nullBitMap, 2);
+            if ((nullBitMap & (1L << 3)) != 0) {
+                sink.appendNull();
+            }
+            else {
+                sink.appendInteger(quantities[row]);
+            }
+        }
+
+        private void appendKey(RowSink sink, long key, long nullBitMap, int column)
+        {
+            if ((nullBitMap & (1L << column)) != 0) {
+                sink.appendNull();
+            }
+            else {
+                sink.appendKey(key);
+            }
+        }
+    }
+}
@@ -90,6 +90,13 @@ public class ItemRowGenerator
         super(ITEM);
     }
 
+    @Override
+    public void reset()
+    {
+        super.reset();
+        previousRow = Optional.empty();
+    }
+
     @Override
     public RowGeneratorResult generateRowAndChildRows(long rowNumber, Session session, RowGenerator parentRowGenerator, RowGenerator childRowGenerator)
     {
@@ -217,6 +224,6 @@ public class ItemRowGenerator
                 iProductName,
                 iPromoSk);
         previousRow = Optional.of(row);
-        return new RowGeneratorResult(row);
+        return createResult(row);
     }
 }
@@ -97,7 +97,7 @@ public class PromotionRowGenerator
 
         String pPurpose = "Unknown";
 
-        return new RowGeneratorResult(new PromotionRow(nullBitMap,
+        return createResult(new PromotionRow(nullBitMap,
                 pPromoSk,
                 pPromoId,
                 pStartDateId,
@@ -39,6 +39,6 @@ public class ReasonRowGenerator
         String rReasonId = makeBusinessKey(rowNumber);
         String rReasonDescription = getReturnReasonAtIndex((int) (rowNumber - 1));
 
-        return new RowGeneratorResult(new ReasonRow(nullBitMap, rReasonSk, rReasonId, rReasonDescription));
+        return createResult(new ReasonRow(nullBitMap, rReasonSk, rReasonId, rReasonDescription));
     }
 }
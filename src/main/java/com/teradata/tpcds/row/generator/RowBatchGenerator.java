@@ -0,0 +1,29 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds.row.generator;
+
+import com.teradata.tpcds.row.TableRow;
+
+// Generates the rows of a range of a table a batch at a time, for tables whose columns can be
+// computed from the row number and a few random number streams without a RowGenerator
+public interface RowBatchGenerator
+{
+    // Generates the next rows into the batch and returns how many there are, or 0 after the last row
+    int nextBatch();
+
+    // A row of the last batch. The same object is returned for every row, so it is only valid
+    // until the next call of getRow or nextBatch.
+    TableRow getRow(int row);
+}
@@ -23,4 +23,19 @@ public interface RowGenerator
     void consumeRemainingSeedsForRow();
 
     void skipRowsUntilStartingRowNumber(long startingRowNumber);
+
+    // Returns the generator to the state it was created in, so that it can be reused for another
+    // range of rows. Generators that keep state between rows, such as the previous row of a slowly
+    // changing dimension or the item permutation of a sales table, must clear it.
+    void reset();
+
+    // Lets the generator return the same RowGeneratorResult, with the same list of rows, for every
+    // row, so the caller must be done with a result before generating the next row. Until reset().
+    // The sales and returns generators also fill the same TableRow objects again, so a row, like
+    // its result, is only valid until the next row is generated and must be copied (getValues) to
+    // be kept. Other generators still create a new row each time.
+    void reuseResults();
+
+    // the number of random numbers drawn for the rows generated so far, not counting skipped rows
+    long getRandomNumbersDrawn();
 }
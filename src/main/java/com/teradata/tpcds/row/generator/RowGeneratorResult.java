@@ -22,7 +22,7 @@ import java.util.List;
 public class RowGeneratorResult
 {
     private final List<TableRow> rowAndChildRows;
-    private final boolean shouldEndRow;
+    private boolean shouldEndRow;
 
     public RowGeneratorResult(TableRow row)
     {
@@ -44,4 +44,10 @@ public class RowGeneratorResult
     {
         return shouldEndRow;
     }
+
+    // for AbstractRowGenerator, which returns the same result for every row when results are reused
+    void setShouldEndRow(boolean shouldEndRow)
+    {
+        this.shouldEndRow = shouldEndRow;
+    }
 }
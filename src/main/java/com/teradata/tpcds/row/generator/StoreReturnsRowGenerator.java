@@ -14,7 +14,6 @@
 
 package com.teradata.tpcds.row.generator;
 
-import com.google.common.collect.ImmutableList;
 import com.teradata.tpcds.Scaling;
 import com.teradata.tpcds.Session;
 import com.teradata.tpcds.row.StoreReturnsRow;
@@ -22,6 +21,8 @@ import com.teradata.tpcds.row.StoreSalesRow;
 import com.teradata.tpcds.row.TableRow;
 import com.teradata.tpcds.type.Pricing;
 
+import java.util.List;
+
 import static com.teradata.tpcds.JoinKeyUtils.generateJoinKey;
 import static com.teradata.tpcds.Nulls.createNullBitMap;
 import static com.teradata.tpcds.Table.CUSTOMER;
@@ -45,13 +46,15 @@ import static com.teradata.tpcds.generator.StoreReturnsGeneratorColumn.SR_STORE_
 import static com.teradata.tpcds.generator.StoreReturnsGeneratorColumn.SR_TICKET_NUMBER;
 import static com.teradata.tpcds.random.RandomValueGenerator.generateUniformRandomInt;
 import static com.teradata.tpcds.type.Pricing.generatePricingForReturnsTable;
-import static java.util.Collections.emptyList;
 
 public class StoreReturnsRowGenerator
         extends AbstractRowGenerator
 {
     private static final int SR_SAME_CUSTOMER = 80;
 
+    // the row filled for every row when results are reused
+    private final StoreReturnsRow reusedRow = new StoreReturnsRow();
+
     public StoreReturnsRowGenerator()
     {
         super(STORE_RETURNS);
@@ -65,10 +68,12 @@ public class StoreReturnsRowGenerator
         // in isolation. Otherwise store_returns is generated during the generation of the store_sales table
         RowGeneratorResult salesAndReturnsResult = parentRowGenerator.generateRowAndChildRows(rowNumber, session, null, this);
         if (salesAndReturnsResult.getRowAndChildRows().size() == 2) {
-            return new RowGeneratorResult(ImmutableList.of(salesAndReturnsResult.getRowAndChildRows().get(1)), salesAndReturnsResult.shouldEndRow());
+            List<TableRow> rows = newRowList();
+            rows.add(salesAndReturnsResult.getRowAndChildRows().get(1));
+            return createResult(rows, salesAndReturnsResult.shouldEndRow());
         }
         else {
-            return new RowGeneratorResult(emptyList(), salesAndReturnsResult.shouldEndRow());  // no return occurred for given sale
+            return createEmptyResult(salesAndReturnsResult.shouldEndRow());  // no return occurred for given sale
         }
     }
 
@@ -101,7 +106,8 @@ public class StoreReturnsRowGenerator
         int quantity = generateUniformRandomInt(1, salesPricing.getQuantity(), getRandomNumberStream(SR_PRICING));
         Pricing srPricing = generatePricingForReturnsTable(SR_PRICING, getRandomNumberStream(SR_PRICING), quantity, salesPricing);
 
-        return new StoreReturnsRow(nullBitMap,
+        StoreReturnsRow storeReturnsRow = isReusingResults() ? reusedRow : new StoreReturnsRow();
+        storeReturnsRow.set(nullBitMap,
                 srReturnedDateSk,
                 srReturnedTimeSk,
                 srItemSk,
@@ -113,5 +119,6 @@ public class StoreReturnsRowGenerator
                 srReasonSk,
                 srTicketNumber,
                 srPricing);
+        return storeReturnsRow;
     }
 }
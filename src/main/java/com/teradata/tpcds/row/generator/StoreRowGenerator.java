@@ -71,6 +71,13 @@ public class StoreRowGenerator
         super(STORE);
     }
 
+    @Override
+    public void reset()
+    {
+        super.reset();
+        previousRow = Optional.empty();
+    }
+
     @Override
     public RowGeneratorResult generateRowAndChildRows(long rowNumber, Session session, RowGenerator parentRowGenerator, RowGenerator childRowGenerator)
     {
@@ -243,6 +250,6 @@ public class StoreRowGenerator
                 companyName,
                 address);
         previousRow = Optional.of(row);
-        return new RowGeneratorResult(row);
+        return createResult(row);
     }
 }
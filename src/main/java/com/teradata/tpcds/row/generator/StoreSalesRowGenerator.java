@@ -20,7 +20,6 @@ import com.teradata.tpcds.row.StoreSalesRow;
 import com.teradata.tpcds.row.TableRow;
 import com.teradata.tpcds.type.Pricing;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static com.teradata.tpcds.JoinKeyUtils.generateJoinKey;
@@ -58,7 +57,12 @@ import static com.teradata.tpcds.type.Pricing.generatePricingForSalesTable;
 public class StoreSalesRowGenerator
         extends AbstractRowGenerator
 {
-    private static final int SR_RETURN_PCT = 10;
+    public static final int SR_RETURN_PCT = 10;
+    public static final int SS_MIN_LINE_ITEMS = 8;  // minimum line items of a ticket
+    public static final int SS_MAX_LINE_ITEMS = 16;  // maximum line items of a ticket
+
+    // the row filled for every row when results are reused
+    private final StoreSalesRow reusedRow = new StoreSalesRow();
 
     private int[] itemPermutation;
 
@@ -76,6 +80,16 @@ public class StoreSalesRowGenerator
         super(STORE_SALES);
     }
 
+    @Override
+    public void reset()
+    {
+        super.reset();
+        itemPermutation = null;
+        remainingLineItems = 0;
+        orderInfo = new OrderInfo();
+        itemIndex = 0;
+    }
+
     @Override
     public RowGeneratorResult generateRowAndChildRows(long rowNumber, Session session, RowGenerator parentRowGenerator, RowGenerator childRowGenerator)
     {
@@ -87,7 +101,7 @@ public class StoreSalesRowGenerator
         Scaling scaling = session.getScaling();
         if (remainingLineItems == 0) {
             orderInfo = generateOrderInfo(rowNumber, session);
-            remainingLineItems = generateUniformRandomInt(8, 16, getRandomNumberStream(SS_TICKET_NUMBER));
+            remainingLineItems = generateUniformRandomInt(SS_MIN_LINE_ITEMS, SS_MAX_LINE_ITEMS, getRandomNumberStream(SS_TICKET_NUMBER));
             itemIndex = generateUniformRandomInt(1, (int) scaling.getIdCount(ITEM), getRandomNumberStream(SS_SOLD_ITEM_SK));
         }
 
@@ -103,7 +117,8 @@ public class StoreSalesRowGenerator
         long ssSoldPromoSk = generateJoinKey(SS_SOLD_PROMO_SK, getRandomNumberStream(SS_SOLD_PROMO_SK), PROMOTION, 1, scaling);
         Pricing ssPricing = generatePricingForSalesTable(SS_PRICING, getRandomNumberStream(SS_PRICING));
 
-        StoreSalesRow storeSalesRow = new StoreSalesRow(nullBitMap,
+        StoreSalesRow storeSalesRow = isReusingResults() ? reusedRow : new StoreSalesRow();
+        storeSalesRow.set(nullBitMap,
                 orderInfo.getSsSoldDateSk(),
                 orderInfo.getSsSoldTimeSk(),
                 ssSoldItemSk,
@@ -115,7 +130,7 @@ public class StoreSalesRowGenerator
                 ssSoldPromoSk,
                 orderInfo.getSsTicketNumber(),
                 ssPricing);
-        List<TableRow> generatedRows = new ArrayList<>(2);
+        List<TableRow> generatedRows = newRowList();
         generatedRows.add(storeSalesRow);
 
         // if the sale gets returned, generate a return row
@@ -125,7 +140,7 @@ public class StoreSalesRowGenerator
         }
 
         remainingLineItems--;
-        return new RowGeneratorResult(generatedRows, isLastRowInOrder());
+        return createResult(generatedRows, isLastRowInOrder());
     }
 
     public OrderInfo generateOrderInfo(long rowNumber, Session session)
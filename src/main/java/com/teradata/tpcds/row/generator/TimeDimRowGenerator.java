@@ -52,6 +52,6 @@ public class TimeDimRowGenerator
         String tSubShift = hourInfo.getSubShift();
         String tMealTime = hourInfo.getMeal();
 
-        return new RowGeneratorResult(new TimeDimRow(nullBitMap, tTimeSk, tTimeId, tTime, tHour, tMinute, tSecond, tAmPm, tShift, tSubShift, tMealTime));
+        return createResult(new TimeDimRow(nullBitMap, tTimeSk, tTimeId, tTime, tHour, tMinute, tSecond, tAmPm, tShift, tSubShift, tMealTime));
     }
 }
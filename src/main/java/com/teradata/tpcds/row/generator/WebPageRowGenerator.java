@@ -56,6 +56,13 @@ public class WebPageRowGenerator
         super(WEB_PAGE);
     }
 
+    @Override
+    public void reset()
+    {
+        super.reset();
+        previousRow = Optional.empty();
+    }
+
     @Override
     public RowGeneratorResult generateRowAndChildRows(long rowNumber, Session session, RowGenerator parentRowGenerator, RowGenerator childRowGenerator)
     {
@@ -144,7 +151,7 @@ public class WebPageRowGenerator
                 wpImageCount,
                 wpMaxAdCount));
 
-        return new RowGeneratorResult(new WebPageRow(nullBitMap,
+        return createResult(new WebPageRow(nullBitMap,
                 wpPageSk,
                 wpPageId,
                 wpRecStartDateId,
@@ -14,13 +14,15 @@
 
 package com.teradata.tpcds.row.generator;
 
-import com.google.common.collect.ImmutableList;
 import com.teradata.tpcds.Scaling;
 import com.teradata.tpcds.Session;
+import com.teradata.tpcds.row.TableRow;
 import com.teradata.tpcds.row.WebReturnsRow;
 import com.teradata.tpcds.row.WebSalesRow;
 import com.teradata.tpcds.type.Pricing;
 
+import java.util.List;
+
 import static com.teradata.tpcds.JoinKeyUtils.generateJoinKey;
 import static com.teradata.tpcds.Nulls.createNullBitMap;
 import static com.teradata.tpcds.Table.CUSTOMER;
@@ -43,11 +45,13 @@ import static com.teradata.tpcds.generator.WebReturnsGeneratorColumn.WR_RETURNED
 import static com.teradata.tpcds.generator.WebReturnsGeneratorColumn.WR_RETURNING_CUSTOMER_SK;
 import static com.teradata.tpcds.random.RandomValueGenerator.generateUniformRandomInt;
 import static com.teradata.tpcds.type.Pricing.generatePricingForReturnsTable;
-import static java.util.Collections.emptyList;
 
 public class WebReturnsRowGenerator
         extends AbstractRowGenerator
 {
+    // the row filled for every row when results are reused
+    private final WebReturnsRow reusedRow = new WebReturnsRow();
+
     public WebReturnsRowGenerator()
     {
         super(WEB_RETURNS);
@@ -58,10 +62,12 @@ public class WebReturnsRowGenerator
     {
         RowGeneratorResult salesAndReturnsResult = parentRowGenerator.generateRowAndChildRows(rowNumber, session, null, this);
         if (salesAndReturnsResult.getRowAndChildRows().size() == 2) {
-            return new RowGeneratorResult(ImmutableList.of(salesAndReturnsResult.getRowAndChildRows().get(1)), salesAndReturnsResult.shouldEndRow());
+            List<TableRow> rows = newRowList();
+            rows.add(salesAndReturnsResult.getRowAndChildRows().get(1));
+            return createResult(rows, salesAndReturnsResult.shouldEndRow());
         }
         else {
-            return new RowGeneratorResult(emptyList(), salesAndReturnsResult.shouldEndRow());  // no return occurred for given sale
+            return createEmptyResult(salesAndReturnsResult.shouldEndRow());  // no return occurred for given sale
         }
     }
 
@@ -100,7 +106,8 @@ public class WebReturnsRowGenerator
         int quantity = generateUniformRandomInt(1, salesRow.getWsPricing().getQuantity(), getRandomNumberStream(WR_PRICING));
         Pricing wrPricing = generatePricingForReturnsTable(WR_PRICING, getRandomNumberStream(WR_PRICING), quantity, salesRow.getWsPricing());
 
-        return new WebReturnsRow(nullBitMap,
+        WebReturnsRow webReturnsRow = isReusingResults() ? reusedRow : new WebReturnsRow();
+        webReturnsRow.set(nullBitMap,
                 wrReturnedDateSk,
                 wrReturnedTimeSk,
                 wrItemSk,
@@ -116,5 +123,6 @@ public class WebReturnsRowGenerator
                 wrReasonSk,
                 wrOrderNumber,
                 wrPricing);
+        return webReturnsRow;
     }
 }
@@ -22,7 +22,6 @@ import com.teradata.tpcds.type.Pricing;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static com.teradata.tpcds.JoinKeyUtils.generateJoinKey;
@@ -74,6 +73,11 @@ public class WebSalesRowGenerator
 {
     public static final int GIFT_PERCENTAGE = 7;
     public static final int RETURN_PERCENTAGE = 10;
+    public static final int WS_MIN_LINE_ITEMS = 8;  // minimum line items of an order
+    public static final int WS_MAX_LINE_ITEMS = 16;  // maximum line items of an order
+
+    // the row filled for every row when results are reused
+    private final WebSalesRow reusedRow = new WebSalesRow();
 
     // Note: the following two variables are present in the C generator but unused in
     // a meaningful way. We include them for completeness not to confuse
@@ -90,6 +94,16 @@ public class WebSalesRowGenerator
         super(WEB_SALES);
     }
 
+    @Override
+    public void reset()
+    {
+        super.reset();
+        itemPermutation = null;
+        remainingLineItems = 0;
+        orderInfo = null;
+        itemIndex = 0;
+    }
+
     @Override
     public RowGeneratorResult generateRowAndChildRows(long rowNumber, Session session, RowGenerator parentRowGenerator, RowGenerator childRowGenerator)
     {
@@ -102,7 +116,7 @@ public class WebSalesRowGenerator
         if (remainingLineItems == 0) {
             orderInfo = generateOrderInfo(rowNumber, session);
             itemIndex = generateUniformRandomInt(1, itemCount, getRandomNumberStream(WS_ITEM_SK));
-            remainingLineItems = generateUniformRandomInt(8, 16, getRandomNumberStream(WS_ORDER_NUMBER));
+            remainingLineItems = generateUniformRandomInt(WS_MIN_LINE_ITEMS, WS_MAX_LINE_ITEMS, getRandomNumberStream(WS_ORDER_NUMBER));
         }
 
         long nullBitMap = createNullBitMap(WEB_SALES, getRandomNumberStream(WS_NULLS));
@@ -125,7 +139,8 @@ public class WebSalesRowGenerator
         long wsPromoSk = generateJoinKey(WS_PROMO_SK, getRandomNumberStream(WS_PROMO_SK), PROMOTION, 1, scaling);
         Pricing wsPricing = generatePricingForSalesTable(WS_PRICING, getRandomNumberStream(WS_PRICING));
 
-        WebSalesRow salesRow = new WebSalesRow(nullBitMap,
+        WebSalesRow salesRow = isReusingResults() ? reusedRow : new WebSalesRow();
+        salesRow.set(nullBitMap,
                 orderInfo.wsSoldDateSk,
                 orderInfo.wsSoldTimeSk,
                 wsShipDateSk,
@@ -146,7 +161,7 @@ public class WebSalesRowGenerator
                 orderInfo.wsOrderNumber,
                 wsPricing);
 
-        List<TableRow> generatedRows = new ArrayList<>(2);
+        List<TableRow> generatedRows = newRowList();
         generatedRows.add(salesRow);
 
         // if the item gets returned, generate a returns row
@@ -157,7 +172,7 @@ public class WebSalesRowGenerator
         }
 
         remainingLineItems--;
-        return new RowGeneratorResult(generatedRows, remainingLineItems == 0);
+        return createResult(generatedRows, remainingLineItems == 0);
     }
 
     private OrderInfo generateOrderInfo(long rowNumber, Session session)
@@ -68,6 +68,13 @@ public class WebSiteRowGenerator
         super(WEB_SITE);
     }
 
+    @Override
+    public void reset()
+    {
+        super.reset();
+        previousRow = Optional.empty();
+    }
+
     @Override
     public RowGeneratorResult generateRowAndChildRows(long rowNumber, Session session, RowGenerator parentRowGenerator, RowGenerator childRowGenerator)
     {
@@ -215,6 +222,6 @@ public class WebSiteRowGenerator
                 webTaxPercentage);
 
         previousRow = Optional.of(row);
-        return new RowGeneratorResult(row);
+        return createResult(row);
     }
 }
@@ -125,6 +125,11 @@ public class Decimal
 
     @Override
     public String toString()
+    {
+        return toString(number, precision);
+    }
+
+    public static String toString(long number, int precision)
     {
         // This loses all of the benefit of having exact numeric types
         // but it's what the C code does, so we have to follow it.
@@ -0,0 +1,126 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.Files;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static com.teradata.tpcds.GeneratorAssertions.expectedRows;
+import static com.teradata.tpcds.Session.getDefaultSession;
+import static com.teradata.tpcds.Table.CALL_CENTER;
+import static com.teradata.tpcds.Table.CATALOG_SALES;
+import static com.teradata.tpcds.Table.CUSTOMER;
+import static com.teradata.tpcds.Table.INVENTORY;
+import static com.teradata.tpcds.Table.ITEM;
+import static com.teradata.tpcds.Table.STORE_RETURNS;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class AdaptiveTableGeneratorTest
+{
+    private TemporaryDirectory temporaryDirectory;
+    private File directory;
+
+    @BeforeMethod
+    public void setUp()
+    {
+        temporaryDirectory = new TemporaryDirectory();
+        directory = temporaryDirectory.getDirectory();
+    }
+
+    @AfterMethod
+    public void tearDown()
+            throws IOException
+    {
+        temporaryDirectory.close();
+    }
+
+    @Test
+    public void testSameChunks()
+            throws IOException
+    {
+        List<Table> tables = ImmutableList.of(CALL_CENTER, CATALOG_SALES, INVENTORY);
+        File chunkDirectory = new File(directory, "chunks");
+        File adaptiveDirectory = new File(directory, "adaptive");
+        assertTrue(chunkDirectory.mkdir());
+        assertTrue(adaptiveDirectory.mkdir());
+        // tables this small are not split, so the first chunk has all rows and the others are empty
+        Session session = getDefaultSession().withScale(0.01).withParallelism(3);
+
+        for (int chunk = 1; chunk <= 3; chunk++) {
+            TableGenerator generator = new TableGenerator(session.withChunkNumber(chunk).withTargetDirectory(chunkDirectory.getPath()));
+            tables.forEach(generator::generateTable);
+        }
+
+        // ranges of about a millisecond, so that their sizes vary
+        try (AdaptiveTableGenerator generator = new AdaptiveTableGenerator(session.withTargetDirectory(adaptiveDirectory.getPath()), 3, 1_000_000, 1 << 20)) {
+            generator.generateTables(tables);
+        }
+
+        String[] fileNames = chunkDirectory.list();
+        assertEquals(fileNames.length, 12);
+        for (String fileName : fileNames) {
+            assertEquals(java.nio.file.Files.readAllBytes(new File(adaptiveDirectory, fileName).toPath()),
+                    java.nio.file.Files.readAllBytes(new File(chunkDirectory, fileName).toPath()),
+                    fileName);
+        }
+    }
+
+    @Test
+    public void testSingleFile()
+            throws IOException
+    {
+        List<Table> tables = ImmutableList.of(CATALOG_SALES, CUSTOMER, ITEM);
+        File serialDirectory = new File(directory, "serial");
+        File singleFileDirectory = new File(directory, "single");
+        assertTrue(serialDirectory.mkdir());
+        assertTrue(singleFileDirectory.mkdir());
+        Session session = getDefaultSession().withScale(0.01);
+
+        TableGenerator serialGenerator = new TableGenerator(session.withTargetDirectory(serialDirectory.getPath()));
+        tables.forEach(serialGenerator::generateTable);
+
+        // small ranges, so that there are many, generated ahead of the writing
+        try (AdaptiveTableGenerator generator = new AdaptiveTableGenerator(session.withTargetDirectory(singleFileDirectory.getPath()), 3, 1_000_000, 16 * 1024)) {
+            generator.generateTables(tables);
+        }
+
+        for (String fileName : ImmutableList.of("catalog_sales.dat", "catalog_returns.dat", "customer.dat", "item.dat")) {
+            assertEquals(java.nio.file.Files.readAllBytes(new File(singleFileDirectory, fileName).toPath()),
+                    java.nio.file.Files.readAllBytes(new File(serialDirectory, fileName).toPath()),
+                    fileName);
+        }
+    }
+
+    @Test
+    public void testOnlyChildTable()
+            throws IOException
+    {
+        Session session = getDefaultSession().withScale(0.01).withTable(STORE_RETURNS).withTargetDirectory(directory.getPath());
+        try (AdaptiveTableGenerator generator = new AdaptiveTableGenerator(session, 2, 1_000_000, 16 * 1024)) {
+            generator.generateTables(ImmutableList.of(STORE_RETURNS));
+        }
+
+        assertEquals(Files.toString(new File(directory, "store_returns.dat"), ISO_8859_1), expectedRows(STORE_RETURNS, session));
+    }
+}
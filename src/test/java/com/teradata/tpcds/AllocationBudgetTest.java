@@ -0,0 +1,144 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.google.common.io.Resources;
+import com.teradata.tpcds.Results.ResultsIterator;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+
+import static com.teradata.tpcds.Session.getDefaultSession;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertTrue;
+
+// Guards against generators allocating more per row. For every table the bytes allocated by the
+// thread per generated row (a row with its child rows, generated with reused results and rows as
+// TableGenerator does) are compared with the budget in allocation-budgets.properties. The JIT
+// removes many allocations, and how many depends on the tables generated before in the same JVM,
+// so the rows of all tables are generated once to warm up before any is measured. Run main to
+// print the current values when updating the budgets.
+// The results still depend on the JVM and its JIT, so the test is in its own group, which the
+// build runs in a surefire execution of its own: a fresh JVM, single-threaded.
+public class AllocationBudgetTest
+{
+    public static final String GROUP = "allocation-budgets";
+    private static final String BUDGETS_RESOURCE = "allocation-budgets.properties";
+    private static final int ROWS = 5000;
+    // Deoptimization and recompilation only ever add allocations, and weigh heavily on tables with
+    // a handful of rows such as warehouse, so the lowest of a few measurements is compared
+    private static final int MEASUREMENTS = 3;
+    // allowed growth over the budget, for differences between JVMs and JIT decisions
+    private static final double TOLERANCE = 0.25;
+    private static final long SLACK_BYTES = 64;
+
+    private Properties budgets;
+
+    @BeforeClass(alwaysRun = true)
+    public void setUp()
+            throws IOException
+    {
+        if (getThreadMXBean() == null) {
+            throw new SkipException("Thread allocated bytes are not supported by this JVM");
+        }
+        warmUp();
+        budgets = new Properties();
+        try (Reader reader = Resources.asCharSource(Resources.getResource(BUDGETS_RESOURCE), UTF_8).openStream()) {
+            budgets.load(reader);
+        }
+    }
+
+    @DataProvider
+    public Object[][] tables()
+    {
+        return Table.getBaseTables().stream()
+                .map(table -> new Object[] {table})
+                .toArray(Object[][]::new);
+    }
+
+    @Test(groups = GROUP, dataProvider = "tables")
+    public void testAllocatedBytesPerRow(Table table)
+    {
+        String budget = budgets.getProperty(table.getName());
+        assertTrue(budget != null, "No allocation budget for " + table.getName());
+        long budgetBytes = Long.parseLong(budget);
+
+        long bytesPerRow = measureBytesPerRow(table);
+        long limit = (long) (budgetBytes * (1 + TOLERANCE)) + SLACK_BYTES;
+        assertTrue(bytesPerRow <= limit, format("%s allocates %d bytes per row, its budget is %d bytes", table.getName(), bytesPerRow, budgetBytes));
+    }
+
+    private static void warmUp()
+    {
+        for (Table table : Table.getBaseTables()) {
+            generate(table, getDefaultSession().withTable(table));
+        }
+    }
+
+    private static long measureBytesPerRow(Table table)
+    {
+        long bytesPerRow = Long.MAX_VALUE;
+        for (int i = 0; i < MEASUREMENTS; i++) {
+            bytesPerRow = Math.min(bytesPerRow, generate(table, getDefaultSession().withTable(table)));
+        }
+        return bytesPerRow;
+    }
+
+    private static long generate(Table table, Session session)
+    {
+        long rowCount = Math.min(ROWS, session.getScaling().getRowCount(table));
+        // generated as TableGenerator does, with reused results and rows and without getValues
+        ResultsIterator results = Results.constructResults(table, 1, rowCount, session).resultsIterator();
+        results.reuseRows();
+
+        com.sun.management.ThreadMXBean threadMXBean = getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long rows = 0;
+        long start = threadMXBean.getThreadAllocatedBytes(threadId);
+        while (!results.nextRows().isEmpty()) {
+            rows++;
+        }
+        long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - start;
+        return rows == 0 ? 0 : allocatedBytes / rows;
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadMXBean()
+    {
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        if (!sunThreadMXBean.isThreadAllocatedMemorySupported() || !sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+            return null;
+        }
+        return sunThreadMXBean;
+    }
+
+    public static void main(String[] args)
+    {
+        warmUp();
+        for (Table table : Table.getBaseTables()) {
+            System.out.println(table.getName() + "=" + measureBytesPerRow(table));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.Files;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Properties;
+
+import static com.teradata.tpcds.BucketedTableWriterFactory.getBucket;
+import static com.teradata.tpcds.BucketedTableWriterFactory.getBucketColumn;
+import static com.teradata.tpcds.Session.getDefaultSession;
+import static com.teradata.tpcds.Table.CATALOG_SALES;
+import static com.teradata.tpcds.Table.CUSTOMER;
+import static com.teradata.tpcds.Table.DATE_DIM;
+import static com.teradata.tpcds.Table.ITEM;
+import static com.teradata.tpcds.Table.STORE_RETURNS;
+import static com.teradata.tpcds.Table.STORE_SALES;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class BucketedTableWriterFactoryTest
+{
+    private static final int BUCKETS = 8;
+
+    private TemporaryDirectory temporaryDirectory;
+    private File directory;
+
+    @BeforeMethod
+    public void setUp()
+    {
+        temporaryDirectory = new TemporaryDirectory();
+        directory = temporaryDirectory.getDirectory();
+    }
+
+    @AfterMethod
+    public void tearDown()
+            throws IOException
+    {
+        temporaryDirectory.close();
+    }
+
+    @Test
+    public void testBucketColumns()
+    {
+        assertEquals(getBucketColumn(STORE_SALES, "item_sk").get().getName(), "ss_item_sk");
+        assertEquals(getBucketColumn(STORE_RETURNS, "item_sk").get().getName(), "sr_item_sk");
+        assertEquals(getBucketColumn(ITEM, "item_sk").get().getName(), "i_item_sk");
+        assertEquals(getBucketColumn(CUSTOMER, "customer_sk").get().getName(), "c_customer_sk");
+        assertFalse(getBucketColumn(DATE_DIM, "item_sk").isPresent());
+        assertEquals(getBucketColumn(CATALOG_SALES, "cs_bill_customer_sk").get().getName(), "cs_bill_customer_sk");
+        assertFalse(getBucketColumn(CUSTOMER, "cs_bill_customer_sk").isPresent());
+    }
+
+    @Test(expectedExceptions = TpcdsException.class, expectedExceptionsMessageRegExp = "Bucket key customer_sk matches more than one column of catalog_sales: cs_bill_customer_sk, cs_ship_customer_sk.*")
+    public void testAmbiguousBucketKey()
+    {
+        getBucketColumn(CATALOG_SALES, "customer_sk");
+    }
+
+    @Test
+    public void testNoManifestForFailedTable()
+            throws IOException
+    {
+        Session session = getDefaultSession().withScale(0.01).withTargetDirectory(directory.getPath());
+        BucketedTableWriterFactory writerFactory = new BucketedTableWriterFactory("item_sk", BUCKETS);
+        try (TableWriter writer = writerFactory.createWriter(ITEM, session)) {
+            writer.writeRow(ImmutableList.of("1"));
+            writerFactory.markFailed();
+        }
+        File tableDirectory = new File(directory, ITEM.getName());
+        assertTrue(new File(tableDirectory, "00001_item.dat").exists());
+        assertFalse(new File(tableDirectory, "_bucketing.properties").exists());
+    }
+
+    @Test
+    public void testFactAndDimensionTablesAreBucketedTogether()
+            throws IOException
+    {
+        Session session = getDefaultSession().withScale(0.01).withTargetDirectory(directory.getPath());
+        TableGenerator generator = new TableGenerator(session, new BucketedTableWriterFactory("item_sk", BUCKETS));
+        generator.generateTable(STORE_SALES);
+        generator.generateTable(ITEM);
+
+        assertBucketed(STORE_SALES, 2);
+        assertBucketed(STORE_RETURNS, 2);
+        assertBucketed(ITEM, 0);
+    }
+
+    private void assertBucketed(Table table, int keyPosition)
+            throws IOException
+    {
+        File tableDirectory = new File(directory, table.getName());
+        Properties manifest = new Properties();
+        try (InputStream in = new FileInputStream(new File(tableDirectory, "_bucketing.properties"))) {
+            manifest.load(in);
+        }
+        assertEquals(manifest.getProperty("buckets"), Integer.toString(BUCKETS));
+        assertEquals(manifest.getProperty("function"), BucketedTableWriterFactory.BUCKET_FUNCTION);
+
+        long totalRows = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            List<String> lines = Files.readLines(new File(tableDirectory, String.format("%05d_%s.dat", bucket, table.getName())), ISO_8859_1);
+            assertEquals(Long.parseLong(manifest.getProperty(String.format("rows.%05d", bucket))), lines.size());
+            for (String line : lines) {
+                String key = line.split("\\|", -1)[keyPosition];
+                assertEquals(key.isEmpty() ? 0 : getBucket(Long.parseLong(key), BUCKETS), bucket, line);
+            }
+            totalRows += lines.size();
+        }
+        assertTrue(totalRows > 0);
+    }
+}
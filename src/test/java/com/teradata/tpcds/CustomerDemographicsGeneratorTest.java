@@ -14,11 +14,14 @@
 
 package com.teradata.tpcds;
 
+import com.teradata.tpcds.row.generator.CustomerDemographicsBatchGenerator;
+import com.teradata.tpcds.row.generator.CustomerDemographicsRowGenerator;
 import org.testng.annotations.Test;
 
 import static com.teradata.tpcds.GeneratorAssertions.assertPartialMD5;
 import static com.teradata.tpcds.Session.getDefaultSession;
 import static com.teradata.tpcds.Table.CUSTOMER_DEMOGRAPHICS;
+import static org.testng.Assert.assertEquals;
 
 public class CustomerDemographicsGeneratorTest
 {
@@ -100,4 +103,30 @@ public class CustomerDemographicsGeneratorTest
         Session session = TEST_SESSION.withScale(15);
         assertPartialMD5(1, session.getScaling().getRowCount(CUSTOMER_DEMOGRAPHICS), CUSTOMER_DEMOGRAPHICS, TEST_SESSION, "8831872c6d56ea9d4f24701f2feaef48");
     }
+
+    @Test
+    public void testBatchesMatchRowGenerator()
+    {
+        long rowCount = TEST_SESSION.getScaling().getRowCount(CUSTOMER_DEMOGRAPHICS);
+        assertBatchesMatchRowGenerator(1, 3000);
+        assertBatchesMatchRowGenerator(1234567, 1236000);
+        assertBatchesMatchRowGenerator(rowCount - 1500, rowCount);
+    }
+
+    private static void assertBatchesMatchRowGenerator(long startingRowNumber, long endingRowNumber)
+    {
+        CustomerDemographicsRowGenerator rowGenerator = new CustomerDemographicsRowGenerator();
+        rowGenerator.skipRowsUntilStartingRowNumber(startingRowNumber);
+        CustomerDemographicsBatchGenerator batchGenerator = new CustomerDemographicsBatchGenerator(startingRowNumber, endingRowNumber);
+
+        long rowNumber = startingRowNumber;
+        for (int rows = batchGenerator.nextBatch(); rows > 0; rows = batchGenerator.nextBatch()) {
+            for (int row = 0; row < rows; row++) {
+                assertEquals(batchGenerator.getRow(row).getValues(), rowGenerator.generateRowAndChildRows(rowNumber, TEST_SESSION, null, null).getRowAndChildRows().get(0).getValues());
+                rowGenerator.consumeRemainingSeedsForRow();
+                rowNumber++;
+            }
+        }
+        assertEquals(rowNumber, endingRowNumber + 1);
+    }
 }
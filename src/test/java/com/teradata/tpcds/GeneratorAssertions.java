@@ -62,6 +62,21 @@ public final class GeneratorAssertions
         }
     }
 
+    // The text the generator writes for the table and chunk of the session. Child rows come from
+    // generating the parent, unless the session generates only the child table.
+    static String expectedRows(Table table, Session session)
+    {
+        int index = table.isChild() && !session.generateOnlyOneTable() ? 1 : 0;
+        Table generatedTable = index == 1 ? table.getParent() : table;
+        StringBuilder rows = new StringBuilder();
+        for (List<List<String>> parentAndChildRows : constructResults(generatedTable, session)) {
+            if (parentAndChildRows.size() > index) {
+                rows.append(formatRow(parentAndChildRows.get(index), session));
+            }
+        }
+        return rows.toString();
+    }
+
     static void assertPartialMD5(long startingRowNumber, long endingRowNumber, Table table, Session session, String expectedMD5)
     {
         assertEntityLinesMD5(constructResults(table, startingRowNumber, endingRowNumber, session), session, expectedMD5);
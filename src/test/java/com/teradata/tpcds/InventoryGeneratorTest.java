@@ -15,12 +15,15 @@
 package com.teradata.tpcds;
 
 import com.teradata.tpcds.Parallel.ChunkBoundaries;
+import com.teradata.tpcds.row.generator.InventoryBatchGenerator;
+import com.teradata.tpcds.row.generator.InventoryRowGenerator;
 import org.testng.annotations.Test;
 
 import static com.teradata.tpcds.GeneratorAssertions.assertPartialMD5;
 import static com.teradata.tpcds.Parallel.splitWork;
 import static com.teradata.tpcds.Session.getDefaultSession;
 import static com.teradata.tpcds.Table.INVENTORY;
+import static org.testng.Assert.assertEquals;
 
 public class InventoryGeneratorTest
 {
@@ -184,4 +187,31 @@ public class InventoryGeneratorTest
         chunkBoundaries = splitWork(INVENTORY, session);
         assertPartialMD5(chunkBoundaries.getFirstRow(), chunkBoundaries.getLastRow(), INVENTORY, session, "ef5f4fcb2379a30160fc143dbe9180d0");
     }
+
+    @Test
+    public void testBatchesMatchRowGenerator()
+    {
+        Session session = TEST_SESSION.withScale(1);
+        long rowCount = session.getScaling().getRowCount(INVENTORY);
+        assertBatchesMatchRowGenerator(1, 10000, session);
+        assertBatchesMatchRowGenerator(5432109, 5450000, session);
+        assertBatchesMatchRowGenerator(rowCount - 5000, rowCount, session);
+    }
+
+    private static void assertBatchesMatchRowGenerator(long startingRowNumber, long endingRowNumber, Session session)
+    {
+        InventoryRowGenerator rowGenerator = new InventoryRowGenerator();
+        rowGenerator.skipRowsUntilStartingRowNumber(startingRowNumber);
+        InventoryBatchGenerator batchGenerator = new InventoryBatchGenerator(startingRowNumber, endingRowNumber, session);
+
+        long rowNumber = startingRowNumber;
+        for (int rows = batchGenerator.nextBatch(); rows > 0; rows = batchGenerator.nextBatch()) {
+            for (int row = 0; row < rows; row++) {
+                assertEquals(batchGenerator.getRow(row).getValues(), rowGenerator.generateRowAndChildRows(rowNumber, session, null, null).getRowAndChildRows().get(0).getValues());
+                rowGenerator.consumeRemainingSeedsForRow();
+                rowNumber++;
+            }
+        }
+        assertEquals(rowNumber, endingRowNumber + 1);
+    }
 }
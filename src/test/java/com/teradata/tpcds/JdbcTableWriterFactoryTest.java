@@ -0,0 +1,205 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.google.common.collect.ImmutableList;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Optional;
+
+import static com.teradata.tpcds.Session.getDefaultSession;
+import static com.teradata.tpcds.Table.CALL_CENTER;
+import static com.teradata.tpcds.Table.DATE_DIM;
+import static com.teradata.tpcds.Table.STORE_RETURNS;
+import static com.teradata.tpcds.Table.STORE_SALES;
+import static com.teradata.tpcds.column.ColumnType.Base.DECIMAL;
+import static com.teradata.tpcds.column.StoreSalesColumn.SS_TICKET_NUMBER;
+import static java.lang.String.format;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class JdbcTableWriterFactoryTest
+{
+    private static final String URL = "jdbc:h2:mem:tpcds;DB_CLOSE_DELAY=-1";
+
+    private Connection connection;
+
+    @BeforeMethod
+    public void setUp()
+            throws SQLException
+    {
+        // keeps the in-memory database alive for the checks
+        connection = DriverManager.getConnection(URL);
+    }
+
+    @AfterMethod
+    public void tearDown()
+            throws SQLException
+    {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    public void testCreateTableStatement()
+    {
+        assertEquals(JdbcTableWriterFactory.getCreateTableStatement(Table.INCOME_BAND),
+                "CREATE TABLE income_band (ib_income_band_sk BIGINT, ib_lower_bound INTEGER, ib_upper_bound INTEGER)");
+        assertEquals(JdbcTableWriterFactory.getInsertStatement(Table.INCOME_BAND),
+                "INSERT INTO income_band (ib_income_band_sk, ib_lower_bound, ib_upper_bound) VALUES (?, ?, ?)");
+    }
+
+    @Test
+    public void testInsertParentAndChild()
+            throws Exception
+    {
+        Session session = getDefaultSession().withScale(0.01);
+        // small batches and commits so that several of each happen
+        try (JdbcTableWriterFactory writerFactory = new JdbcTableWriterFactory(URL, Optional.empty(), Optional.empty(), 100, 1000)) {
+            writerFactory.createTables(ImmutableList.of(CALL_CENTER, STORE_SALES, STORE_RETURNS));
+            TableGenerator generator = new TableGenerator(session, writerFactory);
+            generator.generateTable(CALL_CENTER);
+            generator.generateTable(STORE_SALES);
+        }
+
+        assertEquals(queryValue("SELECT count(*) FROM call_center"), countRows(CALL_CENTER, session));
+        assertEquals(queryValue("SELECT count(*) FROM store_sales"), countRows(STORE_SALES, session));
+        assertEquals(queryValue("SELECT count(*) FROM store_returns"), countRows(STORE_RETURNS, session));
+
+        List<String> firstCallCenter = Results.constructResults(CALL_CENTER, session).iterator().next().get(0);
+        assertEquals(queryValue("SELECT cc_call_center_id FROM call_center WHERE cc_call_center_sk = 1"), firstCallCenter.get(1));
+        assertEquals(queryValue("SELECT cc_rec_start_date FROM call_center WHERE cc_call_center_sk = 1"), firstCallCenter.get(2));
+        assertNull(queryValue("SELECT cc_rec_end_date FROM call_center WHERE cc_call_center_sk = 1"));
+        assertEquals(queryValue("SELECT cc_tax_percentage FROM call_center WHERE cc_call_center_sk = 1"), firstCallCenter.get(30));
+
+        BigDecimal expectedSum = BigDecimal.ZERO;
+        for (List<List<String>> rows : Results.constructResults(STORE_SALES, session)) {
+            String netPaid = rows.get(0).get(STORE_SALES.getColumns().length - 3);
+            if (netPaid != null) {
+                expectedSum = expectedSum.add(new BigDecimal(netPaid));
+            }
+        }
+        assertEquals(queryValue("SELECT sum(ss_net_paid) FROM store_sales"), expectedSum.toString());
+    }
+
+    @Test
+    public void testTypedValuesMatchTheStrings()
+            throws Exception
+    {
+        // call_center has dates, decimals and nulls; date_dim is served from its precomputed text
+        Session session = getDefaultSession();
+        try (JdbcTableWriterFactory writerFactory = new JdbcTableWriterFactory(URL, Optional.empty(), Optional.empty(), 100, 1000)) {
+            writerFactory.createTables(ImmutableList.of(CALL_CENTER, DATE_DIM));
+            TableGenerator generator = new TableGenerator(session, writerFactory);
+            generator.generateTable(CALL_CENTER);
+            generator.generateTable(DATE_DIM);
+        }
+
+        assertRowsMatch(CALL_CENTER, session);
+        assertRowsMatch(DATE_DIM, session);
+    }
+
+    private void assertRowsMatch(Table table, Session session)
+            throws SQLException
+    {
+        String key = table.getColumns()[0].getName();
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(format("SELECT * FROM %s ORDER BY %s", table.getName(), key))) {
+            for (List<List<String>> rows : Results.constructResults(table, session)) {
+                assertTrue(resultSet.next());
+                List<String> values = rows.get(0);
+                for (int column = 0; column < values.size(); column++) {
+                    String value = values.get(column);
+                    String name = table.getColumns()[column].getName();
+                    // a decimal column has the scale of its type, e.g. -5.00 for -5
+                    if (value != null && table.getColumns()[column].getType().getBase() == DECIMAL) {
+                        assertEquals(resultSet.getBigDecimal(column + 1).compareTo(new BigDecimal(value)), 0, name);
+                    }
+                    else {
+                        assertEquals(resultSet.getString(column + 1), value, name);
+                    }
+                }
+            }
+            assertFalse(resultSet.next());
+        }
+    }
+
+    @Test
+    public void testRollBackAfterFailure()
+            throws Exception
+    {
+        Session session = getDefaultSession().withScale(0.01).withTable(STORE_SALES);
+        // the insert of the first row of ticket 151 fails, in the middle of a batch
+        long rowsBeforeFailure = 0;
+        for (List<List<String>> rows : Results.constructResults(STORE_SALES, session)) {
+            if (Long.parseLong(rows.get(0).get(SS_TICKET_NUMBER.getPosition())) > 150) {
+                break;
+            }
+            rowsBeforeFailure++;
+        }
+        assertTrue(rowsBeforeFailure > 1000 && rowsBeforeFailure % 100 != 0, "the failure must be after a commit and within a batch");
+
+        try (JdbcTableWriterFactory writerFactory = new JdbcTableWriterFactory(URL, Optional.empty(), Optional.empty(), 100, 1000)) {
+            writerFactory.createTables(ImmutableList.of(STORE_SALES));
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER TABLE store_sales ADD CONSTRAINT ss_ticket_check CHECK (ss_ticket_number <= 150)");
+            }
+            new TableGenerator(session, writerFactory).generateTable(STORE_SALES);
+            fail("expected exception");
+        }
+        catch (TpcdsException expected) {
+        }
+
+        // only the rows of the intermediate commits are left
+        assertEquals(queryValue("SELECT count(*) FROM store_sales"), Long.toString(rowsBeforeFailure / 1000 * 1000));
+    }
+
+    private String queryValue(String sql)
+            throws SQLException
+    {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private static String countRows(Table table, Session session)
+    {
+        long count = 0;
+        int index = table.isChild() ? 1 : 0;
+        Table generatedTable = table.isChild() ? table.getParent() : table;
+        for (List<List<String>> rows : Results.constructResults(generatedTable, session)) {
+            if (rows.size() > index) {
+                count++;
+            }
+        }
+        return Long.toString(count);
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.google.common.collect.ImmutableList;
+import com.teradata.tpcds.row.TableRow;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.teradata.tpcds.Session.getDefaultSession;
+import static com.teradata.tpcds.Table.CALL_CENTER;
+import static com.teradata.tpcds.Table.STORE_SALES;
+import static com.teradata.tpcds.Table.WAREHOUSE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class JournalTest
+{
+    private static final List<Table> TABLES = ImmutableList.of(CALL_CENTER, STORE_SALES, WAREHOUSE);
+
+    private TemporaryDirectory temporaryDirectory;
+    private File directory;
+
+    @BeforeMethod
+    public void setUp()
+    {
+        temporaryDirectory = new TemporaryDirectory();
+        directory = temporaryDirectory.getDirectory();
+    }
+
+    @AfterMethod
+    public void tearDown()
+            throws IOException
+    {
+        temporaryDirectory.close();
+    }
+
+    @Test
+    public void testResume()
+            throws IOException
+    {
+        File expectedDirectory = new File(directory, "expected");
+        File resumedDirectory = new File(directory, "resumed");
+        assertTrue(expectedDirectory.mkdir());
+        assertTrue(resumedDirectory.mkdir());
+        Session session = getDefaultSession().withScale(0.01);
+
+        TableGenerator generator = new TableGenerator(session.withTargetDirectory(expectedDirectory.getPath()));
+        TABLES.forEach(generator::generateTable);
+
+        // the first run dies while generating store_sales, after some of it has been checkpointed
+        Session resumedSession = session.withTargetDirectory(resumedDirectory.getPath());
+        Path journalPath = resumedDirectory.toPath().resolve(Journal.FILE_NAME);
+        RecordingTableWriterFactory writerFactory = new RecordingTableWriterFactory(1000);
+        try (Journal journal = Journal.open(journalPath, resumedSession, 20)) {
+            generate(resumedSession, writerFactory, journal);
+            fail("expected the run to fail");
+        }
+        catch (TpcdsException expected) {
+        }
+        assertEquals(writerFactory.getCreatedTables(), ImmutableList.of("call_center", "store_sales", "store_returns"));
+        // and leaves a torn line behind
+        Files.write(journalPath, "checkpoint\tstore_sales\t1\t12".getBytes(UTF_8), StandardOpenOption.APPEND);
+
+        writerFactory = new RecordingTableWriterFactory(Long.MAX_VALUE);
+        try (Journal journal = Journal.open(journalPath, resumedSession, 20)) {
+            assertTrue(journal.isDone(CALL_CENTER, 1));
+            assertFalse(journal.isDone(STORE_SALES, 1));
+            assertTrue(journal.getCheckpoint(STORE_SALES, 1).get().getCompletedRows() > 0);
+            generate(resumedSession, writerFactory, journal);
+        }
+        assertEquals(writerFactory.getCreatedTables(), ImmutableList.of("store_sales (resumed)", "store_returns (resumed)", "warehouse (resumed)"));
+
+        for (Table table : ImmutableList.of(CALL_CENTER, STORE_SALES, Table.STORE_RETURNS, WAREHOUSE)) {
+            String fileName = table.getName() + session.getSuffix();
+            assertEquals(Files.readAllBytes(resumedDirectory.toPath().resolve(fileName)),
+                    Files.readAllBytes(expectedDirectory.toPath().resolve(fileName)),
+                    fileName);
+        }
+
+        // nothing is left to do
+        writerFactory = new RecordingTableWriterFactory(Long.MAX_VALUE);
+        try (Journal journal = Journal.open(journalPath, resumedSession, 20)) {
+            generate(resumedSession, writerFactory, journal);
+        }
+        assertEquals(writerFactory.getCreatedTables(), ImmutableList.of());
+    }
+
+    @Test
+    public void testDifferentOptions()
+            throws IOException
+    {
+        Session session = getDefaultSession().withScale(0.01).withTargetDirectory(directory.getPath());
+        Path journalPath = directory.toPath().resolve(Journal.FILE_NAME);
+        try (Journal journal = Journal.open(journalPath, session, 100)) {
+            journal.done(CALL_CENTER, 1);
+        }
+        try {
+            Journal.open(journalPath, session.withScale(0.1), 100);
+            fail("expected exception");
+        }
+        catch (TpcdsException e) {
+            assertTrue(e.getMessage().contains("was written by a run with different options (scale=0.01 parallelism=1"), e.getMessage());
+        }
+    }
+
+    private static void generate(Session session, TableWriterFactory writerFactory, Journal journal)
+    {
+        TableGenerator generator = new TableGenerator(session, writerFactory, Optional.empty(), Optional.empty(), Optional.of(journal));
+        TABLES.forEach(generator::generateTable);
+    }
+
+    // Fails after writing the given number of rows of a table
+    private static class RecordingTableWriterFactory
+            implements TableWriterFactory
+    {
+        private final FileTableWriterFactory delegate = new FileTableWriterFactory();
+        private final long rowsBeforeFailure;
+        private final List<String> createdTables = new ArrayList<>();
+
+        RecordingTableWriterFactory(long rowsBeforeFailure)
+        {
+            this.rowsBeforeFailure = rowsBeforeFailure;
+        }
+
+        List<String> getCreatedTables()
+        {
+            return createdTables;
+        }
+
+        @Override
+        public TableWriter createWriter(Table table, Session session)
+                throws IOException
+        {
+            createdTables.add(table.getName());
+            return new FailingTableWriter(delegate.createWriter(table, session));
+        }
+
+        @Override
+        public TableWriter resumeWriter(Table table, Session session, long bytes)
+                throws IOException
+        {
+            createdTables.add(table.getName() + " (resumed)");
+            return new FailingTableWriter(delegate.resumeWriter(table, session, bytes));
+        }
+
+        private class FailingTableWriter
+                implements TableWriter
+        {
+            private final TableWriter writer;
+            private long rows;
+
+            FailingTableWriter(TableWriter writer)
+            {
+                this.writer = writer;
+            }
+
+            @Override
+            public void writeRow(List<String> values)
+                    throws IOException
+            {
+                countRow();
+                writer.writeRow(values);
+            }
+
+            @Override
+            public void writeFormatted(TableRow row, CharSequence formattedRow)
+                    throws IOException
+            {
+                countRow();
+                writer.writeFormatted(row, formattedRow);
+            }
+
+            private void countRow()
+                    throws IOException
+            {
+                if (++rows > rowsBeforeFailure) {
+                    throw new IOException("failed");
+                }
+            }
+
+            @Override
+            public void flush()
+                    throws IOException
+            {
+                writer.flush();
+            }
+
+            @Override
+            public void close()
+                    throws IOException
+            {
+                writer.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,415 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingOutputStream;
+import com.teradata.tpcds.FileTableWriterFactory.TextTableWriter;
+import com.teradata.tpcds.row.TableRow;
+import io.airlift.airline.Command;
+import io.airlift.airline.HelpOption;
+import io.airlift.airline.Option;
+
+import javax.inject.Inject;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.airlift.airline.SingleCommand.singleCommand;
+import static java.lang.String.format;
+
+// End-to-end throughput of the generator: every table is generated with TableGenerator, one
+// thread per chunk like the Driver, for each combination of scale, parallelism and sink. The
+// null sink formats and encodes rows but discards the bytes; the disk sink writes data files.
+// The rows of a sales table and of its returns table, which are generated together, are reported
+// separately, each over the time of generating both. Results are written as JSON together with a
+// description of the JVM and machine, and can be compared against a baseline written by an earlier
+// run in the same environment, e.g.
+// mvn -P macro-benchmark test -Dmacro-benchmark.args="--tables store_sales --scales 1,10"
+@Command(name = "macro-benchmark", description = "end-to-end throughput benchmark for the TPC-DS generator")
+public class MacroBenchmark
+{
+    private static final String NULL_SINK = "null";
+    private static final String DISK_SINK = "disk";
+
+    @Inject
+    public HelpOption helpOption;
+
+    @Option(name = "--tables", description = "Comma separated tables to generate (Default: all tables)")
+    public String tables;
+
+    @Option(name = "--scales", description = "Comma separated scale factors (Default: 1)")
+    public String scales = "1";
+
+    @Option(name = "--parallelism", description = "Comma separated numbers of chunks, each generated by its own thread (Default: 1,2)")
+    public String parallelism = "1,2";
+
+    @Option(name = "--sinks", description = "Comma separated sinks, null and/or disk (Default: null,disk)")
+    public String sinks = NULL_SINK + "," + DISK_SINK;
+
+    @Option(name = "--directory", description = "Directory for the disk sink, emptied after each run (Default: target/macro-benchmark)")
+    public String directory = "target/macro-benchmark";
+
+    @Option(name = "--output", description = "File to write the results to as JSON")
+    public String output;
+
+    @Option(name = "--baseline", description = "Results of an earlier run to compare with")
+    public String baseline;
+
+    @Option(name = "--tolerance", description = "Fraction by which rows per second may fall below the baseline (Default: 0.2)")
+    public double tolerance = 0.2;
+
+    @Option(name = "--min-seconds", description = "Runs shorter than this are too noisy to be compared with the baseline (Default: 1)")
+    public double minSeconds = 1;
+
+    @Option(name = "--ignore-environment", description = "Compare with a baseline recorded on a different JVM or machine")
+    public boolean ignoreEnvironment;
+
+    public static void main(String[] args)
+            throws Exception
+    {
+        MacroBenchmark benchmark = singleCommand(MacroBenchmark.class).parse(args);
+        if (benchmark.helpOption.showHelpIfRequested()) {
+            return;
+        }
+        if (!benchmark.run()) {
+            // fail the Maven build
+            System.exit(1);
+        }
+    }
+
+    public boolean run()
+            throws Exception
+    {
+        List<Result> results = new ArrayList<>();
+        for (double scale : parseList(scales, Double::parseDouble)) {
+            for (int chunks : parseList(parallelism, Integer::parseInt)) {
+                for (String sink : parseList(sinks, String::valueOf)) {
+                    for (Table table : getTables()) {
+                        for (Result result : runTable(table, scale, chunks, sink)) {
+                            System.out.println(result);
+                            results.add(result);
+                        }
+                    }
+                }
+            }
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode environment = getEnvironment(mapper);
+        if (output != null) {
+            ObjectNode json = mapper.createObjectNode();
+            json.put("timestamp", Instant.now().toString());
+            json.set("environment", environment);
+            ArrayNode resultsJson = json.putArray("results");
+            results.forEach(result -> resultsJson.add(result.toJson(mapper)));
+            mapper.writerWithDefaultPrettyPrinter().writeValue(new File(output), json);
+        }
+
+        if (baseline == null) {
+            return true;
+        }
+        JsonNode baselineJson = mapper.readTree(new File(baseline));
+        if (!isSameEnvironment(environment, baselineJson.path("environment"))) {
+            if (!ignoreEnvironment) {
+                System.out.println("Not comparing with a baseline from a different environment, regenerate it with --output or use --ignore-environment");
+                return false;
+            }
+            System.out.println("WARNING: comparing with a baseline from a different environment");
+        }
+        return compareWithBaseline(results, baselineJson);
+    }
+
+    private List<Table> getTables()
+    {
+        if (tables == null) {
+            return Table.getBaseTables().stream()
+                    .filter(table -> !table.isChild())
+                    .collect(Collectors.toList());
+        }
+        return parseList(tables, name -> Table.valueOf(name.toUpperCase()));
+    }
+
+    // a result for the table and one for its child, if it has one
+    private List<Result> runTable(Table table, double scale, int chunks, String sink)
+            throws Exception
+    {
+        Session session = Session.getDefaultSession()
+                .withScale(scale)
+                .withParallelism(chunks)
+                .withTargetDirectory(directory);
+        if (sink.equals(DISK_SINK)) {
+            Files.createDirectories(new File(directory).toPath());
+            deleteFiles();
+        }
+
+        Map<Table, AtomicLong> rows = new ConcurrentHashMap<>();
+        Map<Table, AtomicLong> bytes = new ConcurrentHashMap<>();
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int chunk = 1; chunk <= chunks; chunk++) {
+            Session chunkSession = session.withChunkNumber(chunk);
+            TableWriterFactory writerFactory = countingWriterFactory(sink, rows, bytes);
+            Thread thread = new Thread(() -> new TableGenerator(chunkSession, writerFactory).generateTable(table));
+            thread.setUncaughtExceptionHandler((failedThread, exception) -> {
+                synchronized (failures) {
+                    failures.add(exception);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        if (!failures.isEmpty()) {
+            throw new TpcdsException(format("Generating %s failed: %s", table.getName(), failures.get(0)));
+        }
+        if (sink.equals(DISK_SINK)) {
+            deleteFiles();
+        }
+        List<Table> writtenTables = table.hasChild() ? ImmutableList.of(table, table.getChild()) : ImmutableList.of(table);
+        return writtenTables.stream()
+                .map(writtenTable -> new Result(writtenTable.getName(), scale, chunks, sink, getCount(rows, writtenTable), getCount(bytes, writtenTable), elapsedNanos / 1e9))
+                .collect(Collectors.toList());
+    }
+
+    private static long getCount(Map<Table, AtomicLong> counts, Table table)
+    {
+        AtomicLong count = counts.get(table);
+        return count == null ? 0 : count.get();
+    }
+
+    // counts the rows and the bytes of each table for both sinks as they are written
+    private static TableWriterFactory countingWriterFactory(String sink, Map<Table, AtomicLong> rows, Map<Table, AtomicLong> bytes)
+    {
+        switch (sink) {
+            case NULL_SINK:
+                return (table, session) -> countingWriter(ByteStreams.nullOutputStream(), session, getCounter(rows, table), getCounter(bytes, table));
+            case DISK_SINK:
+                return (table, session) -> countingWriter(FileTableWriterFactory.openFile(FileTableWriterFactory.getPath(table, session), session), session, getCounter(rows, table), getCounter(bytes, table));
+            default:
+                throw new IllegalArgumentException("Unknown sink: " + sink);
+        }
+    }
+
+    private static AtomicLong getCounter(Map<Table, AtomicLong> counts, Table table)
+    {
+        return counts.computeIfAbsent(table, key -> new AtomicLong());
+    }
+
+    private static TableWriter countingWriter(OutputStream out, Session session, AtomicLong rows, AtomicLong bytes)
+    {
+        CountingOutputStream countingStream = new CountingOutputStream(out);
+        TextTableWriter writer = new TextTableWriter(countingStream, session);
+        return new TableWriter()
+        {
+            private long rowCount;
+
+            @Override
+            public void writeRow(List<String> values)
+                    throws IOException
+            {
+                writer.writeRow(values);
+                rowCount++;
+            }
+
+            @Override
+            public void writeFormatted(TableRow row, CharSequence formattedRow)
+                    throws IOException
+            {
+                writer.writeFormatted(row, formattedRow);
+                rowCount++;
+            }
+
+            @Override
+            public void close()
+                    throws IOException
+            {
+                writer.close();
+                rows.addAndGet(rowCount);
+                bytes.addAndGet(countingStream.getCount());
+            }
+        };
+    }
+
+    private void deleteFiles()
+            throws IOException
+    {
+        try (Stream<Path> files = Files.list(new File(directory).toPath())) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private static ObjectNode getEnvironment(ObjectMapper mapper)
+    {
+        ObjectNode environment = mapper.createObjectNode();
+        for (String property : ImmutableList.of("java.version", "java.vm.name", "java.vm.version", "os.name", "os.version", "os.arch")) {
+            environment.put(property, System.getProperty(property));
+        }
+        environment.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        environment.put("maxMemory", Runtime.getRuntime().maxMemory());
+        ArrayNode arguments = environment.putArray("jvmArguments");
+        ManagementFactory.getRuntimeMXBean().getInputArguments().forEach(arguments::add);
+        return environment;
+    }
+
+    // Rows per second depend on the JVM, its options and the machine, so a baseline is only
+    // meaningful in the environment it was recorded in
+    private static boolean isSameEnvironment(JsonNode environment, JsonNode baselineEnvironment)
+    {
+        boolean same = true;
+        Iterator<String> names = environment.fieldNames();
+        while (names.hasNext()) {
+            String name = names.next();
+            if (!environment.get(name).equals(baselineEnvironment.get(name))) {
+                System.out.println(format("Environment differs from the baseline in %s: %s, baseline %s", name, environment.get(name), baselineEnvironment.get(name)));
+                same = false;
+            }
+        }
+        return same;
+    }
+
+    private boolean compareWithBaseline(List<Result> results, JsonNode baselineJson)
+    {
+        Map<String, Double> baselineRowsPerSecond = new HashMap<>();
+        for (JsonNode result : baselineJson.get("results")) {
+            String key = getKey(result.get("table").asText(), result.get("scale").asDouble(), result.get("parallelism").asInt(), result.get("sink").asText());
+            baselineRowsPerSecond.put(key, result.get("rowsPerSecond").asDouble());
+        }
+
+        boolean passed = true;
+        for (Result result : results) {
+            Double expected = baselineRowsPerSecond.get(result.getKey());
+            if (result.getSeconds() < minSeconds) {
+                continue;
+            }
+            if (expected == null) {
+                System.out.println("No baseline for " + result.getKey());
+                continue;
+            }
+            double change = result.getRowsPerSecond() / expected - 1;
+            if (change < -tolerance) {
+                System.out.println(format("REGRESSION %s: %.0f rows/s, baseline %.0f rows/s (%+.1f%%)", result.getKey(), result.getRowsPerSecond(), expected, change * 100));
+                passed = false;
+            }
+            else {
+                System.out.println(format("OK %s: %+.1f%%", result.getKey(), change * 100));
+            }
+        }
+        return passed;
+    }
+
+    private static String getKey(String table, double scale, int parallelism, String sink)
+    {
+        return format("%s scale=%s parallelism=%d sink=%s", table, scale, parallelism, sink);
+    }
+
+    private static <T> List<T> parseList(String values, Function<String, T> parser)
+    {
+        return Splitter.on(',').trimResults().omitEmptyStrings().splitToList(values).stream()
+                .map(parser)
+                .collect(Collectors.toList());
+    }
+
+    private static class Result
+    {
+        private final String table;
+        private final double scale;
+        private final int parallelism;
+        private final String sink;
+        private final long rows;
+        private final long bytes;
+        private final double seconds;
+
+        Result(String table, double scale, int parallelism, String sink, long rows, long bytes, double seconds)
+        {
+            this.table = table;
+            this.scale = scale;
+            this.parallelism = parallelism;
+            this.sink = sink;
+            this.rows = rows;
+            this.bytes = bytes;
+            this.seconds = seconds;
+        }
+
+        String getKey()
+        {
+            return MacroBenchmark.getKey(table, scale, parallelism, sink);
+        }
+
+        double getSeconds()
+        {
+            return seconds;
+        }
+
+        double getRowsPerSecond()
+        {
+            return rows / seconds;
+        }
+
+        double getMegabytesPerSecond()
+        {
+            return bytes / seconds / (1024 * 1024);
+        }
+
+        ObjectNode toJson(ObjectMapper mapper)
+        {
+            ObjectNode json = mapper.createObjectNode();
+            json.put("table", table);
+            json.put("scale", scale);
+            json.put("parallelism", parallelism);
+            json.put("sink", sink);
+            json.put("rows", rows);
+            json.put("bytes", bytes);
+            json.put("seconds", seconds);
+            json.put("rowsPerSecond", getRowsPerSecond());
+            json.put("megabytesPerSecond", getMegabytesPerSecond());
+            return json;
+        }
+
+        @Override
+        public String toString()
+        {
+            return format("%s: %d rows, %d bytes in %.2fs, %.0f rows/s, %.1f MB/s", getKey(), rows, bytes, seconds, getRowsPerSecond(), getMegabytesPerSecond());
+        }
+    }
+}
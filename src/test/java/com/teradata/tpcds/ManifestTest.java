@@ -0,0 +1,183 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.Hashing;
+import com.teradata.tpcds.Parallel.ChunkBoundaries;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.teradata.tpcds.Parallel.splitWork;
+import static com.teradata.tpcds.Session.getDefaultSession;
+import static com.teradata.tpcds.Table.CALL_CENTER;
+import static com.teradata.tpcds.Table.STORE_RETURNS;
+import static com.teradata.tpcds.Table.STORE_SALES;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class ManifestTest
+{
+    private TemporaryDirectory temporaryDirectory;
+    private File directory;
+
+    @BeforeMethod
+    public void setUp()
+    {
+        temporaryDirectory = new TemporaryDirectory();
+        directory = temporaryDirectory.getDirectory();
+    }
+
+    @AfterMethod
+    public void tearDown()
+            throws IOException
+    {
+        temporaryDirectory.close();
+    }
+
+    @Test
+    public void testMd5()
+            throws IOException
+    {
+        Manifest manifest = generate(ChecksumAlgorithm.MD5);
+        for (Manifest.Entry entry : manifest.getEntries()) {
+            byte[] data = Files.readAllBytes(new File(directory, entry.getFileName()).toPath());
+            assertEquals(entry.getDigest(), Hashing.md5().hashBytes(data).toString());
+            assertEquals(entry.getByteCount(), data.length);
+            assertEquals(entry.getRowCount(), countLines(data));
+        }
+    }
+
+    @Test
+    public void testCrc32c()
+            throws IOException
+    {
+        Manifest manifest = generate(ChecksumAlgorithm.CRC32C);
+        for (Manifest.Entry entry : manifest.getEntries()) {
+            byte[] data = Files.readAllBytes(new File(directory, entry.getFileName()).toPath());
+            assertEquals(entry.getDigest(), format("%08x", Hashing.crc32c().hashBytes(data).asInt()));
+            assertEquals(entry.getByteCount(), data.length);
+        }
+    }
+
+    @Test
+    public void testEntries()
+            throws IOException
+    {
+        Manifest manifest = generate(ChecksumAlgorithm.MD5);
+        Session session = getSession();
+
+        // one file per table and chunk; store_returns is generated over the row range of store_sales
+        List<Manifest.Entry> entries = manifest.getEntries();
+        assertEquals(entries.size(), 6);
+        for (Manifest.Entry entry : entries) {
+            Session chunkSession = session.withChunkNumber(entry.getChunkNumber());
+            assertEquals(entry.getFileName(), FileTableWriterFactory.getFileName(entry.getTable(), chunkSession));
+            Table generatedTable = entry.getTable() == STORE_RETURNS ? STORE_SALES : entry.getTable();
+            ChunkBoundaries chunkBoundaries = splitWork(generatedTable, chunkSession);
+            assertEquals(entry.getFirstRow(), chunkBoundaries.getFirstRow());
+            assertEquals(entry.getLastRow(), chunkBoundaries.getLastRow());
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        manifest.write(out);
+        String[] lines = new String(out.toByteArray(), ISO_8859_1).split("\n");
+        assertEquals(lines.length, 7);
+        assertEquals(lines[0], "file\ttable\tchunk\tfirst_row\tlast_row\trows\tbytes\tmd5");
+        assertTrue(lines[1].startsWith("call_center_1_2.dat\tcall_center\t1\t1\t2\t2\t607\t"), lines[1]);
+    }
+
+    @Test
+    public void testVerify()
+            throws IOException
+    {
+        // the files written, checksummed by md5sum
+        generate(ChecksumAlgorithm.MD5);
+        StringBuilder md5sums = new StringBuilder();
+        for (File file : directory.listFiles()) {
+            md5sums.append(Hashing.md5().hashBytes(Files.readAllBytes(file.toPath()))).append("  ./").append(file.getName()).append("\n");
+        }
+        Map<String, String> expectedDigests = Manifest.readDigests(new StringReader(md5sums.toString()));
+        assertEquals(expectedDigests.size(), 6);
+
+        // nothing is written, but the digests are those of the files
+        Manifest manifest = new Manifest(ChecksumAlgorithm.MD5);
+        generateWith(new NullTableWriterFactory(manifest));
+        assertEquals(directory.listFiles().length, 6);
+        assertEquals(manifest.verify(expectedDigests, new PrintStream(new ByteArrayOutputStream(), true, "ISO-8859-1")), 0);
+
+        // a manifest can be used as well
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        manifest.write(out);
+        assertEquals(Manifest.readDigests(new StringReader(new String(out.toByteArray(), ISO_8859_1))), expectedDigests);
+
+        expectedDigests.put("call_center_1_2.dat", "0123456789abcdef0123456789abcdef");
+        expectedDigests.remove("store_returns_2_2.dat");
+        ByteArrayOutputStream report = new ByteArrayOutputStream();
+        assertEquals(manifest.verify(expectedDigests, new PrintStream(report, true, "ISO-8859-1")), 2);
+        String[] lines = new String(report.toByteArray(), ISO_8859_1).split("\n");
+        assertEquals(lines.length, 6);
+        assertTrue(lines[0].startsWith("call_center_1_2.dat: FAILED (expected 0123456789abcdef0123456789abcdef, got "), lines[0]);
+        assertEquals(lines[1], "call_center_2_2.dat: OK");
+        assertEquals(lines[3], "store_returns_2_2.dat: NO EXPECTED DIGEST");
+    }
+
+    private Manifest generate(ChecksumAlgorithm algorithm)
+    {
+        Manifest manifest = new Manifest(algorithm);
+        generateWith(new FileTableWriterFactory(Optional.of(manifest)));
+        return manifest;
+    }
+
+    private void generateWith(TableWriterFactory writerFactory)
+    {
+        Session session = getSession();
+        for (int chunk = 1; chunk <= session.getParallelism(); chunk++) {
+            TableGenerator generator = new TableGenerator(session.withChunkNumber(chunk), writerFactory);
+            for (Table table : ImmutableList.of(CALL_CENTER, STORE_SALES)) {
+                generator.generateTable(table);
+            }
+        }
+    }
+
+    private Session getSession()
+    {
+        return getDefaultSession().withScale(0.01).withParallelism(2).withTargetDirectory(directory.getPath());
+    }
+
+    private static long countLines(byte[] data)
+    {
+        long lines = 0;
+        for (byte value : data) {
+            if (value == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+}
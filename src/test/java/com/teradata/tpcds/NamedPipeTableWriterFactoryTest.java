@@ -0,0 +1,92 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.google.common.io.Files;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.teradata.tpcds.GeneratorAssertions.expectedRows;
+import static com.teradata.tpcds.Session.getDefaultSession;
+import static com.teradata.tpcds.Table.CALL_CENTER;
+import static com.teradata.tpcds.Table.STORE_RETURNS;
+import static com.teradata.tpcds.Table.STORE_SALES;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.testng.Assert.assertEquals;
+
+public class NamedPipeTableWriterFactoryTest
+{
+    private TemporaryDirectory temporaryDirectory;
+    private File directory;
+    private ExecutorService executor;
+
+    @BeforeMethod
+    public void setUp()
+    {
+        temporaryDirectory = new TemporaryDirectory();
+        directory = temporaryDirectory.getDirectory();
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterMethod
+    public void tearDown()
+            throws IOException
+    {
+        executor.shutdownNow();
+        temporaryDirectory.close();
+    }
+
+    @Test(timeOut = 60000)
+    public void testParentAndChildArePipedSeparately()
+            throws Exception
+    {
+        Session session = getDefaultSession().withScale(0.01).withTargetDirectory(directory.getPath());
+        Future<String> storeSales = executor.submit(() -> readPipe(new File(directory, "store_sales.dat")));
+        Future<String> storeReturns = executor.submit(() -> readPipe(new File(directory, "store_returns.dat")));
+
+        new TableGenerator(session, new NamedPipeTableWriterFactory()).generateTable(STORE_SALES);
+
+        assertEquals(storeSales.get(), expectedRows(STORE_SALES, session));
+        assertEquals(storeReturns.get(), expectedRows(STORE_RETURNS, session));
+    }
+
+    @Test(timeOut = 60000)
+    public void testStdout()
+            throws Exception
+    {
+        Session session = getDefaultSession().withTable(CALL_CENTER);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new TableGenerator(session, new StdoutTableWriterFactory(out)).generateTable(CALL_CENTER);
+        assertEquals(new String(out.toByteArray(), ISO_8859_1), expectedRows(CALL_CENTER, session));
+    }
+
+    private static String readPipe(File pipe)
+            throws IOException, InterruptedException
+    {
+        // the pipe is created by the generator
+        while (!pipe.exists()) {
+            Thread.sleep(10);
+        }
+        return Files.toString(pipe, ISO_8859_1);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.google.common.base.Splitter;
+import com.google.common.io.Files;
+import com.teradata.tpcds.PartitionedTableWriterFactory.Granularity;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.teradata.tpcds.GeneratorAssertions.expectedRows;
+import static com.teradata.tpcds.Session.getDefaultSession;
+import static com.teradata.tpcds.Table.INVENTORY;
+import static com.teradata.tpcds.Table.STORE_RETURNS;
+import static com.teradata.tpcds.Table.STORE_SALES;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class PartitionedTableWriterFactoryTest
+{
+    private TemporaryDirectory temporaryDirectory;
+    private File directory;
+
+    @BeforeMethod
+    public void setUp()
+    {
+        temporaryDirectory = new TemporaryDirectory();
+        directory = temporaryDirectory.getDirectory();
+    }
+
+    @AfterMethod
+    public void tearDown()
+            throws IOException
+    {
+        temporaryDirectory.close();
+    }
+
+    @Test
+    public void testPartitionsContainAllRows()
+            throws IOException
+    {
+        Session session = getDefaultSession().withScale(0.01).withTargetDirectory(directory.getPath());
+
+        // a small number of open files forces partitions to be closed and reopened
+        new TableGenerator(session, new PartitionedTableWriterFactory(Granularity.DAY, 3)).generateTable(STORE_SALES);
+
+        File tableDirectory = new File(directory, "store_sales");
+        File[] partitions = tableDirectory.listFiles();
+        assertTrue(partitions.length > 3);
+        for (File partition : partitions) {
+            assertTrue(partition.getName().startsWith("ss_sold_date_sk="), partition.getName());
+            for (String line : Files.readLines(new File(partition, "store_sales.dat"), ISO_8859_1)) {
+                String partitionValue = partition.getName().substring("ss_sold_date_sk=".length());
+                String dateKey = line.substring(0, line.indexOf('|'));
+                assertEquals(dateKey.isEmpty() ? PartitionedTableWriterFactory.NULL_PARTITION_VALUE : dateKey, partitionValue);
+            }
+        }
+
+        assertEquals(readRows(tableDirectory.toPath()), generateRows(STORE_SALES, session));
+
+        // the child table is not partitioned
+        assertEquals(readRows(new File(directory, "store_returns.dat").toPath()), generateRows(STORE_RETURNS, session));
+    }
+
+    @Test
+    public void testMonthGranularity()
+            throws IOException
+    {
+        Session session = getDefaultSession().withScale(0.01).withTable(INVENTORY).withTargetDirectory(directory.getPath());
+        new TableGenerator(session, new PartitionedTableWriterFactory(Granularity.MONTH, 256)).generateTable(INVENTORY);
+
+        File tableDirectory = new File(directory, "inventory");
+        assertTrue(new File(tableDirectory, "inv_date_month=1998-01").isDirectory());
+        assertTrue(new File(tableDirectory, "inv_date_month=2002-12").isDirectory());
+        assertEquals(tableDirectory.listFiles().length, 60);
+        assertEquals(readRows(tableDirectory.toPath()), generateRows(INVENTORY, session));
+    }
+
+    private static List<String> readRows(Path path)
+            throws IOException
+    {
+        List<String> rows = new ArrayList<>();
+        try (Stream<Path> files = java.nio.file.Files.walk(path)) {
+            for (Path file : files.filter(java.nio.file.Files::isRegularFile).collect(Collectors.toList())) {
+                rows.addAll(java.nio.file.Files.readAllLines(file, ISO_8859_1));
+            }
+        }
+        rows.sort(null);
+        return rows;
+    }
+
+    private static List<String> generateRows(Table table, Session session)
+    {
+        List<String> rows = new ArrayList<>(Splitter.on('\n').omitEmptyStrings().splitToList(expectedRows(table, session)));
+        rows.sort(null);
+        return rows;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.google.common.collect.ImmutableList;
+import org.testng.annotations.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Optional;
+
+import static com.teradata.tpcds.Session.getDefaultSession;
+import static com.teradata.tpcds.Table.CALL_CENTER;
+import static com.teradata.tpcds.Table.STORE_SALES;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ProgressTest
+{
+    @Test
+    public void testProgress()
+    {
+        Session session = getDefaultSession().withScale(0.01).withParallelism(2);
+        List<Table> tables = ImmutableList.of(CALL_CENTER, STORE_SALES);
+        Progress progress = new Progress(tables, session);
+
+        // sales tables count tickets, like Scaling
+        assertEquals(progress.getExpectedRows(), session.getScaling().getRowCount(CALL_CENTER) + session.getScaling().getRowCount(STORE_SALES));
+        assertEquals(progress.getChunks().size(), 4);
+        assertEquals(progress.getFractionDone(), 0.0);
+        assertEquals(progress.getEstimatedMillisRemaining(), -1);
+        assertFalse(progress.isFinished());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int chunk = 1; chunk <= 2; chunk++) {
+            TableGenerator generator = new TableGenerator(session.withChunkNumber(chunk), new StdoutTableWriterFactory(out), Optional.of(progress));
+            tables.forEach(generator::generateTable);
+        }
+
+        assertTrue(progress.isFinished());
+        assertEquals(progress.getCompletedRows(), progress.getExpectedRows());
+        assertEquals(progress.getFractionDone(), 1.0);
+        assertEquals(progress.getEstimatedMillisRemaining(), 0);
+        assertEquals(progress.getBytesWritten(), out.size());
+
+        ChunkProgress storeSales = progress.getChunkProgress(STORE_SALES, 1);
+        assertEquals(storeSales.getCompletedRows(), session.getScaling().getRowCount(STORE_SALES));
+        assertTrue(storeSales.getRowsWritten() > storeSales.getCompletedRows(), "line items and returns are written per ticket");
+        assertEquals(progress.getRowsWritten(), out.toString().split("\n").length);
+
+        // too small to be split, so the second chunk has nothing to do
+        assertEquals(progress.getChunkProgress(STORE_SALES, 2).getExpectedRows(), 0);
+        assertTrue(progress.getProgressLine().startsWith("100.0% "), progress.getProgressLine());
+        assertTrue(progress.toJson().contains("{\"table\":\"store_sales\",\"chunk\":1,\"expectedRows\":" + storeSales.getExpectedRows()), progress.toJson());
+    }
+
+    @Test
+    public void testResumedRowsAreNotCountedTowardsTheRate()
+    {
+        Session session = getDefaultSession().withScale(0.01);
+        Progress progress = new Progress(ImmutableList.of(STORE_SALES), session);
+        ChunkProgress chunk = progress.getChunkProgress(STORE_SALES, 1);
+        long expectedRows = chunk.getExpectedRows();
+
+        // rows done by the earlier run count as done, but this run has not produced any yet
+        chunk.resumed(expectedRows / 2);
+        chunk.started();
+        assertEquals(progress.getCompletedRows(), expectedRows / 2);
+        assertEquals(progress.getResumedRows(), expectedRows / 2);
+        assertEquals(progress.getEstimatedMillisRemaining(), -1);
+
+        chunk.rowsWritten(expectedRows / 2 + 1, 1, 100);
+        assertTrue(progress.getEstimatedMillisRemaining() >= 0);
+        assertTrue(progress.toJson().contains("\"resumedRows\":" + expectedRows / 2), progress.toJson());
+    }
+
+    @Test
+    public void testMBeans()
+            throws Exception
+    {
+        Session session = getDefaultSession();
+        Progress progress = new Progress(ImmutableList.of(CALL_CENTER), session);
+        new TableGenerator(session, new StdoutTableWriterFactory(new ByteArrayOutputStream()), Optional.of(progress)).generateTable(CALL_CENTER);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        progress.registerMBeans();
+        try {
+            assertEquals(server.getAttribute(new ObjectName("com.teradata.tpcds:type=Progress"), "CompletedRows"), 6L);
+            assertEquals(server.getAttribute(new ObjectName("com.teradata.tpcds:type=Progress,name=call_center,chunk=1"), "Finished"), true);
+        }
+        finally {
+            progress.unregisterMBeans();
+        }
+        assertFalse(server.isRegistered(new ObjectName("com.teradata.tpcds:type=Progress")));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.google.common.collect.ImmutableList;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static com.teradata.tpcds.Session.getDefaultSession;
+import static com.teradata.tpcds.Table.CATALOG_RETURNS;
+import static com.teradata.tpcds.Table.CATALOG_SALES;
+import static com.teradata.tpcds.Table.CUSTOMER;
+import static com.teradata.tpcds.Table.DATE_DIM;
+import static com.teradata.tpcds.Table.INVENTORY;
+import static com.teradata.tpcds.Table.ITEM;
+import static com.teradata.tpcds.Table.STORE_RETURNS;
+import static com.teradata.tpcds.Table.STORE_SALES;
+import static com.teradata.tpcds.Table.WEB_RETURNS;
+import static com.teradata.tpcds.Table.WEB_SALES;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class ResultsSpliteratorTest
+{
+    @Test
+    public void testParallelStreamMatchesIterator()
+    {
+        Session session = getDefaultSession().withScale(0.01);
+        for (Table table : ImmutableList.of(STORE_SALES, CATALOG_SALES, CATALOG_RETURNS, ITEM, CUSTOMER, INVENTORY, DATE_DIM)) {
+            long endingRowNumber = Math.min(5000, session.getScaling().getRowCount(table));
+            Results results = Results.constructResults(table, 3, endingRowNumber, session);
+            List<List<List<String>>> expected = ImmutableList.copyOf(results);
+            assertEquals(results.parallelStream().collect(Collectors.toList()), expected, table.getName());
+            assertEquals(results.stream().collect(Collectors.toList()), expected, table.getName());
+        }
+    }
+
+    @Test
+    public void testSplitHalvesTheRows()
+    {
+        Session session = getDefaultSession().withScale(0.01);
+        Spliterator<List<List<String>>> suffix = Results.constructResults(CUSTOMER, 1, 999, session).spliterator();
+        assertTrue(suffix.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(suffix.getExactSizeIfKnown(), 999);
+
+        Spliterator<List<List<String>>> prefix = suffix.trySplit();
+        assertNotNull(prefix);
+        assertEquals(prefix.getExactSizeIfKnown(), 499);
+        assertEquals(suffix.getExactSizeIfKnown(), 500);
+
+        suffix.tryAdvance(rows -> assertEquals(rows.get(0).get(0), "500"));
+        assertEquals(suffix.getExactSizeIfKnown(), 499);
+        // a spliterator that has started does not split
+        assertNull(suffix.trySplit());
+    }
+
+    @Test
+    public void testTablesThatKeepHistoryAreNotSplit()
+    {
+        Session session = getDefaultSession().withScale(0.01);
+        assertNull(Results.constructResults(ITEM, 1, 1000, session).spliterator().trySplit());
+    }
+
+    @Test
+    public void testSizeOfSalesIsAnEstimate()
+    {
+        Session session = getDefaultSession().withScale(0.01);
+        Spliterator<List<List<String>>> spliterator = Results.constructResults(STORE_SALES, 1, 100, session).spliterator();
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        // 8 to 16 line items per ticket
+        assertEquals(spliterator.estimateSize(), 1200);
+        // 4 to 14 line items per order, of which a tenth is returned
+        assertEquals(Results.constructResults(CATALOG_RETURNS, 1, 100, session).spliterator().estimateSize(), 90);
+    }
+
+    @Test
+    public void testSizeOfSalesAndReturnsIsCloseToTheElements()
+    {
+        Session session = getDefaultSession().withScale(0.01);
+        for (Table table : ImmutableList.of(STORE_SALES, STORE_RETURNS, CATALOG_SALES, CATALOG_RETURNS, WEB_SALES, WEB_RETURNS)) {
+            Results results = Results.constructResults(table, 1, Math.min(2000, session.getScaling().getRowCount(table)), session);
+            long elements = results.stream().count();
+            long estimate = results.spliterator().estimateSize();
+            assertTrue(Math.abs(estimate - elements) < elements / 10, String.format("%s: estimated %s, got %s", table, estimate, elements));
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.google.common.collect.ImmutableList;
+import com.teradata.tpcds.row.TableRow;
+import com.teradata.tpcds.row.generator.RowGenerator;
+import com.teradata.tpcds.row.generator.RowGeneratorResult;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.teradata.tpcds.RowGeneratorPool.borrowRowGenerator;
+import static com.teradata.tpcds.RowGeneratorPool.returnRowGenerator;
+import static com.teradata.tpcds.Session.getDefaultSession;
+import static com.teradata.tpcds.Table.CALL_CENTER;
+import static com.teradata.tpcds.Table.CATALOG_RETURNS;
+import static com.teradata.tpcds.Table.CATALOG_SALES;
+import static com.teradata.tpcds.Table.CUSTOMER_DEMOGRAPHICS;
+import static com.teradata.tpcds.Table.DATE_DIM;
+import static com.teradata.tpcds.Table.INVENTORY;
+import static com.teradata.tpcds.Table.ITEM;
+import static com.teradata.tpcds.Table.STORE_RETURNS;
+import static com.teradata.tpcds.Table.STORE_SALES;
+import static com.teradata.tpcds.Table.TIME_DIM;
+import static com.teradata.tpcds.Table.WEB_RETURNS;
+import static com.teradata.tpcds.Table.WEB_SALES;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class RowGeneratorPoolTest
+{
+    @Test
+    public void testReusedGeneratorsProduceTheSameRows()
+            throws Exception
+    {
+        Session session = getDefaultSession().withScale(0.01);
+        for (Table table : ImmutableList.of(CALL_CENTER, ITEM, CATALOG_SALES, CATALOG_RETURNS, WEB_SALES)) {
+            long endingRowNumber = Math.min(30, session.getScaling().getRowCount(table));
+            // the generators of the first range are reused for the second one
+            generate(table, 1, endingRowNumber, session);
+            List<List<List<String>>> reused = generate(table, 2, endingRowNumber, session);
+
+            // a new thread has no pooled generators
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                assertEquals(reused, executor.submit(() -> generate(table, 2, endingRowNumber, session)).get(), table.getName());
+            }
+            finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    public void testRandomNumbersDrawnAfterGeneratorsAreReused()
+    {
+        Session session = getDefaultSession().withScale(0.01);
+        Results.ResultsIterator first = Results.constructResults(ITEM, 1, 10, session).resultsIterator();
+        first.forEachRemaining(rows -> { });
+        long randomNumbersDrawn = first.getRandomNumbersDrawn();
+
+        Results.constructResults(ITEM, 1, 5, session).resultsIterator().forEachRemaining(rows -> { });
+        assertEquals(first.getRandomNumbersDrawn(), randomNumbersDrawn);
+    }
+
+    @Test
+    public void testReusedResults()
+    {
+        Session session = getDefaultSession().withScale(0.01);
+        for (Table table : ImmutableList.of(CALL_CENTER, CATALOG_SALES, CATALOG_RETURNS, STORE_SALES, STORE_RETURNS, WEB_SALES, WEB_RETURNS)) {
+            long endingRowNumber = Math.min(30, session.getScaling().getRowCount(table));
+            Results.ResultsIterator iterator = Results.constructResults(table, 1, endingRowNumber, session).resultsIterator();
+            iterator.reuseRows();
+            ImmutableList.Builder<List<List<String>>> reused = ImmutableList.builder();
+            iterator.forEachRemaining(rows -> reused.add(ImmutableList.copyOf(rows)));
+            assertEquals(reused.build(), generate(table, 1, endingRowNumber, session), table.getName());
+        }
+
+        RowGenerator generator = CALL_CENTER.createRowGenerator();
+        generator.reuseResults();
+        RowGeneratorResult first = generator.generateRowAndChildRows(1, session, null, null);
+        generator.consumeRemainingSeedsForRow();
+        assertSame(generator.generateRowAndChildRows(2, session, null, null), first);
+
+        // a pooled generator is reset before it is reused, which ends the reuse of results
+        generator.reset();
+        assertNotSame(generator.generateRowAndChildRows(1, session, null, null), first);
+    }
+
+    @Test
+    public void testReusedRows()
+    {
+        // the sales generators fill one row and one return row for every line item
+        Session session = getDefaultSession().withScale(0.01);
+        Results.ResultsIterator iterator = Results.constructResults(STORE_SALES, 1, 100, session).resultsIterator();
+        iterator.reuseRows();
+        TableRow sale = null;
+        TableRow storeReturn = null;
+        for (List<TableRow> rows = iterator.nextRows(); !rows.isEmpty(); rows = iterator.nextRows()) {
+            sale = sale == null ? rows.get(0) : sale;
+            assertSame(rows.get(0), sale);
+            if (rows.size() > 1) {
+                storeReturn = storeReturn == null ? rows.get(1) : storeReturn;
+                assertSame(rows.get(1), storeReturn);
+            }
+        }
+        assertNotNull(storeReturn);
+
+        // without reuse, every row is a new one
+        Results.ResultsIterator notReused = Results.constructResults(STORE_SALES, 1, 2, session).resultsIterator();
+        assertNotSame(notReused.nextRows().get(0), notReused.nextRows().get(0));
+    }
+
+    @Test
+    public void testBatchTablesBorrowNoGenerators()
+            throws Exception
+    {
+        Session session = getDefaultSession().withScale(0.01);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            for (Table table : ImmutableList.of(CUSTOMER_DEMOGRAPHICS, INVENTORY, DATE_DIM, TIME_DIM)) {
+                executor.submit(() -> {
+                    RowGenerator pooled = table.createRowGenerator();
+                    returnRowGenerator(table, pooled);
+                    Results.ResultsIterator iterator = Results.constructResults(table, 10, 20, session).resultsIterator();
+                    assertEquals(iterator.nextRows().size(), 1);
+                    assertSame(borrowRowGenerator(table), pooled, table.getName());
+                }).get();
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testRowGeneratorClass()
+    {
+        assertEquals(CALL_CENTER.getRowGeneratorClass(), CALL_CENTER.createRowGenerator().getClass());
+        assertNull(Table.S_ZIPG.getRowGeneratorClass());
+    }
+
+    private static List<List<List<String>>> generate(Table table, long startingRowNumber, long endingRowNumber, Session session)
+    {
+        return ImmutableList.copyOf(Results.constructResults(table, startingRowNumber, endingRowNumber, session));
+    }
+}
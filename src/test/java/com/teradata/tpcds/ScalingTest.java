@@ -0,0 +1,49 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import org.testng.annotations.Test;
+
+import static com.teradata.tpcds.Scaling.DATE_SCALED_TABLES;
+import static com.teradata.tpcds.Scaling.getScaling;
+import static com.teradata.tpcds.Session.getDefaultSession;
+import static com.teradata.tpcds.type.Date.JULIAN_DATA_END_DATE;
+import static com.teradata.tpcds.type.Date.JULIAN_DATA_START_DATE;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+public class ScalingTest
+{
+    @Test
+    public void testPrecomputedRowCountsForDate()
+    {
+        for (double scale : new double[] {0.01, 1, 100}) {
+            Scaling scaling = getScaling(scale);
+            for (Table table : DATE_SCALED_TABLES) {
+                // one day on either side of the data set is computed rather than looked up
+                for (long julianDate = JULIAN_DATA_START_DATE - 1; julianDate <= JULIAN_DATA_END_DATE + 1; julianDate++) {
+                    assertEquals(scaling.getRowCountForDate(table, julianDate), scaling.computeRowCountForDate(table, julianDate), table + " on " + julianDate + " at scale " + scale);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testScalingsAreShared()
+    {
+        assertSame(getScaling(1), getScaling(1));
+        assertSame(getDefaultSession().withScale(0.01).getScaling(), getScaling(0.01));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.Files;
+import com.teradata.tpcds.StageTimings.Stage;
+import com.teradata.tpcds.generator.GeneratorColumn;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import static com.teradata.tpcds.GeneratorAssertions.expectedRows;
+import static com.teradata.tpcds.Session.getDefaultSession;
+import static com.teradata.tpcds.Table.CUSTOMER_DEMOGRAPHICS;
+import static com.teradata.tpcds.Table.DATE_DIM;
+import static com.teradata.tpcds.Table.INCOME_BAND;
+import static com.teradata.tpcds.Table.STORE_RETURNS;
+import static com.teradata.tpcds.Table.STORE_SALES;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class StageTimingsTest
+{
+    @Test
+    public void testStageTimings()
+    {
+        Session session = getDefaultSession().withScale(0.01);
+        StageTimings stageTimings = new StageTimings(1);
+        TableGenerator generator = new TableGenerator(session, new StdoutTableWriterFactory(ByteStreams.nullOutputStream()), Optional.empty(), Optional.of(stageTimings));
+        generator.generateTable(STORE_SALES);
+        generator.generateTable(INCOME_BAND);
+        generator.generateTable(CUSTOMER_DEMOGRAPHICS);
+
+        // store_sales rows include the store_returns rows generated with them
+        long storeSalesRows = 0;
+        for (List<List<String>> rows : Results.constructResults(STORE_SALES, session)) {
+            storeSalesRows += rows.size();
+        }
+        assertEquals(stageTimings.getRows(STORE_SALES), storeSalesRows);
+        assertEquals(stageTimings.getRows(INCOME_BAND), 20);
+        for (Stage stage : Stage.values()) {
+            assertTrue(stageTimings.getNanos(STORE_SALES, stage) > 0, stage.toString());
+        }
+
+        // every row uses up the seeds of all of its generator columns
+        int seedsPerRow = 0;
+        for (GeneratorColumn column : INCOME_BAND.getGeneratorColumns()) {
+            seedsPerRow += column.getSeedsPerRow();
+        }
+        assertEquals(stageTimings.getRandomNumbersDrawn(INCOME_BAND), 20 * seedsPerRow);
+        assertTrue(stageTimings.getRandomNumbersDrawn(STORE_SALES) > storeSalesRows);
+
+        // generated a batch at a time, which is timed as well
+        assertEquals(stageTimings.getRows(CUSTOMER_DEMOGRAPHICS), session.getScaling().getRowCount(CUSTOMER_DEMOGRAPHICS));
+        for (Stage stage : Stage.values()) {
+            assertTrue(stageTimings.getNanos(CUSTOMER_DEMOGRAPHICS, stage) > 0, stage.toString());
+        }
+
+        String report = stageTimings.getReport();
+        assertTrue(report.contains("store_sales"), report);
+        assertTrue(report.contains("income_band"), report);
+        assertTrue(report.contains("not counted"), report);
+    }
+
+    @Test
+    public void testTimedOutput()
+            throws IOException
+    {
+        try (TemporaryDirectory temporaryDirectory = new TemporaryDirectory()) {
+            Session session = getDefaultSession().withScale(0.01).withTargetDirectory(temporaryDirectory.getDirectory().getPath());
+            TableGenerator generator = new TableGenerator(session, new FileTableWriterFactory(), Optional.empty(), Optional.of(new StageTimings(1)));
+            generator.generateTable(STORE_SALES);
+            generator.generateTable(DATE_DIM);
+
+            // rows formatted by TableGenerator are written as they would be without timings
+            for (Table table : ImmutableList.of(STORE_SALES, STORE_RETURNS, DATE_DIM)) {
+                File file = new File(temporaryDirectory.getDirectory(), table.getName() + session.getSuffix());
+                assertEquals(Files.toString(file, ISO_8859_1), expectedRows(table, session), table.getName());
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.google.common.io.Files;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// A directory for the files written by a test, deleted with everything in it when closed
+final class TemporaryDirectory
+        implements Closeable
+{
+    private final File directory = Files.createTempDir();
+
+    File getDirectory()
+    {
+        return directory;
+    }
+
+    @Override
+    public void close()
+            throws IOException
+    {
+        try (Stream<Path> files = java.nio.file.Files.walk(directory.toPath())) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                java.nio.file.Files.delete(file);
+            }
+        }
+    }
+}
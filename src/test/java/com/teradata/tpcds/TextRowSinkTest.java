@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.teradata.tpcds.Results.ResultsIterator;
+import com.teradata.tpcds.row.RowSink;
+import com.teradata.tpcds.row.TableRow;
+import com.teradata.tpcds.type.Decimal;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static com.teradata.tpcds.Results.constructResults;
+import static com.teradata.tpcds.Session.getDefaultSession;
+import static com.teradata.tpcds.TableGenerator.formatRow;
+import static org.testng.Assert.assertEquals;
+
+public class TextRowSinkTest
+{
+    private static final int ROWS = 500;
+
+    @Test
+    public void testLinesMatchFormatRow()
+    {
+        Options options = new Options();
+        options.separator = ',';
+        options.nullString = "NULL";
+        options.doNotTerminate = true;
+        for (Session session : new Session[] {getDefaultSession(), options.toSession()}) {
+            for (Table table : Table.getBaseTables()) {
+                assertLinesMatchFormatRow(table, session);
+            }
+        }
+    }
+
+    private static void assertLinesMatchFormatRow(Table table, Session session)
+    {
+        TextRowSink sink = new TextRowSink(session);
+        ResultsIterator results = constructResults(table, 1, Math.min(ROWS, session.getScaling().getRowCount(table)), session).resultsIterator();
+        results.reuseRows();
+        for (List<TableRow> rows = results.nextRows(); !rows.isEmpty(); rows = results.nextRows()) {
+            for (TableRow row : rows) {
+                assertEquals(sink.format(row).toString(), formatRow(row.getValues(), session), table.getName());
+            }
+        }
+    }
+
+    @Test
+    public void testDecimals()
+    {
+        assertDecimal(0, 2);
+        assertDecimal(5, 2);
+        assertDecimal(-5, 2);
+        assertDecimal(50, 2);
+        assertDecimal(-100, 2);
+        assertDecimal(123456, 2);
+        assertDecimal(-99999999, 2);
+        assertDecimal(7, 0);
+        assertDecimal(-7, 0);
+        assertDecimal(1, 6);
+        assertDecimal(999_999_999_999L, 2);
+        assertDecimal(-999_999_999_999L, 3);
+        assertDecimal(1_000_000_000_000L, 2);
+        assertDecimal(123_456_789_012_345L, 2);
+        for (long number = -100_000; number <= 100_000; number++) {
+            assertDecimal(number, 2);
+        }
+    }
+
+    private static void assertDecimal(long number, int precision)
+    {
+        TextRowSink sink = new TextRowSink(getDefaultSession());
+        CharSequence line = sink.format(new TableRow()
+        {
+            @Override
+            public List<String> getValues()
+            {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void writeTo(RowSink rowSink)
+            {
+                rowSink.appendDecimal(number, precision);
+            }
+        });
+        assertEquals(line.toString(), Decimal.toString(number, precision) + "|\n", number + " / 10^" + precision);
+    }
+}
@@ -14,11 +14,17 @@
 
 package com.teradata.tpcds;
 
+import com.teradata.tpcds.row.generator.TimeDimRowGenerator;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayOutputStream;
+
 import static com.teradata.tpcds.GeneratorAssertions.assertPartialMD5;
 import static com.teradata.tpcds.Session.getDefaultSession;
 import static com.teradata.tpcds.Table.TIME_DIM;
+import static com.teradata.tpcds.TableGenerator.formatRow;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.testng.Assert.assertEquals;
 
 public class TimeDimGeneratorTest
 {
@@ -100,4 +106,32 @@ public class TimeDimGeneratorTest
         Session session = TEST_SESSION.withScale(15);
         assertPartialMD5(1, session.getScaling().getRowCount(TIME_DIM), TIME_DIM, session, "a68339c5720d25380b53f6e0f2f72333");
     }
+
+    @Test
+    public void testPrecomputedRowsAreWrittenInAnyFormat()
+            throws Exception
+    {
+        assertWrittenRows(TEST_SESSION);
+
+        Options options = new Options();
+        options.table = TIME_DIM.getName();
+        options.separator = ',';
+        options.doNotTerminate = true;
+        assertWrittenRows(options.toSession());
+    }
+
+    private static void assertWrittenRows(Session session)
+            throws Exception
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new TableGenerator(session, new StdoutTableWriterFactory(out)).generateTable(TIME_DIM);
+
+        StringBuilder expected = new StringBuilder();
+        TimeDimRowGenerator rowGenerator = new TimeDimRowGenerator();
+        for (long rowNumber = 1; rowNumber <= session.getScaling().getRowCount(TIME_DIM); rowNumber++) {
+            expected.append(formatRow(rowGenerator.generateRowAndChildRows(rowNumber, session, null, null).getRowAndChildRows().get(0).getValues(), session));
+            rowGenerator.consumeRemainingSeedsForRow();
+        }
+        assertEquals(new String(out.toByteArray(), ISO_8859_1), expected.toString());
+    }
 }
@@ -0,0 +1,219 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds;
+
+import com.google.common.collect.ImmutableList;
+import com.teradata.tpcds.WorkQueue.Claim;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.teradata.tpcds.GeneratorAssertions.expectedRows;
+import static com.teradata.tpcds.Session.getDefaultSession;
+import static com.teradata.tpcds.Table.CALL_CENTER;
+import static com.teradata.tpcds.Table.STORE_RETURNS;
+import static com.teradata.tpcds.Table.STORE_SALES;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class WorkQueueTest
+{
+    private static final List<Table> TABLES = ImmutableList.of(CALL_CENTER, STORE_SALES);
+
+    private TemporaryDirectory temporaryDirectory;
+    private File directory;
+    private File queueDirectory;
+    private File targetDirectory;
+    private Session session;
+
+    @BeforeMethod
+    public void setUp()
+    {
+        temporaryDirectory = new TemporaryDirectory();
+        directory = temporaryDirectory.getDirectory();
+        queueDirectory = new File(directory, "queue");
+        targetDirectory = new File(directory, "target");
+        assertTrue(targetDirectory.mkdir());
+        session = getDefaultSession().withScale(0.01).withParallelism(3).withTargetDirectory(targetDirectory.getPath());
+    }
+
+    @AfterMethod
+    public void tearDown()
+            throws IOException
+    {
+        temporaryDirectory.close();
+    }
+
+    @Test
+    public void testProcessesShareUnits()
+            throws Exception
+    {
+        // every queue stands for a process
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<Integer>> generatedUnits = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                generatedUnits.add(executor.submit(() -> {
+                    try (WorkQueue workQueue = newWorkQueue(Duration.ofMinutes(1))) {
+                        return generateAll(workQueue);
+                    }
+                }));
+            }
+            int total = 0;
+            for (Future<Integer> units : generatedUnits) {
+                total += units.get();
+            }
+            assertEquals(total, 6);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        try (WorkQueue workQueue = newWorkQueue(Duration.ofMinutes(1))) {
+            assertTrue(workQueue.isDone());
+            assertEquals(workQueue.checkCompleteness(), ImmutableList.of());
+            workQueue.cleanUp();
+        }
+        assertFilesGenerated();
+    }
+
+    @Test
+    public void testExpiredClaimIsTakenOver()
+            throws Exception
+    {
+        Claim abandonedClaim;
+        try (WorkQueue crashedWorkQueue = newWorkQueue(Duration.ofMillis(500))) {
+            abandonedClaim = crashedWorkQueue.claim().get();
+        }
+
+        try (WorkQueue workQueue = newWorkQueue(Duration.ofMinutes(1))) {
+            // all units but the one claimed by the crashed process
+            assertEquals(generateAll(workQueue), 5);
+            assertFalse(workQueue.isDone(abandonedClaim.getUnit()));
+            assertEquals(workQueue.checkCompleteness().size(), 1);
+        }
+
+        Thread.sleep(1000);
+        try (WorkQueue workQueue = newWorkQueue(Duration.ofMillis(500))) {
+            Claim claim = workQueue.claim().get();
+            assertEquals(claim.getUnit().getTable(), abandonedClaim.getUnit().getTable());
+            assertEquals(claim.getUnit().getChunk(), abandonedClaim.getUnit().getChunk());
+            workQueue.generate(claim, this::newTableGenerator);
+            assertTrue(workQueue.isDone());
+            assertEquals(workQueue.checkCompleteness(), ImmutableList.of());
+        }
+        assertFilesGenerated();
+    }
+
+    @Test
+    public void testCleanUpKeepsStagingDirectoriesInUse()
+            throws Exception
+    {
+        // left behind by a crashed process, and in use by a process whose claim was taken over
+        File crashedStaging = new File(targetDirectory, ".staging/crashed");
+        File liveStaging = new File(targetDirectory, ".staging/live");
+        assertTrue(new File(crashedStaging, "partial").mkdirs());
+        assertTrue(liveStaging.mkdirs());
+        assertTrue(crashedStaging.setLastModified(System.currentTimeMillis() - 60_000));
+
+        try (WorkQueue workQueue = newWorkQueue(Duration.ofSeconds(10))) {
+            generateAll(workQueue);
+            workQueue.cleanUp();
+        }
+        assertFalse(crashedStaging.exists());
+        assertTrue(liveStaging.exists());
+
+        // only the first process cleans up
+        assertTrue(liveStaging.setLastModified(System.currentTimeMillis() - 60_000));
+        try (WorkQueue workQueue = newWorkQueue(Duration.ofSeconds(10))) {
+            workQueue.cleanUp();
+        }
+        assertTrue(liveStaging.exists());
+        assertFilesGenerated();
+    }
+
+    @Test
+    public void testMissingFile()
+            throws Exception
+    {
+        try (WorkQueue workQueue = newWorkQueue(Duration.ofMinutes(1))) {
+            generateAll(workQueue);
+            assertTrue(new File(targetDirectory, "store_returns_2_3.dat").delete());
+            assertEquals(workQueue.checkCompleteness(), ImmutableList.of("store_returns_2_3.dat is missing"));
+        }
+    }
+
+    @Test
+    public void testDifferentOptions()
+            throws Exception
+    {
+        newWorkQueue(Duration.ofMinutes(1)).close();
+        try {
+            new WorkQueue(queueDirectory.toPath(), TABLES, session.withScale(0.1), Duration.ofMinutes(1));
+            fail("expected exception");
+        }
+        catch (TpcdsException e) {
+            assertTrue(e.getMessage().contains("is for a run with different options"), e.getMessage());
+        }
+    }
+
+    private WorkQueue newWorkQueue(Duration lease)
+            throws IOException
+    {
+        return new WorkQueue(queueDirectory.toPath(), TABLES, session, lease);
+    }
+
+    private TableGenerator newTableGenerator(Session unitSession)
+    {
+        return new TableGenerator(unitSession, new FileTableWriterFactory(), Optional.empty(), Optional.empty());
+    }
+
+    private int generateAll(WorkQueue workQueue)
+            throws IOException
+    {
+        int units = 0;
+        for (Optional<Claim> claim = workQueue.claim(); claim.isPresent(); claim = workQueue.claim()) {
+            workQueue.generate(claim.get(), this::newTableGenerator);
+            units++;
+        }
+        return units;
+    }
+
+    private void assertFilesGenerated()
+            throws IOException
+    {
+        for (int chunk = 1; chunk <= 3; chunk++) {
+            Session chunkSession = session.withChunkNumber(chunk);
+            for (Table table : ImmutableList.of(CALL_CENTER, STORE_SALES, STORE_RETURNS)) {
+                String fileName = FileTableWriterFactory.getFileName(table, chunkSession);
+                assertEquals(new String(Files.readAllBytes(new File(targetDirectory, fileName).toPath()), ISO_8859_1), expectedRows(table, chunkSession), fileName);
+            }
+        }
+    }
+}
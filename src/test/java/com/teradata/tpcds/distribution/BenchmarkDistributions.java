@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds.distribution;
+
+import com.teradata.tpcds.random.RandomNumberStream;
+import com.teradata.tpcds.random.RandomNumberStreamImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.VerboseMode;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.teradata.tpcds.distribution.AddressDistributions.CitiesWeights.USGS_SKEWED;
+import static com.teradata.tpcds.distribution.AddressDistributions.pickRandomCity;
+import static com.teradata.tpcds.distribution.CalendarDistribution.Weights.SALES;
+import static com.teradata.tpcds.distribution.CalendarDistribution.pickRandomDayOfYear;
+import static com.teradata.tpcds.distribution.EnglishDistributions.pickRandomNoun;
+import static com.teradata.tpcds.distribution.NamesDistributions.FirstNamesWeights.MALE_FREQUENCY;
+import static com.teradata.tpcds.distribution.NamesDistributions.pickRandomFirstName;
+import static com.teradata.tpcds.distribution.RandomTextGenerator.generateRandomText;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+// Weighted picks go through DistributionUtils, with lists of different lengths:
+// ~600 cities, ~5000 first names, ~1000 nouns and 366 days of the year. Text is generated
+// with the lengths of i_item_desc.
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(2)
+@Warmup(iterations = 10, time = 500, timeUnit = MILLISECONDS)
+@Measurement(iterations = 10, time = 500, timeUnit = MILLISECONDS)
+public class BenchmarkDistributions
+{
+    private RandomNumberStream stream;
+
+    @Setup
+    public void setup()
+    {
+        stream = new RandomNumberStreamImpl(1, 1);
+    }
+
+    @Benchmark
+    public String pickCity()
+    {
+        return pickRandomCity(USGS_SKEWED, stream);
+    }
+
+    @Benchmark
+    public String pickFirstName()
+    {
+        return pickRandomFirstName(MALE_FREQUENCY, stream);
+    }
+
+    @Benchmark
+    public String pickNoun()
+    {
+        return pickRandomNoun(stream);
+    }
+
+    @Benchmark
+    public String generateText()
+    {
+        return generateRandomText(1, 200, stream);
+    }
+
+    @Benchmark
+    public int pickDayOfYear()
+    {
+        return pickRandomDayOfYear(SALES, stream);
+    }
+
+    public static void main(String[] args)
+            throws RunnerException
+    {
+        Options options = new OptionsBuilder()
+                .verbosity(VerboseMode.NORMAL)
+                .include(".*" + BenchmarkDistributions.class.getSimpleName() + ".*")
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds.distribution;
+
+import com.teradata.tpcds.distribution.CalendarDistribution.Weights;
+import com.teradata.tpcds.random.RandomNumberStream;
+import com.teradata.tpcds.random.RandomNumberStreamImpl;
+import com.teradata.tpcds.type.Date;
+import org.testng.annotations.Test;
+
+import static com.teradata.tpcds.distribution.CalendarDistribution.getWeightForDayNumber;
+import static com.teradata.tpcds.random.RandomValueGenerator.generateSalesReturnsRandomDate;
+import static com.teradata.tpcds.random.RandomValueGenerator.generateUniformRandomInt;
+import static com.teradata.tpcds.type.Date.fromJulianDays;
+import static com.teradata.tpcds.type.Date.getDaysInYear;
+import static com.teradata.tpcds.type.Date.toJulianDays;
+import static org.testng.Assert.assertEquals;
+
+public class CalendarDistributionTest
+{
+    @Test
+    public void testGenerateSalesReturnsRandomDate()
+    {
+        Date[][] ranges = {
+                {new Date(1998, 1, 15), new Date(1998, 12, 1)},
+                {new Date(1999, 1, 5), new Date(2000, 6, 1)},
+                {new Date(2001, 3, 31), new Date(2001, 4, 1)}};
+        // the weights that dates of sales and returns are picked with
+        for (Weights weights : new Weights[] {Weights.UNIFORM, Weights.SALES, Weights.RETURNS, Weights.COMBINED_SKEW}) {
+            for (Date[] range : ranges) {
+                RandomNumberStream stream = new RandomNumberStreamImpl(2, 1);
+                RandomNumberStream expectedStream = new RandomNumberStreamImpl(2, 1);
+                for (int i = 0; i < 1000; i++) {
+                    assertEquals(toJulianDays(generateSalesReturnsRandomDate(range[0], range[1], weights, stream)), toJulianDays(generateExpectedDate(range[0], range[1], weights, expectedStream)));
+                }
+            }
+        }
+    }
+
+    // sums the weights of the range for every date, as dates were generated before
+    private static Date generateExpectedDate(Date min, Date max, Weights weights, RandomNumberStream stream)
+    {
+        int dayCount = min.getDay();
+        int year = min.getYear();
+        int totalWeight = 0;
+        int range = toJulianDays(max) - toJulianDays(min);
+
+        for (int i = 0; i < range; i++) {
+            totalWeight += getWeightForDayNumber(dayCount, weights);
+            if (dayCount == getDaysInYear(year)) {
+                year += 1;
+                dayCount = 1;
+            }
+            else {
+                dayCount += 1;
+            }
+        }
+
+        int tempWeightSum = generateUniformRandomInt(1, totalWeight, stream);
+        dayCount = min.getDay();
+        int julianDays = toJulianDays(min);
+        year = min.getYear();
+        while (tempWeightSum > 0) {
+            tempWeightSum -= getWeightForDayNumber(dayCount, weights);
+            dayCount += 1;
+            julianDays += 1;
+            if (dayCount > getDaysInYear(year)) {
+                dayCount = 1;
+                year += 1;
+            }
+        }
+
+        return fromJulianDays(julianDays);
+    }
+}
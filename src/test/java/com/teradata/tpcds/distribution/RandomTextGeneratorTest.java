@@ -0,0 +1,120 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds.distribution;
+
+import com.teradata.tpcds.random.RandomNumberStream;
+import com.teradata.tpcds.random.RandomNumberStreamImpl;
+import org.testng.annotations.Test;
+
+import static com.teradata.tpcds.distribution.EnglishDistributions.pickRandomAdjective;
+import static com.teradata.tpcds.distribution.EnglishDistributions.pickRandomAdverb;
+import static com.teradata.tpcds.distribution.EnglishDistributions.pickRandomArticle;
+import static com.teradata.tpcds.distribution.EnglishDistributions.pickRandomAuxiliary;
+import static com.teradata.tpcds.distribution.EnglishDistributions.pickRandomNoun;
+import static com.teradata.tpcds.distribution.EnglishDistributions.pickRandomPreposition;
+import static com.teradata.tpcds.distribution.EnglishDistributions.pickRandomSentence;
+import static com.teradata.tpcds.distribution.EnglishDistributions.pickRandomTerminator;
+import static com.teradata.tpcds.distribution.EnglishDistributions.pickRandomVerb;
+import static com.teradata.tpcds.distribution.RandomTextGenerator.generateRandomText;
+import static com.teradata.tpcds.random.RandomValueGenerator.generateUniformRandomInt;
+import static org.testng.Assert.assertEquals;
+
+public class RandomTextGeneratorTest
+{
+    @Test
+    public void testSameTextAndRandomNumbers()
+    {
+        int[][] lengths = {{1, 200}, {20, 50}, {1, 1}, {10, 20}, {49, 99}};
+        for (int[] length : lengths) {
+            RandomNumberStream stream = new RandomNumberStreamImpl(length[1], 1);
+            RandomNumberStream expectedStream = new RandomNumberStreamImpl(length[1], 1);
+            for (int i = 0; i < 10000; i++) {
+                assertEquals(generateRandomText(length[0], length[1], stream), generateExpectedText(length[0], length[1], expectedStream));
+                assertEquals(stream.getSeedsUsed(), expectedStream.getSeedsUsed());
+            }
+            assertEquals(stream.nextRandom(), expectedStream.nextRandom());
+        }
+    }
+
+    // picks each sentence and word from its distribution, as the text was generated before
+    private static String generateExpectedText(int minLength, int maxLength, RandomNumberStream stream)
+    {
+        boolean isSentenceBeginning = true;
+        StringBuilder text = new StringBuilder();
+        int targetLength = generateUniformRandomInt(minLength, maxLength, stream);
+
+        while (targetLength > 0) {
+            String generated = generateExpectedSentence(stream);
+            if (isSentenceBeginning) {
+                generated = generated.substring(0, 1).toUpperCase() + generated.substring(1);
+            }
+
+            int generatedLength = generated.length();
+            isSentenceBeginning = (generated.charAt(generatedLength - 1) == '.');
+
+            if (targetLength < generatedLength) {
+                generated = generated.substring(0, targetLength);
+            }
+
+            targetLength -= generatedLength;
+
+            text.append(generated);
+            if (targetLength > 0) {
+                text.append(" ");
+                targetLength -= 1;
+            }
+        }
+
+        return text.toString();
+    }
+
+    private static String generateExpectedSentence(RandomNumberStream stream)
+    {
+        StringBuilder verbiage = new StringBuilder();
+        String syntax = pickRandomSentence(stream);
+        for (int i = 0; i < syntax.length(); i++) {
+            switch (syntax.charAt(i)) {
+                case 'N':
+                    verbiage.append(pickRandomNoun(stream));
+                    break;
+                case 'V':
+                    verbiage.append(pickRandomVerb(stream));
+                    break;
+                case 'J':
+                    verbiage.append(pickRandomAdjective(stream));
+                    break;
+                case 'D':
+                    verbiage.append(pickRandomAdverb(stream));
+                    break;
+                case 'X':
+                    verbiage.append(pickRandomAuxiliary(stream));
+                    break;
+                case 'P':
+                    verbiage.append(pickRandomPreposition(stream));
+                    break;
+                case 'A':
+                    verbiage.append(pickRandomArticle(stream));
+                    break;
+                case 'T':
+                    verbiage.append(pickRandomTerminator(stream));
+                    break;
+                default:
+                    verbiage.append(syntax.charAt(i));
+                    break;
+            }
+        }
+        return verbiage.toString();
+    }
+}
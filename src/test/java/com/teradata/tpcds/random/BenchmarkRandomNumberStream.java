@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds.random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.VerboseMode;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.teradata.tpcds.generator.StoreSalesGeneratorColumn.SS_SOLD_PROMO_SK;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(2)
+@Warmup(iterations = 10, time = 500, timeUnit = MILLISECONDS)
+@Measurement(iterations = 10, time = 500, timeUnit = MILLISECONDS)
+public class BenchmarkRandomNumberStream
+{
+    private RandomNumberStream stream;
+
+    @Setup
+    public void setup()
+    {
+        stream = new RandomNumberStreamImpl(SS_SOLD_PROMO_SK.getGlobalColumnNumber(), SS_SOLD_PROMO_SK.getSeedsPerRow());
+    }
+
+    @Benchmark
+    public long nextRandom()
+    {
+        return stream.nextRandom();
+    }
+
+    @Benchmark
+    public long skipRows(SkipRowsState state)
+    {
+        stream.skipRows(state.rowsToSkip);
+        return stream.nextRandom();
+    }
+
+    @State(Scope.Thread)
+    public static class SkipRowsState
+    {
+        // skipping is logarithmic in the number of rows
+        @Param({"1", "1000", "1000000000"})
+        private long rowsToSkip;
+    }
+
+    public static void main(String[] args)
+            throws RunnerException
+    {
+        Options options = new OptionsBuilder()
+                .verbosity(VerboseMode.NORMAL)
+                .include(".*" + BenchmarkRandomNumberStream.class.getSimpleName() + ".*")
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds.row;
+
+import com.teradata.tpcds.Session;
+import com.teradata.tpcds.Table;
+import com.teradata.tpcds.row.generator.CustomerDemographicsBatchGenerator;
+import com.teradata.tpcds.row.generator.InventoryBatchGenerator;
+import com.teradata.tpcds.row.generator.RowBatchGenerator;
+import com.teradata.tpcds.row.generator.RowGenerator;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.teradata.tpcds.Session.getDefaultSession;
+import static com.teradata.tpcds.Table.CUSTOMER_DEMOGRAPHICS;
+import static com.teradata.tpcds.Table.INVENTORY;
+import static com.teradata.tpcds.type.Date.fromJulianDays;
+import static org.testng.Assert.assertEquals;
+
+public class RowSinkTest
+{
+    private static final int ROWS = 200;
+
+    @Test
+    public void testSinkReceivesTheValues()
+    {
+        for (Table table : Table.getBaseTables()) {
+            Session session = getDefaultSession().withTable(table);
+            RowGenerator rowGenerator = table.createRowGenerator();
+            RowGenerator parentRowGenerator = table.isChild() ? table.getParent().createRowGenerator() : null;
+            RowGenerator childRowGenerator = table.hasChild() ? table.getChild().createRowGenerator() : null;
+            long rowCount = Math.min(ROWS, session.getScaling().getRowCount(table));
+            for (long rowNumber = 1; rowNumber <= rowCount; rowNumber++) {
+                for (TableRow row : rowGenerator.generateRowAndChildRows(rowNumber, session, parentRowGenerator, childRowGenerator).getRowAndChildRows()) {
+                    StringRowSink sink = new StringRowSink();
+                    row.writeTo(sink);
+                    assertEquals(sink.values, row.getValues(), table.getName() + " row " + rowNumber);
+                }
+                rowGenerator.consumeRemainingSeedsForRow();
+                if (parentRowGenerator != null) {
+                    parentRowGenerator.consumeRemainingSeedsForRow();
+                }
+                if (childRowGenerator != null) {
+                    childRowGenerator.consumeRemainingSeedsForRow();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testBatchRowsReceiveTheValues()
+    {
+        Session session = getDefaultSession();
+        assertBatchRowsReceiveTheValues(CUSTOMER_DEMOGRAPHICS, new CustomerDemographicsBatchGenerator(1, 3 * ROWS), session);
+        assertBatchRowsReceiveTheValues(INVENTORY, new InventoryBatchGenerator(1, 3 * ROWS, session), session);
+    }
+
+    private static void assertBatchRowsReceiveTheValues(Table table, RowBatchGenerator batchGenerator, Session session)
+    {
+        RowGenerator rowGenerator = table.createRowGenerator();
+        long rowNumber = 1;
+        for (int rows = batchGenerator.nextBatch(); rows > 0; rows = batchGenerator.nextBatch()) {
+            for (int row = 0; row < rows; row++) {
+                StringRowSink sink = new StringRowSink();
+                batchGenerator.getRow(row).writeTo(sink);
+                assertEquals(sink.values, rowGenerator.generateRowAndChildRows(rowNumber, session, null, null).getRowAndChildRows().get(0).getValues(), table.getName() + " row " + rowNumber);
+                rowGenerator.consumeRemainingSeedsForRow();
+                rowNumber++;
+            }
+        }
+    }
+
+    // formats the typed values without the formatting used by getValues
+    private static class StringRowSink
+            implements RowSink
+    {
+        private final List<String> values = new ArrayList<>();
+
+        @Override
+        public void appendNull()
+        {
+            values.add(null);
+        }
+
+        @Override
+        public void appendKey(long value)
+        {
+            values.add(String.valueOf(value));
+        }
+
+        @Override
+        public void appendInteger(int value)
+        {
+            values.add(String.valueOf(value));
+        }
+
+        @Override
+        public void appendDecimal(long number, int precision)
+        {
+            values.add(BigDecimal.valueOf(number, precision).toPlainString());
+        }
+
+        @Override
+        public void appendDate(int julianDays)
+        {
+            values.add(fromJulianDays(julianDays).toString());
+        }
+
+        @Override
+        public void appendBoolean(boolean value)
+        {
+            values.add(value ? "Y" : "N");
+        }
+
+        @Override
+        public void appendString(String value)
+        {
+            values.add(value);
+        }
+    }
+}
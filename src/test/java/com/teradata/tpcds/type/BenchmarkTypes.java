@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.teradata.tpcds.type;
+
+import com.teradata.tpcds.random.RandomNumberStream;
+import com.teradata.tpcds.random.RandomNumberStreamImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.VerboseMode;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.teradata.tpcds.generator.StoreSalesGeneratorColumn.SS_PRICING;
+import static com.teradata.tpcds.type.Date.JULIAN_DATA_END_DATE;
+import static com.teradata.tpcds.type.Date.JULIAN_DATA_START_DATE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(2)
+@Warmup(iterations = 10, time = 500, timeUnit = MILLISECONDS)
+@Measurement(iterations = 10, time = 500, timeUnit = MILLISECONDS)
+public class BenchmarkTypes
+{
+    private RandomNumberStream stream;
+    private int julianDate;
+    private Date date;
+    private final Decimal[] decimals = new Decimal[1024];
+    private int decimalIndex;
+
+    @Setup
+    public void setup()
+    {
+        stream = new RandomNumberStreamImpl(SS_PRICING.getGlobalColumnNumber(), SS_PRICING.getSeedsPerRow());
+        julianDate = JULIAN_DATA_START_DATE;
+        date = Date.fromJulianDays(JULIAN_DATA_START_DATE);
+        for (int i = 0; i < decimals.length; i++) {
+            decimals[i] = Pricing.generatePricingForSalesTable(SS_PRICING, stream).getNetPaid();
+        }
+    }
+
+    @Benchmark
+    public Pricing generatePricingForSalesTable()
+    {
+        return Pricing.generatePricingForSalesTable(SS_PRICING, stream);
+    }
+
+    @Benchmark
+    public Date fromJulianDays()
+    {
+        // walk through the data set's dates so that leap years and month ends are all exercised
+        julianDate = julianDate < JULIAN_DATA_END_DATE ? julianDate + 1 : JULIAN_DATA_START_DATE;
+        return Date.fromJulianDays(julianDate);
+    }
+
+    @Benchmark
+    public String dateToString()
+    {
+        return date.toString();
+    }
+
+    @Benchmark
+    public String decimalToString()
+    {
+        decimalIndex = (decimalIndex + 1) % decimals.length;
+        return decimals[decimalIndex].toString();
+    }
+
+    public static void main(String[] args)
+            throws RunnerException
+    {
+        Options options = new OptionsBuilder()
+                .verbosity(VerboseMode.NORMAL)
+                .include(".*" + BenchmarkTypes.class.getSimpleName() + ".*")
+                .build();
+
+        new Runner(options).run();
+    }
+}